@@ -32,6 +32,13 @@ plugins {
 
 lombok.version = libs.versions.lombok.get()
 
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 java {
     withJavadocJar()
     withSourcesJar()
@@ -51,6 +58,9 @@ dependencies {
 
     testImplementation(libs.junit)
     testImplementation(libs.rs.cache)
+
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
 }
 
 // the gradle antlr plugin adds all of antlr to runtimeClasspath,
@@ -115,3 +125,13 @@ afterEvaluate {
         dependsOn(tasks.generateGrammarSource)
     }
 }
+
+// benchmarks are always compiled, but only run on request, eg. ./gradlew jmh -PjmhArgs="ModelDefinitionBenchmark"
+tasks.register<JavaExec>("jmh") {
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    description = "Runs the JMH benchmarks"
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    args(providers.gradleProperty("jmhArgs").map { it.split(' ') }.getOrElse(listOf()))
+}
+tasks.check { dependsOn(tasks.named(jmh.classesTaskName)) }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computes normals and texture coordinates for a set of models, which is what
+ * ModelLoader does for every model after decoding it. The models are random meshes
+ * sized roughly like the cache's, as the cache is not available to benchmarks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class ModelDefinitionBenchmark
+{
+	private static final int MODELS = 4096;
+
+	private ModelDefinition[] models;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		Random random = new Random(1);
+		models = new ModelDefinition[MODELS];
+		for (int i = 0; i < MODELS; ++i)
+		{
+			models[i] = randomModel(random);
+		}
+	}
+
+	@Benchmark
+	public int processModels()
+	{
+		int faces = 0;
+		for (ModelDefinition model : models)
+		{
+			// resizing by 128/128 leaves the vertices alone, but drops the computed normals
+			model.resize(128, 128, 128);
+			model.computeNormals();
+			model.computeTextureUVCoordinates();
+			faces += model.faceCount;
+		}
+		return faces;
+	}
+
+	private static ModelDefinition randomModel(Random random)
+	{
+		ModelDefinition model = new ModelDefinition();
+
+		// mostly small models, with a tail of large ones
+		int faceCount = (int) Math.exp(4 + random.nextDouble() * 3.5);
+		int vertexCount = faceCount / 2 + 3;
+
+		model.vertexCount = vertexCount;
+		model.vertexX = new int[vertexCount];
+		model.vertexY = new int[vertexCount];
+		model.vertexZ = new int[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			model.vertexX[i] = random.nextInt(512) - 256;
+			model.vertexY[i] = random.nextInt(512) - 256;
+			model.vertexZ[i] = random.nextInt(512) - 256;
+		}
+
+		model.faceCount = faceCount;
+		model.faceIndices1 = new int[faceCount];
+		model.faceIndices2 = new int[faceCount];
+		model.faceIndices3 = new int[faceCount];
+		for (int i = 0; i < faceCount; ++i)
+		{
+			int a = random.nextInt(vertexCount);
+			model.faceIndices1[i] = a;
+			model.faceIndices2[i] = (a + 1 + random.nextInt(vertexCount - 2)) % vertexCount;
+			model.faceIndices3[i] = (model.faceIndices2[i] + 1) % vertexCount == a ? (a + 2) % vertexCount : (model.faceIndices2[i] + 1) % vertexCount;
+		}
+
+		if (random.nextInt(4) == 0)
+		{
+			// some flat shaded faces
+			model.faceRenderTypes = new byte[faceCount];
+			for (int i = 0; i < faceCount; ++i)
+			{
+				model.faceRenderTypes[i] = (byte) (random.nextInt(8) == 0 ? 1 : 0);
+			}
+		}
+
+		if (random.nextInt(5) == 0)
+		{
+			// textured, half of which use texture triangles
+			model.numTextureFaces = 1 + random.nextInt(8);
+			model.texIndices1 = new short[model.numTextureFaces];
+			model.texIndices2 = new short[model.numTextureFaces];
+			model.texIndices3 = new short[model.numTextureFaces];
+			for (int i = 0; i < model.numTextureFaces; ++i)
+			{
+				model.texIndices1[i] = (short) model.faceIndices1[i];
+				model.texIndices2[i] = (short) model.faceIndices2[i];
+				model.texIndices3[i] = (short) model.faceIndices3[i];
+			}
+
+			model.faceTextures = new short[faceCount];
+			model.textureCoords = new byte[faceCount];
+			for (int i = 0; i < faceCount; ++i)
+			{
+				model.faceTextures[i] = (short) (random.nextBoolean() ? random.nextInt(100) : -1);
+				model.textureCoords[i] = (byte) (random.nextBoolean() ? random.nextInt(model.numTextureFaces) : -1);
+			}
+		}
+
+		return model;
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import lombok.Value;
+import net.runelite.cache.util.SkylinePacker;
+
+/**
+ * Packs images into a few large pages, written as {@code <name>-<page>.png}, along
+ * with a {@code <name>.json} index of where each image was placed. Pages are
+ * written as soon as they are full, so only one is held in memory at a time.
+ * An image larger than a page is written to a page of its own, sized to fit it.
+ */
+public class AtlasExporter implements Closeable
+{
+	@Value
+	private static class Entry
+	{
+		int page;
+		int x;
+		int y;
+		int width;
+		int height;
+	}
+
+	@Value
+	private static class Page
+	{
+		String file;
+		int width;
+		int height;
+	}
+
+	@Value
+	private static class Index
+	{
+		List<Page> pages;
+		Map<String, Entry> entries;
+	}
+
+	private final File outDir;
+	private final String name;
+	private final int pageSize;
+	private final int padding;
+	private final List<Page> pages = new ArrayList<>();
+	private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+	private BufferedImage page;
+	private SkylinePacker packer;
+
+	public AtlasExporter(File outDir, String name, int pageSize, int padding)
+	{
+		this.outDir = outDir;
+		this.name = name;
+		this.pageSize = pageSize;
+		this.padding = padding;
+	}
+
+	public AtlasExporter(File outDir, String name)
+	{
+		this(outDir, name, 2048, 1);
+	}
+
+	public void add(String key, BufferedImage image) throws IOException
+	{
+		int w = image.getWidth();
+		int h = image.getHeight();
+		if (w + padding > pageSize || h + padding > pageSize)
+		{
+			// the page being filled is written first, so pages stay numbered in the order they are written
+			flush();
+			page = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+			page.setRGB(0, 0, w, h, image.getRGB(0, 0, w, h, null, 0, w), 0, w);
+			entries.put(key, new Entry(pages.size(), 0, 0, w, h));
+			flush();
+			return;
+		}
+
+		Rectangle rect = packer == null ? null : packer.insert(w + padding, h + padding);
+		if (rect == null)
+		{
+			flush();
+			page = new BufferedImage(pageSize, pageSize, BufferedImage.TYPE_INT_ARGB);
+			packer = new SkylinePacker(pageSize, pageSize);
+			rect = packer.insert(w + padding, h + padding);
+		}
+
+		page.setRGB(rect.x, rect.y, w, h, image.getRGB(0, 0, w, h, null, 0, w), 0, w);
+		entries.put(key, new Entry(pages.size(), rect.x, rect.y, w, h));
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		flush();
+
+		Gson gson = new GsonBuilder()
+			.setPrettyPrinting()
+			.create();
+		try (FileWriter fw = new FileWriter(new File(outDir, name + ".json")))
+		{
+			gson.toJson(new Index(pages, entries), fw);
+		}
+	}
+
+	private void flush() throws IOException
+	{
+		if (page == null)
+		{
+			return;
+		}
+
+		String file = name + "-" + pages.size() + ".png";
+		ImageIO.write(page, "png", new File(outDir, file));
+		pages.add(new Page(file, page.getWidth(), page.getHeight()));
+		page = null;
+		packer = null;
+	}
+}
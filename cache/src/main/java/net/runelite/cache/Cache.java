@@ -24,9 +24,27 @@
  */
 package net.runelite.cache;
 
+import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.zip.ZipOutputStream;
+import net.runelite.cache.definitions.SpriteDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.item.ItemSpriteRenderer;
+import net.runelite.cache.script.Instructions;
+import net.runelite.cache.script.ScriptBatch;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -45,6 +63,10 @@ public class Cache
 		options.addOption(null, "npcs", true, "directory to dump npcs to");
 		options.addOption(null, "objects", true, "directory to dump objects to");
 		options.addOption(null, "sprites", true, "directory to dump sprites to");
+		options.addOption(null, "itemsprites", true, "directory to dump item sprites to");
+		options.addOption(null, "atlas", true, "directory to dump sprite and item sprite atlases to");
+		options.addOption(null, "scripts", true, "directory or .zip to disassemble scripts to");
+		options.addOption(null, "verifyscripts", false, "check every script reassembles to the same bytes");
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -115,6 +137,49 @@ public class Cache
 			System.out.println("Dumping sprites to " + spritedir);
 			dumpSprites(store, new File(spritedir));
 		}
+		else if (cmd.hasOption("itemsprites"))
+		{
+			String itemspritedir = cmd.getOptionValue("itemsprites");
+
+			if (itemspritedir == null)
+			{
+				System.err.println("Item sprite directory must be specified");
+				return;
+			}
+
+			System.out.println("Dumping item sprites to " + itemspritedir);
+			dumpItemSprites(store, new File(itemspritedir));
+		}
+		else if (cmd.hasOption("atlas"))
+		{
+			String atlasdir = cmd.getOptionValue("atlas");
+
+			if (atlasdir == null)
+			{
+				System.err.println("Atlas directory must be specified");
+				return;
+			}
+
+			System.out.println("Dumping atlases to " + atlasdir);
+			dumpAtlas(store, new File(atlasdir));
+		}
+		else if (cmd.hasOption("scripts"))
+		{
+			String scriptdir = cmd.getOptionValue("scripts");
+
+			if (scriptdir == null)
+			{
+				System.err.println("Script directory must be specified");
+				return;
+			}
+
+			System.out.println("Dumping scripts to " + scriptdir);
+			dumpScripts(store, new File(scriptdir));
+		}
+		else if (cmd.hasOption("verifyscripts"))
+		{
+			verifyScripts(store);
+		}
 		else
 		{
 			System.err.println("Nothing to do");
@@ -158,4 +223,140 @@ public class Cache
 		dumper.load();
 		dumper.export(spritedir);
 	}
+
+	private static void dumpItemSprites(Store store, File itemspritedir) throws IOException
+	{
+		ItemManager itemManager = new ItemManager(store);
+		itemManager.load();
+		itemManager.link();
+
+		SpriteManager spriteManager = new SpriteManager(store);
+		spriteManager.load();
+
+		TextureManager textureManager = new TextureManager(store);
+		textureManager.load();
+
+		itemspritedir.mkdirs();
+
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(itemManager, modelProvider(store), spriteManager, textureManager);
+		int count = renderer.export(namedItemIds(itemManager), itemspritedir);
+		System.out.println("Dumped " + count + " item sprites");
+	}
+
+	private static void dumpAtlas(Store store, File atlasdir) throws IOException
+	{
+		ItemManager itemManager = new ItemManager(store);
+		itemManager.load();
+		itemManager.link();
+
+		SpriteManager spriteManager = new SpriteManager(store);
+		spriteManager.load();
+
+		TextureManager textureManager = new TextureManager(store);
+		textureManager.load();
+
+		atlasdir.mkdirs();
+
+		// tallest first packs variable sized sprites much more tightly
+		List<SpriteDefinition> sprites = spriteManager.getSprites().stream()
+			.filter(sprite -> sprite.getWidth() > 0 && sprite.getHeight() > 0)
+			.sorted(Comparator.comparingInt(SpriteDefinition::getHeight).reversed()
+				.thenComparingInt(SpriteDefinition::getId)
+				.thenComparingInt(SpriteDefinition::getFrame))
+			.collect(Collectors.toList());
+		try (AtlasExporter atlas = new AtlasExporter(atlasdir, "sprites"))
+		{
+			for (SpriteDefinition sprite : sprites)
+			{
+				atlas.add(sprite.getId() + "-" + sprite.getFrame(), spriteManager.getSpriteImage(sprite));
+			}
+		}
+		System.out.println("Packed " + sprites.size() + " sprites");
+
+		// render in chunks so the atlas is laid out in item id order regardless of which thread finishes first
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(itemManager, modelProvider(store), spriteManager, textureManager);
+		int[] itemIds = namedItemIds(itemManager);
+		int count = 0;
+		try (AtlasExporter atlas = new AtlasExporter(atlasdir, "items"))
+		{
+			for (int i = 0; i < itemIds.length; i += 1024)
+			{
+				Map<Integer, BufferedImage> chunk = new ConcurrentSkipListMap<>();
+				renderer.render(Arrays.copyOfRange(itemIds, i, Math.min(i + 1024, itemIds.length)),
+					1, 1, 3153952, false, chunk::put);
+				for (Map.Entry<Integer, BufferedImage> entry : chunk.entrySet())
+				{
+					atlas.add(String.valueOf(entry.getKey()), entry.getValue());
+				}
+				count += chunk.size();
+			}
+		}
+		System.out.println("Packed " + count + " item sprites");
+	}
+
+	private static void dumpScripts(Store store, File scriptdir) throws IOException
+	{
+		Map<Integer, byte[]> scripts = ScriptBatch.load(store.getStorage(), store.getIndex(IndexType.CLIENTSCRIPT));
+		ScriptBatch batch = scriptBatch();
+
+		int count;
+		if (scriptdir.getName().endsWith(".zip"))
+		{
+			try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(scriptdir)))
+			{
+				count = batch.disassemble(scripts, ScriptBatch.zip(zip));
+			}
+		}
+		else
+		{
+			scriptdir.mkdirs();
+			count = batch.disassemble(scripts, ScriptBatch.directory(scriptdir));
+		}
+		System.out.println("Dumped " + count + " of " + scripts.size() + " scripts");
+	}
+
+	private static void verifyScripts(Store store) throws IOException
+	{
+		Map<Integer, byte[]> scripts = ScriptBatch.load(store.getStorage(), store.getIndex(IndexType.CLIENTSCRIPT));
+		List<ScriptBatch.Mismatch> mismatches = scriptBatch().verify(scripts);
+		for (ScriptBatch.Mismatch mismatch : mismatches)
+		{
+			if (mismatch.getError() != null)
+			{
+				System.out.println("Script " + mismatch.getId() + " failed: " + mismatch.getError());
+			}
+			else
+			{
+				System.out.println("Script " + mismatch.getId() + " differs at byte " + mismatch.getOffset());
+			}
+		}
+		System.out.println("Verified " + scripts.size() + " scripts, " + mismatches.size() + " mismatched");
+	}
+
+	private static ScriptBatch scriptBatch()
+	{
+		Instructions instructions = new Instructions();
+		instructions.init();
+		return new ScriptBatch(instructions, Collections.emptyMap());
+	}
+
+	private static ModelProvider modelProvider(Store store)
+	{
+		Index models = store.getIndex(IndexType.MODELS);
+		return modelId ->
+		{
+			Archive archive = models.getArchive(modelId);
+			byte[] data = archive.decompress(store.getStorage().loadArchive(archive));
+			return new ModelLoader().load(modelId, data);
+		};
+	}
+
+	private static int[] namedItemIds(ItemManager itemManager)
+	{
+		return itemManager.getItems().stream()
+			.filter(item -> item.name != null && !item.name.equalsIgnoreCase("null"))
+			.mapToInt(item -> item.id)
+			.sorted()
+			.toArray();
+	}
 }
@@ -15,7 +15,11 @@ public class ModelDefinition
 	public int[] vertexX;
 	public int[] vertexY;
 	public int[] vertexZ;
-	public transient VertexNormal[] vertexNormals;
+	// summed normals of the smooth shaded faces using each vertex, and how many were summed
+	public transient int[] vertexNormalsX;
+	public transient int[] vertexNormalsY;
+	public transient int[] vertexNormalsZ;
+	public transient int[] vertexNormalsMagnitude;
 
 	public int faceCount;
 	public int[] faceIndices1;
@@ -25,14 +29,18 @@ public class ModelDefinition
 	public short[] faceColors;
 	public byte[] faceRenderPriorities;
 	public byte[] faceRenderTypes;
-	public transient FaceNormal[] faceNormals;
+	// normals of flat shaded faces, null if there are none
+	public transient int[] faceNormalsX;
+	public transient int[] faceNormalsY;
+	public transient int[] faceNormalsZ;
 
 	public int numTextureFaces;
 	public short[] texIndices1;
 	public short[] texIndices2;
 	public short[] texIndices3;
-	public transient float[][] faceTextureUCoordinates;
-	public transient float[][] faceTextureVCoordinates;
+	// texture coordinates of each face's vertices, at face * 3 + vertex, null if there are no textures
+	public transient float[] faceTextureU;
+	public transient float[] faceTextureV;
 	public short[] texturePrimaryColors;
 	public short[] faceTextures;
 	public byte[] faceZOffsets;
@@ -58,20 +66,17 @@ public class ModelDefinition
 
 	public void computeNormals()
 	{
-		if (this.vertexNormals != null)
+		if (this.vertexNormalsX != null)
 		{
 			return;
 		}
 
-		this.vertexNormals = new VertexNormal[this.vertexCount];
+		final int[] normalX = this.vertexNormalsX = new int[this.vertexCount];
+		final int[] normalY = this.vertexNormalsY = new int[this.vertexCount];
+		final int[] normalZ = this.vertexNormalsZ = new int[this.vertexCount];
+		final int[] magnitude = this.vertexNormalsMagnitude = new int[this.vertexCount];
 
-		int var1;
-		for (var1 = 0; var1 < this.vertexCount; ++var1)
-		{
-			this.vertexNormals[var1] = new VertexNormal();
-		}
-
-		for (var1 = 0; var1 < this.faceCount; ++var1)
+		for (int var1 = 0; var1 < this.faceCount; ++var1)
 		{
 			int vertexA = this.faceIndices1[var1];
 			int vertexB = this.faceIndices2[var1];
@@ -119,49 +124,50 @@ public class ModelDefinition
 
 			if (var15 == 0)
 			{
-				VertexNormal var16 = this.vertexNormals[vertexA];
-				var16.x += var11;
-				var16.y += var12;
-				var16.z += var13;
-				++var16.magnitude;
-
-				var16 = this.vertexNormals[vertexB];
-				var16.x += var11;
-				var16.y += var12;
-				var16.z += var13;
-				++var16.magnitude;
-
-				var16 = this.vertexNormals[vertexC];
-				var16.x += var11;
-				var16.y += var12;
-				var16.z += var13;
-				++var16.magnitude;
+				normalX[vertexA] += var11;
+				normalY[vertexA] += var12;
+				normalZ[vertexA] += var13;
+				++magnitude[vertexA];
+
+				normalX[vertexB] += var11;
+				normalY[vertexB] += var12;
+				normalZ[vertexB] += var13;
+				++magnitude[vertexB];
+
+				normalX[vertexC] += var11;
+				normalY[vertexC] += var12;
+				normalZ[vertexC] += var13;
+				++magnitude[vertexC];
 			}
 			else if (var15 == 1)
 			{
-				if (this.faceNormals == null)
+				if (this.faceNormalsX == null)
 				{
-					this.faceNormals = new FaceNormal[this.faceCount];
+					this.faceNormalsX = new int[this.faceCount];
+					this.faceNormalsY = new int[this.faceCount];
+					this.faceNormalsZ = new int[this.faceCount];
 				}
 
-				FaceNormal var17 = this.faceNormals[var1] = new FaceNormal();
-				var17.x = var11;
-				var17.y = var12;
-				var17.z = var13;
+				this.faceNormalsX[var1] = var11;
+				this.faceNormalsY[var1] = var12;
+				this.faceNormalsZ[var1] = var13;
 			}
 		}
 	}
 
 	public void computeTextureUVCoordinates()
 	{
-		this.faceTextureUCoordinates = new float[faceCount][];
-		this.faceTextureVCoordinates = new float[faceCount][];
+		this.faceTextureU = null;
+		this.faceTextureV = null;
 
 		if (faceTextures == null)
 		{
 			return;
 		}
 
+		final float[] faceTextureU = this.faceTextureU = new float[faceCount * 3];
+		final float[] faceTextureV = this.faceTextureV = new float[faceCount * 3];
+
 		for (int i = 0; i < faceCount; i++)
 		{
 			if (faceTextures[i] == -1)
@@ -277,9 +283,100 @@ public class ModelDefinition
 				v2 = 1f;
 			}
 
-			this.faceTextureUCoordinates[i] = new float[]{u0, u1, u2};
-			this.faceTextureVCoordinates[i] = new float[]{v0, v1, v2};
+			final int idx = i * 3;
+			faceTextureU[idx] = u0;
+			faceTextureU[idx + 1] = u1;
+			faceTextureU[idx + 2] = u2;
+			faceTextureV[idx] = v0;
+			faceTextureV[idx + 1] = v1;
+			faceTextureV[idx + 2] = v2;
+		}
+	}
+
+	/**
+	 * @deprecated use {@link #vertexNormalsX}, {@link #vertexNormalsY}, {@link #vertexNormalsZ} and
+	 * {@link #vertexNormalsMagnitude}. This builds a copy, so changes to it are not seen by the model.
+	 */
+	@Deprecated
+	public VertexNormal[] getVertexNormals()
+	{
+		if (vertexNormalsX == null)
+		{
+			return null;
+		}
+
+		VertexNormal[] normals = new VertexNormal[vertexCount];
+		for (int i = 0; i < vertexCount; ++i)
+		{
+			VertexNormal normal = normals[i] = new VertexNormal();
+			normal.x = vertexNormalsX[i];
+			normal.y = vertexNormalsY[i];
+			normal.z = vertexNormalsZ[i];
+			normal.magnitude = vertexNormalsMagnitude[i];
+		}
+		return normals;
+	}
+
+	/**
+	 * @deprecated use {@link #faceNormalsX}, {@link #faceNormalsY} and {@link #faceNormalsZ}.
+	 * This builds a copy, so changes to it are not seen by the model.
+	 */
+	@Deprecated
+	public FaceNormal[] getFaceNormals()
+	{
+		if (faceNormalsX == null)
+		{
+			return null;
+		}
+
+		FaceNormal[] normals = new FaceNormal[faceCount];
+		for (int i = 0; i < faceCount; ++i)
+		{
+			if (faceRenderTypes[i] == 1)
+			{
+				FaceNormal normal = normals[i] = new FaceNormal();
+				normal.x = faceNormalsX[i];
+				normal.y = faceNormalsY[i];
+				normal.z = faceNormalsZ[i];
+			}
+		}
+		return normals;
+	}
+
+	/**
+	 * @deprecated use {@link #faceTextureU}
+	 */
+	@Deprecated
+	public float[][] getFaceTextureUCoordinates()
+	{
+		return unpackFaceTextureCoordinates(faceTextureU);
+	}
+
+	/**
+	 * @deprecated use {@link #faceTextureV}
+	 */
+	@Deprecated
+	public float[][] getFaceTextureVCoordinates()
+	{
+		return unpackFaceTextureCoordinates(faceTextureV);
+	}
+
+	private float[][] unpackFaceTextureCoordinates(float[] packed)
+	{
+		if (packed == null)
+		{
+			return null;
+		}
+
+		float[][] coordinates = new float[faceCount][];
+		for (int i = 0; i < faceCount; ++i)
+		{
+			if (faceTextures[i] != -1)
+			{
+				coordinates[i] = Arrays.copyOfRange(packed, i * 3, i * 3 + 3);
+			}
 		}
+		return coordinates;
 	}
 
 	public void computeAnimationTables()
@@ -572,9 +669,9 @@ public class ModelDefinition
 
 	private void reset()
 	{
-		vertexNormals = null;
-		faceNormals = null;
-		faceTextureUCoordinates = faceTextureVCoordinates = null;
+		vertexNormalsX = vertexNormalsY = vertexNormalsZ = vertexNormalsMagnitude = null;
+		faceNormalsX = faceNormalsY = faceNormalsZ = null;
+		faceTextureU = faceTextureV = null;
 	}
 
 	public void resize(int var1, int var2, int var3)
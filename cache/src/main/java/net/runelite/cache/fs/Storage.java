@@ -41,6 +41,10 @@ public interface Storage extends AutoCloseable
 
 	void store(int index, int archive, byte[] data) throws IOException;
 
+	/**
+	 * Read the packed contents of an archive. Safe to call from several
+	 * threads at once, as long as nothing is being stored at the same time.
+	 */
 	default byte[] loadArchive(Archive archive) throws IOException
 	{
 		return load(archive.getIndex().getId(), archive.getArchiveId());
@@ -83,7 +83,7 @@ public class DiskStorage implements Storage
 		}
 	}
 
-	private IndexFile getIndex(int i) throws FileNotFoundException
+	private synchronized IndexFile getIndex(int i) throws FileNotFoundException
 	{
 		if (i == 255)
 		{
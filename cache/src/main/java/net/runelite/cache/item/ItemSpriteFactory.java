@@ -32,9 +32,7 @@ import net.runelite.cache.definitions.providers.ItemProvider;
 import net.runelite.cache.definitions.providers.ModelProvider;
 import net.runelite.cache.definitions.providers.SpriteProvider;
 import net.runelite.cache.definitions.providers.TextureProvider;
-import net.runelite.cache.models.FaceNormal;
 import net.runelite.cache.models.JagexColor;
-import net.runelite.cache.models.VertexNormal;
 
 public class ItemSpriteFactory
 {
@@ -43,13 +41,27 @@ public class ItemSpriteFactory
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
-		SpritePixels spritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+		RenderContext context = new RenderContext(createTextureProvider(textureProvider, spriteProvider));
+		return createSprite(context, itemProvider, modelProvider, itemId, quantity, border, shadowColor, noted);
+	}
+
+	static BufferedImage createSprite(RenderContext context, ItemProvider itemProvider, ModelProvider modelProvider,
+		int itemId, int quantity, int border, int shadowColor,
+		boolean noted) throws IOException
+	{
+		SpritePixels spritePixels = createSpritePixels(context, itemProvider, modelProvider,
 			itemId, quantity, border, shadowColor, noted);
 		return spritePixels == null ? null : spritePixels.toBufferedImage();
 	}
 
-	private static SpritePixels createSpritePixels(ItemProvider itemProvider, ModelProvider modelProvider,
-		SpriteProvider spriteProvider, TextureProvider textureProvider,
+	static RSTextureProvider createTextureProvider(TextureProvider textureProvider, SpriteProvider spriteProvider)
+	{
+		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
+		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
+		return rsTextureProvider;
+	}
+
+	private static SpritePixels createSpritePixels(RenderContext context, ItemProvider itemProvider, ModelProvider modelProvider,
 		int itemId, int quantity, int border, int shadowColor,
 		boolean noted) throws IOException
 	{
@@ -73,7 +85,7 @@ public class ItemSpriteFactory
 			}
 		}
 
-		Model itemModel = getModel(modelProvider, item);
+		Model itemModel = getModel(context, modelProvider, item);
 		if (itemModel == null)
 		{
 			return null;
@@ -82,7 +94,7 @@ public class ItemSpriteFactory
 		SpritePixels auxSpritePixels = null;
 		if (item.notedTemplate != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(context, itemProvider, modelProvider,
 				item.notedID, 10, 1, 0, true);
 			if (auxSpritePixels == null)
 			{
@@ -91,7 +103,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.boughtTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(context, itemProvider, modelProvider,
 				item.boughtId, quantity, border, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -100,7 +112,7 @@ public class ItemSpriteFactory
 		}
 		else if (item.placeholderTemplateId != -1)
 		{
-			auxSpritePixels = createSpritePixels(itemProvider, modelProvider, spriteProvider, textureProvider,
+			auxSpritePixels = createSpritePixels(context, itemProvider, modelProvider,
 				item.placeholderId, quantity, 0, 0, false);
 			if (auxSpritePixels == null)
 			{
@@ -108,12 +120,8 @@ public class ItemSpriteFactory
 			}
 		}
 
-		RSTextureProvider rsTextureProvider = new RSTextureProvider(textureProvider, spriteProvider);
-		rsTextureProvider.brightness = JagexColor.BRIGHTNESS_MAX;
-
 		SpritePixels spritePixels = new SpritePixels(36, 32);
-		Graphics3D graphics = new Graphics3D(rsTextureProvider);
-		graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
+		Graphics3D graphics = context.graphics;
 		graphics.setRasterBuffer(spritePixels.pixels, 36, 32);
 		graphics.reset();
 		graphics.setRasterClipping();
@@ -180,7 +188,7 @@ public class ItemSpriteFactory
 		return spritePixels;
 	}
 
-	private static Model getModel(ModelProvider modelProvider, ItemDefinition item) throws IOException
+	private static Model getModel(RenderContext context, ModelProvider modelProvider, ItemDefinition item) throws IOException
 	{
 		Model itemModel;
 		ModelDefinition inventoryModel = modelProvider.provide(item.inventoryModel);
@@ -210,16 +218,16 @@ public class ItemSpriteFactory
 			}
 		}
 
-		itemModel = light(inventoryModel, item.ambient + 64, item.contrast + 768, -50, -10, -50);
+		itemModel = light(context.modelBuffers, inventoryModel, item.ambient + 64, item.contrast + 768, -50, -10, -50);
 		return itemModel;
 	}
 
-	private static Model light(ModelDefinition def, int ambient, int contrast, int x, int y, int z)
+	private static Model light(Model.Buffers buffers, ModelDefinition def, int ambient, int contrast, int x, int y, int z)
 	{
 		def.computeNormals();
 		int somethingMagnitude = (int) Math.sqrt((double) (z * z + x * x + y * y));
 		int var7 = somethingMagnitude * contrast >> 8;
-		Model litModel = new Model();
+		Model litModel = new Model(buffers);
 		litModel.faceColors1 = new int[def.faceCount];
 		litModel.faceColors2 = new int[def.faceCount];
 		litModel.faceColors3 = new int[def.faceCount];
@@ -324,17 +332,15 @@ public class ItemSpriteFactory
 				faceType = 2;
 			}
 
-			VertexNormal vertexNormal;
+			int vertex;
 			int tmp;
-			FaceNormal faceNormal;
 			if (faceTexture == -1)
 			{
 				if (faceType != 0)
 				{
 					if (faceType == 1)
 					{
-						faceNormal = def.faceNormals[faceIdx];
-						tmp = (y * faceNormal.y + z * faceNormal.z + x * faceNormal.x) / (var7 / 2 + var7) + ambient;
+						tmp = (y * def.faceNormalsY[faceIdx] + z * def.faceNormalsZ[faceIdx] + x * def.faceNormalsX[faceIdx]) / (var7 / 2 + var7) + ambient;
 						litModel.faceColors1[faceIdx] = method2608(def.faceColors[faceIdx] & '\uffff', tmp);
 						litModel.faceColors3[faceIdx] = -1;
 					}
@@ -351,17 +357,17 @@ public class ItemSpriteFactory
 				else
 				{
 					int var15 = def.faceColors[faceIdx] & '\uffff';
-					vertexNormal = def.vertexNormals[def.faceIndices1[faceIdx]];
+					vertex = def.faceIndices1[faceIdx];
 
-					tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+					tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 					litModel.faceColors1[faceIdx] = method2608(var15, tmp);
-					vertexNormal = def.vertexNormals[def.faceIndices2[faceIdx]];
+					vertex = def.faceIndices2[faceIdx];
 
-					tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+					tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 					litModel.faceColors2[faceIdx] = method2608(var15, tmp);
-					vertexNormal = def.vertexNormals[def.faceIndices3[faceIdx]];
+					vertex = def.faceIndices3[faceIdx];
 
-					tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+					tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 					litModel.faceColors3[faceIdx] = method2608(var15, tmp);
 				}
 			}
@@ -369,8 +375,7 @@ public class ItemSpriteFactory
 			{
 				if (faceType == 1)
 				{
-					faceNormal = def.faceNormals[faceIdx];
-					tmp = (y * faceNormal.y + z * faceNormal.z + x * faceNormal.x) / (var7 / 2 + var7) + ambient;
+					tmp = (y * def.faceNormalsY[faceIdx] + z * def.faceNormalsZ[faceIdx] + x * def.faceNormalsX[faceIdx]) / (var7 / 2 + var7) + ambient;
 					litModel.faceColors1[faceIdx] = bound2to126(tmp);
 					litModel.faceColors3[faceIdx] = -1;
 				}
@@ -381,17 +386,17 @@ public class ItemSpriteFactory
 			}
 			else
 			{
-				vertexNormal = def.vertexNormals[def.faceIndices1[faceIdx]];
+				vertex = def.faceIndices1[faceIdx];
 
-				tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+				tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 				litModel.faceColors1[faceIdx] = bound2to126(tmp);
-				vertexNormal = def.vertexNormals[def.faceIndices2[faceIdx]];
+				vertex = def.faceIndices2[faceIdx];
 
-				tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+				tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 				litModel.faceColors2[faceIdx] = bound2to126(tmp);
-				vertexNormal = def.vertexNormals[def.faceIndices3[faceIdx]];
+				vertex = def.faceIndices3[faceIdx];
 
-				tmp = (y * vertexNormal.y + z * vertexNormal.z + x * vertexNormal.x) / (var7 * vertexNormal.magnitude) + ambient;
+				tmp = (y * def.vertexNormalsY[vertex] + z * def.vertexNormalsZ[vertex] + x * def.vertexNormalsX[vertex]) / (var7 * def.vertexNormalsMagnitude[vertex]) + ambient;
 				litModel.faceColors3[faceIdx] = bound2to126(tmp);
 			}
 		}
@@ -431,4 +436,20 @@ public class ItemSpriteFactory
 
 		return var0;
 	}
+
+	/**
+	 * The rasterizer and model scratch space used to render sprites. A context must
+	 * only be used by one thread at a time, but can be reused for any number of items.
+	 */
+	static final class RenderContext
+	{
+		final Graphics3D graphics;
+		final Model.Buffers modelBuffers = new Model.Buffers();
+
+		RenderContext(RSTextureProvider textureProvider)
+		{
+			graphics = new Graphics3D(textureProvider);
+			graphics.setBrightness(JagexColor.BRIGHTNESS_MAX);
+		}
+	}
 }
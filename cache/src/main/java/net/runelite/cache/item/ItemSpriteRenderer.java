@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import net.runelite.cache.util.Workers;
+
+/**
+ * Renders sprites for many items on several threads. Each thread has its own
+ * rasterizer and model scratch space. The output is identical to calling
+ * {@link ItemSpriteFactory#createSprite} once for each item.
+ * <p>
+ * The providers are called from every worker thread at once, so they must be
+ * thread safe. The {@link ModelProvider} must return a new definition on each
+ * call, because rendering resizes and recolors the model in place.
+ */
+@Slf4j
+public class ItemSpriteRenderer
+{
+	@FunctionalInterface
+	public interface SpriteConsumer
+	{
+		/**
+		 * Called from a worker thread with each rendered sprite
+		 */
+		void accept(int itemId, BufferedImage sprite) throws IOException;
+	}
+
+	private final ItemProvider itemProvider;
+	private final ModelProvider modelProvider;
+	private final RSTextureProvider textureProvider;
+	private final int threads;
+
+	public ItemSpriteRenderer(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider, int threads)
+	{
+		this.itemProvider = itemProvider;
+		this.modelProvider = modelProvider;
+		this.textureProvider = ItemSpriteFactory.createTextureProvider(textureProvider, spriteProvider);
+		this.threads = threads;
+	}
+
+	public ItemSpriteRenderer(ItemProvider itemProvider, ModelProvider modelProvider,
+		SpriteProvider spriteProvider, TextureProvider textureProvider)
+	{
+		this(itemProvider, modelProvider, spriteProvider, textureProvider, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Render the given items, passing each sprite to the consumer as soon as it is done.
+	 * Items which fail to render are logged and skipped.
+	 *
+	 * @return the number of sprites passed to the consumer
+	 */
+	public int render(int[] itemIds, int quantity, int border, int shadowColor, boolean noted, SpriteConsumer consumer) throws IOException
+	{
+		AtomicInteger count = new AtomicInteger();
+		Workers.run(threads, itemIds.length, () -> new ItemSpriteFactory.RenderContext(textureProvider), (context, i) ->
+		{
+			int itemId = itemIds[i];
+			BufferedImage sprite;
+			try
+			{
+				sprite = ItemSpriteFactory.createSprite(context, itemProvider, modelProvider,
+					itemId, quantity, border, shadowColor, noted);
+			}
+			catch (Exception ex)
+			{
+				log.warn("error rendering item {}", itemId, ex);
+				return;
+			}
+
+			if (sprite != null)
+			{
+				consumer.accept(itemId, sprite);
+				count.incrementAndGet();
+			}
+		});
+		return count.get();
+	}
+
+	/**
+	 * Render the given items as they appear in the inventory and write each one to
+	 * {@code <id>.png} in the output directory.
+	 *
+	 * @return the number of sprites written
+	 */
+	public int export(int[] itemIds, File outDir) throws IOException
+	{
+		return render(itemIds, 1, 1, 3153952, false, (itemId, sprite) ->
+			ImageIO.write(sprite, "PNG", new File(outDir, itemId + ".png")));
+	}
+}
@@ -26,20 +26,20 @@ package net.runelite.cache.item;
 
 class Model extends Renderable
 {
-	boolean[] faceClipped = new boolean[6500];
-	int[] modelViewportYs = new int[6500];
-	int[] modelViewportXs = new int[6500];
-	int[] modelViewportZs = new int[6500];
-	int[] modelLocalX = new int[6500];
-	int[] modelLocalY = new int[6500];
-	int[] modelLocalZ = new int[6500];
-	int[] distanceFaceCount = new int[6000];
-	int[][] facesByDistance = new int[6000][512];
-	int[] numOfPriority = new int[12];
-	int[][] orderedFaces = new int[12][2000];
-	int[] eq10 = new int[2000];
-	int[] eq11 = new int[2000];
-	int[] lt10 = new int[12];
+	final boolean[] faceClipped;
+	final int[] modelViewportYs;
+	final int[] modelViewportXs;
+	final int[] modelViewportZs;
+	final int[] modelLocalX;
+	final int[] modelLocalY;
+	final int[] modelLocalZ;
+	final int[] distanceFaceCount;
+	final int[][] facesByDistance;
+	final int[] numOfPriority;
+	final int[][] orderedFaces;
+	final int[] eq10;
+	final int[] eq11;
+	final int[] lt10;
 	static int[] Model_sine;
 	static int[] Model_cosine;
 	int verticesCount;
@@ -76,8 +76,22 @@ class Model extends Renderable
 		Model_cosine = Graphics3D.COSINE;
 	}
 
-	Model()
+	Model(Buffers buffers)
 	{
+		this.faceClipped = buffers.faceClipped;
+		this.modelViewportYs = buffers.modelViewportYs;
+		this.modelViewportXs = buffers.modelViewportXs;
+		this.modelViewportZs = buffers.modelViewportZs;
+		this.modelLocalX = buffers.modelLocalX;
+		this.modelLocalY = buffers.modelLocalY;
+		this.modelLocalZ = buffers.modelLocalZ;
+		this.distanceFaceCount = buffers.distanceFaceCount;
+		this.facesByDistance = buffers.facesByDistance;
+		this.numOfPriority = buffers.numOfPriority;
+		this.orderedFaces = buffers.orderedFaces;
+		this.eq10 = buffers.eq10;
+		this.eq11 = buffers.eq11;
+		this.lt10 = buffers.lt10;
 		this.verticesCount = 0;
 		this.indicesCount = 0;
 		this.numTextureFaces = 0;
@@ -503,4 +517,28 @@ class Model extends Renderable
 			graphics.rasterGouraud(modelViewportXs[var2], modelViewportXs[var3], modelViewportXs[var4], modelViewportYs[var2], modelViewportYs[var3], modelViewportYs[var4], this.faceColors1[face], this.faceColors2[face], this.faceColors3[face]);
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Scratch space used while projecting and drawing a model. It is about 13MB,
+	 * almost all of it the depth buckets, so it is shared by every model drawn
+	 * on the same thread instead of being allocated per model. Every array is
+	 * cleared or written before it is read in {@link #projectAndDraw}.
+	 */
+	static final class Buffers
+	{
+		final boolean[] faceClipped = new boolean[6500];
+		final int[] modelViewportYs = new int[6500];
+		final int[] modelViewportXs = new int[6500];
+		final int[] modelViewportZs = new int[6500];
+		final int[] modelLocalX = new int[6500];
+		final int[] modelLocalY = new int[6500];
+		final int[] modelLocalZ = new int[6500];
+		final int[] distanceFaceCount = new int[6000];
+		final int[][] facesByDistance = new int[6000][512];
+		final int[] numOfPriority = new int[12];
+		final int[][] orderedFaces = new int[12][2000];
+		final int[] eq10 = new int[2000];
+		final int[] eq11 = new int[2000];
+		final int[] lt10 = new int[12];
+	}
+}
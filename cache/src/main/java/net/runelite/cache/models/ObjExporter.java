@@ -60,20 +60,18 @@ public class ObjExporter
 
 		if (model.faceTextures != null)
 		{
-			float[][] u = model.faceTextureUCoordinates;
-			float[][] v = model.faceTextureVCoordinates;
+			float[] u = model.faceTextureU;
+			float[] v = model.faceTextureV;
 
-			for (int i = 0; i < model.faceCount; ++i)
+			for (int i = 0; i < model.faceCount * 3; ++i)
 			{
-				objWriter.println("vt " + u[i][0] + " " + v[i][0]);
-				objWriter.println("vt " + u[i][1] + " " + v[i][1]);
-				objWriter.println("vt " + u[i][2] + " " + v[i][2]);
+				objWriter.println("vt " + u[i] + " " + v[i]);
 			}
 		}
 
-		for (VertexNormal normal : model.vertexNormals)
+		for (int i = 0; i < model.vertexCount; ++i)
 		{
-			objWriter.println("vn " + normal.x + " " + normal.y + " " + normal.z);
+			objWriter.println("vn " + model.vertexNormalsX[i] + " " + model.vertexNormalsY[i] + " " + model.vertexNormalsZ[i]);
 		}
 
 		for (int i = 0; i < model.faceCount; ++i)
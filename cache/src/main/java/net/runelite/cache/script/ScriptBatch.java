@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.script;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.definitions.loaders.ScriptLoader;
+import net.runelite.cache.definitions.savers.ScriptSaver;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.script.assembler.Assembler;
+import net.runelite.cache.script.disassembler.Disassembler;
+import net.runelite.cache.util.Djb2;
+import net.runelite.cache.util.Workers;
+
+/**
+ * Disassembles, assembles or round trips many scripts on several threads.
+ * One {@link Disassembler} and one {@link Assembler} are shared by all of the
+ * workers, as neither keeps any state between scripts, and the generated
+ * lexer and parser keep their DFA caches in static fields, so every worker
+ * benefits from what the others have already parsed.
+ * <p>
+ * Results are passed to a {@link ScriptConsumer} as soon as each script is
+ * done rather than being collected, so a whole cache can be written to a
+ * directory or zip without holding every script in memory.
+ */
+@Slf4j
+public class ScriptBatch
+{
+	private static final int VERSION_HASH = Djb2.hash("version.dat");
+
+	@FunctionalInterface
+	public interface ScriptConsumer
+	{
+		/**
+		 * Called from a worker thread with each finished script
+		 */
+		void accept(String name, byte[] data) throws IOException;
+	}
+
+	/**
+	 * A script whose packed form changed when round tripped
+	 */
+	@Value
+	public static class Mismatch
+	{
+		int id;
+		/**
+		 * offset of the first differing byte, or -1 if the script failed to round trip
+		 */
+		int offset;
+		String error;
+	}
+
+	private final Disassembler disassembler;
+	private final Assembler assembler;
+	private final ScriptLoader loader = new ScriptLoader();
+	private final ScriptSaver saver = new ScriptSaver();
+	private final int threads;
+
+	public ScriptBatch(Instructions instructions, Map<String, Object> symbols, int threads)
+	{
+		this.disassembler = new Disassembler(symbols);
+		this.assembler = new Assembler(instructions, symbols);
+		this.threads = threads;
+	}
+
+	public ScriptBatch(Instructions instructions, Map<String, Object> symbols)
+	{
+		this(instructions, symbols, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Read every script in the index up front, so the workers only deal with
+	 * packed bytes and the scripts can be worked on in any order. Storage can
+	 * be read from several threads, but reading in index order keeps the disk
+	 * access sequential.
+	 *
+	 * @return the packed scripts, by id
+	 */
+	public static SortedMap<Integer, byte[]> load(Storage storage, Index index) throws IOException
+	{
+		SortedMap<Integer, byte[]> scripts = new TreeMap<>();
+		for (Archive archive : index.getArchives())
+		{
+			if (archive.getNameHash() == VERSION_HASH)
+			{
+				continue;
+			}
+
+			byte[] contents = archive.decompress(storage.loadArchive(archive));
+			if (contents != null)
+			{
+				scripts.put(archive.getArchiveId(), contents);
+			}
+		}
+		return scripts;
+	}
+
+	/**
+	 * Disassemble the packed scripts, passing each one to the consumer as {@code <id>.rs2asm}.
+	 * Scripts which fail to disassemble are logged and skipped.
+	 *
+	 * @return the number of scripts passed to the consumer
+	 */
+	public int disassemble(Map<Integer, byte[]> scripts, ScriptConsumer consumer) throws IOException
+	{
+		Integer[] ids = scripts.keySet().toArray(new Integer[0]);
+		AtomicInteger count = new AtomicInteger();
+		run(ids.length, i ->
+		{
+			int id = ids[i];
+			String text;
+			try
+			{
+				text = disassembler.disassemble(loader.load(id, scripts.get(id)));
+			}
+			catch (Exception ex)
+			{
+				log.warn("error disassembling script {}", id, ex);
+				return;
+			}
+
+			consumer.accept(id + ".rs2asm", text.getBytes(StandardCharsets.UTF_8));
+			count.incrementAndGet();
+		});
+		return count.get();
+	}
+
+	/**
+	 * Assemble the script files, passing each packed script to the consumer named by its id.
+	 * Scripts which fail to assemble are logged and skipped.
+	 *
+	 * @return the number of scripts passed to the consumer
+	 */
+	public int assemble(List<File> files, ScriptConsumer consumer) throws IOException
+	{
+		AtomicInteger count = new AtomicInteger();
+		run(files.size(), i ->
+		{
+			File file = files.get(i);
+			ScriptDefinition script;
+			try (FileInputStream in = new FileInputStream(file))
+			{
+				script = assembler.assemble(in);
+			}
+			catch (Exception ex)
+			{
+				log.warn("error assembling {}", file, ex);
+				return;
+			}
+
+			consumer.accept(Integer.toString(script.getId()), saver.save(script));
+			count.incrementAndGet();
+		});
+		return count.get();
+	}
+
+	/**
+	 * Disassemble and reassemble each script, and compare the result with the original packed bytes.
+	 *
+	 * @return the scripts which didn't come back identical, by id
+	 */
+	public List<Mismatch> verify(Map<Integer, byte[]> scripts) throws IOException
+	{
+		Integer[] ids = scripts.keySet().toArray(new Integer[0]);
+		Queue<Mismatch> mismatches = new ConcurrentLinkedQueue<>();
+		run(ids.length, i ->
+		{
+			int id = ids[i];
+			byte[] packed = scripts.get(id);
+			try
+			{
+				String text = disassembler.disassemble(loader.load(id, packed));
+				ScriptDefinition script = assembler.assemble(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+				int offset = Arrays.mismatch(packed, saver.save(script));
+				if (offset != -1)
+				{
+					mismatches.add(new Mismatch(id, offset, null));
+				}
+			}
+			catch (Exception ex)
+			{
+				mismatches.add(new Mismatch(id, -1, ex.toString()));
+			}
+		});
+
+		List<Mismatch> sorted = new ArrayList<>(mismatches);
+		sorted.sort(Comparator.comparingInt(Mismatch::getId));
+		return Collections.unmodifiableList(sorted);
+	}
+
+	/**
+	 * @return a consumer which writes each script to a file in the directory
+	 */
+	public static ScriptConsumer directory(File dir)
+	{
+		return (name, data) -> Files.write(new File(dir, name).toPath(), data);
+	}
+
+	/**
+	 * @return a consumer which writes each script as an entry in the zip. The caller is
+	 * responsible for closing the zip once the batch is done.
+	 */
+	public static ScriptConsumer zip(ZipOutputStream zip)
+	{
+		return (name, data) ->
+		{
+			synchronized (zip)
+			{
+				zip.putNextEntry(new ZipEntry(name));
+				zip.write(data);
+				zip.closeEntry();
+			}
+		};
+	}
+
+	private void run(int count, IntJob job) throws IOException
+	{
+		Workers.run(threads, count, () -> null, (ctx, i) -> job.run(i));
+	}
+
+	@FunctionalInterface
+	private interface IntJob
+	{
+		void run(int i) throws IOException;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Splits a job over several threads, with each thread taking the next index until
+ * all of them are done.
+ */
+public final class Workers
+{
+	@FunctionalInterface
+	public interface Job<C>
+	{
+		void run(C context, int i) throws IOException;
+	}
+
+	private Workers()
+	{
+	}
+
+	/**
+	 * Run the job once for each index in [0, count) over up to the given number of
+	 * threads. Each thread creates its own context, for state which can't be shared.
+	 * An IOException from any job stops the other threads and is rethrown.
+	 */
+	public static <C> void run(int threads, int count, Supplier<C> context, Job<C> job) throws IOException
+	{
+		AtomicInteger next = new AtomicInteger();
+		Callable<Void> worker = () ->
+		{
+			C ctx = context.get();
+			for (int i = next.getAndIncrement(); i < count; i = next.getAndIncrement())
+			{
+				try
+				{
+					job.run(ctx, i);
+				}
+				catch (IOException ex)
+				{
+					// stop the other workers too
+					next.set(count);
+					throw ex;
+				}
+			}
+			return null;
+		};
+
+		int workers = Math.max(1, Math.min(threads, count));
+		List<Callable<Void>> tasks = new ArrayList<>(workers);
+		for (int i = 0; i < workers; ++i)
+		{
+			tasks.add(worker);
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		try
+		{
+			for (Future<Void> future : executor.invokeAll(tasks))
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException("interrupted", ex);
+		}
+		catch (ExecutionException ex)
+		{
+			throw new IOException(ex);
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+}
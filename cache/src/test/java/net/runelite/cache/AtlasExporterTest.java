@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import javax.imageio.ImageIO;
+import static org.junit.Assert.assertEquals;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AtlasExporterTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testOversizedImage() throws IOException
+	{
+		File dir = folder.getRoot();
+		try (AtlasExporter atlas = new AtlasExporter(dir, "test", 64, 1))
+		{
+			atlas.add("small", new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB));
+			atlas.add("large", new BufferedImage(100, 40, BufferedImage.TYPE_INT_ARGB));
+			atlas.add("after", new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB));
+		}
+
+		JsonObject index;
+		try (Reader reader = new FileReader(new File(dir, "test.json")))
+		{
+			index = new JsonParser().parse(reader).getAsJsonObject();
+		}
+
+		assertEquals(3, index.getAsJsonArray("pages").size());
+		JsonObject large = index.getAsJsonObject("entries").getAsJsonObject("large");
+		assertEquals(1, large.get("page").getAsInt());
+
+		JsonObject page = index.getAsJsonArray("pages").get(1).getAsJsonObject();
+		assertEquals(100, page.get("width").getAsInt());
+		BufferedImage image = ImageIO.read(new File(dir, page.get("file").getAsString()));
+		assertEquals(100, image.getWidth());
+		assertEquals(40, image.getHeight());
+		assertEquals(2, index.getAsJsonObject("entries").getAsJsonObject("after").get("page").getAsInt());
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.definitions;
+
+import net.runelite.cache.models.FaceNormal;
+import net.runelite.cache.models.VertexNormal;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
+
+public class ModelDefinitionTest
+{
+	@Test
+	public void testNormals()
+	{
+		ModelDefinition model = square();
+		model.computeNormals();
+
+		assertArrayEquals(new int[]{0, 0, 0, 0}, model.vertexNormalsX);
+		assertArrayEquals(new int[]{-256, -256, -256, 0}, model.vertexNormalsY);
+		assertArrayEquals(new int[]{0, 0, 0, 0}, model.vertexNormalsZ);
+		assertArrayEquals(new int[]{1, 1, 1, 0}, model.vertexNormalsMagnitude);
+		assertArrayEquals(new int[]{0, -256}, model.faceNormalsY);
+
+		VertexNormal[] vertexNormals = model.getVertexNormals();
+		assertEquals(-256, vertexNormals[1].y);
+		assertEquals(1, vertexNormals[1].magnitude);
+
+		FaceNormal[] faceNormals = model.getFaceNormals();
+		assertNull(faceNormals[0]);
+		assertEquals(-256, faceNormals[1].y);
+
+		model.resize(128, 128, 128);
+		assertNull(model.vertexNormalsX);
+		assertNull(model.faceNormalsX);
+	}
+
+	@Test
+	public void testTextureCoordinates()
+	{
+		ModelDefinition model = square();
+		model.computeTextureUVCoordinates();
+
+		assertArrayEquals(new float[]{0, 1, 0, 0, 0, 0}, model.faceTextureU, 0f);
+		assertArrayEquals(new float[]{0, 0, 1, 0, 0, 0}, model.faceTextureV, 0f);
+
+		float[][] u = model.getFaceTextureUCoordinates();
+		assertArrayEquals(new float[]{0, 1, 0}, u[0], 0f);
+		assertNull(u[1]);
+
+		model.faceTextures = null;
+		model.computeTextureUVCoordinates();
+		assertNull(model.faceTextureU);
+		assertNull(model.getFaceTextureVCoordinates());
+	}
+
+	// two triangles lying flat, the first smooth shaded and textured, the second flat shaded
+	private static ModelDefinition square()
+	{
+		ModelDefinition model = new ModelDefinition();
+		model.vertexCount = 4;
+		model.vertexX = new int[]{0, 128, 0, 128};
+		model.vertexY = new int[]{0, 0, 0, 0};
+		model.vertexZ = new int[]{0, 0, 128, 128};
+		model.faceCount = 2;
+		model.faceIndices1 = new int[]{0, 1};
+		model.faceIndices2 = new int[]{1, 3};
+		model.faceIndices3 = new int[]{2, 2};
+		model.faceRenderTypes = new byte[]{0, 1};
+		model.faceTextures = new short[]{5, -1};
+		return model;
+	}
+}
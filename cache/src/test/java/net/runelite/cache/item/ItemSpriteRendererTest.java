@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.item;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import net.runelite.cache.definitions.ItemDefinition;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.TextureDefinition;
+import net.runelite.cache.definitions.providers.ItemProvider;
+import net.runelite.cache.definitions.providers.ModelProvider;
+import net.runelite.cache.definitions.providers.SpriteProvider;
+import net.runelite.cache.definitions.providers.TextureProvider;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ItemSpriteRendererTest
+{
+	private static final int ITEMS = 64;
+	private static final int NOTE_TEMPLATE = ITEMS;
+	private static final int NOTED = ITEMS + 1;
+
+	private final ItemProvider itemProvider = this::item;
+	private final ModelProvider modelProvider = ItemSpriteRendererTest::model;
+	private final SpriteProvider spriteProvider = (spriteId, frameId) -> null;
+	private final TextureProvider textureProvider = ItemSpriteRendererTest::textures;
+
+	@Test
+	public void testMatchesFactory() throws IOException
+	{
+		int[] itemIds = new int[ITEMS + 1];
+		for (int i = 0; i < ITEMS; ++i)
+		{
+			itemIds[i] = i;
+		}
+		itemIds[ITEMS] = NOTED;
+
+		Map<Integer, BufferedImage> sprites = new ConcurrentHashMap<>();
+		ItemSpriteRenderer renderer = new ItemSpriteRenderer(itemProvider, modelProvider, spriteProvider, textureProvider, 4);
+		int count = renderer.render(itemIds, 1, 1, 3153952, false, sprites::put);
+		assertEquals(itemIds.length, count);
+
+		for (int itemId : itemIds)
+		{
+			BufferedImage expected = ItemSpriteFactory.createSprite(itemProvider, modelProvider, spriteProvider, textureProvider,
+				itemId, 1, 1, 3153952, false);
+			BufferedImage actual = sprites.get(itemId);
+			assertNotNull(actual);
+			assertArrayEquals("item " + itemId, pixels(expected), pixels(actual));
+		}
+
+		int[] noted = pixels(sprites.get(NOTED));
+		assertTrue(Arrays.stream(noted).anyMatch(p -> p != 0));
+	}
+
+	private ItemDefinition item(int itemId)
+	{
+		Random random = new Random(itemId);
+		ItemDefinition item = new ItemDefinition(itemId);
+		item.inventoryModel = itemId == NOTED ? NOTE_TEMPLATE : itemId;
+		item.xan2d = random.nextInt(2048);
+		item.yan2d = random.nextInt(2048);
+		item.zan2d = random.nextInt(4) == 0 ? random.nextInt(2048) : 0;
+		item.zoom2d = 600 + random.nextInt(1400);
+		item.ambient = random.nextInt(32);
+		item.contrast = random.nextInt(32);
+		if (itemId == NOTED)
+		{
+			item.notedTemplate = NOTE_TEMPLATE;
+			item.notedID = 7;
+		}
+		return item;
+	}
+
+	// a lumpy sphere with random colors, shading, transparency, priorities and textures
+	private static ModelDefinition model(int modelId)
+	{
+		Random random = new Random(modelId * 31L + 7);
+		int rings = 4 + random.nextInt(6);
+		int segments = 4 + random.nextInt(8);
+		int radius = 80 + random.nextInt(300);
+
+		ModelDefinition model = new ModelDefinition();
+		model.id = modelId;
+		model.vertexCount = rings * segments + 2;
+		model.vertexX = new int[model.vertexCount];
+		model.vertexY = new int[model.vertexCount];
+		model.vertexZ = new int[model.vertexCount];
+		for (int r = 0; r < rings; ++r)
+		{
+			double phi = Math.PI * (r + 1) / (rings + 1);
+			for (int s = 0; s < segments; ++s)
+			{
+				double theta = 2 * Math.PI * s / segments;
+				double len = radius * (0.8 + random.nextDouble() * 0.4);
+				int v = r * segments + s;
+				model.vertexX[v] = (int) (len * Math.sin(phi) * Math.cos(theta));
+				model.vertexY[v] = (int) (len * Math.cos(phi));
+				model.vertexZ[v] = (int) (len * Math.sin(phi) * Math.sin(theta));
+			}
+		}
+		int top = rings * segments;
+		int bottom = top + 1;
+		model.vertexY[top] = radius;
+		model.vertexY[bottom] = -radius;
+
+		model.faceCount = 2 * segments * rings;
+		model.faceIndices1 = new int[model.faceCount];
+		model.faceIndices2 = new int[model.faceCount];
+		model.faceIndices3 = new int[model.faceCount];
+		int f = 0;
+		for (int s = 0; s < segments; ++s)
+		{
+			int next = (s + 1) % segments;
+			f = face(model, f, top, s, next);
+			f = face(model, f, bottom, (rings - 1) * segments + next, (rings - 1) * segments + s);
+			for (int r = 0; r < rings - 1; ++r)
+			{
+				int a = r * segments + s;
+				int b = r * segments + next;
+				f = face(model, f, a, a + segments, b);
+				f = face(model, f, b, a + segments, b + segments);
+			}
+		}
+
+		model.faceColors = new short[model.faceCount];
+		model.faceRenderTypes = new byte[model.faceCount];
+		model.faceTransparencies = new byte[model.faceCount];
+		model.faceTextures = new short[model.faceCount];
+		for (int i = 0; i < model.faceCount; ++i)
+		{
+			model.faceColors[i] = (short) random.nextInt(65536);
+			model.faceRenderTypes[i] = (byte) (random.nextInt(4) == 0 ? 1 : 0);
+			model.faceTransparencies[i] = (byte) (random.nextInt(6) == 0 ? random.nextInt(200) : 0);
+			model.faceTextures[i] = (short) (random.nextInt(5) == 0 ? 0 : -1);
+		}
+
+		if (random.nextBoolean())
+		{
+			model.faceRenderPriorities = new byte[model.faceCount];
+			for (int i = 0; i < model.faceCount; ++i)
+			{
+				model.faceRenderPriorities[i] = (byte) random.nextInt(12);
+			}
+		}
+		return model;
+	}
+
+	private static int face(ModelDefinition model, int f, int a, int b, int c)
+	{
+		model.faceIndices1[f] = a;
+		model.faceIndices2[f] = b;
+		model.faceIndices3[f] = c;
+		return f + 1;
+	}
+
+	private static TextureDefinition[] textures()
+	{
+		Random random = new Random(0);
+		TextureDefinition texture = new TextureDefinition();
+		texture.setId(0);
+		texture.pixels = new int[128 * 128];
+		for (int i = 0; i < texture.pixels.length; ++i)
+		{
+			texture.pixels[i] = random.nextInt(0xffffff) + 1;
+		}
+		return new TextureDefinition[]{texture};
+	}
+
+	private static int[] pixels(BufferedImage image)
+	{
+		return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+	}
+}
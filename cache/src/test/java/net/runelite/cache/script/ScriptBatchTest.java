@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.script;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ScriptBatchTest
+{
+	private static final String[] SCRIPTS = {"91.rs2asm", "681.rs2asm", "Unicode.rs2asm", "symbol.rs2asm"};
+	private static final Map<String, Object> SYMBOLS = Map.of("symtest", 42);
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private final Map<String, String> sources = new HashMap<>();
+	private final List<File> files = new ArrayList<>();
+	private ScriptBatch batch;
+
+	@Before
+	public void before() throws IOException
+	{
+		for (String name : SCRIPTS)
+		{
+			try (InputStream in = ScriptBatchTest.class.getResourceAsStream("assembler/" + name))
+			{
+				assertNotNull(name, in);
+				byte[] data = in.readAllBytes();
+				String text = new String(data, StandardCharsets.UTF_8).replaceAll("\r\n", "\n");
+				sources.put(text.substring(0, text.indexOf('\n')).replaceAll("\\D", ""), text);
+
+				File file = folder.newFile(name);
+				Files.write(file.toPath(), data);
+				files.add(file);
+			}
+		}
+
+		Instructions instructions = new Instructions();
+		instructions.init();
+		batch = new ScriptBatch(instructions, SYMBOLS, 4);
+	}
+
+	@Test
+	public void testRoundtrip() throws IOException
+	{
+		Map<Integer, byte[]> packed = assemble();
+		assertEquals(SCRIPTS.length, packed.size());
+		assertTrue(batch.verify(packed).isEmpty());
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ZipOutputStream zip = new ZipOutputStream(bytes))
+		{
+			assertEquals(SCRIPTS.length, batch.disassemble(packed, ScriptBatch.zip(zip)));
+		}
+
+		int entries = 0;
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+		{
+			for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry())
+			{
+				String id = entry.getName().replace(".rs2asm", "");
+				assertEquals(entry.getName(), sources.get(id), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+				++entries;
+			}
+		}
+		assertEquals(SCRIPTS.length, entries);
+	}
+
+	@Test
+	public void testDirectory() throws IOException
+	{
+		File out = folder.newFolder("out");
+		assertEquals(SCRIPTS.length, batch.assemble(files, ScriptBatch.directory(out)));
+		assertEquals(SCRIPTS.length, batch.disassemble(assemble(), ScriptBatch.directory(out)));
+
+		for (Map.Entry<String, String> source : sources.entrySet())
+		{
+			assertTrue(new File(out, source.getKey()).isFile());
+			assertEquals(source.getValue(), Files.readString(new File(out, source.getKey() + ".rs2asm").toPath()));
+		}
+	}
+
+	@Test
+	public void testMismatch() throws IOException
+	{
+		Map<Integer, byte[]> packed = new TreeMap<>(assemble());
+
+		// a script name is dropped by the loader, so the reassembled script won't have it
+		byte[] original = packed.get(91);
+		byte[] named = new byte[original.length + 1];
+		named[0] = 'a';
+		System.arraycopy(original, 0, named, 1, original.length);
+		packed.put(91, named);
+		packed.put(92, new byte[]{1, 2, 3});
+
+		List<ScriptBatch.Mismatch> mismatches = batch.verify(packed);
+		assertEquals(2, mismatches.size());
+		assertEquals(new ScriptBatch.Mismatch(91, 0, null), mismatches.get(0));
+		assertEquals(92, mismatches.get(1).getId());
+		assertEquals(-1, mismatches.get(1).getOffset());
+		assertNotNull(mismatches.get(1).getError());
+	}
+
+	@Test(expected = IOException.class)
+	public void testConsumerFailure() throws IOException
+	{
+		batch.assemble(files, (name, data) ->
+		{
+			throw new IOException("disk full");
+		});
+	}
+
+	private Map<Integer, byte[]> assemble() throws IOException
+	{
+		Map<Integer, byte[]> packed = new ConcurrentHashMap<>();
+		batch.assemble(files, (name, data) -> packed.put(Integer.parseInt(name), data));
+		return packed;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.util;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class SkylinePackerTest
+{
+	@Test
+	public void testUniform()
+	{
+		SkylinePacker packer = new SkylinePacker(360, 320);
+		for (int i = 0; i < 100; ++i)
+		{
+			Rectangle rect = packer.insert(36, 32);
+			assertNotNull(rect);
+			assertEquals((i % 10) * 36, rect.x);
+			assertEquals((i / 10) * 32, rect.y);
+		}
+		assertNull(packer.insert(1, 1));
+	}
+
+	@Test
+	public void testNoOverlap()
+	{
+		Random random = new Random(42);
+		SkylinePacker packer = new SkylinePacker(512, 512);
+		List<Rectangle> placed = new ArrayList<>();
+		int area = 0;
+
+		for (int i = 0; i < 1000; ++i)
+		{
+			Rectangle rect = packer.insert(4 + random.nextInt(40), 4 + random.nextInt(40));
+			if (rect == null)
+			{
+				continue;
+			}
+
+			assertTrue(new Rectangle(0, 0, 512, 512).contains(rect));
+			for (Rectangle other : placed)
+			{
+				assertFalse(rect + " overlaps " + other, rect.intersects(other));
+			}
+			placed.add(rect);
+			area += rect.width * rect.height;
+		}
+
+		// random sizes in arrival order still fill most of the page
+		assertTrue(area > 512 * 512 * 3 / 4);
+	}
+}
@@ -30,10 +30,18 @@ plugins {
     alias(libs.plugins.lombok)
 
     id("net.runelite.runelite-gradle-plugin.component")
+    id("net.runelite.runelite-gradle-plugin.gameval")
 }
 
 lombok.version = libs.versions.lombok.get()
 
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+    runtimeClasspath += sourceSets.main.get().output + sourceSets.test.get().output
+}
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 java {
     withJavadocJar()
     withSourcesJar()
@@ -47,6 +55,9 @@ dependencies {
 
     testImplementation(libs.junit)
     testRuntimeOnly(libs.slf4j.simple)
+
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
 }
 
 val runtimeJar = tasks.register<Jar>("runtimeJar") {
@@ -125,11 +136,26 @@ tasks.withType<net.runelite.gradle.component.ComponentTask> {
     outputDirectory = file("build/generated/sources/runelite/java/main")
 }
 
+tasks.withType<net.runelite.gradle.gameval.GameValTask> {
+    sourceDirectory = file("src/main/java/net/runelite/api/gameval")
+    outputDirectory = file("build/generated/resources/gameval")
+}
+
 tasks.checkstyleMain {
     exclude("net/runelite/api/widgets/ComponentID.java")
     exclude("net/runelite/api/widgets/InterfaceID.java")
 }
 
+// benchmarks are always compiled, but only run on request, eg. ./gradlew jmh -PjmhArgs="WorldAreaIndexBenchmark"
+tasks.register<JavaExec>("jmh") {
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    description = "Runs the JMH benchmarks"
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    args(providers.gradleProperty("jmhArgs").map { it.split(' ') }.getOrElse(listOf()))
+}
+tasks.check { dependsOn(tasks.named(jmh.classesTaskName)) }
+
 tasks.javadoc {
     title = "RuneLite API ${project.version} API"
 
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import static net.runelite.api.Stubs.stub;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Projects a frame's worth of points, such as the tile corners drawn by the
+ * tile and npc highlight overlays, one at a time and as a batch. The client
+ * is a stub, so the cost of reading the camera is only roughly that of the
+ * real client.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CameraProjectionBenchmark
+{
+	@Param({"false", "true"})
+	private boolean gpu;
+
+	@Param({"500"})
+	private int points;
+
+	private Client client;
+	private int[] xs, ys, zs;
+	private int[] canvasX, canvasY;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		Map<String, Object> values = new HashMap<>();
+		values.put("isGpu", gpu);
+		values.put("getCameraX", 6400);
+		values.put("getCameraY", 4000);
+		values.put("getCameraZ", -1200);
+		values.put("getCameraPitch", 300);
+		values.put("getCameraYaw", 0);
+		values.put("getCameraFpX", 6400.5);
+		values.put("getCameraFpY", 4000.5);
+		values.put("getCameraFpZ", -1200.5);
+		values.put("getCameraFpPitch", 300 * Perspective.UNIT);
+		values.put("getCameraFpYaw", 0.0);
+		values.put("getScale", 512);
+		values.put("getViewportXOffset", 4);
+		values.put("getViewportYOffset", 4);
+		values.put("getViewportWidth", 765);
+		values.put("getViewportHeight", 503);
+		client = stub(Client.class, values);
+
+		Random random = new Random(1);
+		xs = new int[points];
+		ys = new int[points];
+		zs = new int[points];
+		for (int i = 0; i < points; i++)
+		{
+			xs[i] = 4800 + random.nextInt(3200);
+			ys[i] = 4800 + random.nextInt(3200);
+			zs[i] = -random.nextInt(400);
+		}
+		canvasX = new int[points];
+		canvasY = new int[points];
+	}
+
+	@Benchmark
+	public void localToCanvas(Blackhole blackhole)
+	{
+		for (int i = 0; i < points; i++)
+		{
+			blackhole.consume(Perspective.localToCanvas(client, xs[i], ys[i], zs[i]));
+		}
+	}
+
+	@Benchmark
+	public int[] cameraProjection()
+	{
+		CameraProjection.capture(client).project(points, xs, ys, zs, canvasX, canvasY);
+		return canvasX;
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Shape;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import static net.runelite.api.Stubs.stub;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Computes the clickbox of a model in front of the camera. The vertex counts
+ * cover small scenery, a typical npc, and a large boss. Run with {@code -prof gc}
+ * to compare the allocation rate of the two variants; the context variant
+ * should allocate nothing once warmed up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ClickboxBenchmark
+{
+	private static final int MODEL_X = 6400;
+	private static final int MODEL_Y = 6400;
+
+	@Param({"150", "800", "3000"})
+	private int vertices;
+
+	private Client client;
+	private WorldView worldView;
+	private Model model;
+	private final ClickboxContext context = new ClickboxContext();
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		Map<String, Object> clientValues = new HashMap<>();
+		clientValues.put("isGpu", false);
+		clientValues.put("getCameraX", MODEL_X);
+		clientValues.put("getCameraY", MODEL_Y - 1500);
+		clientValues.put("getCameraZ", -1000);
+		clientValues.put("getCameraPitch", 256);
+		clientValues.put("getCameraYaw", 0);
+		clientValues.put("getScale", 512);
+		clientValues.put("getViewportXOffset", 4);
+		clientValues.put("getViewportYOffset", 4);
+		clientValues.put("getViewportWidth", 512);
+		clientValues.put("getViewportHeight", 334);
+		client = stub(Client.class, clientValues);
+
+		Map<String, Object> worldViewValues = new HashMap<>();
+		worldViewValues.put("isTopLevel", true);
+		worldView = stub(WorldView.class, worldViewValues);
+
+		model = stub(Model.class, randomModel(new Random(vertices), vertices));
+
+		if (clickboxContext() == null)
+		{
+			throw new IllegalStateException("model is not on screen");
+		}
+	}
+
+	@Benchmark
+	public Shape clickbox()
+	{
+		return Perspective.getClickbox(client, worldView, model, 0, MODEL_X, MODEL_Y, 0);
+	}
+
+	@Benchmark
+	public Shape clickboxContext()
+	{
+		return Perspective.getClickbox(client, worldView, model, 0, MODEL_X, MODEL_Y, 0, context);
+	}
+
+	/**
+	 * A lumpy sphere made of triangles between nearby vertices, similar to the
+	 * face to vertex ratio of real models.
+	 */
+	private static Map<String, Object> randomModel(Random random, int vertexCount)
+	{
+		final int radius = 200;
+		float[] xs = new float[vertexCount];
+		float[] ys = new float[vertexCount];
+		float[] zs = new float[vertexCount];
+		for (int i = 0; i < vertexCount; i++)
+		{
+			double theta = 2 * Math.PI * i / vertexCount * 16;
+			double phi = Math.PI * i / vertexCount;
+			double r = radius * (0.8 + 0.2 * random.nextDouble());
+			xs[i] = (float) (r * Math.sin(phi) * Math.cos(theta));
+			zs[i] = (float) (r * Math.sin(phi) * Math.sin(theta));
+			// y is height, and up is negative
+			ys[i] = (float) (-radius - r * Math.cos(phi));
+		}
+
+		int faceCount = vertexCount * 2;
+		int[] f1 = new int[faceCount];
+		int[] f2 = new int[faceCount];
+		int[] f3 = new int[faceCount];
+		int[] colors = new int[faceCount];
+		for (int i = 0; i < faceCount; i++)
+		{
+			int v = random.nextInt(vertexCount);
+			f1[i] = v;
+			f2[i] = Math.min(vertexCount - 1, v + 1);
+			f3[i] = Math.min(vertexCount - 1, v + 16 + random.nextInt(3));
+		}
+
+		Map<String, Object> aabbValues = new HashMap<>();
+		aabbValues.put("getCenterX", 0);
+		aabbValues.put("getCenterY", -radius);
+		aabbValues.put("getCenterZ", 0);
+		aabbValues.put("getExtremeX", radius);
+		aabbValues.put("getExtremeY", radius);
+		aabbValues.put("getExtremeZ", radius);
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("getAABB", stub(AABB.class, aabbValues));
+		values.put("useBoundingBox", false);
+		values.put("getVerticesCount", vertexCount);
+		values.put("getVerticesX", xs);
+		values.put("getVerticesY", ys);
+		values.put("getVerticesZ", zs);
+		values.put("getFaceCount", faceCount);
+		values.put("getFaceIndices1", f1);
+		values.put("getFaceIndices2", f2);
+		values.put("getFaceIndices3", f3);
+		values.put("getFaceColors3", colors);
+		return values;
+	}
+}
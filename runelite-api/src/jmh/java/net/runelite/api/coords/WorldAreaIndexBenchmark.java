@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.coords;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Checks player locations against a set of areas. The areas are whole regions
+ * taken from the region sets plugins check against, such as Last Man Standing
+ * and the Motherlode Mine, plus small areas scattered over the overworld like
+ * clue scroll dig sites.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WorldAreaIndexBenchmark
+{
+	private static final int QUERIES = 1024;
+	private static final int[] REGIONS = {
+		// tutorial island
+		12336, 12335, 12592, 12080, 12079, 12436,
+		// fossil island
+		14650, 14651, 14652, 14906, 14907, 15162, 15163,
+		// last man standing
+		13658, 13659, 13660, 13914, 13915, 13916, 13918, 13919, 13920, 14174, 14175, 14176, 14430, 14431, 14432,
+		// soul wars
+		8493, 8749, 9005,
+		// motherlode mine
+		14679, 14680, 14681, 14935, 14936, 14937, 15191, 15192, 15193,
+	};
+
+	@Param({"16", "256", "4096"})
+	private int sites;
+
+	private WorldArea[] areas;
+	private WorldAreaIndex index;
+	private WorldPoint[] points;
+	private WorldArea[] queries;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		Random random = new Random(1);
+		List<WorldArea> list = new ArrayList<>();
+		for (int region : REGIONS)
+		{
+			list.add(new WorldArea((region >> 8) << 6, (region & 0xFF) << 6, 64, 64, 0));
+		}
+		for (int i = 0; i < sites; i++)
+		{
+			list.add(new WorldArea(1100 + random.nextInt(2800), 2500 + random.nextInt(1500),
+				1 + random.nextInt(20), 1 + random.nextInt(20), random.nextInt(10) == 0 ? 1 : 0));
+		}
+
+		areas = list.toArray(new WorldArea[0]);
+		index = WorldAreaIndex.of(list);
+
+		points = new WorldPoint[QUERIES];
+		queries = new WorldArea[QUERIES];
+		for (int i = 0; i < QUERIES; i++)
+		{
+			points[i] = new WorldPoint(1100 + random.nextInt(2800), 2500 + random.nextInt(1500), 0);
+			queries[i] = new WorldArea(points[i], 3, 3);
+		}
+	}
+
+	@Benchmark
+	public boolean isInArea()
+	{
+		return points[next++ % QUERIES].isInArea(areas);
+	}
+
+	@Benchmark
+	public boolean indexContains()
+	{
+		return index.contains(points[next++ % QUERIES]);
+	}
+
+	@Benchmark
+	public boolean intersectsWith()
+	{
+		WorldArea query = queries[next++ % QUERIES];
+		for (WorldArea area : areas)
+		{
+			if (area.intersectsWith(query))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Benchmark
+	public boolean indexIntersects()
+	{
+		return index.intersects(queries[next++ % QUERIES]);
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import static net.runelite.api.Perspective.COSINE;
+import static net.runelite.api.Perspective.ESCENE_OFFSET;
+import static net.runelite.api.Perspective.LOCAL_COORD_BITS;
+import static net.runelite.api.Perspective.SCENE_SIZE;
+import static net.runelite.api.Perspective.SINE;
+
+/**
+ * A snapshot of the camera, for projecting many points in the top level world
+ * view to the canvas.
+ * <p>
+ * {@link Perspective#localToCanvas(Client, int, int, int)} reads the camera
+ * from the client and recomputes the rotation for every point. Overlays which
+ * project many points per frame can instead capture the camera once with
+ * {@link #capture(Client)} and project packed coordinate arrays with
+ * {@link #project(int, int[], int[], int[], int[], int[])}. The results are the
+ * same as {@code localToCanvas}.
+ * <p>
+ * The snapshot does not change when the camera moves, so it should be captured
+ * again each frame.
+ */
+public final class CameraProjection
+{
+	private static final int MIN_LOCAL = -ESCENE_OFFSET << LOCAL_COORD_BITS;
+	private static final int MAX_LOCAL = SCENE_SIZE + ESCENE_OFFSET << LOCAL_COORD_BITS;
+
+	private final boolean gpu;
+
+	private final int cameraX, cameraY, cameraZ;
+	private final int pitchSin, pitchCos, yawSin, yawCos;
+
+	private final float cameraFpX, cameraFpY, cameraFpZ;
+	private final float pitchSinF, pitchCosF, yawSinF, yawCosF;
+
+	private final int scale;
+	private final int viewportWidth, viewportHeight;
+	private final int viewportXOffset, viewportYOffset;
+
+	private CameraProjection(Client client)
+	{
+		gpu = client.isGpu();
+
+		cameraX = client.getCameraX();
+		cameraY = client.getCameraY();
+		cameraZ = client.getCameraZ();
+		final int cameraPitch = client.getCameraPitch();
+		final int cameraYaw = client.getCameraYaw();
+		pitchSin = SINE[cameraPitch];
+		pitchCos = COSINE[cameraPitch];
+		yawSin = SINE[cameraYaw];
+		yawCos = COSINE[cameraYaw];
+
+		cameraFpX = (float) client.getCameraFpX();
+		cameraFpY = (float) client.getCameraFpY();
+		cameraFpZ = (float) client.getCameraFpZ();
+		final double cameraFpPitch = client.getCameraFpPitch();
+		final double cameraFpYaw = client.getCameraFpYaw();
+		pitchSinF = (float) Math.sin(cameraFpPitch);
+		pitchCosF = (float) Math.cos(cameraFpPitch);
+		yawSinF = (float) Math.sin(cameraFpYaw);
+		yawCosF = (float) Math.cos(cameraFpYaw);
+
+		scale = client.getScale();
+		viewportWidth = client.getViewportWidth();
+		viewportHeight = client.getViewportHeight();
+		viewportXOffset = client.getViewportXOffset();
+		viewportYOffset = client.getViewportYOffset();
+	}
+
+	/**
+	 * Captures the current camera of the top level world view.
+	 *
+	 * @param client the game client
+	 * @return the snapshot
+	 */
+	public static CameraProjection capture(@Nonnull Client client)
+	{
+		return new CameraProjection(client);
+	}
+
+	/**
+	 * Translates a point in local coordinates to the canvas.
+	 *
+	 * @param x ground coordinate on the x axis
+	 * @param y ground coordinate on the y axis
+	 * @param z height
+	 * @return the point on the canvas, or {@code null} if it is outside the scene or behind the camera
+	 * @see Perspective#localToCanvas(Client, int, int, int)
+	 */
+	@Nullable
+	public Point project(int x, int y, int z)
+	{
+		if (gpu)
+		{
+			long p = projectGpu(x, y, z);
+			return p == Long.MIN_VALUE ? null : new Point((int) (p >> 32), (int) p);
+		}
+
+		long p = projectCpu(x, y, z);
+		return p == Long.MIN_VALUE ? null : new Point((int) (p >> 32), (int) p);
+	}
+
+	/**
+	 * Translates {@code count} points in local coordinates to the canvas. Points
+	 * which are outside the scene or behind the camera are set to
+	 * {@link Integer#MIN_VALUE}, the same as
+	 * {@link Perspective#modelToCanvas(Client, WorldView, int, int, int, int, int, float[], float[], float[], int[], int[])}.
+	 *
+	 * @param count the number of points
+	 * @param x ground coordinates on the x axis
+	 * @param y ground coordinates on the y axis
+	 * @param z heights
+	 * @param canvasX receives the canvas x coordinates
+	 * @param canvasY receives the canvas y coordinates
+	 */
+	public void project(int count, int[] x, int[] y, int[] z, int[] canvasX, int[] canvasY)
+	{
+		if (gpu)
+		{
+			for (int i = 0; i < count; i++)
+			{
+				long p = projectGpu(x[i], y[i], z[i]);
+				canvasX[i] = p == Long.MIN_VALUE ? Integer.MIN_VALUE : (int) (p >> 32);
+				canvasY[i] = p == Long.MIN_VALUE ? Integer.MIN_VALUE : (int) p;
+			}
+		}
+		else
+		{
+			for (int i = 0; i < count; i++)
+			{
+				long p = projectCpu(x[i], y[i], z[i]);
+				canvasX[i] = p == Long.MIN_VALUE ? Integer.MIN_VALUE : (int) (p >> 32);
+				canvasY[i] = p == Long.MIN_VALUE ? Integer.MIN_VALUE : (int) p;
+			}
+		}
+	}
+
+	/**
+	 * @return the canvas point packed as {@code x << 32 | y}, or {@link Long#MIN_VALUE} if not visible
+	 */
+	private long projectCpu(int x, int y, int z)
+	{
+		if (x < MIN_LOCAL || y < MIN_LOCAL || x > MAX_LOCAL || y > MAX_LOCAL)
+		{
+			return Long.MIN_VALUE;
+		}
+
+		x -= cameraX;
+		y -= cameraY;
+		z -= cameraZ;
+
+		final int
+			x1 = x * yawCos + y * yawSin >> 16,
+			y1 = y * yawCos - x * yawSin >> 16,
+			y2 = z * pitchCos - y1 * pitchSin >> 16,
+			z1 = y1 * pitchCos + z * pitchSin >> 16;
+
+		if (z1 < 50)
+		{
+			return Long.MIN_VALUE;
+		}
+
+		final int pointX = viewportWidth / 2 + x1 * scale / z1 + viewportXOffset;
+		final int pointY = viewportHeight / 2 + y2 * scale / z1 + viewportYOffset;
+		return (long) pointX << 32 | (pointY & 0xFFFFFFFFL);
+	}
+
+	private long projectGpu(int x, int y, int z)
+	{
+		if (x < MIN_LOCAL || y < MIN_LOCAL || x > MAX_LOCAL || y > MAX_LOCAL)
+		{
+			return Long.MIN_VALUE;
+		}
+
+		final float
+			fx = x - cameraFpX,
+			fy = y - cameraFpY,
+			fz = z - cameraFpZ;
+
+		final float
+			x1 = fx * yawCosF + fy * yawSinF,
+			y1 = fy * yawCosF - fx * yawSinF,
+			y2 = fz * pitchCosF - y1 * pitchSinF,
+			z1 = y1 * pitchCosF + fz * pitchSinF;
+
+		if (z1 < 50f)
+		{
+			return Long.MIN_VALUE;
+		}
+
+		final int pointX = Math.round(viewportWidth / 2f + x1 * scale / z1) + viewportXOffset;
+		final int pointY = Math.round(viewportHeight / 2f + y2 * scale / z1) + viewportYOffset;
+		return (long) pointX << 32 | (pointY & 0xFFFFFFFFL);
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import net.runelite.api.geometry.RectangleUnion;
+import net.runelite.api.geometry.SimplePolygon;
+
+/**
+ * Reusable buffers for {@link Perspective#getClickbox(Client, WorldView, Model, int, int, int, int, ClickboxContext)}.
+ * <p>
+ * Once the buffers have grown to fit the largest model, computing a clickbox
+ * does not allocate. The shape returned from {@code getClickbox} is backed by
+ * this context, and is only valid until the context is next used, so a context
+ * should only be used from one thread, and the shape copied if it is kept.
+ */
+public final class ClickboxContext
+{
+	final float[] aabbX = new float[8];
+	final float[] aabbY = new float[8];
+	final float[] aabbZ = new float[8];
+	final int[] aabbX2d = new int[8];
+	final int[] aabbY2d = new int[8];
+	final SimplePolygon hull = new SimplePolygon(new int[16], new int[16], 0);
+
+	int[] x2d = new int[0];
+	int[] y2d = new int[0];
+
+	final RectangleUnion.Buffer rects = new RectangleUnion.Buffer();
+	final SimplePolygon clipScratch = new SimplePolygon(new int[16], new int[16], 0);
+
+	void ensureVertexCapacity(int count)
+	{
+		if (x2d.length < count)
+		{
+			x2d = new int[count];
+			y2d = new int[count];
+		}
+	}
+}
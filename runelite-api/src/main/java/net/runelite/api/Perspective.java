@@ -30,9 +30,7 @@ import java.awt.Polygon;
 import java.awt.Shape;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import static net.runelite.api.Constants.TILE_FLAG_BRIDGE;
@@ -67,7 +65,7 @@ public class Perspective
 	private static final float[] SINF = new float[2048];
 	private static final float[] COSF = new float[2048];
 
-	private static final int ESCENE_OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2;
+	static final int ESCENE_OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2;
 
 	static
 	{
@@ -972,13 +970,31 @@ public class Perspective
 	@Nullable
 	@ApiStatus.Internal
 	public static Shape getClickbox(@Nonnull Client client, WorldView wv, Model model, int orientation, int x, int y, int z)
+	{
+		return getClickbox(client, wv, model, orientation, x, y, z, new ClickboxContext());
+	}
+
+	/**
+	 * Get the on-screen clickable area of {@code model}, the same as
+	 * {@link #getClickbox(Client, WorldView, Model, int, int, int, int)}, but
+	 * using the buffers in {@code context} instead of allocating.
+	 * <p>
+	 * The returned shape is backed by {@code context}, and is only valid until
+	 * the context is next used.
+	 *
+	 * @param context the buffers to use
+	 * @return the clickable area of the model
+	 */
+	@Nullable
+	@ApiStatus.Internal
+	public static Shape getClickbox(@Nonnull Client client, WorldView wv, Model model, int orientation, int x, int y, int z, @Nonnull ClickboxContext context)
 	{
 		if (model == null)
 		{
 			return null;
 		}
 
-		SimplePolygon bounds = calculateAABB(client, wv, model, orientation, x, y, z);
+		SimplePolygon bounds = calculateAABB(client, wv, model, orientation, x, y, z, context);
 		if (bounds == null)
 		{
 			return null;
@@ -989,7 +1005,7 @@ public class Perspective
 			return bounds;
 		}
 
-		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, wv, model, orientation, x, y, z);
+		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, wv, model, orientation, x, y, z, context);
 		if (bounds2d == null)
 		{
 			return null;
@@ -997,13 +1013,13 @@ public class Perspective
 
 		for (SimplePolygon poly : bounds2d.getShapes())
 		{
-			poly.intersectWithConvex(bounds);
+			poly.intersectWithConvex(bounds, context.clipScratch);
 		}
 
 		return bounds2d;
 	}
 
-	private static SimplePolygon calculateAABB(Client client, WorldView wv, Model m, int jauOrient, int x, int y, int z)
+	private static SimplePolygon calculateAABB(Client client, WorldView wv, Model m, int jauOrient, int x, int y, int z, ClickboxContext context)
 	{
 		AABB aabb = m.getAABB(jauOrient);
 
@@ -1023,35 +1039,34 @@ public class Perspective
 		y1 -= ey;
 		z1 -= ez;
 
-		float[] xa = new float[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		float[] ya = new float[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		float[] za = new float[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
-
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
+		final float[] xa = context.aabbX;
+		final float[] ya = context.aabbY;
+		final float[] za = context.aabbZ;
+		for (int i = 0; i < 8; i++)
+		{
+			xa[i] = (i & 1) == 0 ? x1 : x2;
+			ya[i] = (i & 2) == 0 ? y1 : y2;
+			za[i] = (i & 4) == 0 ? z1 : z2;
+		}
+
+		int[] x2d = context.aabbX2d;
+		int[] y2d = context.aabbY2d;
 
 		modelToCanvas(client, wv, 8, x, y, z, 0, xa, ya, za, x2d, y2d);
 
-		return Jarvis.convexHull(x2d, y2d);
+		return Jarvis.convexHull(x2d, y2d, 8, context.hull);
 	}
 
-	private static Shapes<SimplePolygon> calculate2DBounds(Client client, WorldView wv, Model m, int jauOrient, int x, int y, int z)
+	private static Shapes<SimplePolygon> calculate2DBounds(Client client, WorldView wv, Model m, int jauOrient, int x, int y, int z, ClickboxContext context)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		final int verticesCount = m.getVerticesCount();
+		context.ensureVertexCapacity(verticesCount);
+		final int[] x2d = context.x2d;
+		final int[] y2d = context.y2d;
 		final int[] faceColors3 = m.getFaceColors3();
 
 		Perspective.modelToCanvas(client, wv,
-			m.getVerticesCount(),
+			verticesCount,
 			x, y, z,
 			jauOrient,
 			m.getVerticesX(), m.getVerticesZ(), m.getVerticesY(),
@@ -1059,20 +1074,18 @@ public class Perspective
 
 		final int radius = 5;
 
-		int[][] tris = new int[][]{
-			m.getFaceIndices1(),
-			m.getFaceIndices2(),
-			m.getFaceIndices3()
-		};
+		final int[] indices1 = m.getFaceIndices1();
+		final int[] indices2 = m.getFaceIndices2();
+		final int[] indices3 = m.getFaceIndices3();
 
 		int vpX1 = client.getViewportXOffset();
 		int vpY1 = client.getViewportXOffset();
 		int vpX2 = vpX1 + client.getViewportWidth();
 		int vpY2 = vpY1 + client.getViewportHeight();
 
-		List<RectangleUnion.Rectangle> rects = new ArrayList<>(m.getFaceCount());
+		RectangleUnion.Buffer rects = context.rects;
+		rects.clear();
 
-		nextTri:
 		for (int tri = 0; tri < m.getFaceCount(); tri++)
 		{
 			if (faceColors3[tri] == -2)
@@ -1080,57 +1093,35 @@ public class Perspective
 				continue;
 			}
 
-			int
-				minX = Integer.MAX_VALUE,
-				minY = Integer.MAX_VALUE,
-				maxX = Integer.MIN_VALUE,
-				maxY = Integer.MIN_VALUE;
-
-			for (int[] vertex : tris)
+			final int
+				xa = x2d[indices1[tri]],
+				ya = y2d[indices1[tri]],
+				xb = x2d[indices2[tri]],
+				yb = y2d[indices2[tri]],
+				xc = x2d[indices3[tri]],
+				yc = y2d[indices3[tri]];
+
+			if (xa == Integer.MIN_VALUE || ya == Integer.MIN_VALUE
+				|| xb == Integer.MIN_VALUE || yb == Integer.MIN_VALUE
+				|| xc == Integer.MIN_VALUE || yc == Integer.MIN_VALUE)
 			{
-				final int idx = vertex[tri];
-				final int xs = x2d[idx];
-				final int ys = y2d[idx];
-
-				if (xs == Integer.MIN_VALUE || ys == Integer.MIN_VALUE)
-				{
-					continue nextTri;
-				}
-
-				if (xs < minX)
-				{
-					minX = xs;
-				}
-				if (xs > maxX)
-				{
-					maxX = xs;
-				}
-				if (ys < minY)
-				{
-					minY = ys;
-				}
-				if (ys > maxY)
-				{
-					maxY = ys;
-				}
+				continue;
 			}
 
-			minX -= radius;
-			minY -= radius;
-			maxX += radius;
-			maxY += radius;
+			int minX = Math.min(xa, Math.min(xb, xc)) - radius;
+			int minY = Math.min(ya, Math.min(yb, yc)) - radius;
+			int maxX = Math.max(xa, Math.max(xb, xc)) + radius;
+			int maxY = Math.max(ya, Math.max(yb, yc)) + radius;
 
 			if (vpX1 > maxX || vpX2 < minX || vpY1 > maxY || vpY2 < minY)
 			{
 				continue;
 			}
 
-			RectangleUnion.Rectangle r = new RectangleUnion.Rectangle(minX, minY, maxX, maxY);
-
-			rects.add(r);
+			rects.add(minX, minY, maxX, maxY);
 		}
 
-		return RectangleUnion.union(rects);
+		return rects.union();
 	}
 
 	/**
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.coords;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable spatial index over a set of {@link WorldArea}s, for checking
+ * points and areas against many areas at once, eg. every tick.
+ * <p>
+ * The areas are packed into an R-tree ordered along a Hilbert curve, so
+ * queries visit O(log n) nodes and do not allocate.
+ */
+public final class WorldAreaIndex
+{
+	private static final WorldAreaIndex EMPTY = new WorldAreaIndex(new WorldArea[0]);
+
+	/**
+	 * the number of children of each node
+	 */
+	private static final int NODE_SIZE = 8;
+
+	private static final int MIN_X = 0;
+	private static final int MIN_Y = 1;
+	private static final int MAX_X = 2;
+	private static final int MAX_Y = 3;
+	private static final int MIN_PLANE = 4;
+	private static final int MAX_PLANE = 5;
+	private static final int BOUNDS_SIZE = 6;
+
+	private final WorldArea[] areas;
+	/**
+	 * the bounds of each node, by level. Level 0 are the areas themselves, and
+	 * node {@code i} of level {@code n} is the parent of nodes {@code [i * NODE_SIZE, (i + 1) * NODE_SIZE)}
+	 * of level {@code n - 1}.
+	 */
+	private final int[][] bounds;
+
+	private WorldAreaIndex(WorldArea[] areas)
+	{
+		this.areas = areas;
+
+		List<int[]> levels = new ArrayList<>();
+		int[] level = new int[areas.length * BOUNDS_SIZE];
+		for (int i = 0; i < areas.length; i++)
+		{
+			WorldArea area = areas[i];
+			int offset = i * BOUNDS_SIZE;
+			level[offset + MIN_X] = area.getX();
+			level[offset + MIN_Y] = area.getY();
+			level[offset + MAX_X] = area.getX() + area.getWidth() - 1;
+			level[offset + MAX_Y] = area.getY() + area.getHeight() - 1;
+			level[offset + MIN_PLANE] = area.getPlane();
+			level[offset + MAX_PLANE] = area.getPlane();
+		}
+		levels.add(level);
+
+		while (level.length > NODE_SIZE * BOUNDS_SIZE)
+		{
+			int children = level.length / BOUNDS_SIZE;
+			int[] parents = new int[(children + NODE_SIZE - 1) / NODE_SIZE * BOUNDS_SIZE];
+			for (int child = 0; child < children; child++)
+			{
+				int offset = child * BOUNDS_SIZE;
+				int parent = child / NODE_SIZE * BOUNDS_SIZE;
+				if (child % NODE_SIZE == 0)
+				{
+					System.arraycopy(level, offset, parents, parent, BOUNDS_SIZE);
+					continue;
+				}
+
+				parents[parent + MIN_X] = Math.min(parents[parent + MIN_X], level[offset + MIN_X]);
+				parents[parent + MIN_Y] = Math.min(parents[parent + MIN_Y], level[offset + MIN_Y]);
+				parents[parent + MAX_X] = Math.max(parents[parent + MAX_X], level[offset + MAX_X]);
+				parents[parent + MAX_Y] = Math.max(parents[parent + MAX_Y], level[offset + MAX_Y]);
+				parents[parent + MIN_PLANE] = Math.min(parents[parent + MIN_PLANE], level[offset + MIN_PLANE]);
+				parents[parent + MAX_PLANE] = Math.max(parents[parent + MAX_PLANE], level[offset + MAX_PLANE]);
+			}
+
+			level = parents;
+			levels.add(level);
+		}
+
+		bounds = levels.toArray(new int[0][]);
+	}
+
+	/**
+	 * Builds an index over the given areas.
+	 */
+	public static WorldAreaIndex of(Collection<WorldArea> areas)
+	{
+		if (areas.isEmpty())
+		{
+			return EMPTY;
+		}
+
+		WorldArea[] sorted = areas.toArray(new WorldArea[0]);
+		// nearby areas end up next to each other, and so in the same nodes
+		Arrays.sort(sorted, Comparator.comparingLong(WorldAreaIndex::hilbertIndex));
+		return new WorldAreaIndex(sorted);
+	}
+
+	/**
+	 * Builds an index over the given areas.
+	 */
+	public static WorldAreaIndex of(WorldArea... areas)
+	{
+		return of(Arrays.asList(areas));
+	}
+
+	/**
+	 * @return the number of areas in the index
+	 */
+	public int size()
+	{
+		return areas.length;
+	}
+
+	/**
+	 * Checks whether any of the areas contains the tile, the same as {@link WorldPoint#isInArea(WorldArea...)}.
+	 *
+	 * @param worldPoint the tile
+	 * @return {@code true} if any area contains the tile, {@code false} otherwise.
+	 */
+	public boolean contains(WorldPoint worldPoint)
+	{
+		return containing(worldPoint) != null;
+	}
+
+	/**
+	 * Finds an area containing the tile. If more than one area contains the tile,
+	 * which of them is returned is unspecified.
+	 *
+	 * @param worldPoint the tile
+	 * @return an area containing the tile, or {@code null} if there is none
+	 */
+	@Nullable
+	public WorldArea containing(WorldPoint worldPoint)
+	{
+		int index = containing(bounds.length - 1, 0, worldPoint.getX(), worldPoint.getY(), worldPoint.getPlane());
+		return index != -1 ? areas[index] : null;
+	}
+
+	private int containing(int level, int first, int x, int y, int plane)
+	{
+		final int[] nodes = bounds[level];
+		final int last = Math.min(first + NODE_SIZE, nodes.length / BOUNDS_SIZE);
+		for (int node = first; node < last; node++)
+		{
+			int offset = node * BOUNDS_SIZE;
+			if (x < nodes[offset + MIN_X] || x > nodes[offset + MAX_X]
+				|| y < nodes[offset + MIN_Y] || y > nodes[offset + MAX_Y]
+				|| plane < nodes[offset + MIN_PLANE] || plane > nodes[offset + MAX_PLANE])
+			{
+				continue;
+			}
+
+			if (level == 0)
+			{
+				return node;
+			}
+
+			int found = containing(level - 1, node * NODE_SIZE, x, y, plane);
+			if (found != -1)
+			{
+				return found;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Checks whether any of the areas intersects the given area, the same as
+	 * {@link WorldArea#intersectsWith(WorldArea)}.
+	 *
+	 * @param area the area
+	 * @return {@code true} if any area intersects it, {@code false} otherwise.
+	 */
+	public boolean intersects(WorldArea area)
+	{
+		return intersecting(bounds.length - 1, 0, area.getX(), area.getY(),
+			area.getX() + area.getWidth() - 1, area.getY() + area.getHeight() - 1, area.getPlane(), null) > 0;
+	}
+
+	/**
+	 * Finds every area which intersects the given area.
+	 *
+	 * @param area the area
+	 * @param result the collection to add the intersecting areas to
+	 * @return the number of intersecting areas
+	 */
+	public int intersecting(WorldArea area, Collection<? super WorldArea> result)
+	{
+		return intersecting(bounds.length - 1, 0, area.getX(), area.getY(),
+			area.getX() + area.getWidth() - 1, area.getY() + area.getHeight() - 1, area.getPlane(), result);
+	}
+
+	/**
+	 * @param result the collection to add the intersecting areas to, or {@code null} to stop at the first one
+	 */
+	private int intersecting(int level, int first, int minX, int minY, int maxX, int maxY, int plane,
+		@Nullable Collection<? super WorldArea> result)
+	{
+		final int[] nodes = bounds[level];
+		final int last = Math.min(first + NODE_SIZE, nodes.length / BOUNDS_SIZE);
+		int count = 0;
+		for (int node = first; node < last; node++)
+		{
+			int offset = node * BOUNDS_SIZE;
+			if (maxX < nodes[offset + MIN_X] || minX > nodes[offset + MAX_X]
+				|| maxY < nodes[offset + MIN_Y] || minY > nodes[offset + MAX_Y]
+				|| plane < nodes[offset + MIN_PLANE] || plane > nodes[offset + MAX_PLANE])
+			{
+				continue;
+			}
+
+			if (level > 0)
+			{
+				count += intersecting(level - 1, node * NODE_SIZE, minX, minY, maxX, maxY, plane, result);
+			}
+			else
+			{
+				if (result != null)
+				{
+					result.add(areas[node]);
+				}
+				++count;
+			}
+
+			if (result == null && count > 0)
+			{
+				return count;
+			}
+		}
+		return count;
+	}
+
+	private static long hilbertIndex(WorldArea area)
+	{
+		int x = (area.getX() + area.getWidth() / 2) & 0xFFFF;
+		int y = (area.getY() + area.getHeight() / 2) & 0xFFFF;
+
+		long index = 0;
+		for (int s = 1 << 15; s > 0; s >>= 1)
+		{
+			int rx = (x & s) != 0 ? 1 : 0;
+			int ry = (y & s) != 0 ? 1 : 0;
+			index += (long) s * s * ((3 * rx) ^ ry);
+
+			if (ry == 0)
+			{
+				if (rx == 1)
+				{
+					x = 0xFFFF - x;
+					y = 0xFFFF - y;
+				}
+
+				int t = x;
+				x = y;
+				y = t;
+			}
+		}
+		return index;
+	}
+}
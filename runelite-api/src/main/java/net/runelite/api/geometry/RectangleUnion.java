@@ -25,7 +25,7 @@
 package net.runelite.api.geometry;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 import javax.annotation.Nullable;
 import lombok.Getter;
@@ -51,133 +51,270 @@ public class RectangleUnion
 
 	/**
 	 * Returns a polygon representing the union of all of the passed rectangles.
-	 * the passed List will be modified
 	 */
 	@Nullable
-	public static Shapes<SimplePolygon> union(List<Rectangle> lefts)
+	public static Shapes<SimplePolygon> union(List<Rectangle> rects)
 	{
-		// https://stackoverflow.com/a/35362615/2977136
-		if (lefts.size() == 0)
+		Buffer buffer = new Buffer();
+		for (Rectangle rect : rects)
 		{
-			return null;
+			buffer.add(rect.x1, rect.y1, rect.x2, rect.y2);
 		}
+		return buffer.union();
+	}
 
-		boolean trace = log.isTraceEnabled();
-
-		// Sort all of the rectangles so they are ordered by their left edge
-		lefts.sort(Comparator.comparingInt(Rectangle::getX1));
-
-		// Again, but for the right edge
-		// this should be relatively fast if the rectangles are similar sizes because timsort deals with partially
-		// presorted data well
-		List<Rectangle> rights = new ArrayList<>(lefts);
-		rights.sort(Comparator.comparingInt(Rectangle::getX2));
+	/**
+	 * Reusable storage for computing rectangle unions without allocating once it
+	 * has grown to fit the input. The shapes returned by {@link #union()} belong
+	 * to the buffer and are only valid until it is next used. Not thread safe.
+	 */
+	public static final class Buffer
+	{
+		private static final int INITIAL_SIZE = 64;
+
+		private int[] x1s = new int[INITIAL_SIZE];
+		private int[] y1s = new int[INITIAL_SIZE];
+		private int[] x2s = new int[INITIAL_SIZE];
+		private int[] y2s = new int[INITIAL_SIZE];
+		private int size;
+
+		// rectangle indexes ordered by their left edge, and indexes into lefts ordered by their right edge,
+		// with the index in the low bits to keep the order stable
+		private long[] lefts = new long[INITIAL_SIZE];
+		private long[] rights = new long[INITIAL_SIZE];
+
+		private final Segments segments = new Segments();
+		private final Shapes<SimplePolygon> out = new Shapes<>(new ArrayList<>());
+		private final ChangingState cs = new ChangingState(out);
+
+		/**
+		 * Removes all rectangles from the buffer
+		 */
+		public void clear()
+		{
+			size = 0;
+		}
 
-		// ranges of our scan line with how many rectangles it is occluding
-		Segments segments = new Segments();
-		Shapes<SimplePolygon> out = new Shapes<>(new ArrayList<>());
-		ChangingState cs = new ChangingState(out);
+		public int size()
+		{
+			return size;
+		}
 
-		// Walk a beam left to right, colliding with any vertical edges of rectangles
-		for (int l = 0, r = 0; ; )
+		public void add(int x1, int y1, int x2, int y2)
 		{
-			Rectangle lr = null, rr = null;
-			if (l < lefts.size())
-			{
-				lr = lefts.get(l);
-			}
-			if (r < rights.size())
+			if (size == x1s.length)
 			{
-				rr = rights.get(r);
-			}
-			if (lr == null && rr == null)
-			{
-				break;
+				int length = size * 2;
+				x1s = Arrays.copyOf(x1s, length);
+				y1s = Arrays.copyOf(y1s, length);
+				x2s = Arrays.copyOf(x2s, length);
+				y2s = Arrays.copyOf(y2s, length);
+				lefts = new long[length];
+				rights = new long[length];
 			}
 
-			// get the next edge, preferring + edges
-			Rectangle rect;
-			boolean remove = lr == null || (rr != null && rr.x2 < lr.x1);
-			if (remove)
-			{
-				cs.delta = -1;
-				cs.x = rr.x2;
-				r++;
-				rect = rr;
-			}
-			else
-			{
-				cs.delta = 1;
-				cs.x = lr.x1;
-				l++;
-				rect = lr;
-			}
-			if (trace)
+			x1s[size] = x1;
+			y1s[size] = y1;
+			x2s[size] = x2;
+			y2s[size] = y2;
+			++size;
+		}
+
+		/**
+		 * Returns a polygon representing the union of the rectangles in the buffer
+		 */
+		@Nullable
+		public Shapes<SimplePolygon> union()
+		{
+			// https://stackoverflow.com/a/35362615/2977136
+			if (size == 0)
 			{
-				log.trace("{}{}", remove ? "-" : "+", rect);
+				return null;
 			}
 
-			int y1 = rect.y1;
-			int y2 = rect.y2;
+			boolean trace = log.isTraceEnabled();
 
-			// Find or create the y1 edge
-			Segment n = segments.findLE(y1);
-			if (n == null)
+			// Sort all of the rectangles so they are ordered by their left edge
+			for (int i = 0; i < size; i++)
 			{
-				n = segments.insertAfter(null, y1);
+				lefts[i] = (long) x1s[i] << 32 | i;
 			}
-			if (n.y != y1)
+			sort(lefts, size);
+
+			// Again, but for the right edge
+			for (int i = 0; i < size; i++)
 			{
-				n = segments.insertAfter(n, y1);
-				n.value = n.previous.value;
+				rights[i] = (long) x2s[(int) lefts[i]] << 32 | i;
 			}
+			sort(rights, size);
 
-			for (; ; )
+			// ranges of our scan line with how many rectangles it is occluding
+			segments.clear();
+			out.getShapes().clear();
+			cs.clear();
+
+			// Walk a beam left to right, colliding with any vertical edges of rectangles
+			for (int l = 0, r = 0; ; )
 			{
-				// create the y2 edge if the next edge is past
-				if (n.next == null || n.next.y > y2)
+				int lr = -1, rr = -1;
+				if (l < size)
 				{
-					segments.insertAfter(n, y2);
+					lr = (int) lefts[l];
 				}
-				cs.touch(n);
-				n = n.next;
-				if (n.y == y2)
+				if (r < size)
 				{
-					cs.finish(n);
+					rr = (int) lefts[(int) rights[r]];
+				}
+				if (lr == -1 && rr == -1)
+				{
+					break;
+				}
 
-					if (trace)
+				// get the next edge, preferring + edges
+				int rect;
+				boolean remove = lr == -1 || (rr != -1 && x2s[rr] < x1s[lr]);
+				if (remove)
+				{
+					cs.delta = -1;
+					cs.x = x2s[rr];
+					r++;
+					rect = rr;
+				}
+				else
+				{
+					cs.delta = 1;
+					cs.x = x1s[lr];
+					l++;
+					rect = lr;
+				}
+				if (trace)
+				{
+					log.trace("{}({}, {}, {}, {})", remove ? "-" : "+", x1s[rect], y1s[rect], x2s[rect], y2s[rect]);
+				}
+
+				int y1 = y1s[rect];
+				int y2 = y2s[rect];
+
+				// Find or create the y1 edge
+				Segment n = segments.findLE(y1);
+				if (n == null)
+				{
+					n = segments.insertAfter(null, y1);
+				}
+				if (n.y != y1)
+				{
+					n = segments.insertAfter(n, y1);
+					n.value = n.previous.value;
+				}
+
+				for (; ; )
+				{
+					// create the y2 edge if the next edge is past
+					if (n.next == null || n.next.y > y2)
+					{
+						segments.insertAfter(n, y2);
+					}
+					cs.touch(n);
+					n = n.next;
+					if (n.y == y2)
 					{
-						for (Segment s = segments.first; s != null; s = s.next)
+						cs.finish(n);
+
+						if (trace)
 						{
-							String chunk = "";
-							if (s.chunk != null)
+							for (Segment s = segments.first; s != null; s = s.next)
 							{
-								chunk = (s.left ? ">" : "[") + System.identityHashCode(s.chunk) + (s.left ? "]" : "<");
+								String chunk = "";
+								if (s.chunk != null)
+								{
+									chunk = (s.left ? ">" : "[") + System.identityHashCode(s.chunk) + (s.left ? "]" : "<");
+								}
+								log.trace("{} = {} {}", s.y, s.value, chunk);
 							}
-							log.trace("{} = {} {}", s.y, s.value, chunk);
+							log.trace("");
 						}
-						log.trace("");
+						break;
 					}
-					break;
 				}
 			}
+
+			assert segments.allZero();
+
+			return out;
 		}
+	}
 
-		assert segments.allZero();
+	/**
+	 * In place heapsort, since {@link Arrays#sort(long[], int, int)} may allocate for larger inputs
+	 */
+	private static void sort(long[] a, int length)
+	{
+		for (int i = length / 2 - 1; i >= 0; i--)
+		{
+			siftDown(a, i, length);
+		}
+		for (int end = length - 1; end > 0; end--)
+		{
+			long t = a[0];
+			a[0] = a[end];
+			a[end] = t;
+			siftDown(a, 0, end);
+		}
+	}
 
-		return out;
+	private static void siftDown(long[] a, int i, int length)
+	{
+		long v = a[i];
+		for (; ; )
+		{
+			int child = 2 * i + 1;
+			if (child >= length)
+			{
+				break;
+			}
+			if (child + 1 < length && a[child + 1] > a[child])
+			{
+				child++;
+			}
+			if (a[child] <= v)
+			{
+				break;
+			}
+			a[i] = a[child];
+			i = child;
+		}
+		a[i] = v;
 	}
 
 	@RequiredArgsConstructor
 	private static class ChangingState
 	{
 		final Shapes<SimplePolygon> out;
+		final List<Chunk> chunks = new ArrayList<>();
+		int chunksUsed;
 
 		int x;
 		int delta;
 
 		Segment first;
 
+		void clear()
+		{
+			chunksUsed = 0;
+			first = null;
+		}
+
+		private Chunk newChunk()
+		{
+			if (chunksUsed == chunks.size())
+			{
+				chunks.add(new Chunk());
+			}
+			Chunk chunk = chunks.get(chunksUsed++);
+			chunk.reset();
+			return chunk;
+		}
+
 		void touch(Segment s)
 		{
 			int oldValue = s.value;
@@ -257,7 +394,7 @@ public class RectangleUnion
 			}
 			else if (first.chunk == null && s.chunk == null)
 			{
-				first.chunk = new Chunk();
+				first.chunk = newChunk();
 				first.chunk.right = first;
 				first.left = false;
 				s.chunk = first.chunk;
@@ -331,6 +468,15 @@ public class RectangleUnion
 	{
 		Segment first;
 
+		Segment[] pool = new Segment[0];
+		int used;
+
+		void clear()
+		{
+			first = null;
+			used = 0;
+		}
+
 		Segment findLE(int y)
 		{
 			Segment s = first;
@@ -357,7 +503,21 @@ public class RectangleUnion
 
 		Segment insertAfter(Segment before, int y)
 		{
-			Segment n = new Segment();
+			if (used == pool.length)
+			{
+				pool = Arrays.copyOf(pool, Math.max(16, used * 2));
+				for (int i = used; i < pool.length; i++)
+				{
+					pool[i] = new Segment();
+				}
+			}
+
+			Segment n = pool[used++];
+			n.next = null;
+			n.previous = null;
+			n.chunk = null;
+			n.left = false;
+			n.value = 0;
 			n.y = y;
 			if (before != null)
 			{
@@ -399,6 +559,15 @@ public class RectangleUnion
 	{
 		Segment left, right;
 
+		void reset()
+		{
+			left = null;
+			right = null;
+			// keep room to grow in both directions
+			super.left = x.length / 2;
+			super.right = super.left - 1;
+		}
+
 		@Override
 		public void reverse()
 		{
@@ -129,6 +129,14 @@ public class SimplePolygon implements Shape
 		return right - left + 1;
 	}
 
+	/**
+	 * Removes all points, keeping the allocated storage
+	 */
+	public void clear()
+	{
+		right = left - 1;
+	}
+
 	public List<Point> toRuneLitePointList()
 	{
 		List<Point> out = new ArrayList<>(size());
@@ -152,7 +160,11 @@ public class SimplePolygon implements Shape
 		{
 			return;
 		}
-		other.expandRight(size);
+		int grow = other.right + 1 + size - other.x.length;
+		if (grow > 0)
+		{
+			other.expandRight(Math.max(grow, GROW));
+		}
 		copyTo(other.x, other.y, other.right + 1);
 		other.right += size;
 	}
@@ -177,10 +189,20 @@ public class SimplePolygon implements Shape
 	 * Clips the polygon with the passed convex polygon
 	 */
 	public void intersectWithConvex(SimplePolygon convex)
+	{
+		intersectWithConvex(convex, new SimplePolygon(new int[size()], new int[size()], 0));
+	}
+
+	/**
+	 * Clips the polygon with the passed convex polygon, using {@code scratch} for
+	 * intermediate storage instead of allocating. The contents of {@code scratch}
+	 * are overwritten.
+	 */
+	public void intersectWithConvex(SimplePolygon convex, SimplePolygon scratch)
 	{
 		// Sutherland-Hodgman
-		int[] tx = new int[size()];
-		int[] ty = new int[tx.length];
+		int[] tx = scratch.x;
+		int[] ty = scratch.y;
 
 		int cx1 = convex.x[convex.right];
 		int cy1 = convex.y[convex.right];
@@ -188,7 +210,7 @@ public class SimplePolygon implements Shape
 		{
 			if (size() < 3)
 			{
-				return;
+				break;
 			}
 
 			int tRight = this.right;
@@ -243,6 +265,12 @@ public class SimplePolygon implements Shape
 			cx1 = cx2;
 			cy1 = cy2;
 		}
+
+		// hand back whichever arrays we aren't using, so they can be reused next time
+		scratch.x = tx;
+		scratch.y = ty;
+		scratch.left = 0;
+		scratch.right = -1;
 	}
 
 	@Override
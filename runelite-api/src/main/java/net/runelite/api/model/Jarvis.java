@@ -78,8 +78,21 @@ public class Jarvis
 	 */
 	public static SimplePolygon convexHull(int[] xs, int[] ys)
 	{
-		int length = xs.length;
+		return convexHull(xs, ys, xs.length, new SimplePolygon(new int[16], new int[16], 0));
+	}
 
+	/**
+	 * Computes the convex hull of the first {@code length} passed points into
+	 * {@code out}, without allocating. The passed arrays are modified.
+	 * <p>
+	 * There must be at least 3 valid points, otherwise this method will
+	 * return null.
+	 *
+	 * @param out the polygon to store the hull in, which is cleared first
+	 * @return {@code out}, or null if there is no hull
+	 */
+	public static SimplePolygon convexHull(int[] xs, int[] ys, int length, SimplePolygon out)
+	{
 		// remove any invalid entries
 		{
 			int i = 0, offset = 0;
@@ -116,7 +129,7 @@ public class Jarvis
 		// current point we are on
 		int current = left;
 
-		SimplePolygon out = new SimplePolygon(new int[16], new int[16], 0);
+		out.clear();
 
 		do
 		{
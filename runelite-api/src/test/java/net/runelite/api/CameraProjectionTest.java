@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class CameraProjectionTest
+{
+	private static final int POINTS = 10000;
+
+	@Test
+	public void testCpu()
+	{
+		testMatchesLocalToCanvas(false);
+	}
+
+	@Test
+	public void testGpu()
+	{
+		testMatchesLocalToCanvas(true);
+	}
+
+	private static void testMatchesLocalToCanvas(boolean gpu)
+	{
+		Random random = new Random(1);
+		for (int camera = 0; camera < 16; camera++)
+		{
+			Client client = client(random, gpu);
+			CameraProjection projection = CameraProjection.capture(client);
+
+			int[] xs = new int[POINTS];
+			int[] ys = new int[POINTS];
+			int[] zs = new int[POINTS];
+			for (int i = 0; i < POINTS; i++)
+			{
+				// include some points outside of the scene
+				xs[i] = random.nextInt(16384) - 1024;
+				ys[i] = random.nextInt(16384) - 1024;
+				zs[i] = -random.nextInt(2000);
+			}
+
+			int[] canvasX = new int[POINTS];
+			int[] canvasY = new int[POINTS];
+			projection.project(POINTS, xs, ys, zs, canvasX, canvasY);
+
+			for (int i = 0; i < POINTS; i++)
+			{
+				Point expected = Perspective.localToCanvas(client, xs[i], ys[i], zs[i]);
+				assertEquals(expected, projection.project(xs[i], ys[i], zs[i]));
+				assertEquals(expected == null ? Integer.MIN_VALUE : expected.getX(), canvasX[i]);
+				assertEquals(expected == null ? Integer.MIN_VALUE : expected.getY(), canvasY[i]);
+			}
+		}
+	}
+
+	private static Client client(Random random, boolean gpu)
+	{
+		int pitch = 128 + random.nextInt(256);
+		int yaw = random.nextInt(2048);
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("isGpu", gpu);
+		values.put("getCameraX", 3000 + random.nextInt(7000));
+		values.put("getCameraY", 3000 + random.nextInt(7000));
+		values.put("getCameraZ", -500 - random.nextInt(2000));
+		values.put("getCameraPitch", pitch);
+		values.put("getCameraYaw", yaw);
+		values.put("getCameraFpX", (int) values.get("getCameraX") + random.nextDouble());
+		values.put("getCameraFpY", (int) values.get("getCameraY") + random.nextDouble());
+		values.put("getCameraFpZ", (int) values.get("getCameraZ") + random.nextDouble());
+		values.put("getCameraFpPitch", pitch * Perspective.UNIT);
+		values.put("getCameraFpYaw", yaw * Perspective.UNIT);
+		values.put("getScale", 256 + random.nextInt(1024));
+		values.put("getViewportXOffset", 4);
+		values.put("getViewportYOffset", 4);
+		values.put("getViewportWidth", 512 + random.nextInt(1000));
+		values.put("getViewportHeight", 334 + random.nextInt(500));
+
+		return Stubs.stub(Client.class, values);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api.coords;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WorldAreaIndexTest
+{
+	@Test
+	public void testEmpty()
+	{
+		WorldAreaIndex index = WorldAreaIndex.of();
+		assertEquals(0, index.size());
+		assertNull(index.containing(new WorldPoint(3200, 3200, 0)));
+		assertFalse(index.intersects(new WorldArea(3200, 3200, 10, 10, 0)));
+	}
+
+	@Test
+	public void testContaining()
+	{
+		WorldArea lumbridge = new WorldArea(3200, 3200, 30, 30, 0);
+		WorldArea upstairs = new WorldArea(3200, 3200, 30, 30, 1);
+		WorldAreaIndex index = WorldAreaIndex.of(lumbridge, upstairs);
+
+		assertEquals(lumbridge, index.containing(new WorldPoint(3200, 3200, 0)));
+		assertEquals(lumbridge, index.containing(new WorldPoint(3229, 3229, 0)));
+		assertEquals(upstairs, index.containing(new WorldPoint(3215, 3215, 1)));
+		assertNull(index.containing(new WorldPoint(3230, 3215, 0)));
+		assertNull(index.containing(new WorldPoint(3215, 3215, 2)));
+	}
+
+	@Test
+	public void testMatchesLinearSearch()
+	{
+		Random random = new Random(1);
+		List<WorldArea> areas = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+		{
+			areas.add(randomArea(random, 1 + random.nextInt(64)));
+		}
+		WorldAreaIndex index = WorldAreaIndex.of(areas);
+		WorldArea[] array = areas.toArray(new WorldArea[0]);
+
+		for (int i = 0; i < 10000; i++)
+		{
+			WorldPoint point = new WorldPoint(2000 + random.nextInt(2000), 2500 + random.nextInt(2000), random.nextInt(4));
+			WorldArea found = index.containing(point);
+			assertEquals(point.isInArea(array), found != null);
+			assertTrue(found == null || found.contains(point));
+		}
+
+		for (int i = 0; i < 1000; i++)
+		{
+			WorldArea query = randomArea(random, 1 + random.nextInt(128));
+			Set<WorldArea> expected = new HashSet<>();
+			for (WorldArea area : areas)
+			{
+				if (area.intersectsWith(query))
+				{
+					expected.add(area);
+				}
+			}
+
+			List<WorldArea> result = new ArrayList<>();
+			assertEquals(expected.size(), index.intersecting(query, result));
+			assertEquals(expected, new HashSet<>(result));
+			assertEquals(!expected.isEmpty(), index.intersects(query));
+		}
+	}
+
+	private static WorldArea randomArea(Random random, int maxSize)
+	{
+		return new WorldArea(2000 + random.nextInt(2000), 2500 + random.nextInt(2000),
+			1 + random.nextInt(maxSize), 1 + random.nextInt(maxSize), random.nextInt(4));
+	}
+}
@@ -36,6 +36,9 @@ import java.util.Random;
 import javax.imageio.ImageIO;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import org.junit.Test;
 
 @Slf4j
 public class RectangleUnionTest
@@ -44,6 +47,53 @@ public class RectangleUnionTest
 	private static final int WIDTH = 1000;
 	private static final int MAX_RECTS = 50;
 
+	@Test
+	public void testBufferMatchesLegacy()
+	{
+		Random rand = new Random(29);
+		RectangleUnion.Buffer buffer = new RectangleUnion.Buffer();
+		for (int i = 0; i < 20000; i++)
+		{
+			// a small coordinate range gives many shared edges
+			int count = rand.nextInt(MAX_RECTS);
+			int range = rand.nextBoolean() ? 16 : WIDTH;
+
+			List<LegacyRectangleUnion.Rectangle> rects = new ArrayList<>(count);
+			buffer.clear();
+			for (int r = 0; r < count; r++)
+			{
+				int x1 = rand.nextInt(range);
+				int y1 = rand.nextInt(range);
+				int x2 = x1 + 1 + rand.nextInt(range);
+				int y2 = y1 + 1 + rand.nextInt(range);
+				rects.add(new LegacyRectangleUnion.Rectangle(x1, y1, x2, y2));
+				buffer.add(x1, y1, x2, y2);
+			}
+
+			String id = "iteration " + i;
+			Shapes<SimplePolygon> want = LegacyRectangleUnion.union(rects);
+			Shapes<SimplePolygon> got = buffer.union();
+			if (want == null)
+			{
+				assertNull(id, got);
+				continue;
+			}
+
+			assertEquals(id, want.getShapes().size(), got.getShapes().size());
+			for (int s = 0; s < want.getShapes().size(); s++)
+			{
+				SimplePolygon wantPoly = want.getShapes().get(s);
+				SimplePolygon gotPoly = got.getShapes().get(s);
+				assertEquals(id, wantPoly.size(), gotPoly.size());
+				for (int v = 0; v < wantPoly.size(); v++)
+				{
+					assertEquals(id, wantPoly.getX(v), gotPoly.getX(v));
+					assertEquals(id, wantPoly.getY(v), gotPoly.getY(v));
+				}
+			}
+		}
+	}
+
 	// @Test
 	public void test() throws IOException
 	{
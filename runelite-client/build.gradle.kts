@@ -39,6 +39,13 @@ plugins {
 
 lombok.version = libs.versions.lombok.get()
 
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 java {
     withJavadocJar()
     withSourcesJar()
@@ -96,6 +103,10 @@ dependencies {
     testImplementation(libs.guice.testlib)
     testImplementation(libs.guice.grapher)
     testImplementation(libs.okhttp.mockserver)
+
+    "jmhImplementation"(libs.jmh.core)
+    "jmhImplementation"(libs.mockito)
+    "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
 }
 
 val shadowJar = tasks.register<Jar>("shadowJar") {
@@ -190,8 +201,21 @@ tasks.checkstyleMain {
     exclude("net/runelite/client/party/Party.java") // generated by protobuf
 }
 
+// benchmarks are always compiled, but only run on request, eg. ./gradlew jmh -PjmhArgs="PuzzleSolverBenchmark"
+tasks.register<JavaExec>("jmh") {
+    group = LifecycleBasePlugin.VERIFICATION_GROUP
+    description = "Runs the JMH benchmarks"
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    // forks inherit the harness jvm arguments
+    jvmArgs("-Djava.awt.headless=true")
+    args(providers.gradleProperty("jmhArgs").map { it.split(' ') }.getOrElse(listOf()))
+}
+tasks.check { dependsOn(tasks.named(jmh.classesTaskName)) }
+
 tasks.withType<Test> {
     systemProperty("glslang.path", providers.gradleProperty("glslangPath").getOrElse(""))
+    systemProperty("verifyPatternDatabase", providers.gradleProperty("verifyPatternDatabase").isPresent)
 }
 
 tasks.javadoc {
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.client.RuneLite;
+import net.runelite.client.account.SessionManager;
+import net.runelite.client.eventbus.EventBus;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads config values through the proxy which plugins are handed, once with
+ * the handler's cache warm, which is what a plugin reading its config every
+ * frame sees, and once straight after an invalidate, which is what every
+ * proxy sees after any config change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConfigInvocationHandlerBenchmark
+{
+	@ConfigGroup("benchmark")
+	public interface BenchmarkConfig extends Config
+	{
+		@ConfigItem(
+			keyName = "enabled",
+			name = "Enabled",
+			description = ""
+		)
+		default boolean enabled()
+		{
+			return true;
+		}
+
+		@ConfigItem(
+			keyName = "threshold",
+			name = "Threshold",
+			description = ""
+		)
+		default int threshold()
+		{
+			return 0;
+		}
+	}
+
+	private ConfigInvocationHandler handler;
+	private BenchmarkConfig config;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		ProfileManager profileManager = mock(ProfileManager.class);
+		ProfileManager.Lock lock = mock(ProfileManager.Lock.class);
+		when(lock.createProfile(anyString())).thenAnswer(a ->
+		{
+			ConfigProfile profile = new ConfigProfile(System.nanoTime());
+			profile.setName(a.getArgument(0));
+			return profile;
+		});
+		when(lock.createProfile(anyString(), anyLong())).thenAnswer(a ->
+		{
+			ConfigProfile profile = new ConfigProfile(a.getArgument(1));
+			profile.setName(a.getArgument(0));
+			return profile;
+		});
+		when(profileManager.lock()).thenReturn(lock);
+
+		ConfigManager manager = Guice.createInjector(new AbstractModule()
+		{
+			@Override
+			protected void configure()
+			{
+				bind(EventBus.class).toInstance(mock(EventBus.class));
+				bind(ScheduledExecutorService.class).toInstance(mock(ScheduledExecutorService.class));
+				bind(RuneLiteConfig.class).toInstance(mock(RuneLiteConfig.class));
+				bind(Client.class).toInstance(mock(Client.class));
+				bind(ConfigClient.class).toInstance(mock(ConfigClient.class));
+				bind(SessionManager.class).toInstance(mock(SessionManager.class));
+				bind(ProfileManager.class).toInstance(profileManager);
+				bind(File.class).annotatedWith(Names.named("sessionfile")).toInstance(RuneLite.DEFAULT_SESSION_FILE);
+				bind(String.class).annotatedWith(Names.named("profile")).toProvider(() -> null);
+			}
+		}).getInstance(ConfigManager.class);
+		manager.load();
+		manager.setConfiguration("benchmark", "threshold", "5");
+
+		handler = new ConfigInvocationHandler(manager);
+		config = (BenchmarkConfig) Proxy.newProxyInstance(BenchmarkConfig.class.getClassLoader(),
+			new Class<?>[]{BenchmarkConfig.class}, handler);
+	}
+
+	@Benchmark
+	public int cached()
+	{
+		return config.enabled() ? config.threshold() : 0;
+	}
+
+	@Benchmark
+	public int invalidated()
+	{
+		handler.invalidate();
+		return config.enabled() ? config.threshold() : 0;
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.task.ExecutorLane;
+import net.runelite.client.task.ExecutorLanes;
+import net.runelite.http.api.item.ItemPrice;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Searches the price list by name, as the grand exchange and bank value
+ * lookups do, over a synthetic list about the size of the real one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ItemManagerBenchmark
+{
+	private static final String[] MATERIALS = {
+		"Bronze", "Iron", "Steel", "Black", "Mithril", "Adamant", "Rune", "Dragon",
+		"Oak", "Willow", "Maple", "Yew", "Magic", "Redwood", "Blue", "Green",
+	};
+	private static final String[] ITEMS = {
+		"dagger", "sword", "longsword", "scimitar", "battleaxe", "warhammer", "2h sword", "mace",
+		"full helm", "med helm", "platebody", "chainbody", "platelegs", "plateskirt", "kiteshield", "sq shield",
+		"boots", "gloves", "arrow", "bolts", "dart", "knife", "javelin", "pickaxe",
+		"axe", "logs", "plank", "shortbow", "longbow", "seed", "sapling", "pyre logs",
+	};
+
+	@Param({"rune", "dragon platebody", "xyz"})
+	private String query;
+
+	private ItemManager itemManager;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException
+	{
+		int count = 0;
+		ItemPrice[] prices = new ItemPrice[MATERIALS.length * ITEMS.length * 8];
+		for (String material : MATERIALS)
+		{
+			for (String item : ITEMS)
+			{
+				for (int variant = 0; variant < 8; variant++)
+				{
+					ItemPrice price = new ItemPrice();
+					price.setId(count);
+					price.setName(variant == 0 ? material + " " + item : material + " " + item + " (" + variant + ")");
+					price.setPrice(count * 10);
+					prices[count++] = price;
+				}
+			}
+		}
+
+		ItemClient itemClient = mock(ItemClient.class);
+		when(itemClient.getPrices()).thenReturn(prices);
+
+		// run the price load inline so the list is populated once the constructor returns
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		doAnswer(a ->
+		{
+			a.<Runnable>getArgument(0).run();
+			return null;
+		}).when(scheduler).scheduleWithFixedDelay(any(Runnable.class), anyLong(), anyLong(), any(TimeUnit.class));
+		ExecutorLane io = mock(ExecutorLane.class);
+		doAnswer(a ->
+		{
+			a.<Runnable>getArgument(0).run();
+			return null;
+		}).when(io).execute(any(Runnable.class));
+		ExecutorLanes lanes = mock(ExecutorLanes.class);
+		when(lanes.getIo()).thenReturn(io);
+
+		itemManager = new ItemManager(mock(Client.class), scheduler, lanes, mock(ClientThread.class), itemClient,
+			mock(RuneLiteConfig.class), mock(EventBus.class));
+		if (itemManager.search("").size() != prices.length)
+		{
+			throw new IllegalStateException("prices were not loaded");
+		}
+	}
+
+	@Benchmark
+	public List<ItemPrice> search()
+	{
+		return itemManager.search(query);
+	}
+}
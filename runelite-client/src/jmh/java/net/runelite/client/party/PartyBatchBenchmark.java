@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.gson.Gson;
+import java.awt.Color;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.messages.WebsocketMessage;
+import net.runelite.client.plugins.dpscounter.DpsUpdate;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.StatusUpdate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes the messages the party plugins send in a single tick, either one
+ * frame per message as json or as one batch. A synced tick is the one after
+ * a member joins, when every status field is sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PartyBatchBenchmark
+{
+	@Param({"false", "true"})
+	private boolean synced;
+
+	private Gson gson;
+	private Map<Class<?>, PartyBatch.Type> types;
+	private PartyBatch batch;
+	private List<WebsocketMessage> messages;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(List.of(StatusUpdate.class, LocationUpdate.class, DpsUpdate.class)));
+		types = Map.of(
+			StatusUpdate.class, new PartyBatch.Type(PartyMessageTypes.STATUS_UPDATE, StatusUpdate.CODEC),
+			LocationUpdate.class, new PartyBatch.Type(PartyMessageTypes.LOCATION_UPDATE, LocationUpdate.CODEC),
+			DpsUpdate.class, new PartyBatch.Type(PartyMessageTypes.DPS_UPDATE, DpsUpdate.CODEC)
+		);
+		batch = new PartyBatch();
+
+		final StatusUpdate status = new StatusUpdate();
+		status.setHealthCurrent(87);
+		status.setSpecEnergy(550);
+		if (synced)
+		{
+			status.setCharacterName("Zezima");
+			status.setHealthMax(99);
+			status.setPrayerCurrent(70);
+			status.setPrayerMax(99);
+			status.setRunEnergy(10000);
+			status.setVengeanceActive(false);
+			status.setMemberColor(Color.RED);
+		}
+		messages = List.of(status, new LocationUpdate(new WorldPoint(3222, 3218, 0)), new DpsUpdate(42, true));
+	}
+
+	@Benchmark
+	public int json()
+	{
+		int bytes = 0;
+		for (WebsocketMessage message : messages)
+		{
+			final String json = gson.toJson(message, WebsocketMessage.class);
+			final Party.Data data = Party.Data.newBuilder()
+				.setType(message.getClass().getSimpleName())
+				.setData(com.google.protobuf.ByteString.copyFromUtf8(json))
+				.build();
+			bytes += Party.C2S.newBuilder().setData(data).build().toByteArray().length;
+		}
+		return bytes;
+	}
+
+	@Benchmark
+	public int batch() throws IOException
+	{
+		final Party.Data data = Party.Data.newBuilder()
+			.setType(PartyBatch.TYPE)
+			.setData(batch.encode(messages, types, gson))
+			.build();
+		return Party.C2S.newBuilder().setData(data).build().toByteArray().length;
+	}
+}
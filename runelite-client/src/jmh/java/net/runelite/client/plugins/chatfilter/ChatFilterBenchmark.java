@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.chatfilter;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import net.runelite.api.Client;
+import net.runelite.client.Stubs;
+import static org.mockito.Mockito.mock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matches chat messages against a list of filtered words, comparing one
+ * quoted pattern per word with the single automaton, and runs the same
+ * messages through the plugin itself with a couple of regexes configured
+ * alongside the words. Roughly one message in {@link #MATCH_RATE} contains a
+ * filtered word.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ChatFilterBenchmark
+{
+	private static final int MESSAGES = 256;
+	private static final int MATCH_RATE = 10;
+	private static final String[] CHAT_WORDS = {
+		"selling", "buying", "lobsters", "gp", "ea", "trade", "me", "free", "armour", "lol", "anyone",
+		"world", "hop", "bank", "at", "ge", "thanks", "gz", "on", "99", "wc", "dragon", "scim", "pls",
+	};
+
+	@Param({"500"})
+	private int words;
+
+	private List<Pattern> patterns;
+	private AhoCorasick automaton;
+	private ChatFilterPlugin plugin;
+	private String[] messages;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		Random random = new Random(1);
+
+		List<String> filtered = new ArrayList<>(words);
+		for (int i = 0; i < words; i++)
+		{
+			filtered.add(randomWord(random));
+		}
+
+		patterns = new ArrayList<>(words);
+		for (String word : filtered)
+		{
+			patterns.add(Pattern.compile(Pattern.quote(word), Pattern.CASE_INSENSITIVE));
+		}
+		automaton = new AhoCorasick(filtered);
+
+		ChatFilterConfig config = Stubs.stub(ChatFilterConfig.class, ImmutableMap.of(
+			"filteredWords", String.join(",", filtered),
+			"filteredRegex", "(buy|sell)ing\\s+\\d+k?\nfree\\s+\\w+",
+			"filteredNames", "",
+			"filterType", ChatFilterType.CENSOR_WORDS,
+			"stripAccents", false
+		));
+		plugin = Guice.createInjector(new AbstractModule()
+		{
+			@Override
+			protected void configure()
+			{
+				bind(Client.class).toInstance(mock(Client.class));
+				bind(ChatFilterConfig.class).toInstance(config);
+			}
+		}).getInstance(ChatFilterPlugin.class);
+		plugin.updateFilteredPatterns();
+
+		messages = new String[MESSAGES];
+		for (int i = 0; i < MESSAGES; i++)
+		{
+			StringBuilder sb = new StringBuilder();
+			int length = 4 + random.nextInt(10);
+			for (int w = 0; w < length; w++)
+			{
+				if (w > 0)
+				{
+					sb.append(' ');
+				}
+				sb.append(CHAT_WORDS[random.nextInt(CHAT_WORDS.length)]);
+			}
+			if (random.nextInt(MATCH_RATE) == 0)
+			{
+				sb.append(' ').append(filtered.get(random.nextInt(filtered.size())).toUpperCase());
+			}
+			messages[i] = sb.toString();
+		}
+	}
+
+	@Benchmark
+	public boolean findPatterns()
+	{
+		String message = nextMessage();
+		for (Pattern pattern : patterns)
+		{
+			if (pattern.matcher(message).find())
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Benchmark
+	public boolean findAhoCorasick()
+	{
+		return automaton.find(nextMessage());
+	}
+
+	@Benchmark
+	public BitSet censorPatterns()
+	{
+		String message = nextMessage();
+		BitSet censored = null;
+		for (Pattern pattern : patterns)
+		{
+			Matcher m = pattern.matcher(message);
+			while (m.find())
+			{
+				if (censored == null)
+				{
+					censored = new BitSet(message.length());
+				}
+				censored.set(m.start(), m.end());
+			}
+		}
+		return censored;
+	}
+
+	@Benchmark
+	public BitSet censorAhoCorasick()
+	{
+		return automaton.mark(nextMessage(), null);
+	}
+
+	@Benchmark
+	public String censorPlugin()
+	{
+		return plugin.censorMessage(null, nextMessage());
+	}
+
+	private String nextMessage()
+	{
+		return messages[next++ % messages.length];
+	}
+
+	private static String randomWord(Random random)
+	{
+		char[] chars = new char[4 + random.nextInt(7)];
+		for (int i = 0; i < chars.length; i++)
+		{
+			chars[i] = (char) ('a' + random.nextInt(26));
+		}
+		return new String(chars);
+	}
+}
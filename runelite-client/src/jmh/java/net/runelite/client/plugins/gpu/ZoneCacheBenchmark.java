@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import net.runelite.api.Constants;
+import net.runelite.api.GameObject;
+import net.runelite.api.Model;
+import net.runelite.api.Point;
+import net.runelite.api.Scene;
+import net.runelite.api.SceneTilePaint;
+import net.runelite.api.Tile;
+import net.runelite.client.Stubs;
+import net.runelite.client.callback.RenderCallbackManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Uploads a block of zones without the zone cache, with a cache which always
+ * misses, and with one which always hits. A miss hashes the zone and uploads
+ * it through a heap buffer to be stored, and a hit hashes the zone and reads
+ * it back from disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ZoneCacheBenchmark
+{
+	private static final int ZONES = 4;
+	private static final int TILES = ZONES * 8;
+
+	// faces per object model
+	@Param({"16", "256"})
+	private int faces;
+
+	private final Random random = new Random(42);
+	private final RenderCallbackManager renderCallbackManager = new RenderCallbackManager();
+
+	private Scene scene;
+	private Zone[][] zones;
+	private File dir;
+	private ZoneUploader uncached;
+	private ZoneUploader missing;
+	private ZoneUploader hitting;
+	private ZoneCache missCache;
+	private ZoneCache hitCache;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException, InterruptedException
+	{
+		scene = scene();
+		zones = sizedZones(scene);
+		dir = Files.createTempDirectory("zonecache").toFile();
+
+		uncached = new ZoneUploader(renderCallbackManager, 1, null);
+		// nothing fits, so every entry is removed as soon as it is written
+		missCache = new ZoneCache(new File(dir, "miss"), 1, 0);
+		missing = new ZoneUploader(renderCallbackManager, 1, missCache);
+
+		ZoneCache populate = new ZoneCache(new File(dir, "hit"), 1, Long.MAX_VALUE);
+		new ZoneUploader(renderCallbackManager, 1, populate).upload(scene, zones, zone -> true);
+		populate.awaitWrites();
+		hitCache = new ZoneCache(new File(dir, "hit"), 1, Long.MAX_VALUE);
+		hitting = new ZoneUploader(renderCallbackManager, 1, hitCache);
+	}
+
+	@Setup(Level.Invocation)
+	public void reset()
+	{
+		for (Zone[] column : zones)
+		{
+			for (Zone zone : column)
+			{
+				if (zone.vboO != null)
+				{
+					zone.vboO.vb.clear();
+				}
+				if (zone.vboA != null)
+				{
+					zone.vboA.vb.clear();
+				}
+				zone.alphaModels.clear();
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException, InterruptedException
+	{
+		missCache.awaitWrites();
+		hitCache.awaitWrites();
+		try (Stream<Path> files = Files.walk(dir.toPath()))
+		{
+			files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Benchmark
+	public Zone[][] regenerate()
+	{
+		uncached.upload(scene, zones, zone -> true);
+		return zones;
+	}
+
+	@Benchmark
+	public Zone[][] miss()
+	{
+		missing.upload(scene, zones, zone -> true);
+		return zones;
+	}
+
+	@Benchmark
+	public Zone[][] hit()
+	{
+		hitting.upload(scene, zones, zone -> true);
+		return zones;
+	}
+
+	private static Zone[][] sizedZones(Scene scene)
+	{
+		SceneUploader sceneUploader = new SceneUploader(new RenderCallbackManager());
+		Zone[][] zones = new Zone[ZONES][ZONES];
+		for (int x = 0; x < ZONES; ++x)
+		{
+			for (int z = 0; z < ZONES; ++z)
+			{
+				Zone zone = zones[x][z] = new Zone();
+				sceneUploader.zoneSize(scene, zone, x, z);
+				// in place of mapped GL buffers
+				zone.vboO = buffer(zone.sizeO);
+				zone.vboA = buffer(zone.sizeA);
+			}
+		}
+		return zones;
+	}
+
+	private static VBO buffer(int faces)
+	{
+		if (faces == 0)
+		{
+			return null;
+		}
+
+		VBO vbo = new VBO(faces * Zone.VERT_SIZE * 3);
+		vbo.vb = IntBuffer.allocate(vbo.size / Integer.BYTES);
+		return vbo;
+	}
+
+	private Scene scene()
+	{
+		Tile[][][] tiles = new Tile[Constants.MAX_Z][TILES][TILES];
+		int[][][] heights = new int[Constants.MAX_Z][TILES + 1][TILES + 1];
+		for (int x = 0; x <= TILES; ++x)
+		{
+			for (int y = 0; y <= TILES; ++y)
+			{
+				heights[0][x][y] = -random.nextInt(64);
+			}
+		}
+		for (int x = 0; x < TILES; ++x)
+		{
+			for (int y = 0; y < TILES; ++y)
+			{
+				tiles[0][x][y] = tile(x, y);
+			}
+		}
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("getWorldViewId", 0);
+		values.put("getExtendedTiles", tiles);
+		values.put("getExtendedTileSettings", new byte[Constants.MAX_Z][TILES][TILES]);
+		values.put("getRoofs", new int[Constants.MAX_Z][TILES][TILES]);
+		values.put("getTileHeights", heights);
+		return Stubs.stub(Scene.class, values);
+	}
+
+	private Tile tile(int x, int y)
+	{
+		Point location = new Point(x, y);
+		Map<String, Object> paint = new HashMap<>();
+		paint.put("getSwColor", random.nextInt(0xffff));
+		paint.put("getSeColor", random.nextInt(0xffff));
+		paint.put("getNeColor", random.nextInt(0xffff));
+		paint.put("getNwColor", random.nextInt(0xffff));
+		paint.put("getTexture", -1);
+
+		GameObject[] gameObjects = new GameObject[5];
+		if (random.nextInt(3) == 0)
+		{
+			Map<String, Object> gameObject = new HashMap<>();
+			gameObject.put("getRenderable", model());
+			gameObject.put("getSceneMinLocation", location);
+			gameObject.put("getSceneMaxLocation", location);
+			gameObject.put("getModelOrientation", random.nextInt(4) * 512);
+			gameObject.put("getX", x * 128 + 64);
+			gameObject.put("getY", y * 128 + 64);
+			gameObject.put("getZ", 0);
+			gameObject.put("getId", random.nextInt(50000));
+			gameObjects[0] = Stubs.stub(GameObject.class, gameObject);
+		}
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("getSceneLocation", location);
+		values.put("getRenderLevel", 0);
+		values.put("getSceneTilePaint", Stubs.stub(SceneTilePaint.class, paint));
+		values.put("getSceneTileModel", null);
+		values.put("getWallObject", null);
+		values.put("getDecorativeObject", null);
+		values.put("getGroundObject", null);
+		values.put("getGameObjects", gameObjects);
+		values.put("getBridge", null);
+		return Stubs.stub(Tile.class, values);
+	}
+
+	private Model model()
+	{
+		int vertices = faces / 2 + 3;
+		float[] vx = new float[vertices], vy = new float[vertices], vz = new float[vertices];
+		for (int v = 0; v < vertices; ++v)
+		{
+			vx[v] = random.nextInt(128) - 64;
+			vy[v] = -random.nextInt(256);
+			vz[v] = random.nextInt(128) - 64;
+		}
+
+		int[] i1 = new int[faces], i2 = new int[faces], i3 = new int[faces];
+		byte[] transparencies = new byte[faces];
+		for (int f = 0; f < faces; ++f)
+		{
+			i1[f] = random.nextInt(vertices);
+			i2[f] = random.nextInt(vertices);
+			i3[f] = random.nextInt(vertices);
+			transparencies[f] = random.nextInt(8) == 0 ? (byte) (1 + random.nextInt(200)) : 0;
+		}
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("getVerticesCount", vertices);
+		values.put("getFaceCount", faces);
+		values.put("getVerticesX", vx);
+		values.put("getVerticesY", vy);
+		values.put("getVerticesZ", vz);
+		values.put("getFaceIndices1", i1);
+		values.put("getFaceIndices2", i2);
+		values.put("getFaceIndices3", i3);
+		values.put("getFaceColors1", colors());
+		values.put("getFaceColors2", colors());
+		values.put("getFaceColors3", colors());
+		values.put("getFaceTransparencies", transparencies);
+		for (String untextured : new String[]{"getFaceTextures", "getFaceBias", "getFaceRenderPriorities", "getTextureFaces",
+			"getTexIndices1", "getTexIndices2", "getTexIndices3"})
+		{
+			values.put(untextured, null);
+		}
+		return Stubs.stub(Model.class, values);
+	}
+
+	private int[] colors()
+	{
+		int[] colors = new int[faces];
+		for (int i = 0; i < faces; ++i)
+		{
+			colors[i] = random.nextInt(0xffff);
+		}
+		return colors;
+	}
+}
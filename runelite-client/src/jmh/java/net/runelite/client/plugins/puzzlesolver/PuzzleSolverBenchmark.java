@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarPDB;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Solves random solvable boards. Scrambled boards are random walks away from the
+ * goal, similar to the clue scroll puzzles, and shuffled boards are uniformly
+ * random like the reinitialisation puzzle, which only the weighted solver can
+ * handle in reasonable time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class PuzzleSolverBenchmark
+{
+	private static final int BOARDS = 32;
+
+	@Param({"30", "50"})
+	private int scrambleMoves;
+
+	private PuzzleState[] scrambled;
+	private PuzzleState[] shuffled;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		Random random = new Random(1);
+		scrambled = new PuzzleState[BOARDS];
+		shuffled = new PuzzleState[BOARDS];
+		for (int i = 0; i < BOARDS; i++)
+		{
+			scrambled[i] = scramble(random, scrambleMoves);
+			shuffled[i] = shuffle(random);
+		}
+
+		// load the database outside of the measurement
+		PatternDatabase.getDefault();
+	}
+
+	@Benchmark
+	public List<PuzzleState> manhattan()
+	{
+		return new IDAStar(new ManhattanDistance()).computePath(nextBoard(scrambled));
+	}
+
+	@Benchmark
+	public List<PuzzleState> patternDatabase()
+	{
+		return new IDAStarPDB().computePath(nextBoard(scrambled));
+	}
+
+	@Benchmark
+	public List<PuzzleState> patternDatabaseWeightedShuffled()
+	{
+		return new IDAStarPDB(PatternDatabase::getDefault, 2).computePath(nextBoard(shuffled));
+	}
+
+	private PuzzleState nextBoard(PuzzleState[] boards)
+	{
+		return boards[next++ % boards.length];
+	}
+
+	private static PuzzleState scramble(Random random, int moves)
+	{
+		int[] pieces = goal();
+		int blank = pieces.length - 1;
+		int previous = -1;
+		for (int i = 0; i < moves; )
+		{
+			int target;
+			switch (random.nextInt(4))
+			{
+				case 0:
+					target = blank % DIMENSION > 0 ? blank - 1 : -1;
+					break;
+				case 1:
+					target = blank % DIMENSION < DIMENSION - 1 ? blank + 1 : -1;
+					break;
+				case 2:
+					target = blank - DIMENSION;
+					break;
+				default:
+					target = blank + DIMENSION;
+					break;
+			}
+
+			if (target < 0 || target >= pieces.length || target == previous)
+			{
+				continue;
+			}
+
+			pieces[blank] = pieces[target];
+			pieces[target] = BLANK_TILE_VALUE;
+			previous = blank;
+			blank = target;
+			i++;
+		}
+		return new PuzzleState(pieces);
+	}
+
+	private static PuzzleState shuffle(Random random)
+	{
+		int[] pieces = goal();
+
+		// shuffle everything but the blank, which stays in its goal position
+		for (int i = pieces.length - 2; i > 0; i--)
+		{
+			int j = random.nextInt(i + 1);
+			int tmp = pieces[i];
+			pieces[i] = pieces[j];
+			pieces[j] = tmp;
+		}
+
+		// with the blank in place, the board is solvable only if the permutation is even
+		int inversions = 0;
+		for (int i = 0; i < pieces.length - 1; i++)
+		{
+			for (int j = i + 1; j < pieces.length - 1; j++)
+			{
+				if (pieces[i] > pieces[j])
+				{
+					inversions++;
+				}
+			}
+		}
+
+		if (inversions % 2 != 0)
+		{
+			int tmp = pieces[0];
+			pieces[0] = pieces[1];
+			pieces[1] = tmp;
+		}
+		return new PuzzleState(pieces);
+	}
+
+	private static int[] goal()
+	{
+		int[] pieces = new int[DIMENSION * DIMENSION];
+		for (int i = 0; i < pieces.length - 1; i++)
+		{
+			pieces[i] = i;
+		}
+		pieces[pieces.length - 1] = BLANK_TILE_VALUE;
+		return pieces;
+	}
+}
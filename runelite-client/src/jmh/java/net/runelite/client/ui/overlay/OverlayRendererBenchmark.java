@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.AbstractModule;
+import com.google.inject.Guice;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.api.widgets.Widget;
+import net.runelite.client.Stubs;
+import net.runelite.client.chat.ChatMessageManager;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.config.FontType;
+import net.runelite.client.config.Keybind;
+import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.ui.ClientUI;
+import net.runelite.client.ui.overlay.components.ComponentConstants;
+import net.runelite.client.ui.overlay.components.LineComponent;
+import net.runelite.client.ui.overlay.components.TitleComponent;
+import static org.mockito.Mockito.mock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Renders one frame's worth of overlays: the snap corner update done on
+ * {@link BeforeRender}, then each layer in turn, onto a fixed mode sized
+ * image. The overlays are small panels spread over the snap corners with a
+ * few dynamic ones, which is what a typical set of enabled plugins draws.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OverlayRendererBenchmark
+{
+	private static final OverlayPosition[] POSITIONS = {
+		OverlayPosition.TOP_LEFT,
+		OverlayPosition.TOP_RIGHT,
+		OverlayPosition.BOTTOM_LEFT,
+		OverlayPosition.BOTTOM_RIGHT,
+		OverlayPosition.ABOVE_CHATBOX_RIGHT,
+		OverlayPosition.DYNAMIC,
+	};
+
+	private static class PanelOverlay extends OverlayPanel
+	{
+		private final String title;
+
+		PanelOverlay(int id, OverlayPosition position)
+		{
+			title = "Overlay " + id;
+			setPosition(position);
+			setLayer(position == OverlayPosition.DYNAMIC ? OverlayLayer.ABOVE_SCENE : OverlayLayer.UNDER_WIDGETS);
+			if (position == OverlayPosition.DYNAMIC)
+			{
+				getBounds().setLocation(100 + id * 7 % 300, 50 + id * 13 % 200);
+			}
+		}
+
+		@Override
+		public Dimension render(Graphics2D graphics)
+		{
+			panelComponent.getChildren().add(TitleComponent.builder()
+				.text(title)
+				.build());
+			panelComponent.getChildren().add(LineComponent.builder()
+				.left("Kills:")
+				.right("123")
+				.build());
+			panelComponent.getChildren().add(LineComponent.builder()
+				.left("Time:")
+				.right("01:23")
+				.build());
+			return super.render(graphics);
+		}
+	}
+
+	@Param({"10", "40"})
+	private int overlays;
+
+	private OverlayRenderer renderer;
+	private BufferedImage image;
+	private Graphics2D graphics;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		Widget widget = Stubs.stub(Widget.class, ImmutableMap.of(
+			"getBounds", new Rectangle(4, 4, 512, 334),
+			"isHidden", false
+		));
+		Client client = Stubs.stub(Client.class, ImmutableMap.<String, Object>builder()
+			.put("getGameState", GameState.LOGGED_IN)
+			.put("isResized", false)
+			.put("getWidget", widget)
+			.put("getVarbitValue", 0)
+			.put("getRealDimensions", new Dimension(765, 503))
+			.put("getCanvasWidth", 765)
+			.put("getCanvasHeight", 503)
+			.put("getViewportXOffset", 4)
+			.put("getViewportYOffset", 4)
+			.put("getViewportWidth", 512)
+			.put("getViewportHeight", 334)
+			.put("isMenuOpen", false)
+			.put("isWidgetSelected", false)
+			.put("isKeyPressed", false)
+			.build());
+		RuneLiteConfig runeLiteConfig = Stubs.stub(RuneLiteConfig.class, ImmutableMap.of(
+			"overlayBackgroundColor", ComponentConstants.STANDARD_BACKGROUND_COLOR,
+			"fontType", FontType.SMALL,
+			"tooltipFontType", FontType.SMALL,
+			"interfaceFontType", FontType.REGULAR,
+			"dragHotkey", Keybind.ALT
+		));
+
+		var injector = Guice.createInjector(new AbstractModule()
+		{
+			@Override
+			protected void configure()
+			{
+				bind(Client.class).toInstance(client);
+				bind(RuneLiteConfig.class).toInstance(runeLiteConfig);
+				bind(ConfigManager.class).toInstance(mock(ConfigManager.class));
+				bind(ClientUI.class).toInstance(mock(ClientUI.class));
+				bind(ChatMessageManager.class).toInstance(mock(ChatMessageManager.class));
+				bind(EventBus.class).toInstance(new EventBus());
+			}
+		});
+
+		OverlayManager overlayManager = injector.getInstance(OverlayManager.class);
+		for (int i = 0; i < overlays; i++)
+		{
+			overlayManager.add(new PanelOverlay(i, POSITIONS[i % POSITIONS.length]));
+		}
+
+		renderer = injector.getInstance(OverlayRenderer.class);
+		image = new BufferedImage(765, 503, BufferedImage.TYPE_INT_RGB);
+		graphics = image.createGraphics();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		graphics.dispose();
+	}
+
+	@Benchmark
+	public BufferedImage renderFrame()
+	{
+		renderer.onBeforeRender(new BeforeRender());
+		renderer.renderOverlayLayer(graphics, OverlayLayer.ABOVE_SCENE);
+		renderer.renderOverlayLayer(graphics, OverlayLayer.UNDER_WIDGETS);
+		renderer.renderOverlayLayer(graphics, OverlayLayer.ALWAYS_ON_TOP);
+		return image;
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Encodes a screenshot sized image with ImageIO and with the strip encoder, on one
+ * thread and in parallel. The image is a gradient with per pixel texture noise and
+ * small text-like blocks over it, which compresses roughly like a game screenshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+public class PngEncoderBenchmark
+{
+	@Param({"1920x1080", "3840x2160"})
+	private String size;
+
+	private BufferedImage image;
+	private ByteArrayOutputStream out;
+	private ForkJoinPool pool;
+	private PngEncoder serial;
+	private PngEncoder parallel;
+
+	@Setup(Level.Trial)
+	public void setup()
+	{
+		final String[] dimensions = size.split("x");
+		final int width = Integer.parseInt(dimensions[0]);
+		final int height = Integer.parseInt(dimensions[1]);
+
+		image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		final Graphics2D graphics = image.createGraphics();
+		graphics.setPaint(new GradientPaint(0, 0, new Color(60, 90, 40), width, height, new Color(120, 100, 70)));
+		graphics.fillRect(0, 0, width, height);
+
+		final Random random = new Random(1);
+		for (int y = 0; y < height; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				final int noise = random.nextInt(5) - 2;
+				final int rgb = image.getRGB(x, y);
+				image.setRGB(x, y, 0xff000000
+					| clamp((rgb >> 16 & 0xff) + noise) << 16
+					| clamp((rgb >> 8 & 0xff) + noise) << 8
+					| clamp((rgb & 0xff) + noise));
+			}
+		}
+
+		for (int i = 0; i < width * height / 200; ++i)
+		{
+			graphics.setColor(new Color(random.nextInt(0x1000000)));
+			graphics.fillRect(random.nextInt(width), random.nextInt(height), 1 + random.nextInt(6), 1 + random.nextInt(3));
+		}
+		graphics.dispose();
+
+		out = new ByteArrayOutputStream();
+		pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+		serial = new PngEncoder(null, PngEncoder.DEFAULT_LEVEL);
+		parallel = new PngEncoder(pool, PngEncoder.DEFAULT_LEVEL);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown()
+	{
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public int imageIO() throws IOException
+	{
+		out.reset();
+		ImageIO.write(image, "PNG", out);
+		return out.size();
+	}
+
+	@Benchmark
+	public int serial() throws IOException
+	{
+		out.reset();
+		serial.write(image, out);
+		return out.size();
+	}
+
+	@Benchmark
+	public int parallel() throws IOException
+	{
+		out.reset();
+		parallel.write(image, out);
+		return out.size();
+	}
+
+	private static int clamp(int v)
+	{
+		return Math.max(0, Math.min(255, v));
+	}
+}
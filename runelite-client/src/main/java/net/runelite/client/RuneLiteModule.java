@@ -38,7 +38,6 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import javax.inject.Named;
@@ -57,9 +56,9 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.task.ExecutorLanes;
 import net.runelite.client.task.Scheduler;
 import net.runelite.client.util.DeferredEventBus;
-import net.runelite.client.util.ExecutorServiceExceptionLogger;
 import net.runelite.http.api.RuneLiteAPI;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -126,7 +125,9 @@ public class RuneLiteModule extends AbstractModule
 		bindConstant().annotatedWith(Names.named("insecureWriteCredentials")).to(insecureWriteCredentials);
 		bindConstant().annotatedWith(Names.named("noupdate")).to(noupdate);
 		bind(File.class).annotatedWith(Names.named("runeLiteDir")).toInstance(RuneLite.RUNELITE_DIR);
-		bind(ScheduledExecutorService.class).toInstance(new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor()));
+		final ExecutorLanes executorLanes = new ExecutorLanes();
+		bind(ExecutorLanes.class).toInstance(executorLanes);
+		bind(ScheduledExecutorService.class).toInstance(executorLanes.getTimers());
 		bind(RuntimeConfigLoader.class).toInstance(configLoader);
 		bind(RuntimeConfigRefresher.class).asEagerSingleton();
 		bind(MenuManager.class);
@@ -48,7 +48,8 @@ public interface RenderCallback
 
 	/**
 	 * Test if a tile should be drawn.
-	 * This is called on scene upload, by the maploader thread.
+	 * This is called on scene upload, by the maploader thread and the zone
+	 * upload threads, one thread at a time.
 	 * @param scene
 	 * @param tile
 	 * @return
@@ -60,7 +61,8 @@ public interface RenderCallback
 
 	/**
 	 * Test if a {@link TileObject} should be drawn.
-	 * This is called on scene upload, by the maploader thread, as well as
+	 * This is called on scene upload, by the maploader thread and the zone
+	 * upload threads, one thread at a time, as well as
 	 * each frame by the client thread for dynamic objects (animated objects),
 	 * as well as temporary entities (players, npcs, projectiles, spotanims, etc).
 	 * @param scene
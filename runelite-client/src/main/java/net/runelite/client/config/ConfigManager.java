@@ -154,6 +154,8 @@ public class ConfigManager
 		this.profileManager = profileManager;
 		this.sessionManager = sessionManager;
 
+		// this stays on the timers lane rather than the io lane: sendConfig takes the profile file lock, which
+		// throws if it is already held in this process, so it has to run on the same thread as switchProfile
 		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::sendConfig), 30 + (int) (5 * 60 * Math.random()), 5 * 60, TimeUnit.SECONDS);
 	}
 
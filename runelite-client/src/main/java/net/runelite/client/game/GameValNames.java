@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Names of the constants in the gameval classes, such as {@link net.runelite.api.gameval.ItemID}.
+ * <p>
+ * The names are read from tables generated from the gameval sources at build time, rather than
+ * by reflecting over the gameval classes, which are large and are not shipped at runtime. Each
+ * table is loaded on first use into a single array, and ids and names are binary searched in it
+ * without boxing.
+ * <p>
+ * Names are upper case, as they are in the gameval classes, and are matched ignoring case.
+ */
+@Slf4j
+public final class GameValNames
+{
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+
+	private static final Map<String, GameValNames> TABLES = new ConcurrentHashMap<>();
+	private static final GameValNames EMPTY = new GameValNames(new byte[]{0, 0, 0, VERSION, 0, 0, 0, 0, 0, 0, 0, 0});
+
+	private final byte[] data;
+	private final ByteBuffer buffer;
+	private final int count;
+	private final int offsetsStart;
+	private final int byNameStart;
+	private final int poolStart;
+
+	private GameValNames(byte[] data)
+	{
+		this.data = data;
+		this.buffer = ByteBuffer.wrap(data);
+		this.count = buffer.getInt(4);
+		this.offsetsStart = HEADER_SIZE + count * 4;
+		this.byNameStart = offsetsStart + (count + 1) * 4;
+		this.poolStart = byNameStart + count * 4;
+	}
+
+	public static GameValNames items()
+	{
+		return of("ItemID");
+	}
+
+	public static GameValNames npcs()
+	{
+		return of("NpcID");
+	}
+
+	public static GameValNames objects()
+	{
+		return of("ObjectID");
+	}
+
+	public static GameValNames animations()
+	{
+		return of("AnimationID");
+	}
+
+	public static GameValNames spotanims()
+	{
+		return of("SpotanimID");
+	}
+
+	public static GameValNames varbits()
+	{
+		return of("VarbitID");
+	}
+
+	public static GameValNames varps()
+	{
+		return of("VarPlayerID");
+	}
+
+	public static GameValNames varcs()
+	{
+		return of("VarClientID");
+	}
+
+	public static GameValNames inventories()
+	{
+		return of("InventoryID");
+	}
+
+	@Nullable
+	public static String item(int id)
+	{
+		return items().getName(id);
+	}
+
+	@Nullable
+	public static String npc(int id)
+	{
+		return npcs().getName(id);
+	}
+
+	@Nullable
+	public static String object(int id)
+	{
+		return objects().getName(id);
+	}
+
+	@Nullable
+	public static String animation(int id)
+	{
+		return animations().getName(id);
+	}
+
+	@Nullable
+	public static String varbit(int id)
+	{
+		return varbits().getName(id);
+	}
+
+	@Nullable
+	public static String varp(int id)
+	{
+		return varps().getName(id);
+	}
+
+	@Nullable
+	public static String varc(int id)
+	{
+		return varcs().getName(id);
+	}
+
+	@Nullable
+	public static String inventory(int id)
+	{
+		return inventories().getName(id);
+	}
+
+	/**
+	 * Get the names of a gameval class.
+	 *
+	 * @param className simple name of the gameval class, eg. {@code ItemID}
+	 * @return the names, or an empty table if the class has none
+	 */
+	public static GameValNames of(String className)
+	{
+		return TABLES.computeIfAbsent(className, GameValNames::load);
+	}
+
+	private static GameValNames load(String className)
+	{
+		try (InputStream in = GameValNames.class.getResourceAsStream("/net/runelite/api/gameval/" + className + ".names"))
+		{
+			if (in == null)
+			{
+				log.warn("No gameval names for {}", className);
+				return EMPTY;
+			}
+
+			byte[] data = in.readAllBytes();
+			int version = ByteBuffer.wrap(data).getInt(0);
+			if (version != VERSION)
+			{
+				log.warn("Gameval names for {} have unknown version {}", className, version);
+				return EMPTY;
+			}
+
+			return new GameValNames(data);
+		}
+		catch (IOException e)
+		{
+			log.warn("Unable to load gameval names for {}", className, e);
+			return EMPTY;
+		}
+	}
+
+	public int size()
+	{
+		return count;
+	}
+
+	/**
+	 * @return the name of the id, or null if there is none
+	 */
+	@Nullable
+	public String getName(int id)
+	{
+		int lo = 0;
+		int hi = count - 1;
+		while (lo <= hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			int midId = buffer.getInt(HEADER_SIZE + mid * 4);
+			if (midId < id)
+			{
+				lo = mid + 1;
+			}
+			else if (midId > id)
+			{
+				hi = mid - 1;
+			}
+			else
+			{
+				return name(mid);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the id with the given name, or -1 if there is none
+	 */
+	public int getId(String name)
+	{
+		byte[] key = key(name);
+		int rank = lowerBound(key);
+		if (rank < count)
+		{
+			int index = buffer.getInt(byNameStart + rank * 4);
+			if (compare(index, key) == 0)
+			{
+				return buffer.getInt(HEADER_SIZE + index * 4);
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * @return the names starting with the prefix, in alphabetical order
+	 */
+	public List<String> findByPrefix(String prefix)
+	{
+		byte[] key = key(prefix);
+		List<String> names = new ArrayList<>();
+		for (int rank = lowerBound(key); rank < count; ++rank)
+		{
+			int index = buffer.getInt(byNameStart + rank * 4);
+			if (!startsWith(index, key))
+			{
+				break;
+			}
+			names.add(name(index));
+		}
+		return names;
+	}
+
+	private String name(int index)
+	{
+		int start = buffer.getInt(offsetsStart + index * 4);
+		int end = buffer.getInt(offsetsStart + index * 4 + 4);
+		return new String(data, poolStart + start, end - start, StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * @return the rank of the first name not less than the key
+	 */
+	private int lowerBound(byte[] key)
+	{
+		int lo = 0;
+		int hi = count;
+		while (lo < hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if (compare(buffer.getInt(byNameStart + mid * 4), key) < 0)
+			{
+				lo = mid + 1;
+			}
+			else
+			{
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	private int compare(int index, byte[] key)
+	{
+		int start = poolStart + buffer.getInt(offsetsStart + index * 4);
+		int length = poolStart + buffer.getInt(offsetsStart + index * 4 + 4) - start;
+		int n = Math.min(length, key.length);
+		for (int i = 0; i < n; ++i)
+		{
+			int d = data[start + i] - key[i];
+			if (d != 0)
+			{
+				return d;
+			}
+		}
+		return length - key.length;
+	}
+
+	private boolean startsWith(int index, byte[] key)
+	{
+		int start = poolStart + buffer.getInt(offsetsStart + index * 4);
+		int length = poolStart + buffer.getInt(offsetsStart + index * 4 + 4) - start;
+		if (length < key.length)
+		{
+			return false;
+		}
+		for (int i = 0; i < key.length; ++i)
+		{
+			if (data[start + i] != key[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static byte[] key(String name)
+	{
+		return name.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.US_ASCII);
+	}
+}
@@ -38,6 +38,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
@@ -52,10 +53,15 @@ import static net.runelite.api.Constants.CLIENT_DEFAULT_ZOOM;
 import net.runelite.api.GameState;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.SpritePixels;
+import net.runelite.api.WorldType;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.api.widgets.ItemQuantityMode;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.task.ExecutorLanes;
 import net.runelite.client.util.AsyncBufferedImage;
 import net.runelite.http.api.item.ItemPrice;
 
@@ -79,6 +85,8 @@ public class ItemManager
 		private final Color outlineColor;
 	}
 
+	private static final int ITEM_SNAPSHOT_BATCH_SIZE = 4096;
+
 	private final Client client;
 	private final ClientThread clientThread;
 	private final ItemClient itemClient;
@@ -99,6 +107,13 @@ public class ItemManager
 	private final LoadingCache<ImageKey, AsyncBufferedImage> itemImages;
 	private final LoadingCache<OutlineKey, BufferedImage> itemOutlines;
 
+	// snapshots of every item composition indexed by id, which are built in batches on the client thread
+	// and then replaced as a whole, so that they can be read from any thread
+	private volatile ItemSnapshot[] itemSnapshots;
+	private boolean itemSnapshotsMembers;
+	private ItemSnapshot[] pendingItemSnapshots;
+	private int pendingItemSnapshotsIndex;
+
 	// Worn items with weight reducing property have a different worn and inventory ItemID
 	private static final ImmutableMap<Integer, Integer> WORN_ITEMS = ImmutableMap.<Integer, Integer>builder().
 		put(ItemID.IKOV_BOOTSOFLIGHTNESSWORN, ItemID.IKOV_BOOTSOFLIGHTNESS).
@@ -196,16 +211,17 @@ public class ItemManager
 		build();
 
 	@Inject
-	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ClientThread clientThread,
-		ItemClient itemClient, RuneLiteConfig runeLiteConfig)
+	public ItemManager(Client client, ScheduledExecutorService scheduledExecutorService, ExecutorLanes executorLanes,
+		ClientThread clientThread, ItemClient itemClient, RuneLiteConfig runeLiteConfig, EventBus eventBus)
 	{
 		this.client = client;
 		this.clientThread = clientThread;
 		this.itemClient = itemClient;
 		this.runeLiteConfig = runeLiteConfig;
 
-		scheduledExecutorService.scheduleWithFixedDelay(this::loadPrices, 0, 30, TimeUnit.MINUTES);
-		scheduledExecutorService.submit(this::loadStats);
+		final ExecutorService io = executorLanes.getIo();
+		scheduledExecutorService.scheduleWithFixedDelay(() -> io.execute(this::loadPrices), 0, 30, TimeUnit.MINUTES);
+		io.execute(this::loadStats);
 
 		itemImages = CacheBuilder.newBuilder()
 			.maximumSize(128L)
@@ -230,6 +246,63 @@ public class ItemManager
 					return loadItemOutline(key.itemId, key.itemQuantity, key.outlineColor);
 				}
 			});
+
+		eventBus.register(this);
+	}
+
+	@Subscribe
+	public void onGameStateChanged(GameStateChanged event)
+	{
+		final GameState state = event.getGameState();
+		if (state == GameState.LOGIN_SCREEN && itemSnapshots == null && pendingItemSnapshots == null)
+		{
+			buildItemSnapshots();
+		}
+		else if (state == GameState.LOGGED_IN)
+		{
+			// item names depend on whether the world is members, and the item count changes when the cache is updated
+			final ItemSnapshot[] snapshots = pendingItemSnapshots != null ? pendingItemSnapshots : itemSnapshots;
+			if (snapshots == null || snapshots.length != client.getItemCount()
+				|| itemSnapshotsMembers != client.getWorldType().contains(WorldType.MEMBERS))
+			{
+				buildItemSnapshots();
+			}
+		}
+	}
+
+	private void buildItemSnapshots()
+	{
+		final ItemSnapshot[] snapshots = new ItemSnapshot[client.getItemCount()];
+		itemSnapshotsMembers = client.getWorldType().contains(WorldType.MEMBERS);
+		pendingItemSnapshots = snapshots;
+		pendingItemSnapshotsIndex = 0;
+
+		// build a batch each client tick to not stall the client
+		clientThread.invokeLater(() ->
+		{
+			if (pendingItemSnapshots != snapshots)
+			{
+				// superseded by a newer build
+				return true;
+			}
+
+			final int end = Math.min(snapshots.length, pendingItemSnapshotsIndex + ITEM_SNAPSHOT_BATCH_SIZE);
+			for (int id = pendingItemSnapshotsIndex; id < end; ++id)
+			{
+				snapshots[id] = ItemSnapshot.of(client.getItemDefinition(id));
+			}
+			pendingItemSnapshotsIndex = end;
+
+			if (end < snapshots.length)
+			{
+				return false;
+			}
+
+			itemSnapshots = snapshots;
+			pendingItemSnapshots = null;
+			log.debug("Built {} item snapshots", snapshots.length);
+			return true;
+		});
 	}
 
 	private void loadPrices()
@@ -275,6 +348,8 @@ public class ItemManager
 
 	/**
 	 * Look up an item's price
+	 * <p>
+	 * Off of the client thread this reads the item snapshots, see {@link #getItemSnapshot(int)}.
 	 *
 	 * @param itemID item id
 	 * @return item price
@@ -302,10 +377,10 @@ public class ItemManager
 			return 1000;
 		}
 
-		ItemComposition itemComposition = getItemComposition(itemID);
-		if (itemComposition.getNote() != -1)
+		ItemSnapshot item = requireItemSnapshot(itemID);
+		if (item.getNote() != -1)
 		{
-			itemID = itemComposition.getLinkedNoteId();
+			itemID = item.getLinkedNoteId();
 		}
 		itemID = WORN_ITEMS.getOrDefault(itemID, itemID);
 
@@ -355,15 +430,17 @@ public class ItemManager
 
 	/**
 	 * Look up an item's stats
+	 * <p>
+	 * Off of the client thread this reads the item snapshots, see {@link #getItemSnapshot(int)}.
 	 * @param itemId item id
 	 * @return item stats
 	 */
 	@Nullable
 	public ItemStats getItemStats(int itemId)
 	{
-		ItemComposition itemComposition = getItemComposition(itemId);
+		ItemSnapshot item = requireItemSnapshot(itemId);
 
-		if (itemComposition.getName() == null || itemComposition.getNote() != -1)
+		if (item.getName() == null || item.getNote() != -1)
 		{
 			return null;
 		}
@@ -382,9 +459,9 @@ public class ItemManager
 	@Deprecated
 	public net.runelite.http.api.item.ItemStats getItemStats(int itemId, boolean allowNote)
 	{
-		ItemComposition itemComposition = getItemComposition(itemId);
+		ItemSnapshot item = requireItemSnapshot(itemId);
 
-		if (itemComposition.getName() == null || (!allowNote && itemComposition.getNote() != -1))
+		if (item.getName() == null || (!allowNote && item.getNote() != -1))
 		{
 			return null;
 		}
@@ -427,21 +504,77 @@ public class ItemManager
 		return client.getItemDefinition(itemId);
 	}
 
+	/**
+	 * Look up a snapshot of an item's composition. Unlike {@link #getItemComposition(int)} this can be called
+	 * from any thread, however off of the client thread it returns null until the snapshots have been built,
+	 * which is once the client has loaded, and for items added since they were built. See {@link #hasItemSnapshots()}.
+	 * Off of the client thread the snapshot is out of date after a cache update or change of members world until
+	 * the snapshots have been rebuilt. On the client thread it is copied from the current composition.
+	 *
+	 * @param itemId item id
+	 * @return item snapshot
+	 */
+	@Nullable
+	public ItemSnapshot getItemSnapshot(int itemId)
+	{
+		if (client.isClientThread())
+		{
+			return ItemSnapshot.of(getItemComposition(itemId));
+		}
+
+		final ItemSnapshot[] snapshots = itemSnapshots;
+		if (snapshots != null && itemId >= 0 && itemId < snapshots.length)
+		{
+			return snapshots[itemId];
+		}
+
+		return null;
+	}
+
+	/**
+	 * Whether the item snapshots have been built, after which {@link #getItemSnapshot(int)}, {@link #canonicalize(int)},
+	 * {@link #getItemPrice(int)} and {@link #getItemStats(int)} can be called from any thread. Off of the client thread
+	 * they read the snapshots, and on the client thread the current item compositions.
+	 */
+	public boolean hasItemSnapshots()
+	{
+		return itemSnapshots != null;
+	}
+
+	private ItemSnapshot requireItemSnapshot(int itemId)
+	{
+		final ItemSnapshot item = getItemSnapshot(itemId);
+		if (item != null)
+		{
+			return item;
+		}
+
+		if (hasItemSnapshots())
+		{
+			// the item was added after the snapshots were built, and can't be looked up off of the client thread
+			return ItemSnapshot.unknown(itemId);
+		}
+
+		return ItemSnapshot.of(getItemComposition(itemId));
+	}
+
 	/**
 	 * Get an item's un-noted, un-placeholdered ID
+	 * <p>
+	 * Off of the client thread this reads the item snapshots, see {@link #getItemSnapshot(int)}.
 	 */
 	public int canonicalize(int itemID)
 	{
-		ItemComposition itemComposition = getItemComposition(itemID);
+		ItemSnapshot item = requireItemSnapshot(itemID);
 
-		if (itemComposition.getNote() != -1)
+		if (item.getNote() != -1)
 		{
-			return itemComposition.getLinkedNoteId();
+			return item.getLinkedNoteId();
 		}
 
-		if (itemComposition.getPlaceholderTemplateId() != -1)
+		if (item.getPlaceholderTemplateId() != -1)
 		{
-			return itemComposition.getPlaceholderId();
+			return item.getPlaceholderId();
 		}
 
 		return WORN_ITEMS.getOrDefault(itemID, itemID);
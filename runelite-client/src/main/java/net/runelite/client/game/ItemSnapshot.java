@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import lombok.Value;
+import net.runelite.api.ItemComposition;
+
+/**
+ * An immutable copy of the commonly used fields of an {@link ItemComposition}. Unlike the composition,
+ * it can be read from any thread.
+ *
+ * @see ItemManager#getItemSnapshot(int)
+ */
+@Value
+public class ItemSnapshot
+{
+	int id;
+	/**
+	 * @see ItemComposition#getName()
+	 */
+	String name;
+	/**
+	 * @see ItemComposition#getMembersName()
+	 */
+	String membersName;
+	int note;
+	int linkedNoteId;
+	int placeholderId;
+	int placeholderTemplateId;
+	boolean stackable;
+	boolean tradeable;
+	boolean members;
+	int haPrice;
+
+	static ItemSnapshot of(ItemComposition itemComposition)
+	{
+		return new ItemSnapshot(
+			itemComposition.getId(),
+			itemComposition.getName(),
+			itemComposition.getMembersName(),
+			itemComposition.getNote(),
+			itemComposition.getLinkedNoteId(),
+			itemComposition.getPlaceholderId(),
+			itemComposition.getPlaceholderTemplateId(),
+			itemComposition.isStackable(),
+			itemComposition.isTradeable(),
+			itemComposition.isMembers(),
+			itemComposition.getHaPrice());
+	}
+
+	/**
+	 * A snapshot of an item the client doesn't know about, which it names "null"
+	 */
+	static ItemSnapshot unknown(int id)
+	{
+		return new ItemSnapshot(id, "null", "null", -1, -1, -1, -1, false, false, false, 0);
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Client;
+import net.runelite.client.util.AsyncBufferedImage;
+import net.runelite.client.util.SkylinePacker;
+
+/**
+ * Packs item images and sprites into a few large pages, so overlays which draw
+ * many icons blit regions of a shared image instead of one image per icon.
+ * When the pages are full the atlas starts over; regions already handed out
+ * keep their page and stay drawable.
+ * <p>
+ * Must be used from the client thread.
+ */
+@Singleton
+@Slf4j
+public class SpriteAtlas
+{
+	private static final int PAGE_SIZE = 1024;
+	private static final int MAX_PAGES = 4;
+
+	@Value
+	public static class Region
+	{
+		BufferedImage page;
+		int x;
+		int y;
+		int width;
+		int height;
+
+		public void draw(Graphics2D graphics, int x, int y)
+		{
+			graphics.drawImage(page,
+				x, y, x + width, y + height,
+				this.x, this.y, this.x + width, this.y + height,
+				null);
+		}
+	}
+
+	@Value
+	private static class ItemKey
+	{
+		int itemId;
+		boolean stackable;
+	}
+
+	private final Client client;
+	private final ItemManager itemManager;
+	private final SpriteManager spriteManager;
+
+	private final List<BufferedImage> pages = new ArrayList<>();
+	private final Map<Object, Region> regions = new HashMap<>();
+	private final Set<ItemKey> pending = new HashSet<>();
+	private SkylinePacker packer;
+
+	@Inject
+	private SpriteAtlas(Client client, ItemManager itemManager, SpriteManager spriteManager)
+	{
+		this.client = client;
+		this.itemManager = itemManager;
+		this.spriteManager = spriteManager;
+	}
+
+	/**
+	 * Get the region of an item image. Item images are rendered asynchronously, so
+	 * this returns null until the image has been loaded and packed. Stacks of more than
+	 * one are never packed, since each stack size is its own image and stacks would churn
+	 * through the atlas as they change.
+	 */
+	@Nullable
+	public Region getItem(int itemId, int quantity, boolean stackable)
+	{
+		assert client.isClientThread();
+
+		if (quantity > 1)
+		{
+			return null;
+		}
+
+		ItemKey key = new ItemKey(itemId, stackable);
+		Region region = regions.get(key);
+		if (region != null || !pending.add(key))
+		{
+			return region;
+		}
+
+		AsyncBufferedImage image = itemManager.getImage(itemId, 1, stackable);
+		if (image == null)
+		{
+			pending.remove(key);
+			return null;
+		}
+
+		image.onLoaded(() ->
+		{
+			// the atlas may have been cleared while the image was loading
+			if (pending.remove(key))
+			{
+				add(key, image);
+			}
+		});
+		return null;
+	}
+
+	@Nullable
+	public Region getSprite(int archive, int file)
+	{
+		assert client.isClientThread();
+
+		Long key = (long) archive << 32 | (file & 0xFFFFFFFFL);
+		Region region = regions.get(key);
+		if (region != null)
+		{
+			return region;
+		}
+
+		BufferedImage image = spriteManager.getSprite(archive, file);
+		if (image == null)
+		{
+			return null;
+		}
+
+		return add(key, image);
+	}
+
+	/**
+	 * Draw an item image, falling back to the image from {@link ItemManager} when it isn't packed
+	 */
+	public void drawItem(Graphics2D graphics, int itemId, int quantity, boolean stackable, int x, int y)
+	{
+		Region region = getItem(itemId, quantity, stackable);
+		if (region != null)
+		{
+			region.draw(graphics, x, y);
+			return;
+		}
+
+		BufferedImage image = itemManager.getImage(itemId, quantity, stackable);
+		if (image != null)
+		{
+			graphics.drawImage(image, x, y, null);
+		}
+	}
+
+	public void drawSprite(Graphics2D graphics, int archive, int file, int x, int y)
+	{
+		Region region = getSprite(archive, file);
+		if (region != null)
+		{
+			region.draw(graphics, x, y);
+		}
+	}
+
+	private Region add(Object key, BufferedImage image)
+	{
+		int w = image.getWidth();
+		int h = image.getHeight();
+		if (w > PAGE_SIZE || h > PAGE_SIZE)
+		{
+			// too big to share a page, so it gets one to itself
+			Region region = new Region(image, 0, 0, w, h);
+			regions.put(key, region);
+			return region;
+		}
+
+		Rectangle rect = packer == null ? null : packer.insert(w, h);
+		if (rect == null)
+		{
+			if (pages.size() == MAX_PAGES)
+			{
+				log.debug("Sprite atlas is full, clearing {} regions", regions.size());
+				pages.clear();
+				regions.clear();
+				pending.clear();
+			}
+
+			pages.add(new BufferedImage(PAGE_SIZE, PAGE_SIZE, BufferedImage.TYPE_INT_ARGB));
+			packer = new SkylinePacker(PAGE_SIZE, PAGE_SIZE);
+			rect = packer.insert(w, h);
+		}
+
+		BufferedImage page = pages.get(pages.size() - 1);
+		page.setRGB(rect.x, rect.y, w, h, image.getRGB(0, 0, w, h, null, 0, w), 0, w);
+
+		Region region = new Region(page, rect.x, rect.y, w, h);
+		regions.put(key, region);
+		return region;
+	}
+}
@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.util.Comparator;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -40,7 +41,8 @@ import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.events.WorldsFetch;
-import net.runelite.client.util.RunnableExceptionLogger;
+import net.runelite.client.task.ExecutorLanes;
+import net.runelite.client.task.SerialExecutor;
 import net.runelite.http.api.worlds.World;
 import net.runelite.http.api.worlds.WorldResult;
 import okhttp3.HttpUrl;
@@ -53,24 +55,25 @@ public class WorldService
 	private static final int WORLD_FETCH_TIMER = 10 * 60;
 
 	private final Client client;
-	private final ScheduledExecutorService scheduledExecutorService;
+	// fetches run one at a time so that they don't race to set the worlds and post WorldsFetch out of order
+	private final Executor io;
 	private final WorldClient worldClient;
 	private final EventBus eventBus;
 	private final CompletableFuture<WorldResult> firstRunFuture = new CompletableFuture<>();
 
-	private WorldResult worlds;
+	private volatile WorldResult worlds;
 
 	@Inject
-	private WorldService(Client client, ScheduledExecutorService scheduledExecutorService, OkHttpClient okHttpClient,
-		@Named("runelite.api.base") HttpUrl apiBase, EventBus eventBus)
+	private WorldService(Client client, ScheduledExecutorService scheduledExecutorService, ExecutorLanes executorLanes,
+		OkHttpClient okHttpClient, @Named("runelite.api.base") HttpUrl apiBase, EventBus eventBus)
 	{
 		this.client = client;
-		this.scheduledExecutorService = scheduledExecutorService;
+		this.io = new SerialExecutor(executorLanes.getIo());
 		this.worldClient = new WorldClient(okHttpClient, apiBase);
 		this.eventBus = eventBus;
 
-		scheduledExecutorService.execute(this::tick);
-		scheduledExecutorService.scheduleWithFixedDelay(RunnableExceptionLogger.wrap(this::tick), WORLD_FETCH_TIMER / 2 + (int) (WORLD_FETCH_TIMER * Math.random()), WORLD_FETCH_TIMER, TimeUnit.SECONDS);
+		io.execute(this::tick);
+		scheduledExecutorService.scheduleWithFixedDelay(() -> io.execute(this::tick), WORLD_FETCH_TIMER / 2 + (int) (WORLD_FETCH_TIMER * Math.random()), WORLD_FETCH_TIMER, TimeUnit.SECONDS);
 	}
 
 	private void tick()
@@ -107,7 +110,7 @@ public class WorldService
 
 	public void refresh()
 	{
-		scheduledExecutorService.execute(this::fetch);
+		io.execute(this::fetch);
 	}
 
 	@Nullable
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game.npcoverlay;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+import lombok.Value;
+import net.runelite.api.NPC;
+
+/**
+ * A highlighter for {@link NpcOverlayService} which declares up front which NPCs it can apply to, so
+ * that the service only evaluates it for those NPCs on spawn and on {@link NpcOverlayService#rebuild(NpcHighlighter)}.
+ */
+@Value
+@Builder
+public class NpcHighlighter
+{
+	/**
+	 * Ids of the NPCs to consider, or empty for any NPC
+	 */
+	@Singular
+	Set<Integer> ids;
+	/**
+	 * Tests the name of the NPC, or null for any name. The result is cached for each name until
+	 * the highlighter is rebuilt.
+	 */
+	Predicate<String> name;
+	/**
+	 * Returns the highlight for an NPC which passed the id and name filters, or null to not highlight it
+	 */
+	@NonNull
+	Function<NPC, HighlightedNpc> highlight;
+}
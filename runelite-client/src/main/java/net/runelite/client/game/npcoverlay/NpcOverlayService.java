@@ -25,13 +25,19 @@
  */
 package net.runelite.client.game.npcoverlay;
 
+import com.google.common.annotations.VisibleForTesting;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.NPC;
@@ -51,8 +57,42 @@ public class NpcOverlayService
 {
 	private final Client client;
 	private final ClientThread clientThread;
-	private final List<Function<NPC, HighlightedNpc>> highlightFunctions = new ArrayList<>();
+	// registered highlighters are indexed by npc id, and the first in registration order to highlight an npc wins
+	private final Map<Integer, List<Highlighter>> idHighlighters = new HashMap<>();
+	private final List<Highlighter> anyIdHighlighters = new ArrayList<>();
+	private final Map<Function<NPC, HighlightedNpc>, NpcHighlighter> functionHighlighters = new HashMap<>();
+	@Getter(AccessLevel.PACKAGE)
+	@VisibleForTesting
 	private final Map<NPC, HighlightedNpc> highlightedNpcs = new HashMap<>();
+	private final Map<NPC, Highlighter> highlightSources = new HashMap<>();
+	private int nextOrder;
+
+	@RequiredArgsConstructor
+	private static class Highlighter
+	{
+		private final NpcHighlighter highlighter;
+		private final int order;
+		private final Map<String, Boolean> names = new HashMap<>();
+
+		boolean appliesTo(NPC npc)
+		{
+			return highlighter.getIds().isEmpty() || highlighter.getIds().contains(npc.getId());
+		}
+
+		HighlightedNpc apply(NPC npc)
+		{
+			final Predicate<String> namePredicate = highlighter.getName();
+			if (namePredicate != null)
+			{
+				final String name = npc.getName();
+				if (name == null || !names.computeIfAbsent(name, namePredicate::test))
+				{
+					return null;
+				}
+			}
+			return highlighter.getHighlight().apply(npc);
+		}
+	}
 
 	@Inject
 	private NpcOverlayService(Client client, ClientThread clientThread,
@@ -72,6 +112,7 @@ public class NpcOverlayService
 			event.getGameState() == GameState.HOPPING)
 		{
 			highlightedNpcs.clear();
+			highlightSources.clear();
 		}
 	}
 
@@ -81,17 +122,7 @@ public class NpcOverlayService
 	)
 	private void onNpcSpawned(NpcSpawned npcSpawned)
 	{
-		final NPC npc = npcSpawned.getNpc();
-
-		for (Function<NPC, HighlightedNpc> f : highlightFunctions)
-		{
-			HighlightedNpc highlightedNpc = f.apply(npc);
-			if (highlightedNpc != null)
-			{
-				highlightedNpcs.put(npc, highlightedNpc);
-				return;
-			}
-		}
+		highlight(npcSpawned.getNpc(), 0);
 	}
 
 	@Subscribe(
@@ -101,6 +132,7 @@ public class NpcOverlayService
 	{
 		final NPC npc = npcDespawned.getNpc();
 		highlightedNpcs.remove(npc);
+		highlightSources.remove(npc);
 	}
 
 	@Subscribe(
@@ -108,66 +140,212 @@ public class NpcOverlayService
 	)
 	private void onNpcChanged(NpcChanged event)
 	{
-		final NPC npc = event.getNpc();
-
-		highlightedNpcs.remove(npc);
+		highlight(event.getNpc(), 0);
+	}
 
-		for (Function<NPC, HighlightedNpc> f : highlightFunctions)
+	/**
+	 * Re-evaluates every highlighter for every npc
+	 */
+	public void rebuild()
+	{
+		clientThread.invoke(() ->
 		{
-			HighlightedNpc highlightedNpc = f.apply(npc);
-			if (highlightedNpc != null)
+			highlightedNpcs.clear();
+			highlightSources.clear();
+			for (List<Highlighter> highlighters : idHighlighters.values())
 			{
-				highlightedNpcs.put(npc, highlightedNpc);
-				return;
+				highlighters.forEach(h -> h.names.clear());
 			}
-		}
+			anyIdHighlighters.forEach(h -> h.names.clear());
+			rebuild(client.getTopLevelWorldView(), null);
+		});
 	}
 
-	public void rebuild()
+	/**
+	 * Re-evaluates the given highlighter, only for the npcs it applies to
+	 */
+	public void rebuild(NpcHighlighter highlighter)
 	{
 		clientThread.invoke(() ->
 		{
-			highlightedNpcs.clear();
-			rebuild(client.getTopLevelWorldView());
+			final Highlighter h = find(highlighter);
+			if (h != null)
+			{
+				h.names.clear();
+				rebuild(client.getTopLevelWorldView(), h);
+			}
 		});
 	}
 
-	private void rebuild(WorldView wv)
+	private void rebuild(WorldView wv, Highlighter changed)
 	{
 		if (wv == null)
 		{
 			return;
 		}
 
-		outer:
 		for (NPC npc : wv.npcs())
 		{
-			for (Function<NPC, HighlightedNpc> f : highlightFunctions)
+			if (changed == null)
 			{
-				HighlightedNpc highlightedNpc = f.apply(npc);
-				if (highlightedNpc != null)
-				{
-					highlightedNpcs.put(npc, highlightedNpc);
-					continue outer;
-				}
+				highlight(npc, 0);
+				continue;
+			}
+
+			final Highlighter source = highlightSources.get(npc);
+			if (source != changed && !changed.appliesTo(npc))
+			{
+				continue;
+			}
+
+			// an npc highlighted by an earlier highlighter keeps its highlight regardless of this one
+			if (source == null || source.order >= changed.order)
+			{
+				highlight(npc, changed.order);
 			}
 		}
 
 		for (WorldView sub : wv.worldViews())
 		{
-			rebuild(sub);
+			rebuild(sub, changed);
 		}
 	}
 
+	/**
+	 * Highlights the npc with the first applicable highlighter registered at or after {@code fromOrder},
+	 * assuming none before it would highlight the npc.
+	 */
+	private void highlight(NPC npc, int fromOrder)
+	{
+		final List<Highlighter> forId = idHighlighters.getOrDefault(npc.getId(), Collections.emptyList());
+		int i = 0;
+		int j = 0;
+		while (i < forId.size() || j < anyIdHighlighters.size())
+		{
+			final Highlighter h;
+			if (j == anyIdHighlighters.size() || i < forId.size() && forId.get(i).order < anyIdHighlighters.get(j).order)
+			{
+				h = forId.get(i++);
+			}
+			else
+			{
+				h = anyIdHighlighters.get(j++);
+			}
+
+			if (h.order < fromOrder)
+			{
+				continue;
+			}
+
+			final HighlightedNpc highlightedNpc = h.apply(npc);
+			if (highlightedNpc != null)
+			{
+				highlightedNpcs.put(npc, highlightedNpc);
+				highlightSources.put(npc, h);
+				return;
+			}
+		}
+
+		highlightedNpcs.remove(npc);
+		highlightSources.remove(npc);
+	}
+
+	private Highlighter find(NpcHighlighter highlighter)
+	{
+		final List<Highlighter> highlighters = highlighter.getIds().isEmpty()
+			? anyIdHighlighters
+			: idHighlighters.getOrDefault(highlighter.getIds().iterator().next(), Collections.emptyList());
+		for (Highlighter h : highlighters)
+		{
+			if (h.highlighter == highlighter)
+			{
+				return h;
+			}
+		}
+		return null;
+	}
+
+	public void registerHighlighter(NpcHighlighter highlighter)
+	{
+		clientThread.invoke(() ->
+		{
+			final Highlighter h = new Highlighter(highlighter, nextOrder++);
+			if (highlighter.getIds().isEmpty())
+			{
+				anyIdHighlighters.add(h);
+			}
+			else
+			{
+				for (int id : highlighter.getIds())
+				{
+					idHighlighters.computeIfAbsent(id, k -> new ArrayList<>()).add(h);
+				}
+			}
+			rebuild(client.getTopLevelWorldView(), h);
+		});
+	}
+
+	public void unregisterHighlighter(NpcHighlighter highlighter)
+	{
+		clientThread.invoke(() ->
+		{
+			final Highlighter h = find(highlighter);
+			if (h == null)
+			{
+				return;
+			}
+
+			if (highlighter.getIds().isEmpty())
+			{
+				anyIdHighlighters.remove(h);
+			}
+			else
+			{
+				for (int id : highlighter.getIds())
+				{
+					final List<Highlighter> highlighters = idHighlighters.get(id);
+					highlighters.remove(h);
+					if (highlighters.isEmpty())
+					{
+						idHighlighters.remove(id);
+					}
+				}
+			}
+
+			// only the npcs it highlighted can change
+			final List<NPC> npcs = new ArrayList<>();
+			highlightSources.forEach((npc, source) ->
+			{
+				if (source == h)
+				{
+					npcs.add(npc);
+				}
+			});
+			for (NPC npc : npcs)
+			{
+				highlight(npc, h.order);
+			}
+		});
+	}
+
 	public void registerHighlighter(Function<NPC, HighlightedNpc> p)
 	{
-		highlightFunctions.add(p);
-		rebuild();
+		final NpcHighlighter highlighter = NpcHighlighter.builder()
+			.highlight(p)
+			.build();
+		clientThread.invoke(() -> functionHighlighters.put(p, highlighter));
+		registerHighlighter(highlighter);
 	}
 
 	public void unregisterHighlighter(Function<NPC, HighlightedNpc> p)
 	{
-		highlightFunctions.remove(p);
-		rebuild();
+		clientThread.invoke(() ->
+		{
+			final NpcHighlighter highlighter = functionHighlighters.remove(p);
+			if (highlighter != null)
+			{
+				unregisterHighlighter(highlighter);
+			}
+		});
 	}
 }
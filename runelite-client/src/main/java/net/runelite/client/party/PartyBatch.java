@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.party.messages.WebsocketMessage;
+import static net.runelite.client.party.PartyMessageCodec.readVarInt;
+import static net.runelite.client.party.PartyMessageCodec.writeVarInt;
+
+/**
+ * Packs several party messages into the data of a single websocket frame.
+ * <p>
+ * A batch is a version number followed by one entry per message. Each entry is a
+ * varint header, a varint payload length, and the payload. A header of 0 means the
+ * payload is the message's json. Otherwise the header is one more than the index of
+ * the message type in the batch's type table, and the payload was written by that
+ * type's {@link PartyMessageCodec}. A header one past the end of the table is
+ * followed by the type's varint id from {@link PartyMessageTypes}, which is added to
+ * the table.
+ */
+@Slf4j
+class PartyBatch
+{
+	static final String TYPE = "PartyBatch";
+	static final int VERSION = 1;
+
+	private final ByteArrayOutputStream frame = new ByteArrayOutputStream();
+	private final DataOutputStream frameOut = new DataOutputStream(frame);
+	private final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+	private final DataOutputStream payloadOut = new DataOutputStream(payload);
+	private final List<Integer> types = new ArrayList<>();
+
+	/**
+	 * A message type which can be sent in binary
+	 */
+	@Value
+	static class Type
+	{
+		int id;
+		PartyMessageCodec<?> codec;
+	}
+
+	ByteString encode(List<? extends WebsocketMessage> messages, Map<Class<?>, Type> registered, Gson gson) throws IOException
+	{
+		frame.reset();
+		types.clear();
+
+		writeVarInt(frameOut, VERSION);
+		for (WebsocketMessage message : messages)
+		{
+			final Type type = registered.get(message.getClass());
+			boolean binary = false;
+			payload.reset();
+			if (type != null)
+			{
+				@SuppressWarnings("unchecked")
+				final PartyMessageCodec<WebsocketMessage> codec = (PartyMessageCodec<WebsocketMessage>) type.getCodec();
+				try
+				{
+					codec.write(message, payloadOut);
+					binary = true;
+				}
+				catch (IOException ex)
+				{
+					log.debug("Unable to encode {}, sending as json", message, ex);
+					payload.reset();
+				}
+			}
+
+			if (binary)
+			{
+				final int index = types.indexOf(type.getId());
+				if (index == -1)
+				{
+					writeVarInt(frameOut, types.size() + 1);
+					writeVarInt(frameOut, type.getId());
+					types.add(type.getId());
+				}
+				else
+				{
+					writeVarInt(frameOut, index + 1);
+				}
+			}
+			else
+			{
+				payloadOut.write(gson.toJson(message, WebsocketMessage.class).getBytes(StandardCharsets.UTF_8));
+				writeVarInt(frameOut, 0);
+			}
+
+			writeVarInt(frameOut, payload.size());
+			payload.writeTo(frameOut);
+		}
+
+		return UnsafeByteOperations.unsafeWrap(frame.toByteArray());
+	}
+
+	/**
+	 * Decodes a batch. Messages with no codec registered and json which fails to
+	 * parse are skipped.
+	 */
+	static void decode(ByteString data, Map<Integer, PartyMessageCodec<?>> codecs, Gson gson, Consumer<WebsocketMessage> consumer) throws IOException
+	{
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data.toByteArray()));
+		final int version = readVarInt(in);
+		if (version != VERSION)
+		{
+			throw new IOException("unsupported batch version " + version);
+		}
+
+		final List<Integer> types = new ArrayList<>();
+		while (in.available() > 0)
+		{
+			final int header = readVarInt(in);
+			Integer type = null;
+			if (header > 0)
+			{
+				final int index = header - 1;
+				if (index == types.size())
+				{
+					types.add(readVarInt(in));
+				}
+				else if (index > types.size())
+				{
+					throw new IOException("unknown type index " + index);
+				}
+				type = types.get(index);
+			}
+
+			final int length = readVarInt(in);
+			if (length < 0 || length > in.available())
+			{
+				throw new IOException("invalid payload length " + length);
+			}
+			final byte[] payload = new byte[length];
+			in.readFully(payload);
+
+			final WebsocketMessage message;
+			if (type == null)
+			{
+				try
+				{
+					message = gson.fromJson(new String(payload, StandardCharsets.UTF_8), WebsocketMessage.class);
+				}
+				catch (JsonParseException e)
+				{
+					log.debug("Failed to deserialize message", e);
+					continue;
+				}
+			}
+			else
+			{
+				final PartyMessageCodec<?> codec = codecs.get(type);
+				if (codec == null)
+				{
+					log.debug("No codec for {}", type);
+					continue;
+				}
+				message = codec.read(new DataInputStream(new ByteArrayInputStream(payload)));
+			}
+
+			consumer.accept(message);
+		}
+	}
+}
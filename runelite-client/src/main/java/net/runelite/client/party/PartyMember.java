@@ -34,4 +34,8 @@ public class PartyMember
 	private String displayName = "<unknown>";
 	private boolean loggedIn;
 	private BufferedImage avatar;
+	/**
+	 * The batch version this member can read, or 0 if they can't read batches
+	 */
+	private volatile int batchVersion;
 }
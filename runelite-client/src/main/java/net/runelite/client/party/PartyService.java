@@ -44,6 +44,7 @@ import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.api.ItemComposition;
+import net.runelite.api.events.PostClientTick;
 import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.eventbus.EventBus;
@@ -52,6 +53,7 @@ import net.runelite.client.events.PartyChanged;
 import net.runelite.client.events.PartyMemberAvatar;
 import net.runelite.client.party.events.UserJoin;
 import net.runelite.client.party.events.UserPart;
+import net.runelite.client.party.messages.BatchSupport;
 import net.runelite.client.party.messages.PartyChatMessage;
 import net.runelite.client.party.messages.PartyMessage;
 import net.runelite.client.party.messages.UserSync;
@@ -70,6 +72,9 @@ public class PartyService
 	private final EventBus eventBus;
 	private final ChatMessageManager chat;
 	private final List<PartyMember> members = new ArrayList<>();
+	// whether every member can read batches, updated when membership changes since
+	// members is modified by the websocket thread while the client thread flushes
+	private volatile boolean batchable = true;
 
 	@Getter
 	private long partyId; // secret party id
@@ -159,6 +164,7 @@ public class PartyService
 
 		log.debug("Party change to {} (id {})", passphrase, id);
 		members.clear();
+		updateBatchable();
 		partyId = id;
 		partyPassphrase = passphrase;
 
@@ -186,12 +192,33 @@ public class PartyService
 			log.debug("Reconnecting to server");
 
 			members.clear();
+			updateBatchable();
 
 			wsClient.connect();
 			wsClient.join(partyId, memberId);
 		}
 
-		wsClient.send(message);
+		wsClient.queue(message);
+	}
+
+	@Subscribe(priority = -100) // run after plugins so that everything sent during the tick goes out together
+	public void onPostClientTick(final PostClientTick event)
+	{
+		wsClient.flush(batchable);
+	}
+
+	private void updateBatchable()
+	{
+		boolean batchable = true;
+		for (PartyMember member : members)
+		{
+			if (member.getMemberId() != memberId && member.getBatchVersion() != PartyBatch.VERSION)
+			{
+				batchable = false;
+				break;
+			}
+		}
+		this.batchable = batchable;
 	}
 
 	@Subscribe(priority = 1) // run prior to plugins so that the member is joined by the time the plugins see it.
@@ -209,6 +236,7 @@ public class PartyService
 		{
 			partyMember = new PartyMember(message.getMemberId());
 			members.add(partyMember);
+			updateBatchable();
 			log.debug("User {} joins party, {} members", partyMember, members.size());
 		}
 
@@ -218,7 +246,30 @@ public class PartyService
 		{
 			log.debug("Requesting sync");
 			final UserSync userSync = new UserSync();
-			wsClient.send(userSync);
+			// these are always sent as json, since the other members might not read batches
+			wsClient.flushAndSend(userSync, batchable);
+			wsClient.flushAndSend(new BatchSupport(PartyBatch.VERSION), batchable);
+		}
+	}
+
+	@Subscribe
+	public void onUserSync(final UserSync message)
+	{
+		// let the member which just joined know that we can read batches
+		if (message.getMemberId() != memberId)
+		{
+			wsClient.flushAndSend(new BatchSupport(PartyBatch.VERSION), batchable);
+		}
+	}
+
+	@Subscribe
+	public void onBatchSupport(final BatchSupport message)
+	{
+		final PartyMember member = getMemberById(message.getMemberId());
+		if (member != null)
+		{
+			member.setBatchVersion(message.getVersion());
+			updateBatchable();
 		}
 	}
 
@@ -227,6 +278,7 @@ public class PartyService
 	{
 		if (members.removeIf(member -> member.getMemberId() == message.getMemberId()))
 		{
+			updateBatchable();
 			log.debug("User {} leaves party, {} members", message.getMemberId(), members.size());
 		}
 	}
@@ -27,10 +27,15 @@ package net.runelite.client.party;
 import com.google.gson.Gson;
 import com.google.gson.JsonParseException;
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -40,7 +45,9 @@ import net.runelite.client.RuneLite;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.party.events.UserJoin;
 import net.runelite.client.party.events.UserPart;
+import net.runelite.client.party.messages.PartyChatMessage;
 import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.party.messages.UserSync;
 import net.runelite.client.party.messages.WebsocketMessage;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -58,6 +65,13 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 	private final OkHttpClient okHttpClient;
 	private final HttpUrl runeliteWs;
 	private final Collection<Class<? extends WebsocketMessage>> messages = new HashSet<>();
+	private final Map<Class<?>, PartyBatch.Type> types = new ConcurrentHashMap<>();
+	private final Map<Integer, PartyMessageCodec<?>> codecsById = new ConcurrentHashMap<>();
+	private final PartyBatch batch = new PartyBatch();
+
+	private final Object queueLock = new Object();
+	private List<WebsocketMessage> queued = new ArrayList<>();
+	private List<WebsocketMessage> flushing = new ArrayList<>();
 
 	private volatile Gson gson;
 	@Getter
@@ -71,6 +85,9 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		this.okHttpClient = okHttpClient;
 		this.runeliteWs = runeliteWs;
 		this.gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
+
+		registerCodec(UserSync.class, PartyMessageTypes.USER_SYNC, UserSync.CODEC);
+		registerCodec(PartyChatMessage.class, PartyMessageTypes.PARTY_CHAT_MESSAGE, PartyChatMessage.CODEC);
 	}
 
 	public boolean sessionExists()
@@ -93,6 +110,11 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 
 		this.sessionId = sessionId;
 
+		synchronized (queueLock)
+		{
+			queued.clear();
+		}
+
 		if (sessionId != null)
 		{
 			connect();
@@ -129,12 +151,40 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		}
 	}
 
+	/**
+	 * Registers a message along with a codec used to encode it when it is sent in a batch.
+	 *
+	 * @param typeId the id which identifies the message in a batch, from {@link PartyMessageTypes}
+	 * @throws IllegalArgumentException if the type id is already registered to another message
+	 */
+	public <T extends WebsocketMessage> void registerMessage(final Class<T> message, final int typeId, final PartyMessageCodec<T> codec)
+	{
+		registerCodec(message, typeId, codec);
+		registerMessage(message);
+	}
+
 	public void unregisterMessage(final Class<? extends WebsocketMessage> message)
 	{
 		if (messages.remove(message))
 		{
 			gson = WebsocketGsonFactory.build(WebsocketGsonFactory.factory(messages));
 		}
+
+		final PartyBatch.Type type = types.remove(message);
+		if (type != null)
+		{
+			codecsById.remove(type.getId(), type.getCodec());
+		}
+	}
+
+	private void registerCodec(final Class<?> message, final int typeId, final PartyMessageCodec<?> codec)
+	{
+		final PartyMessageCodec<?> existing = codecsById.putIfAbsent(typeId, codec);
+		if (existing != null && existing != codec)
+		{
+			throw new IllegalArgumentException("Party message " + message.getName() + " has the same type id as another message: " + typeId);
+		}
+		types.put(message, new PartyBatch.Type(typeId, codec));
 	}
 
 	void join(long partyId, long memberId)
@@ -173,6 +223,94 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 		send(c2s);
 	}
 
+	/**
+	 * Sends a message as json right away, after first flushing the messages queued before it
+	 * so that it can't overtake them.
+	 *
+	 * @param batch whether the queued messages may be sent in a batch, see {@link #flush(boolean)}
+	 */
+	synchronized void flushAndSend(WebsocketMessage message, boolean batch)
+	{
+		flush(batch);
+		send(message);
+	}
+
+	/**
+	 * Queues a message to be sent on the next {@link #flush(boolean)}
+	 */
+	void queue(WebsocketMessage message)
+	{
+		synchronized (queueLock)
+		{
+			queued.add(message);
+		}
+	}
+
+	/**
+	 * Sends the queued messages.
+	 *
+	 * @param batch whether to send all of the messages in one batch, which every member of the party
+	 *              must be able to read, or one at a time as json
+	 */
+	synchronized void flush(boolean batch)
+	{
+		final List<WebsocketMessage> messages;
+		synchronized (queueLock)
+		{
+			if (queued.isEmpty())
+			{
+				return;
+			}
+
+			messages = queued;
+			queued = flushing;
+			flushing = messages;
+		}
+
+		try
+		{
+			if (batch)
+			{
+				sendBatch(messages);
+			}
+			else
+			{
+				for (WebsocketMessage message : messages)
+				{
+					send(message);
+				}
+			}
+		}
+		finally
+		{
+			messages.clear();
+		}
+	}
+
+	private void sendBatch(List<WebsocketMessage> messages)
+	{
+		log.debug("Sending batch: {}", messages);
+		final com.google.protobuf.ByteString encoded;
+		try
+		{
+			encoded = batch.encode(messages, types, gson);
+		}
+		catch (IOException e)
+		{
+			log.warn("Failed to encode batch", e);
+			return;
+		}
+
+		final Party.Data data = Party.Data.newBuilder()
+			.setType(PartyBatch.TYPE)
+			.setData(encoded)
+			.build();
+		final Party.C2S c2s = Party.C2S.newBuilder()
+			.setData(data)
+			.build();
+		send(c2s);
+	}
+
 	private void send(Party.C2S message)
 	{
 		if (webSocket == null)
@@ -229,6 +367,20 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 				break;
 			case DATA:
 				Party.PartyData data = s2c.getData();
+
+				if (PartyBatch.TYPE.equals(data.getType()))
+				{
+					try
+					{
+						PartyBatch.decode(data.getData(), codecsById, gson, m -> post(m, data.getMemberId()));
+					}
+					catch (IOException e)
+					{
+						log.debug("Failed to deserialize batch", e);
+					}
+					return;
+				}
+
 				final WebsocketMessage message;
 
 				try
@@ -241,14 +393,19 @@ public class WSClient extends WebSocketListener implements AutoCloseable
 					return;
 				}
 
-				if (message instanceof PartyMemberMessage)
-				{
-					((PartyMemberMessage) message).setMemberId(data.getMemberId());
-				}
+				post(message, data.getMemberId());
+		}
+	}
 
-				log.debug("Got: {}", message);
-				eventBus.post(message);
+	private void post(WebsocketMessage message, long memberId)
+	{
+		if (message instanceof PartyMemberMessage)
+		{
+			((PartyMemberMessage) message).setMemberId(memberId);
 		}
+
+		log.debug("Got: {}", message);
+		eventBus.post(message);
 	}
 
 	@Override
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import net.runelite.client.party.messages.BatchSupport;
 import net.runelite.client.party.messages.PartyChatMessage;
 import net.runelite.client.party.messages.UserSync;
 import net.runelite.client.party.messages.WebsocketMessage;
@@ -44,6 +45,7 @@ class WebsocketGsonFactory
 		final List<Class<? extends WebsocketMessage>> messages = new ArrayList<>();
 		messages.add(UserSync.class);
 		messages.add(PartyChatMessage.class);
+		messages.add(BatchSupport.class);
 		MESSAGES = messages;
 	}
 
@@ -24,10 +24,29 @@
  */
 package net.runelite.client.party.messages;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import lombok.Value;
+import net.runelite.client.party.PartyMessageCodec;
 
 @Value
 public class PartyChatMessage extends PartyMemberMessage
 {
+	public static final PartyMessageCodec<PartyChatMessage> CODEC = new PartyMessageCodec<>()
+	{
+		@Override
+		public void write(PartyChatMessage message, DataOutput out) throws IOException
+		{
+			out.writeUTF(message.value);
+		}
+
+		@Override
+		public PartyChatMessage read(DataInput in) throws IOException
+		{
+			return new PartyChatMessage(in.readUTF());
+		}
+	};
+
 	private final String value;
 }
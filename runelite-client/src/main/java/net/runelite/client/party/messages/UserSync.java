@@ -24,6 +24,23 @@
  */
 package net.runelite.client.party.messages;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import net.runelite.client.party.PartyMessageCodec;
+
 public class UserSync extends PartyMemberMessage
 {
+	public static final PartyMessageCodec<UserSync> CODEC = new PartyMessageCodec<>()
+	{
+		@Override
+		public void write(UserSync message, DataOutput out)
+		{
+		}
+
+		@Override
+		public UserSync read(DataInput in)
+		{
+			return new UserSync();
+		}
+	};
 }
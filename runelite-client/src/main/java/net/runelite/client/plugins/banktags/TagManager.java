@@ -26,15 +26,25 @@
 package net.runelite.client.plugins.banktags;
 
 import com.google.common.base.Strings;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.client.config.ConfigManager;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import static net.runelite.client.plugins.banktags.BankTagsPlugin.CONFIG_GROUP;
@@ -49,13 +59,62 @@ public class TagManager
 	private final ItemManager itemManager;
 	private final Map<String, BankTag> customTags = new HashMap<>();
 
+	// The item tags are indexed both ways, by the item id in the config key and by tag. The index is
+	// built from the config on first use and then kept up to date on each write, so none of the lookups
+	// have to scan and parse every tagged item. Tags are shared between items by using the tag map's key.
+	private Map<Integer, Set<String>> itemTags;
+	private final NavigableMap<String, Set<Integer>> tagItems = new TreeMap<>();
+
+	// items with a tag starting with the last searched prefix, as bank search tests every item in turn
+	private String searchPrefix;
+	private Set<Integer> searchItems;
+
 	@Inject
 	private TagManager(
 		final ItemManager itemManager,
-		final ConfigManager configManager)
+		final ConfigManager configManager,
+		final EventBus eventBus)
 	{
 		this.itemManager = itemManager;
 		this.configManager = configManager;
+		eventBus.register(this);
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (!CONFIG_GROUP.equals(event.getGroup()) || event.getProfile() != null || !event.getKey().startsWith(ITEM_KEY_PREFIX))
+		{
+			return;
+		}
+
+		int key;
+		try
+		{
+			key = Integer.parseInt(event.getKey().substring(ITEM_KEY_PREFIX.length()));
+		}
+		catch (NumberFormatException e)
+		{
+			return;
+		}
+
+		synchronized (this)
+		{
+			if (itemTags != null)
+			{
+				index(key, event.getNewValue());
+			}
+		}
+	}
+
+	@Subscribe
+	public synchronized void onProfileChanged(ProfileChanged event)
+	{
+		// rebuilt from the new profile on next use
+		itemTags = null;
+		tagItems.clear();
+		searchPrefix = null;
+		searchItems = null;
 	}
 
 	String getTagString(int itemId, boolean variation)
@@ -73,20 +132,29 @@ public class TagManager
 
 	Collection<String> getTags(int itemId, boolean variation)
 	{
-		return new LinkedHashSet<>(Text.fromCSV(getTagString(itemId, variation).toLowerCase()));
+		return new LinkedHashSet<>(tagsFor(getItemId(itemId, variation)));
 	}
 
 	void setTagString(int itemId, String tags, boolean variation)
 	{
-		itemId = getItemId(itemId, variation);
+		setTagString(getItemId(itemId, variation), tags);
+	}
 
+	private void setTagString(int key, String tags)
+	{
 		if (Strings.isNullOrEmpty(tags))
 		{
-			configManager.unsetConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + itemId);
+			configManager.unsetConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + key);
 		}
 		else
 		{
-			configManager.setConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + itemId, tags);
+			configManager.setConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + key, tags);
+		}
+
+		synchronized (this)
+		{
+			loadIndex();
+			index(key, tags);
 		}
 	}
 
@@ -115,28 +183,61 @@ public class TagManager
 
 	boolean findTag(int itemId, String search)
 	{
-		Collection<String> tags = getTags(itemId, false);
-		tags.addAll(getTags(itemId, true));
-		return tags.stream().anyMatch(tag -> tag.startsWith(Text.standardize(search)));
+		Set<Integer> items = itemsWithPrefix(Text.standardize(search));
+		return items.contains(getItemId(itemId, false)) || items.contains(getItemId(itemId, true));
 	}
 
-	public List<Integer> getItemsForTag(String tag)
+	public synchronized List<Integer> getItemsForTag(String tag)
 	{
-		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
-		return configManager.getConfigurationKeys(prefix).stream()
-			.map(item -> Integer.parseInt(item.replace(prefix, "")))
-			.filter(item -> getTags(item, false).contains(tag) || getTags(item, true).contains(tag))
-			.collect(Collectors.toList());
+		loadIndex();
+
+		Set<Integer> tagged = tagItems.getOrDefault(tag, Collections.emptySet());
+		Set<Integer> items = new TreeSet<>(tagged);
+		for (int key : tagged)
+		{
+			if (key > 0)
+			{
+				// a tag on an item also applies to its variation tag entry
+				if (itemTags.containsKey(-key))
+				{
+					items.add(-key);
+				}
+			}
+			else
+			{
+				// and a variation tag to every tagged item in the variation
+				if (itemTags.containsKey(-key))
+				{
+					items.add(-key);
+				}
+				for (int variation : ItemVariationMapping.getVariations(-key))
+				{
+					if (itemTags.containsKey(variation))
+					{
+						items.add(variation);
+					}
+				}
+			}
+		}
+		return new ArrayList<>(items);
 	}
 
 	public void removeTag(String tag)
 	{
-		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
-		configManager.getConfigurationKeys(prefix).forEach(item ->
+		final String standardized = Text.standardize(tag);
+		final List<Integer> keys;
+		synchronized (this)
 		{
-			int id = Integer.parseInt(item.replace(prefix, ""));
-			removeTag(id, tag);
-		});
+			loadIndex();
+			keys = new ArrayList<>(tagItems.getOrDefault(standardized, Collections.emptySet()));
+		}
+
+		for (int key : keys)
+		{
+			Collection<String> tags = new LinkedHashSet<>(tagsFor(key));
+			tags.remove(standardized);
+			setTagString(key, Text.toCSV(tags));
+		}
 
 		setHidden(tag, false);
 	}
@@ -214,4 +315,102 @@ public class TagManager
 	{
 		return customTags.get(name);
 	}
+
+	private synchronized Set<String> tagsFor(int key)
+	{
+		loadIndex();
+		return itemTags.getOrDefault(key, Collections.emptySet());
+	}
+
+	private synchronized Set<Integer> itemsWithPrefix(String prefix)
+	{
+		loadIndex();
+		if (!prefix.equals(searchPrefix))
+		{
+			Set<Integer> items = new HashSet<>();
+			for (Map.Entry<String, Set<Integer>> entry : tagItems.tailMap(prefix, true).entrySet())
+			{
+				if (!entry.getKey().startsWith(prefix))
+				{
+					break;
+				}
+				items.addAll(entry.getValue());
+			}
+			searchPrefix = prefix;
+			searchItems = items;
+		}
+		return searchItems;
+	}
+
+	private void loadIndex()
+	{
+		assert Thread.holdsLock(this);
+		if (itemTags != null)
+		{
+			return;
+		}
+
+		itemTags = new HashMap<>();
+		final String prefix = CONFIG_GROUP + "." + ITEM_KEY_PREFIX;
+		for (String wholeKey : configManager.getConfigurationKeys(prefix))
+		{
+			int key;
+			try
+			{
+				key = Integer.parseInt(wholeKey.substring(prefix.length()));
+			}
+			catch (NumberFormatException e)
+			{
+				continue;
+			}
+			index(key, configManager.getConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + key));
+		}
+	}
+
+	private void index(int key, String tagString)
+	{
+		Set<String> old = itemTags.remove(key);
+		if (old != null)
+		{
+			for (String tag : old)
+			{
+				Set<Integer> items = tagItems.get(tag);
+				items.remove(key);
+				if (items.isEmpty())
+				{
+					tagItems.remove(tag);
+				}
+			}
+		}
+
+		searchPrefix = null;
+		searchItems = null;
+
+		if (Strings.isNullOrEmpty(tagString))
+		{
+			return;
+		}
+
+		Set<String> tags = new LinkedHashSet<>();
+		for (String tag : Text.fromCSV(tagString.toLowerCase()))
+		{
+			Set<Integer> items = tagItems.get(tag);
+			if (items == null)
+			{
+				items = new HashSet<>();
+				tagItems.put(tag, items);
+			}
+			else
+			{
+				tag = tagItems.floorKey(tag);
+			}
+			items.add(key);
+			tags.add(tag);
+		}
+
+		if (!tags.isEmpty())
+		{
+			itemTags.put(key, Collections.unmodifiableSet(tags));
+		}
+	}
 }
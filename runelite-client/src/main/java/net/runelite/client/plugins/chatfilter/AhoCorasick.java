@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.chatfilter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Matches a fixed set of words against text in a single pass, using an
+ * Aho-Corasick automaton. Matching is case insensitive for ASCII letters only,
+ * which is the same as {@link java.util.regex.Pattern#CASE_INSENSITIVE}.
+ */
+final class AhoCorasick
+{
+	private static final int ASCII = 128;
+
+	/**
+	 * symbol of each ascii character, 0 for characters not in any word
+	 */
+	private final int[] asciiSymbols = new int[ASCII];
+	/**
+	 * the non-ascii characters used by the words, sorted, and their symbols
+	 */
+	private final char[] otherChars;
+	private final int[] otherSymbols;
+	private final int symbolCount;
+
+	/**
+	 * transitions[state * symbolCount + symbol] is the next state
+	 */
+	private final int[] transitions;
+	/**
+	 * the word ending at each state, or -1
+	 */
+	private final int[] words;
+	/**
+	 * the next shorter suffix of each state which ends a word, or 0
+	 */
+	private final int[] wordLinks;
+	private final int[] wordLengths;
+
+	AhoCorasick(Collection<String> words)
+	{
+		Set<String> unique = new LinkedHashSet<>();
+		for (String word : words)
+		{
+			if (!word.isEmpty())
+			{
+				unique.add(lower(word));
+			}
+		}
+
+		// assign compact symbols to the characters in use, so the transition table stays small
+		Map<Character, Integer> symbols = new HashMap<>();
+		for (String word : unique)
+		{
+			for (int i = 0; i < word.length(); i++)
+			{
+				symbols.putIfAbsent(word.charAt(i), symbols.size() + 1);
+			}
+		}
+
+		symbolCount = symbols.size() + 1;
+		Set<Character> nonAscii = new TreeSet<>();
+		for (Map.Entry<Character, Integer> entry : symbols.entrySet())
+		{
+			char c = entry.getKey();
+			if (c < ASCII)
+			{
+				asciiSymbols[c] = entry.getValue();
+			}
+			else
+			{
+				nonAscii.add(c);
+			}
+		}
+
+		otherChars = new char[nonAscii.size()];
+		otherSymbols = new int[nonAscii.size()];
+		int others = 0;
+		for (char c : nonAscii)
+		{
+			otherChars[others] = c;
+			otherSymbols[others] = symbols.get(c);
+			++others;
+		}
+
+		// build the trie
+		List<int[]> children = new ArrayList<>();
+		List<Integer> ends = new ArrayList<>();
+		children.add(new int[symbolCount]);
+		ends.add(-1);
+
+		wordLengths = new int[unique.size()];
+		int wordId = 0;
+		for (String word : unique)
+		{
+			int state = 0;
+			for (int i = 0; i < word.length(); i++)
+			{
+				int symbol = symbols.get(word.charAt(i));
+				int next = children.get(state)[symbol];
+				if (next == 0)
+				{
+					next = children.size();
+					children.get(state)[symbol] = next;
+					children.add(new int[symbolCount]);
+					ends.add(-1);
+				}
+				state = next;
+			}
+
+			ends.set(state, wordId);
+			wordLengths[wordId++] = word.length();
+		}
+
+		// breadth first over the trie to compute the failure links, replacing
+		// missing children with the failure state's transition
+		final int stateCount = children.size();
+		transitions = new int[stateCount * symbolCount];
+		this.words = new int[stateCount];
+		wordLinks = new int[stateCount];
+		int[] failures = new int[stateCount];
+
+		for (int state = 0; state < stateCount; state++)
+		{
+			this.words[state] = ends.get(state);
+		}
+
+		Queue<Integer> queue = new ArrayDeque<>();
+		queue.add(0);
+		while (!queue.isEmpty())
+		{
+			int state = queue.poll();
+			int[] next = children.get(state);
+			for (int symbol = 1; symbol < symbolCount; symbol++)
+			{
+				int child = next[symbol];
+				if (child == 0)
+				{
+					transitions[state * symbolCount + symbol] = transitions[failures[state] * symbolCount + symbol];
+					continue;
+				}
+
+				transitions[state * symbolCount + symbol] = child;
+
+				int failure = state == 0 ? 0 : transitions[failures[state] * symbolCount + symbol];
+				failures[child] = failure;
+				wordLinks[child] = this.words[failure] != -1 ? failure : wordLinks[failure];
+				queue.add(child);
+			}
+		}
+	}
+
+	/**
+	 * @return the number of distinct words
+	 */
+	int size()
+	{
+		return wordLengths.length;
+	}
+
+	/**
+	 * @return true if any of the words occurs in the text
+	 */
+	boolean find(CharSequence text)
+	{
+		if (wordLengths.length == 0)
+		{
+			return false;
+		}
+
+		int state = 0;
+		for (int i = 0; i < text.length(); i++)
+		{
+			state = transitions[state * symbolCount + symbol(text.charAt(i))];
+			if (words[state] != -1 || wordLinks[state] != 0)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Marks the characters covered by each word occurrence in the text.
+	 * <p>
+	 * Occurrences of the same word do not overlap, the leftmost one wins, which is
+	 * what repeatedly calling {@link java.util.regex.Matcher#find()} on a quoted
+	 * pattern for that word would produce. Occurrences of different words may overlap.
+	 *
+	 * @param text the text to search
+	 * @param marks the set to add the covered characters to, may be null
+	 * @return {@code marks}, or a new set if it was null and a word was found
+	 */
+	BitSet mark(CharSequence text, BitSet marks)
+	{
+		if (wordLengths.length == 0)
+		{
+			return marks;
+		}
+
+		int[] lastEnds = null;
+		int state = 0;
+		for (int i = 0; i < text.length(); i++)
+		{
+			state = transitions[state * symbolCount + symbol(text.charAt(i))];
+
+			int match = words[state] != -1 ? state : wordLinks[state];
+			for (; match != 0; match = wordLinks[match])
+			{
+				int word = words[match];
+				int end = i + 1;
+				int start = end - wordLengths[word];
+
+				if (lastEnds == null)
+				{
+					lastEnds = new int[wordLengths.length];
+				}
+				if (start < lastEnds[word])
+				{
+					continue;
+				}
+				lastEnds[word] = end;
+
+				if (marks == null)
+				{
+					marks = new BitSet(text.length());
+				}
+				marks.set(start, end);
+			}
+		}
+		return marks;
+	}
+
+	private int symbol(char c)
+	{
+		if (c < ASCII)
+		{
+			return asciiSymbols[lower(c)];
+		}
+
+		int idx = Arrays.binarySearch(otherChars, c);
+		return idx >= 0 ? otherSymbols[idx] : 0;
+	}
+
+	private static char lower(char c)
+	{
+		return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+	}
+
+	private static String lower(String s)
+	{
+		char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; i++)
+		{
+			chars[i] = lower(chars[i]);
+		}
+		return new String(chars);
+	}
+}
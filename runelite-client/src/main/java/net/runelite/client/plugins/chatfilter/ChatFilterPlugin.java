@@ -31,6 +31,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Provides;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -38,7 +39,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -98,8 +98,19 @@ public class ChatFilterPlugin extends Plugin
 	);
 
 	private static final CharMatcher jagexPrintableCharMatcher = Text.JAGEX_PRINTABLE_CHAR_MATCHER;
+	private static final String REGEX_META_CHARS = "\\^$.|?*+()[]{}";
+	/**
+	 * Constructs which change meaning when a pattern is joined with others, such as back references
+	 * (group numbers shift), unterminated quotes and inline comments.
+	 */
+	private static final Pattern UNCOMBINABLE_PATTERN = Pattern.compile("\\\\[1-9]|\\\\k<|\\\\Q|\\(\\?[idmsuxU-]*x");
+	private static final AhoCorasick NO_WORDS = new AhoCorasick(Collections.emptyList());
+
+	private AhoCorasick filteredWords = NO_WORDS;
 	private List<Pattern> filteredPatterns = Collections.emptyList();
+	private Pattern filteredPatternsCombined;
 	private List<Pattern> filteredNamePatterns = Collections.emptyList();
+	private Pattern filteredNamePatternsCombined;
 
 	private static class Duplicate
 	{
@@ -153,8 +164,11 @@ public class ChatFilterPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
+		filteredWords = NO_WORDS;
 		filteredPatterns = Collections.emptyList();
+		filteredPatternsCombined = null;
 		filteredNamePatterns = Collections.emptyList();
+		filteredNamePatternsCombined = null;
 		duplicateChatCache.clear();
 		filterCache.clear();
 		client.refreshChat();
@@ -362,38 +376,65 @@ public class ChatFilterPlugin extends Plugin
 			}
 		}
 
-		boolean filtered = false;
-		for (Pattern pattern : filteredPatterns)
+		final ChatFilterType filterType = config.filterType();
+		if (filterType != ChatFilterType.CENSOR_WORDS)
 		{
-			Matcher m = pattern.matcher(strippedAccents);
+			if (filteredWords.find(strippedAccents) || matchesAny(filteredPatterns, filteredPatternsCombined, strippedAccents))
+			{
+				return filterType == ChatFilterType.CENSOR_MESSAGE ? CENSOR_MESSAGE : null;
+			}
+			return message;
+		}
 
-			StringBuilder sb = new StringBuilder();
-			int idx = 0;
+		BitSet censored = filteredWords.mark(strippedAccents, null);
+		boolean filtered = censored != null;
 
-			while (m.find())
+		// the combined pattern only tells whether anything matched, so find the exact spans from each pattern
+		if (matchesAny(filteredPatterns, filteredPatternsCombined, strippedAccents))
+		{
+			for (Pattern pattern : filteredPatterns)
 			{
-				switch (config.filterType())
+				Matcher m = pattern.matcher(strippedAccents);
+				while (m.find())
 				{
-					case CENSOR_WORDS:
-						MatchResult matchResult = m.toMatchResult();
-						sb.append(strippedMessage, idx, matchResult.start())
-							.append(StringUtils.repeat('*', matchResult.group().length()));
-						idx = m.end();
-						filtered = true;
-						break;
-					case CENSOR_MESSAGE:
-						return CENSOR_MESSAGE;
-					case REMOVE_MESSAGE:
-						return null;
+					if (censored == null)
+					{
+						censored = new BitSet(strippedAccents.length());
+					}
+					censored.set(m.start(), m.end());
+					filtered = true;
 				}
 			}
-			sb.append(strippedMessage.substring(idx));
+		}
 
-			strippedMessage = sb.toString();
-			assert strippedMessage.length() == strippedAccents.length();
+		if (!filtered)
+		{
+			return message;
 		}
 
-		return filtered ? strippedMessage : message;
+		char[] chars = strippedMessage.toCharArray();
+		for (int i = censored.nextSetBit(0); i >= 0; i = censored.nextSetBit(i + 1))
+		{
+			chars[i] = '*';
+		}
+		return new String(chars);
+	}
+
+	private static boolean matchesAny(List<Pattern> patterns, Pattern combined, String input)
+	{
+		if (combined != null)
+		{
+			return combined.matcher(input).find();
+		}
+
+		for (Pattern pattern : patterns)
+		{
+			if (pattern.matcher(input).find())
+			{
+				return true;
+			}
+		}
+		return false;
 	}
 
 	private String censorMessage(MessageNode messageNode, String username, String message)
@@ -417,19 +458,29 @@ public class ChatFilterPlugin extends Plugin
 
 	void updateFilteredPatterns()
 	{
+		List<String> words = new ArrayList<>();
 		List<Pattern> patterns = new ArrayList<>();
 		List<Pattern> namePatterns = new ArrayList<>();
 
 		Text.fromCSV(config.filteredWords()).stream()
 			.map(this::stripAccents)
-			.map(s -> Pattern.compile(Pattern.quote(s), Pattern.CASE_INSENSITIVE))
-			.forEach(patterns::add);
+			.forEach(words::add);
 
-		NEWLINE_SPLITTER.splitToList(config.filteredRegex()).stream()
-			.map(this::stripAccents)
-			.map(ChatFilterPlugin::compilePattern)
-			.filter(Objects::nonNull)
-			.forEach(patterns::add);
+		for (String regex : NEWLINE_SPLITTER.splitToList(config.filteredRegex()))
+		{
+			regex = stripAccents(regex);
+			if (isLiteral(regex))
+			{
+				words.add(regex);
+				continue;
+			}
+
+			Pattern pattern = compilePattern(regex);
+			if (pattern != null)
+			{
+				patterns.add(pattern);
+			}
+		}
 
 		NEWLINE_SPLITTER.splitToList(config.filteredNames()).stream()
 			.map(this::stripAccents)
@@ -437,12 +488,50 @@ public class ChatFilterPlugin extends Plugin
 			.filter(Objects::nonNull)
 			.forEach(namePatterns::add);
 
+		filteredWords = new AhoCorasick(words);
 		filteredPatterns = patterns;
+		filteredPatternsCombined = combinePatterns(patterns);
 		filteredNamePatterns = namePatterns;
+		filteredNamePatternsCombined = combinePatterns(namePatterns);
 
 		filterCache.clear();
 	}
 
+	private static boolean isLiteral(String regex)
+	{
+		return regex.chars().noneMatch(c -> REGEX_META_CHARS.indexOf(c) != -1);
+	}
+
+	/**
+	 * Joins the patterns into a single alternation so they can all be tested in one pass.
+	 *
+	 * @return the combined pattern, or null if the patterns can't be combined
+	 */
+	@VisibleForTesting
+	static Pattern combinePatterns(List<Pattern> patterns)
+	{
+		if (patterns.isEmpty())
+		{
+			return null;
+		}
+
+		StringBuilder sb = new StringBuilder();
+		for (Pattern pattern : patterns)
+		{
+			if (UNCOMBINABLE_PATTERN.matcher(pattern.pattern()).find())
+			{
+				return null;
+			}
+
+			if (sb.length() > 0)
+			{
+				sb.append('|');
+			}
+			sb.append("(?:").append(pattern.pattern()).append(')');
+		}
+		return compilePattern(sb.toString());
+	}
+
 	private String stripAccents(String input)
 	{
 		return config.stripAccents() ? StringUtils.stripAccents(input) : input;
@@ -478,14 +567,6 @@ public class ChatFilterPlugin extends Plugin
 	boolean isNameFiltered(final String playerName)
 	{
 		String sanitizedName = Text.standardize(playerName);
-		for (Pattern pattern : filteredNamePatterns)
-		{
-			Matcher m = pattern.matcher(sanitizedName);
-			if (m.find())
-			{
-				return true;
-			}
-		}
-		return false;
+		return matchesAny(filteredNamePatterns, filteredNamePatternsCombined, sanitizedName);
 	}
 }
@@ -55,6 +55,7 @@ import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
+import net.runelite.client.game.npcoverlay.NpcHighlighter;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -114,6 +115,11 @@ public class CorpPlugin extends Plugin
 		return null;
 	};
 
+	private final NpcHighlighter coreHighlighter = NpcHighlighter.builder()
+		.id(NpcID.DARK_CORE)
+		.highlight(isCore)
+		.build();
+
 	@Provides
 	CorpConfig getConfig(ConfigManager configManager)
 	{
@@ -123,14 +129,14 @@ public class CorpPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
-		npcOverlayService.registerHighlighter(isCore);
+		npcOverlayService.registerHighlighter(coreHighlighter);
 		overlayManager.add(corpOverlay);
 	}
 
 	@Override
 	protected void shutDown() throws Exception
 	{
-		npcOverlayService.unregisterHighlighter(isCore);
+		npcOverlayService.unregisterHighlighter(coreHighlighter);
 		overlayManager.remove(corpOverlay);
 
 		corp = core = null;
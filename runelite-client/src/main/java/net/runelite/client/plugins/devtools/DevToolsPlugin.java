@@ -28,7 +28,6 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import com.formdev.flatlaf.extras.FlatInspector;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.primitives.Ints;
 import com.google.inject.Provides;
 import java.awt.AWTEvent;
@@ -39,10 +38,8 @@ import java.awt.event.AWTEventListener;
 import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
 import static java.lang.Math.min;
-import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import javax.inject.Inject;
 import javax.swing.JOptionPane;
 import javax.swing.JRootPane;
@@ -653,22 +650,4 @@ public class DevToolsPlugin extends Plugin
 			}
 		}
 	}
-
-	static Map<Integer, String> loadFieldNames(Class<?> clazz)
-	{
-		var map = ImmutableMap.<Integer, String>builder();
-		try
-		{
-			for (Field f : clazz.getDeclaredFields())
-			{
-				map.put(f.getInt(null), f.getName());
-			}
-		}
-		catch (ReflectiveOperationException e)
-		{
-			log.debug("Failed to load fields", e);
-		}
-
-		return map.build();
-	}
 }
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins.devtools;
 
+import com.google.common.base.MoreObjects;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.awt.event.AdjustmentEvent;
@@ -51,10 +52,10 @@ import net.runelite.api.Client;
 import net.runelite.api.Item;
 import net.runelite.api.ItemComposition;
 import net.runelite.api.events.ItemContainerChanged;
-import net.runelite.api.gameval.InventoryID;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.game.GameValNames;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.ColorScheme;
@@ -75,8 +76,6 @@ class InventoryInspector extends DevToolsFrame
 	private final JTree tree = new JTree(trackerRootNode);
 	private final InventoryDeltaPanel deltaPanel;
 
-	private static final Map<Integer, String> INV_NAMES = DevToolsPlugin.loadFieldNames(InventoryID.class);
-
 	@Inject
 	InventoryInspector(Client client, EventBus eventBus, ItemManager itemManager, ClientThread clientThread)
 	{
@@ -180,7 +179,7 @@ class InventoryInspector extends DevToolsFrame
 	public void onItemContainerChanged(ItemContainerChanged event)
 	{
 		final int id = event.getContainerId();
-		final InventoryLog log = new InventoryLog(id, INV_NAMES.getOrDefault(id, "" + id), event.getItemContainer().getItems(), client.getTickCount());
+		final InventoryLog log = new InventoryLog(id, MoreObjects.firstNonNull(GameValNames.inventory(id), "" + id), event.getItemContainer().getItems(), client.getTickCount());
 
 		// Delay updates until refresh button is pressed
 		logMap.put(id, log);
@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins.devtools;
 
+import com.google.common.base.MoreObjects;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.inject.Inject;
@@ -51,12 +52,10 @@ import net.runelite.api.VarbitComposition;
 import net.runelite.api.events.VarClientIntChanged;
 import net.runelite.api.events.VarClientStrChanged;
 import net.runelite.api.events.VarbitChanged;
-import net.runelite.api.gameval.VarClientID;
-import net.runelite.api.gameval.VarPlayerID;
-import net.runelite.api.gameval.VarbitID;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.game.GameValNames;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.DynamicGridLayout;
 import net.runelite.client.ui.FontManager;
@@ -83,9 +82,6 @@ class VarInspector extends DevToolsFrame
 
 	private final static int MAX_LOG_ENTRIES = 10_000;
 	private static final int VARBITS_ARCHIVE_ID = 14;
-	private static final Map<Integer, String> VARBIT_NAMES = DevToolsPlugin.loadFieldNames(VarbitID.class);
-	private static final Map<Integer, String> VARC_NAMES = DevToolsPlugin.loadFieldNames(VarClientID.class);
-	private static final Map<Integer, String> VARP_NAMES = DevToolsPlugin.loadFieldNames(VarPlayerID.class);
 
 	private final Client client;
 	private final ClientThread clientThread;
@@ -220,7 +216,7 @@ class VarInspector extends DevToolsFrame
 				// Example: 4101 collides with 4104-4129
 				client.setVarbitValue(oldVarps2, i, neew);
 
-				final String name = VARBIT_NAMES.getOrDefault(i, Integer.toString(i));
+				final String name = MoreObjects.firstNonNull(GameValNames.varbit(i), Integer.toString(i));
 				addVarLog(VarType.VARBIT, name, old, neew);
 			}
 		}
@@ -230,7 +226,7 @@ class VarInspector extends DevToolsFrame
 		int neew = varps[index];
 		if (old != neew)
 		{
-			String name = VARP_NAMES.get(index);
+			String name = GameValNames.varp(index);
 			if (name != null)
 			{
 				name += "(" + index + ")";
@@ -256,7 +252,7 @@ class VarInspector extends DevToolsFrame
 
 		if (old != neew)
 		{
-			final String name = VARC_NAMES.getOrDefault(idx, Integer.toString(idx));
+			final String name = MoreObjects.firstNonNull(GameValNames.varc(idx), Integer.toString(idx));
 			addVarLog(VarType.VARCINT, name, old, neew);
 		}
 	}
@@ -271,7 +267,7 @@ class VarInspector extends DevToolsFrame
 
 		if (!Objects.equals(old, neew))
 		{
-			final String name = VARC_NAMES.getOrDefault(idx, Integer.toString(idx));
+			final String name = MoreObjects.firstNonNull(GameValNames.varc(idx), Integer.toString(idx));
 			if (old != null)
 			{
 				old = "\"" + old + "\"";
@@ -44,6 +44,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.PartyChanged;
 import net.runelite.client.party.PartyMember;
+import net.runelite.client.party.PartyMessageTypes;
 import net.runelite.client.party.PartyService;
 import net.runelite.client.party.WSClient;
 import net.runelite.client.plugins.Plugin;
@@ -159,7 +160,7 @@ public class DpsCounterPlugin extends Plugin
 	{
 		total.reset();
 		overlayManager.add(dpsOverlay);
-		wsClient.registerMessage(DpsUpdate.class);
+		wsClient.registerMessage(DpsUpdate.class, PartyMessageTypes.DPS_UPDATE, DpsUpdate.CODEC);
 	}
 
 	@Override
@@ -25,14 +25,36 @@
  */
 package net.runelite.client.plugins.dpscounter;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
+import net.runelite.client.party.PartyMessageCodec;
+import static net.runelite.client.party.PartyMessageCodec.readVarInt;
+import static net.runelite.client.party.PartyMessageCodec.writeVarInt;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Value
 @EqualsAndHashCode(callSuper = true)
 public class DpsUpdate extends PartyMemberMessage
 {
+	public static final PartyMessageCodec<DpsUpdate> CODEC = new PartyMessageCodec<>()
+	{
+		@Override
+		public void write(DpsUpdate message, DataOutput out) throws IOException
+		{
+			writeVarInt(out, message.hit);
+			out.writeBoolean(message.isBoss);
+		}
+
+		@Override
+		public DpsUpdate read(DataInput in) throws IOException
+		{
+			return new DpsUpdate(readVarInt(in), in.readBoolean());
+		}
+	};
+
 	private int hit;
 	private boolean isBoss;
 }
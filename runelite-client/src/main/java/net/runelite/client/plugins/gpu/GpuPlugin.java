@@ -34,6 +34,7 @@ import java.awt.Image;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
+import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
@@ -63,6 +64,7 @@ import net.runelite.api.WorldView;
 import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.events.PostClientTick;
 import net.runelite.api.hooks.DrawCallbacks;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.callback.RenderCallbackManager;
 import net.runelite.client.config.ConfigManager;
@@ -105,6 +107,9 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 	static final int SCENE_OFFSET = (Constants.EXTENDED_SCENE_SIZE - Constants.SCENE_SIZE) / 2; // offset for sxy -> msxy
 	private static final int UNIFORM_BUFFER_SIZE = 5 * Float.BYTES;
 	private static final int NUM_ZONES = Constants.EXTENDED_SCENE_SIZE >> 3;
+
+	private static final File ZONE_CACHE_DIR = new File(RuneLite.CACHE_DIR, "zones");
+	private static final long ZONE_CACHE_SIZE = 256L << 20;
 	private static final int MAX_WORLDVIEWS = 4096;
 
 	@Inject
@@ -183,6 +188,8 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 	private VAOList vaoPO;
 
 	private SceneUploader clientUploader, mapUploader;
+	// swapped on the client thread when the cache is toggled, and read by the maploader thread
+	private volatile ZoneUploader zoneUploader;
 	private FacePrioritySorter facePrioritySorter;
 
 	static class SceneContext
@@ -276,6 +283,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 		subs = new SceneContext[MAX_WORLDVIEWS];
 		clientUploader = new SceneUploader(renderCallbackManager);
 		mapUploader = new SceneUploader(renderCallbackManager);
+		zoneUploader = createZoneUploader();
 		facePrioritySorter = new FacePrioritySorter(clientUploader);
 		clientThread.invoke(() ->
 		{
@@ -425,6 +433,9 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 		{
 			client.setGpuFlags(0);
 			client.setDrawCallbacks(null);
+
+			// a scene load already in progress finishes its upload on the maploader thread
+			zoneUploader.shutdown();
 			client.setUnlockedFps(false);
 			client.setExpandedMapLoading(0);
 
@@ -501,6 +512,16 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 					| DrawCallbacks.ZBUF
 				);
 			}
+			else if (configChanged.getKey().equals("zoneCache"))
+			{
+				clientThread.invokeLater(() ->
+				{
+					// a scene load already in progress finishes with the old uploader
+					ZoneUploader old = zoneUploader;
+					zoneUploader = createZoneUploader();
+					old.shutdown();
+				});
+			}
 			else if (configChanged.getKey().equals("uiScalingMode") || configChanged.getKey().equals("colorBlindMode"))
 			{
 				clientThread.invokeLater(() ->
@@ -1357,6 +1378,13 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 		}
 	}
 
+	private ZoneUploader createZoneUploader()
+	{
+		// off by default, as a zone which misses the cache costs more than uploading it without one
+		ZoneCache cache = config.zoneCache() ? new ZoneCache(ZONE_CACHE_DIR, client.getRevision(), ZONE_CACHE_SIZE) : null;
+		return new ZoneUploader(renderCallbackManager, ZoneUploader.defaultThreads(), cache);
+	}
+
 	private void prepareInterfaceTexture(int canvasWidth, int canvasHeight)
 	{
 		long bufferSize = canvasWidth * canvasHeight * 4L;
@@ -1814,18 +1842,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 
 		// upload zones
 		sw = Stopwatch.createStarted();
-		for (int x = 0; x < Constants.EXTENDED_SCENE_SIZE >> 3; ++x)
-		{
-			for (int z = 0; z < Constants.EXTENDED_SCENE_SIZE >> 3; ++z)
-			{
-				Zone zone = newZones[x][z];
-
-				if (!zone.initialized)
-				{
-					mapUploader.uploadZone(scene, zone, x, z);
-				}
-			}
-		}
+		zoneUploader.upload(scene, newZones, zone -> !zone.initialized);
 		log.debug("Scene upload time {}", sw);
 
 		// Roof ids aren't consistent between scenes, so build a mapping of old -> new roof ids
@@ -1975,15 +1992,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 			throw new RuntimeException(e);
 		}
 
-		for (int x = 0; x < ctx.sizeX; ++x)
-		{
-			for (int z = 0; z < ctx.sizeZ; ++z)
-			{
-				Zone zone = ctx.zones[x][z];
-
-				mapUploader.uploadZone(scene, zone, x, z);
-			}
-		}
+		zoneUploader.upload(scene, ctx.zones, zone -> true);
 	}
 
 	@Override
@@ -216,4 +216,15 @@ public interface GpuPluginConfig extends Config
 	{
 		return true;
 	}
+
+	@ConfigItem(
+		keyName = "zoneCache",
+		name = "Cache scene geometry",
+		description = "Keeps uploaded map geometry on disk so revisited areas load faster. Areas seen for the first time load slower.",
+		position = 14
+	)
+	default boolean zoneCache()
+	{
+		return false;
+	}
 }
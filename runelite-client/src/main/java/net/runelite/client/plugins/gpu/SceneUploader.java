@@ -24,9 +24,15 @@
  */
 package net.runelite.client.plugins.gpu;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import java.nio.IntBuffer;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
+import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Constants;
 import net.runelite.api.DecorativeObject;
@@ -41,6 +47,7 @@ import net.runelite.api.Scene;
 import net.runelite.api.SceneTileModel;
 import net.runelite.api.SceneTilePaint;
 import net.runelite.api.Tile;
+import net.runelite.api.TileObject;
 import net.runelite.api.WallObject;
 import net.runelite.client.callback.RenderCallbackManager;
 
@@ -62,9 +69,26 @@ class SceneUploader
 		modelLocalZ = FacePrioritySorter.modelLocalZ;
 	}
 
+	// dynamic objects build their model on demand using state shared by the client, so zones being
+	// uploaded concurrently take turns with them
+	private static final Object DYNAMIC_MODEL_LOCK = new Object();
+	// render callbacks aren't expected to be thread safe, so zones being uploaded concurrently
+	// take turns calling them
+	static final Object RENDER_CALLBACK_LOCK = new Object();
+
+	private static final HashFunction HASH = Hashing.murmur3_128();
+
 	private final RenderCallbackManager renderCallbackManager;
 	private int basex, basez, rid, level;
 
+	// set by hashZone, which runs the upload with each write replaced by hashing what would be written
+	private Hasher hasher;
+	private boolean cacheable;
+	// render callback results in upload order, recorded by hashZone and replayed by the following uploadZone
+	private final BitSet draws = new BitSet();
+	private int drawPos;
+	private boolean replay;
+
 	SceneUploader(RenderCallbackManager renderCallbackManager)
 	{
 		this.renderCallbackManager = renderCallbackManager;
@@ -93,10 +117,44 @@ class SceneUploader
 		}
 	}
 
+	/**
+	 * Hash everything {@link #uploadZone} reads for a zone, so that its geometry can be looked up by
+	 * content in the {@link ZoneCache}. This runs the upload itself with the vertex writes replaced by
+	 * hashing their inputs, so the two can't drift apart. The render callback results are kept for the
+	 * next {@link #uploadZone} of the zone, so each callback is only made once.
+	 *
+	 * @return the hash, or null if the zone can't be cached because it contains animated objects
+	 */
+	@Nullable
+	HashCode hashZone(Scene scene, Zone zone, int mzx, int mzz)
+	{
+		Hasher h = HASH.newHasher();
+		h.putBoolean(scene.getWorldViewId() == -1);
+		h.putInt(mzx);
+		h.putInt(mzz);
+
+		hasher = h;
+		cacheable = true;
+		replay = false;
+		draws.clear();
+		try
+		{
+			uploadZone(scene, zone, mzx, mzz);
+		}
+		finally
+		{
+			hasher = null;
+		}
+
+		replay = true;
+		return cacheable ? h.hash() : null;
+	}
+
 	void uploadZone(Scene scene, Zone zone, int mzx, int mzz)
 	{
 		int[][][] roofs = scene.getRoofs();
 		Set<Integer> roofIds = new HashSet<>();
+		drawPos = 0;
 
 		var vb = zone.vboO != null ? new GpuIntBuffer(zone.vboO.vb) : null;
 		var ab = zone.vboA != null ? new GpuIntBuffer(zone.vboA.vb) : null;
@@ -116,9 +174,12 @@ class SceneUploader
 			}
 		}
 
-		zone.rids = new int[4][roofIds.size()];
-		zone.roofStart = new int[4][roofIds.size()];
-		zone.roofEnd = new int[4][roofIds.size()];
+		if (hasher == null)
+		{
+			zone.rids = new int[4][roofIds.size()];
+			zone.roofStart = new int[4][roofIds.size()];
+			zone.roofEnd = new int[4][roofIds.size()];
+		}
 
 		for (int level = 0; level <= 3; ++level)
 		{
@@ -137,12 +198,14 @@ class SceneUploader
 				uploadZoneLevel(scene, zone, mzx, mzz, level, false, roofIds, vb, ab);
 			}
 
-			if (zone.vboO != null)
+			if (zone.vboO != null && hasher == null)
 			{
 				int pos = zone.vboO.vb.position();
 				zone.levelOffsets[level] = pos;
 			}
 		}
+
+		replay = false;
 	}
 
 	private void uploadZoneLevel(Scene scene, Zone zone, int mzx, int mzz, int level, boolean visbelow, Set<Integer> roofIds, GpuIntBuffer vb, GpuIntBuffer ab)
@@ -181,6 +244,11 @@ class SceneUploader
 		this.basex = (mzx - offset) << 10;
 		this.basez = (mzz - offset) << 10;
 
+		if (hasher != null)
+		{
+			hasher.putInt(level).putBoolean(visbelow).putInt(roofId);
+		}
+
 		for (int xoff = 0; xoff < 8; ++xoff)
 		{
 			for (int zoff = 0; zoff < 8; ++zoff)
@@ -216,6 +284,10 @@ class SceneUploader
 					Tile t = tiles[level][msx][msz];
 					if (t != null)
 					{
+						if (hasher != null)
+						{
+							hasher.putInt(msx).putInt(msz);
+						}
 						this.rid = rid;
 						uploadZoneTile(scene, zone, t, vb, ab);
 					}
@@ -285,7 +357,7 @@ class SceneUploader
 	private int uploadZoneTile(Scene scene, Zone zone, Tile t, GpuIntBuffer vertexBuffer, GpuIntBuffer ab)
 	{
 		int len = 0;
-		boolean drawTile = renderCallbackManager.drawTile(scene, t);
+		boolean drawTile = drawTile(scene, t);
 
 		SceneTilePaint paint = t.getSceneTilePaint();
 		if (paint != null && drawTile)
@@ -306,7 +378,7 @@ class SceneUploader
 		}
 
 		WallObject wallObject = t.getWallObject();
-		if (wallObject != null && renderCallbackManager.drawObject(scene, wallObject))
+		if (wallObject != null && drawObject(scene, wallObject))
 		{
 			Renderable renderable1 = wallObject.getRenderable1();
 			uploadZoneRenderable(renderable1, zone, 0, wallObject.getX(), wallObject.getZ(), wallObject.getY(), -1, -1, -1, -1, wallObject.getId(), vertexBuffer, ab);
@@ -316,7 +388,7 @@ class SceneUploader
 		}
 
 		DecorativeObject decorativeObject = t.getDecorativeObject();
-		if (decorativeObject != null && renderCallbackManager.drawObject(scene, decorativeObject))
+		if (decorativeObject != null && drawObject(scene, decorativeObject))
 		{
 			Renderable renderable = decorativeObject.getRenderable();
 			uploadZoneRenderable(renderable, zone, 0, decorativeObject.getX() + decorativeObject.getXOffset(), decorativeObject.getZ(), decorativeObject.getY() + decorativeObject.getYOffset(), -1, -1, -1, -1, decorativeObject.getId(), vertexBuffer, ab);
@@ -326,7 +398,7 @@ class SceneUploader
 		}
 
 		GroundObject groundObject = t.getGroundObject();
-		if (groundObject != null && renderCallbackManager.drawObject(scene, groundObject))
+		if (groundObject != null && drawObject(scene, groundObject))
 		{
 			Renderable renderable = groundObject.getRenderable();
 			uploadZoneRenderable(renderable, zone, 0, groundObject.getX(), groundObject.getZ(), groundObject.getY(),
@@ -350,7 +422,7 @@ class SceneUploader
 				continue;
 			}
 
-			if (!renderCallbackManager.drawObject(scene, gameObject))
+			if (!drawObject(scene, gameObject))
 			{
 				continue;
 			}
@@ -380,7 +452,10 @@ class SceneUploader
 		}
 		else if (r instanceof DynamicObject)
 		{
-			m = ((DynamicObject) r).getModelZbuf();
+			synchronized (DYNAMIC_MODEL_LOCK)
+			{
+				m = ((DynamicObject) r).getModelZbuf();
+			}
 		}
 		if (m == null)
 		{
@@ -410,25 +485,46 @@ class SceneUploader
 
 	private void uploadZoneRenderable(Renderable r, Zone zone, int orient, int x, int y, int z, int lx, int lz, int ux, int uz, int id, GpuIntBuffer vb, GpuIntBuffer ab)
 	{
-		int pos = zone.vboA != null ? zone.vboA.vb.position() : 0;
-		Model model = null;
 		if (r instanceof Model)
 		{
-			model = (Model) r;
-			uploadStaticModel(model, orient, x - basex, y, z - basez, vb, ab);
+			uploadZoneModel((Model) r, zone, orient, x, y, z, lx, lz, ux, uz, id, vb, ab);
 		}
 		else if (r instanceof DynamicObject)
 		{
-			model = ((DynamicObject) r).getModelZbuf();
-			if (model != null)
+			if (hasher != null)
+			{
+				// animated, so the zone can't be cached
+				cacheable = false;
+				return;
+			}
+
+			synchronized (DYNAMIC_MODEL_LOCK)
 			{
-				uploadStaticModel(model, orient, x - basex, y, z - basez, vb, ab);
+				Model model = ((DynamicObject) r).getModelZbuf();
+				if (model != null)
+				{
+					uploadZoneModel(model, zone, orient, x, y, z, lx, lz, ux, uz, id, vb, ab);
+				}
 			}
 		}
+	}
+
+	private void uploadZoneModel(Model model, Zone zone, int orient, int x, int y, int z, int lx, int lz, int ux, int uz, int id, GpuIntBuffer vb, GpuIntBuffer ab)
+	{
+		if (hasher != null)
+		{
+			hasher.putInt(orient).putInt(x).putInt(y).putInt(z)
+				.putInt(lx).putInt(lz).putInt(ux).putInt(uz)
+				.putInt(id);
+			hashModel(model);
+			return;
+		}
+
+		int pos = zone.vboA != null ? zone.vboA.vb.position() : 0;
+		uploadStaticModel(model, orient, x - basex, y, z - basez, vb, ab);
 		int endpos = zone.vboA != null ? zone.vboA.vb.position() : 0;
 		if (endpos > pos)
 		{
-			assert model != null;
 			if (lx > -1)
 			{
 				lx -= basex >> 7;
@@ -463,6 +559,15 @@ class SceneUploader
 		final int neColor = tile.getNeColor();
 		final int nwColor = tile.getNwColor();
 
+		if (hasher != null)
+		{
+			hasher.putInt(swHeight).putInt(seHeight).putInt(neHeight).putInt(nwHeight)
+				.putInt(swColor).putInt(seColor).putInt(neColor).putInt(nwColor)
+				.putInt(tile.getTexture())
+				.putInt(lx).putInt(lz);
+			return 0;
+		}
+
 		if (neColor == 12345678)
 		{
 			return 0;
@@ -531,6 +636,22 @@ class SceneUploader
 
 		final int[] triangleTextures = sceneTileModel.getTriangleTextureId();
 
+		if (hasher != null)
+		{
+			putInts(faceX);
+			putInts(faceY);
+			putInts(faceZ);
+			putInts(vertexX);
+			putInts(vertexY);
+			putInts(vertexZ);
+			putInts(triangleColorA);
+			putInts(triangleColorB);
+			putInts(triangleColorC);
+			putInts(triangleTextures);
+			hasher.putInt(lx).putInt(lz);
+			return 0;
+		}
+
 		final int faceCount = faceX.length;
 
 		int cnt = 0;
@@ -989,4 +1110,123 @@ class SceneUploader
 			v2 = 1f;
 		}
 	}
+
+	private void hashModel(Model m)
+	{
+		hasher.putInt(m.getVerticesCount());
+		hasher.putInt(m.getFaceCount());
+		putFloats(m.getVerticesX());
+		putFloats(m.getVerticesY());
+		putFloats(m.getVerticesZ());
+		putInts(m.getFaceIndices1());
+		putInts(m.getFaceIndices2());
+		putInts(m.getFaceIndices3());
+		putInts(m.getFaceColors1());
+		putInts(m.getFaceColors2());
+		putInts(m.getFaceColors3());
+		putShorts(m.getFaceTextures());
+		putBytes(m.getFaceTransparencies());
+		putBytes(m.getFaceBias());
+		putBytes(m.getTextureFaces());
+		putInts(m.getTexIndices1());
+		putInts(m.getTexIndices2());
+		putInts(m.getTexIndices3());
+	}
+
+	private void putInts(int[] a)
+	{
+		if (a == null)
+		{
+			hasher.putInt(-1);
+			return;
+		}
+
+		hasher.putInt(a.length);
+		for (int i : a)
+		{
+			hasher.putInt(i);
+		}
+	}
+
+	private void putFloats(float[] a)
+	{
+		if (a == null)
+		{
+			hasher.putInt(-1);
+			return;
+		}
+
+		hasher.putInt(a.length);
+		for (float f : a)
+		{
+			hasher.putFloat(f);
+		}
+	}
+
+	private void putShorts(short[] a)
+	{
+		if (a == null)
+		{
+			hasher.putInt(-1);
+			return;
+		}
+
+		hasher.putInt(a.length);
+		for (short v : a)
+		{
+			hasher.putShort(v);
+		}
+	}
+
+	private void putBytes(byte[] a)
+	{
+		if (a == null)
+		{
+			hasher.putInt(-1);
+			return;
+		}
+
+		hasher.putInt(a.length);
+		hasher.putBytes(a);
+	}
+
+	private boolean drawTile(Scene scene, Tile tile)
+	{
+		if (replay)
+		{
+			return draws.get(drawPos++);
+		}
+
+		boolean draw;
+		synchronized (RENDER_CALLBACK_LOCK)
+		{
+			draw = renderCallbackManager.drawTile(scene, tile);
+		}
+		return record(draw);
+	}
+
+	private boolean drawObject(Scene scene, TileObject object)
+	{
+		if (replay)
+		{
+			return draws.get(drawPos++);
+		}
+
+		boolean draw;
+		synchronized (RENDER_CALLBACK_LOCK)
+		{
+			draw = renderCallbackManager.drawObject(scene, object);
+		}
+		return record(draw);
+	}
+
+	private boolean record(boolean draw)
+	{
+		if (hasher != null)
+		{
+			hasher.putBoolean(draw);
+			draws.set(drawPos++, draw);
+		}
+		return draw;
+	}
 }
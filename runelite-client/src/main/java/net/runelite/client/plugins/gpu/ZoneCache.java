@@ -0,0 +1,592 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32C;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An on-disk cache of uploaded zone geometry, addressed by the {@link SceneUploader#hashZone} hash of the
+ * zone's contents. Entries hold the zone's opaque and alpha vertex buffers along with its level offsets, roof
+ * ranges and alpha models, and on a hit are read and copied into the zone's mapped buffers instead of
+ * being regenerated. Each entry ends with a checksum, and entries which don't match it are removed.
+ * <p>
+ * Entries are kept in a directory per game revision, and directories for other revisions are removed
+ * when the cache is opened. The least recently used entries are removed once the cache is over its size
+ * limit. The cache is owned by one client at a time through a lock file, and other clients run without
+ * it rather than removing each other's entries.
+ */
+@Slf4j
+class ZoneCache
+{
+	private static final int MAGIC = 0x5a4f4e45; // ZONE
+	private static final int VERSION = 2;
+	private static final String EXTENSION = ".zone";
+	private static final String LOCK_FILE = "zones.lock";
+	private static final int MAX_PENDING_WRITES = 64;
+
+	private final File baseDir;
+	private final File dir;
+	private final long maxSize;
+	private final ThreadPoolExecutor writer;
+
+	// file name -> size, in access order
+	private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, .75f, true);
+	private long size;
+	private boolean opened;
+	private boolean closed;
+	private FileChannel lockChannel;
+
+	@Getter(AccessLevel.PACKAGE)
+	private final AtomicInteger hits = new AtomicInteger();
+
+	ZoneCache(File baseDir, int revision, long maxSize)
+	{
+		this.baseDir = baseDir;
+		this.dir = new File(baseDir, Integer.toString(revision));
+		this.maxSize = maxSize;
+		// writes are dropped rather than queued without bound if the disk can't keep up
+		this.writer = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(MAX_PENDING_WRITES),
+			new ThreadFactoryBuilder()
+				.setNameFormat("Zone cache writer")
+				.setDaemon(true)
+				.build(),
+			new ThreadPoolExecutor.DiscardPolicy())
+		{
+			@Override
+			protected void terminated()
+			{
+				// the lock is held until the last queued write has finished
+				unlock();
+			}
+		};
+		this.writer.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Fill a zone from the cache. The zone must have been sized and had its buffers mapped.
+	 *
+	 * @return true if the zone was found and filled
+	 */
+	boolean load(HashCode key, Zone zone)
+	{
+		String name = key + EXTENSION;
+		synchronized (this)
+		{
+			open();
+			if (lockChannel == null || entries.get(name) == null)
+			{
+				return false;
+			}
+		}
+
+		File file = new File(dir, name);
+		try
+		{
+			// read rather than mapped, since a mapped file can't be deleted on Windows until it is collected
+			ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file.toPath())).order(ByteOrder.nativeOrder());
+			int end = bytes.limit() - Integer.BYTES;
+			if (end < 0 || end % Integer.BYTES != 0 || bytes.getInt(end) != checksum(bytes, end))
+			{
+				log.debug("zone cache entry {} is corrupt", name);
+				remove(name);
+				return false;
+			}
+
+			if (!read(bytes.limit(end).asIntBuffer(), zone))
+			{
+				log.debug("zone cache entry {} doesn't match zone", name);
+				return false;
+			}
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.debug("unable to read zone cache entry {}", name, ex);
+			remove(name);
+			return false;
+		}
+
+		// keep the least recently used order across restarts
+		file.setLastModified(System.currentTimeMillis());
+		hits.incrementAndGet();
+		return true;
+	}
+
+	/**
+	 * Queue a zone to be written to the cache. The buffers hold the zone's uploaded opaque and alpha
+	 * vertices up to their positions, and must not be modified afterward.
+	 */
+	void store(HashCode key, Zone zone, IntBuffer vb, IntBuffer ab)
+	{
+		synchronized (this)
+		{
+			open();
+			if (lockChannel == null)
+			{
+				return;
+			}
+		}
+
+		String name = key + EXTENSION;
+		IntBuffer data = write(zone, vb, ab);
+		writer.execute(() ->
+		{
+			File file = new File(dir, name);
+			File tmp = new File(dir, name + ".tmp");
+			try
+			{
+				int end = data.remaining() * Integer.BYTES;
+				ByteBuffer bytes = ByteBuffer.allocate(end + Integer.BYTES).order(ByteOrder.nativeOrder());
+				bytes.asIntBuffer().put(data);
+				bytes.putInt(end, checksum(bytes, end));
+				try (FileChannel channel = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+				{
+					while (bytes.hasRemaining())
+					{
+						channel.write(bytes);
+					}
+				}
+
+				try
+				{
+					Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				}
+				catch (AtomicMoveNotSupportedException ex)
+				{
+					Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			catch (IOException ex)
+			{
+				log.debug("unable to write zone cache entry {}", name, ex);
+				delete(tmp);
+				return;
+			}
+
+			synchronized (this)
+			{
+				if (lockChannel == null)
+				{
+					return;
+				}
+
+				Long old = entries.put(name, file.length());
+				size += file.length() - (old != null ? old : 0L);
+				trim();
+			}
+		});
+	}
+
+	void shutdown()
+	{
+		synchronized (this)
+		{
+			closed = true;
+		}
+		writer.shutdown();
+	}
+
+	@VisibleForTesting
+	void awaitWrites() throws InterruptedException
+	{
+		writer.shutdown();
+		writer.awaitTermination(1, TimeUnit.MINUTES);
+	}
+
+	private void open()
+	{
+		assert Thread.holdsLock(this);
+		if (opened || closed)
+		{
+			return;
+		}
+		opened = true;
+
+		if (!lock())
+		{
+			return;
+		}
+
+		// entries from other revisions can never be hit again
+		File[] revisions = baseDir.listFiles(File::isDirectory);
+		if (revisions != null)
+		{
+			for (File revision : revisions)
+			{
+				if (!revision.equals(dir))
+				{
+					deleteDirectory(revision);
+				}
+			}
+		}
+
+		if (!dir.exists() && !dir.mkdirs())
+		{
+			log.warn("unable to create zone cache directory {}", dir);
+			return;
+		}
+
+		File[] files = dir.listFiles();
+		if (files == null)
+		{
+			return;
+		}
+
+		// oldest first, so the eldest entry is the least recently used
+		List<File> existing = new ArrayList<>(Arrays.asList(files));
+		existing.sort(Comparator.comparingLong(File::lastModified));
+		for (File file : existing)
+		{
+			if (!file.getName().endsWith(EXTENSION))
+			{
+				// interrupted writes
+				delete(file);
+				continue;
+			}
+			entries.put(file.getName(), file.length());
+			size += file.length();
+		}
+		trim();
+		log.debug("Opened zone cache {} with {} entries, {}kb", dir, entries.size(), size / 1024);
+	}
+
+	private boolean lock()
+	{
+		assert Thread.holdsLock(this);
+		if (!baseDir.exists() && !baseDir.mkdirs())
+		{
+			log.warn("unable to create zone cache directory {}", baseDir);
+			return false;
+		}
+
+		FileChannel channel = null;
+		try
+		{
+			channel = FileChannel.open(new File(baseDir, LOCK_FILE).toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			FileLock lock = channel.tryLock();
+			if (lock != null)
+			{
+				lockChannel = channel;
+				return true;
+			}
+		}
+		catch (IOException | OverlappingFileLockException ex)
+		{
+			log.debug("unable to lock zone cache", ex);
+		}
+
+		log.info("Zone cache {} is in use by another client", baseDir);
+		if (channel != null)
+		{
+			try
+			{
+				channel.close();
+			}
+			catch (IOException ex)
+			{
+				log.debug(null, ex);
+			}
+		}
+		return false;
+	}
+
+	private synchronized void unlock()
+	{
+		closed = true;
+		if (lockChannel == null)
+		{
+			return;
+		}
+
+		// closing the channel releases the lock
+		try
+		{
+			lockChannel.close();
+		}
+		catch (IOException ex)
+		{
+			log.debug("unable to release zone cache lock", ex);
+		}
+		lockChannel = null;
+	}
+
+	private synchronized void remove(String name)
+	{
+		Long length = entries.remove(name);
+		if (length != null)
+		{
+			size -= length;
+		}
+		delete(new File(dir, name));
+	}
+
+	private void trim()
+	{
+		assert Thread.holdsLock(this);
+		for (Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator(); size > maxSize && it.hasNext(); )
+		{
+			Map.Entry<String, Long> entry = it.next();
+			it.remove();
+			size -= entry.getValue();
+			delete(new File(dir, entry.getKey()));
+		}
+	}
+
+	private static void deleteDirectory(File dir)
+	{
+		File[] files = dir.listFiles();
+		if (files != null)
+		{
+			for (File file : files)
+			{
+				delete(file);
+			}
+		}
+		delete(dir);
+	}
+
+	private static void delete(File file)
+	{
+		if (!file.delete() && file.exists())
+		{
+			log.warn("unable to delete {}", file);
+		}
+	}
+
+	private static int checksum(ByteBuffer bytes, int length)
+	{
+		CRC32C crc = new CRC32C();
+		crc.update(bytes.duplicate().position(0).limit(length));
+		return (int) crc.getValue();
+	}
+
+	// format, in native order ints:
+	// magic, version, opaque len, alpha len, level offsets[4], roof count,
+	// rids[4][roof count], roof start[4][roof count], roof end[4][roof count],
+	// alpha model count, alpha models, opaque buffer, alpha buffer,
+	// followed by a crc32c of everything before it
+	private static IntBuffer write(Zone zone, IntBuffer vb, IntBuffer ab)
+	{
+		int roofs = zone.rids[0].length;
+		int vlen = vb != null ? vb.position() : 0;
+		int alen = ab != null ? ab.position() : 0;
+
+		int len = 8 + 1 + 3 * 4 * roofs + 1 + vlen + alen;
+		for (Zone.AlphaModel m : zone.alphaModels)
+		{
+			len += 15 + m.packedFaces.length + (m.renderPriorities != null ? (m.renderPriorities.length + 3) / 4 : 0);
+		}
+
+		IntBuffer out = IntBuffer.allocate(len);
+		out.put(MAGIC);
+		out.put(VERSION);
+		out.put(vlen);
+		out.put(alen);
+		out.put(zone.levelOffsets);
+		out.put(roofs);
+		for (int[] a : zone.rids)
+		{
+			out.put(a);
+		}
+		for (int[] a : zone.roofStart)
+		{
+			out.put(a);
+		}
+		for (int[] a : zone.roofEnd)
+		{
+			out.put(a);
+		}
+
+		out.put(zone.alphaModels.size());
+		for (Zone.AlphaModel m : zone.alphaModels)
+		{
+			out.put(m.id);
+			out.put(m.startpos);
+			out.put(m.endpos);
+			out.put(m.x);
+			out.put(m.y);
+			out.put(m.z);
+			out.put(m.rid);
+			out.put(m.level);
+			out.put(m.lx);
+			out.put(m.lz);
+			out.put(m.ux);
+			out.put(m.uz);
+			out.put(m.radius);
+			out.put(m.packedFaces.length);
+			out.put(m.packedFaces);
+			byte[] priorities = m.renderPriorities;
+			out.put(priorities != null ? priorities.length : -1);
+			if (priorities != null)
+			{
+				for (int i = 0; i < priorities.length; i += 4)
+				{
+					int packed = 0;
+					for (int j = 0; j < 4 && i + j < priorities.length; ++j)
+					{
+						packed |= (priorities[i + j] & 0xff) << (j * 8);
+					}
+					out.put(packed);
+				}
+			}
+		}
+
+		if (vb != null)
+		{
+			out.put(vb.duplicate().flip());
+		}
+		if (ab != null)
+		{
+			out.put(ab.duplicate().flip());
+		}
+
+		assert !out.hasRemaining();
+		return out.flip();
+	}
+
+	private static boolean read(IntBuffer in, Zone zone)
+	{
+		if (in.get() != MAGIC || in.get() != VERSION)
+		{
+			return false;
+		}
+
+		int vlen = in.get();
+		int alen = in.get();
+		if (vlen > (zone.vboO != null ? zone.vboO.vb.remaining() : 0)
+			|| alen > (zone.vboA != null ? zone.vboA.vb.remaining() : 0))
+		{
+			return false;
+		}
+
+		int[] levelOffsets = new int[4];
+		in.get(levelOffsets);
+
+		int roofs = in.get();
+		int[][] rids = new int[4][roofs];
+		int[][] roofStart = new int[4][roofs];
+		int[][] roofEnd = new int[4][roofs];
+		for (int[] a : rids)
+		{
+			in.get(a);
+		}
+		for (int[] a : roofStart)
+		{
+			in.get(a);
+		}
+		for (int[] a : roofEnd)
+		{
+			in.get(a);
+		}
+
+		int count = in.get();
+		List<Zone.AlphaModel> alphaModels = new ArrayList<>(count);
+		for (int i = 0; i < count; ++i)
+		{
+			Zone.AlphaModel m = new Zone.AlphaModel();
+			m.id = in.get();
+			m.startpos = in.get();
+			m.endpos = in.get();
+			m.x = (short) in.get();
+			m.y = (short) in.get();
+			m.z = (short) in.get();
+			m.vao = zone.glVaoA;
+			m.rid = (short) in.get();
+			m.level = (byte) in.get();
+			m.lx = (byte) in.get();
+			m.lz = (byte) in.get();
+			m.ux = (byte) in.get();
+			m.uz = (byte) in.get();
+			m.radius = in.get();
+			m.packedFaces = new int[in.get()];
+			in.get(m.packedFaces);
+			int priorities = in.get();
+			if (priorities >= 0)
+			{
+				m.renderPriorities = new byte[priorities];
+				for (int j = 0; j < priorities; j += 4)
+				{
+					int packed = in.get();
+					for (int k = 0; k < 4 && j + k < priorities; ++k)
+					{
+						m.renderPriorities[j + k] = (byte) (packed >> (k * 8));
+					}
+				}
+			}
+			alphaModels.add(m);
+		}
+
+		if (in.remaining() != vlen + alen)
+		{
+			return false;
+		}
+
+		// everything has been read, so the zone is only modified if the entry is valid
+		if (vlen > 0)
+		{
+			zone.vboO.vb.put(in.duplicate().limit(in.position() + vlen));
+			in.position(in.position() + vlen);
+		}
+		if (alen > 0)
+		{
+			zone.vboA.vb.put(in);
+		}
+		zone.levelOffsets = levelOffsets;
+		zone.rids = rids;
+		zone.roofStart = roofStart;
+		zone.roofEnd = roofEnd;
+		zone.alphaModels.addAll(alphaModels);
+		return true;
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import com.google.common.hash.HashCode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Scene;
+import net.runelite.client.callback.RenderCallbackManager;
+
+/**
+ * Fills zones with their scene geometry on a pool of worker threads, along with the calling thread. Zones are sized with
+ * {@link SceneUploader#zoneSize} and given their own mapped buffers before this runs, so each
+ * worker writes to buffers no other worker touches, and each has its own {@link SceneUploader}
+ * for the per-model scratch state.
+ * <p>
+ * With a {@link ZoneCache}, zones are looked up by the {@link SceneUploader#hashZone} hash of their
+ * contents first, and zones which miss are added to the cache after being uploaded.
+ */
+@Slf4j
+class ZoneUploader
+{
+	private final RenderCallbackManager renderCallbackManager;
+	private final int threads;
+	private final ThreadPoolExecutor executor;
+	private final SceneUploader uploader;
+	@Nullable
+	private final ZoneCache cache;
+
+	ZoneUploader(RenderCallbackManager renderCallbackManager, int threads, @Nullable ZoneCache cache)
+	{
+		this.renderCallbackManager = renderCallbackManager;
+		this.threads = threads;
+		this.uploader = new SceneUploader(renderCallbackManager);
+		this.cache = cache;
+		if (threads > 1)
+		{
+			// the thread calling upload is one of the workers
+			executor = new ThreadPoolExecutor(threads - 1, threads - 1, 30, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				new ThreadFactoryBuilder()
+					.setNameFormat("Zone upload %d")
+					.setDaemon(true)
+					.build());
+			executor.allowCoreThreadTimeOut(true);
+		}
+		else
+		{
+			executor = null;
+		}
+	}
+
+	static int defaultThreads()
+	{
+		// the client and maploader threads are already busy
+		return Math.min(4, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+	}
+
+	/**
+	 * Upload each zone which passes the filter, returning once they have all been filled
+	 */
+	void upload(Scene scene, Zone[][] zones, Predicate<Zone> filter)
+	{
+		List<int[]> pending = new ArrayList<>();
+		for (int x = 0; x < zones.length; ++x)
+		{
+			for (int z = 0; z < zones[x].length; ++z)
+			{
+				if (filter.test(zones[x][z]))
+				{
+					pending.add(new int[]{x, z});
+				}
+			}
+		}
+
+		if (executor == null || pending.size() <= 1)
+		{
+			for (int[] pos : pending)
+			{
+				uploadZone(uploader, scene, zones[pos[0]][pos[1]], pos[0], pos[1]);
+			}
+			return;
+		}
+
+		AtomicInteger next = new AtomicInteger();
+		Runnable worker = () ->
+		{
+			SceneUploader sceneUploader = new SceneUploader(renderCallbackManager);
+			int idx;
+			while ((idx = next.getAndIncrement()) < pending.size())
+			{
+				int[] pos = pending.get(idx);
+				uploadZone(sceneUploader, scene, zones[pos[0]][pos[1]], pos[0], pos[1]);
+			}
+		};
+
+		// the calling thread works too, and carries on alone if the pool has been shut down
+		List<Future<?>> futures = new ArrayList<>(threads - 1);
+		for (int i = 0; i < threads - 1; ++i)
+		{
+			try
+			{
+				futures.add(executor.submit(worker));
+			}
+			catch (RejectedExecutionException e)
+			{
+				break;
+			}
+		}
+		worker.run();
+
+		try
+		{
+			for (Future<?> future : futures)
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		}
+		catch (ExecutionException e)
+		{
+			throw new RuntimeException(e);
+		}
+	}
+
+	private void uploadZone(SceneUploader sceneUploader, Scene scene, Zone zone, int mzx, int mzz)
+	{
+		HashCode key = cache != null ? sceneUploader.hashZone(scene, zone, mzx, mzz) : null;
+		if (key == null)
+		{
+			sceneUploader.uploadZone(scene, zone, mzx, mzz);
+			return;
+		}
+
+		if (cache.load(key, zone))
+		{
+			return;
+		}
+
+		// upload into heap buffers, which are kept for the cache once copied to the mapped buffers
+		IntBuffer mappedO = zone.vboO != null ? zone.vboO.vb : null;
+		IntBuffer mappedA = zone.vboA != null ? zone.vboA.vb : null;
+		IntBuffer vb = mappedO != null ? IntBuffer.allocate(mappedO.remaining()) : null;
+		IntBuffer ab = mappedA != null ? IntBuffer.allocate(mappedA.remaining()) : null;
+		try
+		{
+			if (vb != null)
+			{
+				zone.vboO.vb = vb;
+			}
+			if (ab != null)
+			{
+				zone.vboA.vb = ab;
+			}
+			sceneUploader.uploadZone(scene, zone, mzx, mzz);
+		}
+		finally
+		{
+			if (vb != null)
+			{
+				zone.vboO.vb = mappedO;
+				mappedO.put(vb.duplicate().flip());
+			}
+			if (ab != null)
+			{
+				zone.vboA.vb = mappedA;
+				mappedA.put(ab.duplicate().flip());
+			}
+		}
+
+		cache.store(key, zone, vb, ab);
+	}
+
+	void shutdown()
+	{
+		if (executor != null)
+		{
+			executor.shutdown();
+		}
+		if (cache != null)
+		{
+			cache.shutdown();
+		}
+	}
+}
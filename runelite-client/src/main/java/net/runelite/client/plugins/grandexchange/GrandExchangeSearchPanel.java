@@ -39,10 +39,10 @@ import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
-import net.runelite.api.ItemComposition;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemSnapshot;
 import net.runelite.client.game.ItemStats;
 import net.runelite.client.ui.ColorScheme;
 import net.runelite.client.ui.components.IconTextField;
@@ -187,8 +187,15 @@ class GrandExchangeSearchPanel extends JPanel
 			return;
 		}
 
-		// move to client thread to lookup item composition
-		clientThread.invokeLater(() -> processResult(result, searchBar.getText(), exactMatch));
+		if (itemManager.hasItemSnapshots())
+		{
+			processResult(result, searchBar.getText(), exactMatch);
+		}
+		else
+		{
+			// move to client thread to lookup item composition
+			clientThread.invokeLater(() -> processResult(result, searchBar.getText(), exactMatch));
+		}
 	}
 
 	private void processResult(List<ItemPrice> result, String lookup, boolean exactMatch)
@@ -203,8 +210,9 @@ class GrandExchangeSearchPanel extends JPanel
 		for (ItemPrice item : result)
 		{
 			int itemId = item.getId();
-			ItemComposition itemComp = itemManager.getItemComposition(itemId);
-			if (!itemComp.isTradeable())
+			ItemSnapshot itemComp = itemManager.getItemSnapshot(itemId);
+			// items added since the snapshots were built are left out until they are rebuilt
+			if (itemComp == null || !itemComp.isTradeable())
 			{
 				continue;
 			}
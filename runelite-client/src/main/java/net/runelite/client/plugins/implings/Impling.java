@@ -26,6 +26,7 @@ package net.runelite.client.plugins.implings;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import net.runelite.api.gameval.NpcID;
@@ -102,6 +103,11 @@ enum Impling
 		IMPLINGS = builder.build();
 	}
 
+	static Set<Integer> npcIds()
+	{
+		return IMPLINGS.keySet();
+	}
+
 	static Impling findImpling(int npcId)
 	{
 		return IMPLINGS.get(npcId);
@@ -36,6 +36,7 @@ import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
+import net.runelite.client.game.npcoverlay.NpcHighlighter;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -80,6 +81,11 @@ public class ImplingsPlugin extends Plugin
 		return null;
 	};
 
+	private final NpcHighlighter highlighter = NpcHighlighter.builder()
+		.ids(Impling.npcIds())
+		.highlight(isTarget)
+		.build();
+
 	@Provides
 	ImplingsConfig getConfig(ConfigManager configManager)
 	{
@@ -90,13 +96,13 @@ public class ImplingsPlugin extends Plugin
 	protected void startUp()
 	{
 		overlayManager.add(overlay);
-		npcOverlayService.registerHighlighter(isTarget);
+		npcOverlayService.registerHighlighter(highlighter);
 	}
 
 	@Override
 	protected void shutDown()
 	{
-		npcOverlayService.unregisterHighlighter(isTarget);
+		npcOverlayService.unregisterHighlighter(highlighter);
 		overlayManager.remove(overlay);
 	}
 
@@ -108,7 +114,7 @@ public class ImplingsPlugin extends Plugin
 			return;
 		}
 
-		npcOverlayService.rebuild();
+		npcOverlayService.rebuild(highlighter);
 	}
 
 	@Subscribe
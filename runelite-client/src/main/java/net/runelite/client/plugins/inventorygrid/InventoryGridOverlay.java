@@ -31,12 +31,11 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
-import java.awt.image.BufferedImage;
 import net.runelite.api.Client;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.widgets.Widget;
 import net.runelite.api.widgets.WidgetItem;
-import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.SpriteAtlas;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -48,15 +47,15 @@ class InventoryGridOverlay extends Overlay
 
 	private final InventoryGridConfig config;
 	private final Client client;
-	private final ItemManager itemManager;
+	private final SpriteAtlas spriteAtlas;
 
 	private Point initialMousePoint;
 	private boolean hoverActive = false;
 
 	@Inject
-	private InventoryGridOverlay(InventoryGridConfig config, Client client, ItemManager itemManager)
+	private InventoryGridOverlay(InventoryGridConfig config, Client client, SpriteAtlas spriteAtlas)
 	{
-		this.itemManager = itemManager;
+		this.spriteAtlas = spriteAtlas;
 		this.client = client;
 		this.config = config;
 
@@ -148,12 +147,11 @@ class InventoryGridOverlay extends Overlay
 			return;
 		}
 
-		final BufferedImage draggedItemImage = itemManager.getImage(item.getId(), item.getQuantity(), false);
 		final int x = (int) bounds.getX();
 		final int y = (int) bounds.getY();
 
 		graphics.setComposite(AlphaComposite.SrcOver.derive(0.3f));
-		graphics.drawImage(draggedItemImage, x, y, null);
+		spriteAtlas.drawItem(graphics, item.getId(), item.getQuantity(), false, x, y);
 		graphics.setComposite(AlphaComposite.SrcOver);
 	}
 }
@@ -32,14 +32,15 @@ import javax.inject.Inject;
 import net.runelite.api.Client;
 import net.runelite.api.Constants;
 import net.runelite.api.Item;
-import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemContainer;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.InventoryID;
 import net.runelite.api.gameval.VarClientID;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.SpriteAtlas;
 import net.runelite.client.ui.overlay.OverlayPanel;
 import net.runelite.client.ui.overlay.OverlayPosition;
+import net.runelite.client.ui.overlay.components.AtlasImageComponent;
 import net.runelite.client.ui.overlay.components.ComponentOrientation;
 import net.runelite.client.ui.overlay.components.ImageComponent;
 
@@ -51,11 +52,12 @@ class InventoryViewerOverlay extends OverlayPanel
 
 	private final Client client;
 	private final ItemManager itemManager;
+	private final SpriteAtlas spriteAtlas;
 	private final InventoryViewerConfig config;
 	private boolean hidden;
 
 	@Inject
-	private InventoryViewerOverlay(Client client, ItemManager itemManager, InventoryViewerConfig config)
+	private InventoryViewerOverlay(Client client, ItemManager itemManager, SpriteAtlas spriteAtlas, InventoryViewerConfig config)
 	{
 		setPosition(OverlayPosition.BOTTOM_RIGHT);
 		panelComponent.setWrap(true);
@@ -63,6 +65,7 @@ class InventoryViewerOverlay extends OverlayPanel
 		panelComponent.setPreferredSize(new Dimension(4 * (Constants.ITEM_SPRITE_WIDTH + 6), 0));
 		panelComponent.setOrientation(ComponentOrientation.HORIZONTAL);
 		this.itemManager = itemManager;
+		this.spriteAtlas = spriteAtlas;
 		this.client = client;
 		this.config = config;
 		this.hidden = config.hiddenDefault();
@@ -98,7 +101,15 @@ class InventoryViewerOverlay extends OverlayPanel
 				final Item item = items[i];
 				if (item.getQuantity() > 0)
 				{
-					final BufferedImage image = getImage(item);
+					final boolean stackable = itemManager.getItemComposition(item.getId()).isStackable();
+					final SpriteAtlas.Region region = spriteAtlas.getItem(item.getId(), item.getQuantity(), stackable);
+					if (region != null)
+					{
+						panelComponent.getChildren().add(new AtlasImageComponent(region));
+						continue;
+					}
+
+					final BufferedImage image = itemManager.getImage(item.getId(), item.getQuantity(), stackable);
 					if (image != null)
 					{
 						panelComponent.getChildren().add(new ImageComponent(image));
@@ -114,12 +125,6 @@ class InventoryViewerOverlay extends OverlayPanel
 		return super.render(graphics);
 	}
 
-	private BufferedImage getImage(Item item)
-	{
-		ItemComposition itemComposition = itemManager.getItemComposition(item.getId());
-		return itemManager.getImage(item.getId(), item.getQuantity(), itemComposition.isStackable());
-	}
-
 	protected void toggle()
 	{
 		hidden = !hidden;
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.http.api.loottracker.LootRecordType;
+
+/**
+ * Keeps the loot aggregates of each profile in a binary file, so that they can be read without parsing
+ * the json of every record in the config.
+ * <p>
+ * The files are a cache of the loot in the profile config, which is what is synced. Each file is tagged
+ * with a stamp that is also written to the config when the file is rebuilt, so a file is only used if the
+ * config has not been changed elsewhere since. A file holds a snapshot of the loot, most recently seen
+ * first, followed by changes appended since as records which replace or remove an aggregate. Loading
+ * reads the changes and then only as much of the snapshot as fits in the drop budget. The file is
+ * compacted into a new snapshot once the changes have grown enough.
+ */
+@Slf4j
+class LootStore
+{
+	private static final int MAGIC = 0x4c4f4f54; // LOOT
+	private static final int VERSION = 3;
+	private static final String EXTENSION = ".loot";
+	private static final int PUT = 1;
+	private static final int REMOVE = 2;
+	// far more than there are items, to catch corrupt files before allocating
+	private static final int MAX_ITEMS = 1 << 16;
+	private static final long MIN_COMPACT_LENGTH = 64 * 1024;
+	private static final Comparator<ConfigLoot> MOST_RECENT = Comparator.comparing(ConfigLoot::getLast).reversed();
+
+	private final File dir;
+	// file name -> length after it was last written in full
+	private final Map<String, Long> compactedLengths = new HashMap<>();
+
+	LootStore(File dir)
+	{
+		this.dir = dir;
+	}
+
+	/**
+	 * Reads all the loot for the profile.
+	 *
+	 * @return the loot, most recent first, or null if there is no store for the profile with the given stamp
+	 */
+	@Nullable
+	synchronized List<ConfigLoot> loadAll(String profile, String stamp)
+	{
+		return load(profile, stamp, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Reads the most recently seen loot for the profile which holds less than {@code maxDrops} drops in
+	 * total. The snapshot is read no further than the last loot which fits.
+	 *
+	 * @return the loot, most recent first, or null if there is no store for the profile with the given stamp
+	 */
+	@Nullable
+	synchronized List<ConfigLoot> load(String profile, String stamp, int maxDrops)
+	{
+		final File file = file(profile);
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try (FileChannel channel = FileChannel.open(file.toPath()))
+		{
+			final CountingInputStream header = new CountingInputStream(Channels.newInputStream(channel));
+			final DataInputStream in = new DataInputStream(header);
+			if (!readHeader(in, stamp))
+			{
+				return null;
+			}
+
+			final long tailOffset = in.readLong();
+			in.readLong(); // oldest
+			final long snapshotOffset = header.getCount();
+			if (tailOffset < snapshotOffset || tailOffset > channel.size())
+			{
+				throw new IOException("invalid tail offset " + tailOffset);
+			}
+
+			// the newest change to each loot since the snapshot, with null for removed loot
+			final Map<ConfigLoot, ConfigLoot> changes = new HashMap<>();
+			final DataInputStream tail = stream(channel, tailOffset, channel.size() - tailOffset);
+			for (int op; (op = tail.read()) != -1; )
+			{
+				switch (op)
+				{
+					case PUT:
+					{
+						final ConfigLoot loot = read(tail);
+						changes.remove(loot);
+						changes.put(loot, loot);
+						break;
+					}
+					case REMOVE:
+						changes.put(new ConfigLoot(LootRecordType.valueOf(tail.readUTF()), tail.readUTF()), null);
+						break;
+					default:
+						throw new IOException("unknown record " + op);
+				}
+			}
+
+			final List<ConfigLoot> updated = changes.values().stream()
+				.filter(Objects::nonNull)
+				.sorted(MOST_RECENT)
+				.collect(Collectors.toList());
+
+			// merge the changes into the snapshot, which is already most recent first
+			final DataInputStream snapshot = stream(channel, snapshotOffset, tailOffset - snapshotOffset);
+			final List<ConfigLoot> loots = new ArrayList<>();
+			ConfigLoot next = nextSnapshot(snapshot, changes);
+			long drops = 0;
+			int u = 0;
+			while (next != null || u < updated.size())
+			{
+				final ConfigLoot loot;
+				if (next == null || (u < updated.size() && !updated.get(u).last.isBefore(next.last)))
+				{
+					loot = updated.get(u++);
+				}
+				else
+				{
+					loot = next;
+					next = nextSnapshot(snapshot, changes);
+				}
+
+				drops += loot.numDrops();
+				if (drops >= maxDrops)
+				{
+					break;
+				}
+				loots.add(loot);
+			}
+			return loots;
+		}
+		catch (IOException | IllegalArgumentException ex)
+		{
+			log.warn("unable to read loot store {}", file, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Removes the loot last seen before the given time. The store is only read in full if its oldest
+	 * loot is that old.
+	 *
+	 * @return the removed loot, or null if there is no store for the profile with the given stamp
+	 */
+	@Nullable
+	synchronized List<ConfigLoot> expire(String profile, String stamp, Instant before)
+	{
+		final File file = file(profile);
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		final long oldest;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (!readHeader(in, stamp))
+			{
+				return null;
+			}
+
+			in.readLong(); // tail offset
+			oldest = in.readLong();
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to read loot store {}", file, ex);
+			return null;
+		}
+
+		final List<ConfigLoot> expired = new ArrayList<>();
+		if (oldest >= before.toEpochMilli())
+		{
+			return expired;
+		}
+
+		final List<ConfigLoot> loots = loadAll(profile, stamp);
+		if (loots == null)
+		{
+			return null;
+		}
+
+		for (ConfigLoot loot : loots)
+		{
+			if (loot.last.isBefore(before))
+			{
+				expired.add(loot);
+			}
+		}
+		loots.removeAll(expired);
+		return save(profile, stamp, loots) ? expired : null;
+	}
+
+	/**
+	 * Replaces the stored loot for the profile.
+	 *
+	 * @return true if the loot was stored
+	 */
+	synchronized boolean save(String profile, String stamp, Collection<ConfigLoot> loots)
+	{
+		final List<ConfigLoot> sorted = new ArrayList<>(loots);
+		sorted.sort(MOST_RECENT);
+
+		dir.mkdirs();
+		final File file = file(profile);
+		final File tmp = new File(dir, file.getName() + ".tmp");
+		try
+		{
+			final long offsetPosition, tailOffset;
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp))))
+			{
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeUTF(stamp);
+				offsetPosition = out.size();
+				out.writeLong(0L); // tail offset, filled in below
+				out.writeLong(sorted.isEmpty() ? Long.MAX_VALUE : sorted.get(sorted.size() - 1).last.toEpochMilli());
+				for (ConfigLoot loot : sorted)
+				{
+					out.writeByte(PUT);
+					write(out, loot);
+				}
+				tailOffset = out.size();
+			}
+
+			try (RandomAccessFile raf = new RandomAccessFile(tmp, "rw"))
+			{
+				raf.seek(offsetPosition);
+				raf.writeLong(tailOffset);
+			}
+
+			try
+			{
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex)
+			{
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			compactedLengths.put(file.getName(), file.length());
+			return true;
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write loot store {}", file, ex);
+			tmp.delete();
+			return false;
+		}
+	}
+
+	/**
+	 * Adds changes to the stored loot for the profile, if the store has the given stamp.
+	 *
+	 * @param updated loot which was added or changed
+	 * @param removed loot which was removed
+	 * @return true if the changes were stored
+	 */
+	synchronized boolean append(String profile, String stamp, Collection<ConfigLoot> updated, Collection<ConfigLoot> removed)
+	{
+		final File file = file(profile);
+		if (!file.exists())
+		{
+			return false;
+		}
+
+		try
+		{
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+			{
+				if (!readHeader(in, stamp))
+				{
+					return false;
+				}
+			}
+
+			final long length = file.length();
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true))))
+			{
+				for (ConfigLoot loot : removed)
+				{
+					out.writeByte(REMOVE);
+					out.writeUTF(loot.type.name());
+					out.writeUTF(loot.name);
+				}
+				for (ConfigLoot loot : updated)
+				{
+					out.writeByte(PUT);
+					write(out, loot);
+				}
+			}
+
+			final long compacted = compactedLengths.computeIfAbsent(file.getName(), k -> length);
+			if (file.length() > Math.max(compacted * 2, MIN_COMPACT_LENGTH))
+			{
+				final List<ConfigLoot> loots = loadAll(profile, stamp);
+				return loots != null && save(profile, stamp, loots);
+			}
+			return true;
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write loot store {}", file, ex);
+			return false;
+		}
+	}
+
+	/**
+	 * Takes the most recently seen loot which holds less than {@code maxDrops} drops in total.
+	 *
+	 * @param loots loot, most recent first
+	 */
+	static List<ConfigLoot> mostRecent(List<ConfigLoot> loots, int maxDrops)
+	{
+		int drops = 0;
+		for (int i = 0; i < loots.size(); ++i)
+		{
+			drops += loots.get(i).numDrops();
+			if (drops >= maxDrops)
+			{
+				return loots.subList(0, i);
+			}
+		}
+		return loots;
+	}
+
+	private File file(String profile)
+	{
+		return new File(dir, profile.replaceAll("[^A-Za-z0-9_-]", "_") + EXTENSION);
+	}
+
+	private static boolean readHeader(DataInputStream in, String stamp) throws IOException
+	{
+		return in.readInt() == MAGIC && in.readInt() == VERSION && in.readUTF().equals(stamp);
+	}
+
+	private static DataInputStream stream(FileChannel channel, long position, long length) throws IOException
+	{
+		channel.position(position);
+		// closed along with the channel
+		return new DataInputStream(new BufferedInputStream(ByteStreams.limit(Channels.newInputStream(channel), length)));
+	}
+
+	/**
+	 * Reads the next loot in the snapshot which hasn't been changed since
+	 *
+	 * @return the loot, or null at the end of the snapshot
+	 */
+	@Nullable
+	private static ConfigLoot nextSnapshot(DataInputStream in, Map<ConfigLoot, ConfigLoot> changes) throws IOException
+	{
+		for (int op; (op = in.read()) != -1; )
+		{
+			if (op != PUT)
+			{
+				throw new IOException("unknown snapshot record " + op);
+			}
+
+			final ConfigLoot loot = read(in);
+			if (!changes.containsKey(loot))
+			{
+				return loot;
+			}
+		}
+		return null;
+	}
+
+	private static void write(DataOutputStream out, ConfigLoot loot) throws IOException
+	{
+		out.writeUTF(loot.type.name());
+		out.writeUTF(loot.name);
+		out.writeInt(loot.kills);
+		out.writeLong((loot.first != null ? loot.first : loot.last).toEpochMilli());
+		out.writeLong(loot.last.toEpochMilli());
+		out.writeInt(loot.drops.length);
+		for (int v : loot.drops)
+		{
+			out.writeInt(v);
+		}
+	}
+
+	private static ConfigLoot read(DataInputStream in) throws IOException
+	{
+		final ConfigLoot loot = new ConfigLoot(LootRecordType.valueOf(in.readUTF()), in.readUTF());
+		loot.kills = in.readInt();
+		loot.first = Instant.ofEpochMilli(in.readLong());
+		loot.last = Instant.ofEpochMilli(in.readLong());
+		final int length = in.readInt();
+		// drops are item id and quantity pairs
+		if (length < 0 || length > MAX_ITEMS * 2 || (length & 1) != 0)
+		{
+			throw new IOException("invalid drop count " + length);
+		}
+		final int[] drops = new int[length];
+		for (int i = 0; i < drops.length; ++i)
+		{
+			drops[i] = in.readInt();
+		}
+		loot.drops = drops;
+		return loot;
+	}
+}
@@ -30,6 +30,7 @@ import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.GridLayout;
+import java.awt.Rectangle;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
@@ -52,6 +53,8 @@ import javax.swing.JPanel;
 import javax.swing.JPopupMenu;
 import javax.swing.JRadioButton;
 import javax.swing.JToggleButton;
+import javax.swing.JViewport;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.basic.BasicButtonUI;
 import javax.swing.plaf.basic.BasicToggleButtonUI;
@@ -70,6 +73,7 @@ class LootTrackerPanel extends PluginPanel
 {
 	private static final int MAX_LOOT_BOXES = 500;
 	private static final int MAX_SESSION_RECORDS = 1024;
+	private static final int LOOT_BOX_PAGE = 20;
 
 	private static final ImageIcon SINGLE_LOOT_VIEW;
 	private static final ImageIcon SINGLE_LOOT_VIEW_FADED;
@@ -121,6 +125,8 @@ class LootTrackerPanel extends PluginPanel
 	// Individual records for the individual kills this session
 	private final Deque<LootTrackerRecord> sessionRecords = new ArrayDeque<>();
 	private final List<LootTrackerBox> boxes = new ArrayList<>();
+	// records shown below the built boxes, most recent first, whose boxes are built as they are scrolled to
+	private final Deque<LootTrackerRecord> unbuiltRecords = new ArrayDeque<>();
 
 	private final ItemManager itemManager;
 	private final LootTrackerPlugin plugin;
@@ -186,6 +192,7 @@ class LootTrackerPanel extends PluginPanel
 		layoutPanel.add(actionsPanel);
 		layoutPanel.add(overallPanel);
 		layoutPanel.add(logsContainer);
+		getScrollPane().getViewport().addChangeListener(e -> buildVisibleBoxes());
 
 		// Add error pane
 		errorPanel.setContent("Loot tracker", "You have not received any loot yet.");
@@ -322,6 +329,7 @@ class LootTrackerPanel extends PluginPanel
 			sessionRecords.removeIf(r -> r.matches(currentView, currentType));
 			aggregateRecords.values().removeIf(r -> r.matches(currentView, currentType));
 			boxes.removeIf(b -> b.matches(currentView, currentType));
+			unbuiltRecords.removeIf(r -> r.matches(currentView, currentType));
 			updateOverall();
 			logsContainer.removeAll();
 			logsContainer.revalidate();
@@ -406,7 +414,7 @@ class LootTrackerPanel extends PluginPanel
 			return;
 		}
 
-		LootTrackerBox box = buildBox(groupLoot ? aggRecord : sessRecord);
+		LootTrackerBox box = buildBox(groupLoot ? aggRecord : sessRecord, true);
 		if (box != null)
 		{
 			box.rebuild();
@@ -508,33 +516,79 @@ class LootTrackerPanel extends PluginPanel
 	{
 		SwingUtil.fastRemoveAll(logsContainer);
 		boxes.clear();
+		unbuiltRecords.clear();
 
-		if (groupLoot)
+		Iterable<LootTrackerRecord> records = groupLoot ? aggregateRecords.values() : sessionRecords;
+		for (LootTrackerRecord r : records)
 		{
-			aggregateRecords.values().forEach(this::buildBox);
+			if (r.matches(currentView, currentType) && (!hideIgnoredItems || !plugin.isEventIgnored(r.getTitle())))
+			{
+				unbuiltRecords.addFirst(r);
+			}
 		}
-		else
+
+		if (!groupLoot)
 		{
-			for (LootTrackerRecord r : sessionRecords)
+			while (unbuiltRecords.size() > MAX_LOOT_BOXES)
 			{
-				if (!hideIgnoredItems || !plugin.isEventIgnored(r.getTitle()))
-				{
-					buildBox(r);
-				}
+				unbuiltRecords.removeLast();
 			}
 		}
 
-		boxes.forEach(LootTrackerBox::rebuild);
+		buildBoxes(LOOT_BOX_PAGE);
 		updateOverall();
 		logsContainer.revalidate();
 	}
 
+	/**
+	 * Builds the boxes for the next unbuilt records, below the existing boxes.
+	 */
+	private void buildBoxes(int count)
+	{
+		final boolean collapse = !boxes.isEmpty() && isAllCollapsed();
+		for (int i = 0; i < count && !unbuiltRecords.isEmpty(); ++i)
+		{
+			final LootTrackerBox box = buildBox(unbuiltRecords.removeFirst(), false);
+			if (box != null)
+			{
+				box.rebuild();
+				if (collapse)
+				{
+					box.collapse();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Builds more boxes once the bottom of the existing boxes is within a screen of being scrolled into view.
+	 */
+	private void buildVisibleBoxes()
+	{
+		if (unbuiltRecords.isEmpty())
+		{
+			return;
+		}
+
+		final JViewport viewport = getScrollPane().getViewport();
+		final Rectangle view = viewport.getViewRect();
+		final int bottom = SwingUtilities.convertPoint(logsContainer, 0, logsContainer.getHeight(), viewport.getView()).y;
+		if (bottom < view.y + view.height * 2)
+		{
+			buildBoxes(LOOT_BOX_PAGE);
+			updateCollapseText();
+			logsContainer.revalidate();
+		}
+	}
+
 	/**
 	 * This method decides what to do with a new record, if a similar log exists, it will
 	 * add its items to it, updating the log's overall price and kills. If not, a new log will be created
 	 * to hold this entry's information.
+	 *
+	 * @param top whether to add the box at the top, for new loot, or below the existing boxes
 	 */
-	private LootTrackerBox buildBox(LootTrackerRecord record)
+	private LootTrackerBox buildBox(LootTrackerRecord record, boolean top)
 	{
 		// If this record is not part of current view, return
 		if (!record.matches(currentView, currentType))
@@ -549,7 +603,7 @@ class LootTrackerPanel extends PluginPanel
 		}
 
 		// Group all similar loot together
-		if (groupLoot)
+		if (groupLoot && top)
 		{
 			for (LootTrackerBox box : boxes)
 			{
@@ -622,6 +676,7 @@ class LootTrackerPanel extends PluginPanel
 				: r -> r.equals(record);
 			sessionRecords.removeIf(match);
 			aggregateRecords.values().removeIf(match);
+			unbuiltRecords.removeIf(match);
 			boxes.remove(box);
 			updateOverall();
 			logsContainer.remove(box);
@@ -650,12 +705,31 @@ class LootTrackerPanel extends PluginPanel
 		popupMenu.add(details);
 
 		// Add box to panel
+		if (!top)
+		{
+			boxes.add(0, box);
+			logsContainer.add(box);
+			return box;
+		}
+
+		if (groupLoot)
+		{
+			// the record may not have had its box built yet
+			unbuiltRecords.remove(record);
+		}
 		boxes.add(box);
 		logsContainer.add(box, 0);
 
-		if (!groupLoot && boxes.size() > MAX_LOOT_BOXES)
+		if (!groupLoot && boxes.size() + unbuiltRecords.size() > MAX_LOOT_BOXES)
 		{
-			logsContainer.remove(boxes.remove(0));
+			if (!unbuiltRecords.isEmpty())
+			{
+				unbuiltRecords.removeLast();
+			}
+			else
+			{
+				logsContainer.remove(boxes.remove(0));
+			}
 		}
 
 		return box;
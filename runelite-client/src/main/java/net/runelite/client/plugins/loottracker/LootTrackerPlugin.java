@@ -38,6 +38,7 @@ import com.google.gson.Gson;
 import com.google.gson.JsonSyntaxException;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -50,9 +51,10 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -67,7 +69,6 @@ import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.Constants;
 import net.runelite.api.GameState;
-import net.runelite.api.ItemComposition;
 import net.runelite.api.ItemContainer;
 import net.runelite.api.MenuAction;
 import net.runelite.api.MessageNode;
@@ -90,6 +91,7 @@ import net.runelite.api.gameval.ItemID;
 import net.runelite.api.gameval.ObjectID;
 import net.runelite.api.gameval.SpriteID;
 import net.runelite.api.gameval.VarbitID;
+import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
 import net.runelite.client.account.SessionManager;
 import net.runelite.client.callback.ClientThread;
@@ -109,11 +111,14 @@ import net.runelite.client.events.ServerNpcLoot;
 import net.runelite.client.events.SessionClose;
 import net.runelite.client.events.SessionOpen;
 import net.runelite.client.game.ItemManager;
+import net.runelite.client.game.ItemSnapshot;
 import net.runelite.client.game.ItemStack;
 import net.runelite.client.game.LootManager;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.task.ExecutorLanes;
+import net.runelite.client.task.SerialExecutor;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.util.ImageUtil;
@@ -134,6 +139,8 @@ public class LootTrackerPlugin extends Plugin
 {
 	private static final int MAX_DROPS = 1024;
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
+	private static final File LOOT_STORE_DIR = new File(RuneLite.CACHE_DIR, "loottracker");
+	private static final String LOOT_STORE_STAMP_KEY = "lootStoreStamp";
 	private static final int INVCHANGE_TIMEOUT = 10; // server ticks
 
 	// Activity/Event loot handling
@@ -350,7 +357,10 @@ public class LootTrackerPlugin extends Plugin
 	private SessionManager sessionManager;
 
 	@Inject
-	private ScheduledExecutorService executor;
+	private ExecutorLanes executorLanes;
+
+	// loot is loaded and stored on the io lane, one task at a time in the order they are queued
+	private Executor executor;
 
 	@Inject
 	private EventBus eventBus;
@@ -389,6 +399,7 @@ public class LootTrackerPlugin extends Plugin
 	private int inventoryTimeout;
 
 	private final List<LootRecord> queuedLoots = new ArrayList<>();
+	private final LootStore lootStore = new LootStore(LOOT_STORE_DIR);
 	private String profileKey;
 
 	private static Collection<ItemStack> stack(Collection<ItemStack> items)
@@ -488,12 +499,91 @@ public class LootTrackerPlugin extends Plugin
 				return;
 			}
 
-			int drops = 0;
-			List<ConfigLoot> loots = new ArrayList<>();
-			Instant old = Instant.now().minus(MAX_AGE);
-			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profileKey, "drops_"))
+			List<ConfigLoot> loots = loadLoot(profileKey);
+			log.debug("Loaded {} records", loots.size());
+
+			if (itemManager.hasItemSnapshots() && hasItemSnapshots(loots))
+			{
+				// the item snapshots can be read from this thread
+				showLoot(loots);
+				return;
+			}
+
+			clientThread.invokeLater(() ->
+			{
+				// convertToLootTrackerRecord requires item compositions to be available to get the item name,
+				// so it can't be run while the client is starting. This also looks up items added since the
+				// snapshots were built.
+				if (client.getGameState().getState() < GameState.LOGIN_SCREEN.getState())
+				{
+					return false;
+				}
+
+				showLoot(loots);
+				return true;
+			});
+		});
+	}
+
+	/**
+	 * Replaces the records in the panel with the loot. Must be called on the client thread,
+	 * or once {@link ItemManager#hasItemSnapshots()} if every item has a snapshot.
+	 */
+	private void showLoot(List<ConfigLoot> loots)
+	{
+		List<LootTrackerRecord> records = loots.stream()
+			.map(this::convertToLootTrackerRecord)
+			.collect(Collectors.toList());
+		SwingUtilities.invokeLater(() ->
+		{
+			panel.clearRecords();
+			panel.addRecords(records);
+		});
+	}
+
+	private boolean hasItemSnapshots(List<ConfigLoot> loots)
+	{
+		for (ConfigLoot loot : loots)
+		{
+			for (int i = 0; i < loot.drops.length; i += 2)
+			{
+				if (itemManager.getItemSnapshot(loot.drops[i]) == null)
+				{
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Loads the most recent loot for the profile, most recent first. This is read from the loot store
+	 * if it is up to date with the config, and otherwise from the config, which the store is then rebuilt from.
+	 */
+	private List<ConfigLoot> loadLoot(String profile)
+	{
+		synchronized (lootStore)
+		{
+			final Instant old = Instant.now().minus(MAX_AGE);
+			final String stamp = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, LOOT_STORE_STAMP_KEY);
+			final List<ConfigLoot> expired = stamp == null ? null : lootStore.expire(profile, stamp, old);
+			List<ConfigLoot> loots = expired == null ? null : lootStore.load(profile, stamp, MAX_DROPS);
+			if (loots != null)
 			{
-				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+				for (ConfigLoot l : expired)
+				{
+					log.debug("Removing old loot for {} {}", l.type, l.name);
+					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + l.type + "_" + l.name);
+				}
+				return loots;
+			}
+
+			log.debug("Rebuilding loot store for profile {}", profile);
+
+			loots = new ArrayList<>();
+			for (String key : configManager.getRSProfileConfigurationKeys(LootTrackerConfig.GROUP, profile, "drops_"))
+			{
+				String json = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, key);
 				ConfigLoot configLoot;
 
 				try
@@ -503,63 +593,58 @@ public class LootTrackerPlugin extends Plugin
 				catch (JsonSyntaxException ex)
 				{
 					log.warn("Removing loot with malformed json: {}", json, ex);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
+					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
 					continue;
 				}
 
 				if (configLoot.last.isBefore(old))
 				{
 					log.debug("Removing old loot for {} {}", configLoot.type, configLoot.name);
-					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profileKey, key);
-					continue;
-				}
-
-				if (drops >= MAX_DROPS && !loots.isEmpty() && loots.get(0).last.isAfter(configLoot.last))
-				{
-					// fast drop
+					configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
 					continue;
 				}
 
-				sortedInsert(loots, configLoot, Comparator.comparing(ConfigLoot::getLast));
-				drops += configLoot.numDrops();
-
-				if (drops >= MAX_DROPS)
-				{
-					ConfigLoot top = loots.remove(0);
-					drops -= top.numDrops();
-				}
+				loots.add(configLoot);
 			}
 
-			log.debug("Loaded {} records", loots.size());
+			loots.sort(Comparator.comparing(ConfigLoot::getLast).reversed());
+			storeLoot(profile, loots);
+			return new ArrayList<>(LootStore.mostRecent(loots, MAX_DROPS));
+		}
+	}
 
-			clientThread.invokeLater(() ->
+	/**
+	 * Applies changes already made to the loot in the config to the loot store. The stamp is only
+	 * written when the store is rebuilt, so this doesn't change the synced config unless the store
+	 * is out of date with it.
+	 *
+	 * @param updated loot which was added or changed
+	 * @param removed loot which was removed
+	 */
+	private void updateLootStore(String profile, Collection<ConfigLoot> updated, Collection<ConfigLoot> removed)
+	{
+		synchronized (lootStore)
+		{
+			final String stamp = configManager.getConfiguration(LootTrackerConfig.GROUP, profile, LOOT_STORE_STAMP_KEY);
+			if (stamp != null && !lootStore.append(profile, stamp, updated, removed))
 			{
-				// convertToLootTrackerRecord requires item compositions to be available to get the item name,
-				// so it can't be run while the client is starting
-				if (client.getGameState().getState() < GameState.LOGIN_SCREEN.getState())
-				{
-					return false;
-				}
-
-				// convertToLootTrackerRecord must be called on client thread
-				List<LootTrackerRecord> records = loots.stream()
-					.map(this::convertToLootTrackerRecord)
-					.collect(Collectors.toList());
-				SwingUtilities.invokeLater(() ->
-				{
-					panel.clearRecords();
-					panel.addRecords(records);
-				});
-
-				return true;
-			});
-		});
+				// the store is rebuilt from the config on the next profile switch
+				configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, LOOT_STORE_STAMP_KEY);
+			}
+		}
 	}
 
-	private static <T> void sortedInsert(List<T> list, T value, Comparator<? super T> c)
+	private void storeLoot(String profile, Collection<ConfigLoot> loots)
 	{
-		int idx = Collections.binarySearch(list, value, c);
-		list.add(idx < 0 ? -idx - 1 : idx, value);
+		final String stamp = UUID.randomUUID().toString();
+		if (lootStore.save(profile, stamp, loots))
+		{
+			configManager.setConfiguration(LootTrackerConfig.GROUP, profile, LOOT_STORE_STAMP_KEY, stamp);
+		}
+		else
+		{
+			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, LOOT_STORE_STAMP_KEY);
+		}
 	}
 
 	@Subscribe
@@ -583,6 +668,7 @@ public class LootTrackerPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
+		executor = new SerialExecutor(executorLanes.getIo());
 		profileKey = null;
 		ignoredItems = Text.fromCSV(config.getIgnoredItems());
 		ignoredEvents = Text.fromCSV(config.getIgnoredEvents());
@@ -630,6 +716,10 @@ public class LootTrackerPlugin extends Plugin
 		{
 			event.waitFor(future);
 		}
+		// and for the loot store to be written
+		CompletableFuture<Void> stored = new CompletableFuture<>();
+		executor.execute(() -> stored.complete(null));
+		event.waitFor(stored);
 	}
 
 	@Subscribe
@@ -1399,8 +1489,16 @@ public class LootTrackerPlugin extends Plugin
 
 	private void saveLoot(List<LootRecord> records)
 	{
+		String profile = profileKey;
+		if (Strings.isNullOrEmpty(profile))
+		{
+			log.debug("Trying to save loot with no profile!");
+			return;
+		}
+
 		Instant now = Instant.now();
 		Collection<ConfigLoot> combinedRecords = combine(records);
+		List<ConfigLoot> updated = new ArrayList<>(combinedRecords.size());
 		for (ConfigLoot record : combinedRecords)
 		{
 			ConfigLoot lootConfig = getLootConfig(record.type, record.name);
@@ -1418,7 +1516,11 @@ public class LootTrackerPlugin extends Plugin
 			}
 			lootConfig.last = now;
 			setLootConfig(lootConfig.type, lootConfig.name, lootConfig);
+			updated.add(lootConfig);
 		}
+
+		// saves are made from shutDown on the event dispatch thread, so the store is written on the executor
+		executor.execute(() -> updateLootStore(profile, updated, Collections.emptyList()));
 	}
 
 	private void resetEvent()
@@ -1577,14 +1679,15 @@ public class LootTrackerPlugin extends Plugin
 
 	private LootTrackerItem buildLootTrackerItem(int itemId, int quantity)
 	{
-		final ItemComposition itemComposition = itemManager.getItemComposition(itemId);
+		final ItemSnapshot item = itemManager.getItemSnapshot(itemId);
 		final int gePrice = itemManager.getItemPrice(itemId);
-		final int haPrice = itemComposition.getHaPrice();
-		final boolean ignored = ignoredItems.contains(itemComposition.getMembersName());
+		final String name = item.getMembersName();
+		final int haPrice = item.getHaPrice();
+		final boolean ignored = ignoredItems.contains(name);
 
 		return new LootTrackerItem(
 			itemId,
-			itemComposition.getMembersName(),
+			name,
 			quantity,
 			gePrice,
 			haPrice,
@@ -1700,6 +1803,7 @@ public class LootTrackerPlugin extends Plugin
 		}
 
 		configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, "drops_" + type + "_" + name);
+		executor.execute(() -> updateLootStore(profile, Collections.emptyList(), Collections.singletonList(new ConfigLoot(type, name))));
 	}
 
 	void removeAllLoot()
@@ -1715,5 +1819,12 @@ public class LootTrackerPlugin extends Plugin
 		{
 			configManager.unsetConfiguration(LootTrackerConfig.GROUP, profile, key);
 		}
+		executor.execute(() ->
+		{
+			synchronized (lootStore)
+			{
+				storeLoot(profile, Collections.emptyList());
+			}
+		});
 	}
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.config.ConfigManager;
+
+/**
+ * The custom left and shift click swaps set up from the menu, parsed out of the config.
+ * <p>
+ * These are looked up for every menu entry each time the menu is rebuilt, so they are loaded
+ * once into per-type tables keyed by id, and then kept up to date as the config changes.
+ */
+@Slf4j
+class CustomSwaps
+{
+	static final String SHIFTCLICK_CONFIG_GROUP = "shiftclick";
+
+	@RequiredArgsConstructor
+	enum Type
+	{
+		// the shift prefixes go first, as the left click prefixes are also prefixes of them
+		OBJECT_SHIFT(MenuEntrySwapperConfig.GROUP, "object_shift_"),
+		OBJECT(MenuEntrySwapperConfig.GROUP, "object_"),
+		NPC_SHIFT(MenuEntrySwapperConfig.GROUP, "npc_shift_"),
+		NPC(MenuEntrySwapperConfig.GROUP, "npc_"),
+		ITEM_SHIFT(SHIFTCLICK_CONFIG_GROUP, "item_"),
+		ITEM(MenuEntrySwapperConfig.GROUP, "item_"),
+		WORN_ITEM_SHIFT(MenuEntrySwapperConfig.GROUP, "wornitem_shift_"),
+		WORN_ITEM(MenuEntrySwapperConfig.GROUP, "wornitem_"),
+		UI_SHIFT(MenuEntrySwapperConfig.GROUP, "ui_shift_"),
+		UI(MenuEntrySwapperConfig.GROUP, "ui_");
+
+		private final String group;
+		private final String prefix;
+
+		static Type object(boolean shift)
+		{
+			return shift ? OBJECT_SHIFT : OBJECT;
+		}
+
+		static Type npc(boolean shift)
+		{
+			return shift ? NPC_SHIFT : NPC;
+		}
+
+		static Type item(boolean shift)
+		{
+			return shift ? ITEM_SHIFT : ITEM;
+		}
+
+		static Type wornItem(boolean shift)
+		{
+			return shift ? WORN_ITEM_SHIFT : WORN_ITEM;
+		}
+
+		static Type ui(boolean shift)
+		{
+			return shift ? UI_SHIFT : UI;
+		}
+
+		private boolean isUi()
+		{
+			return this == UI || this == UI_SHIFT;
+		}
+	}
+
+	private final ConfigManager configManager;
+	// lookups are on the client thread, but config changes can come from any thread
+	private final Map<Type, Map<Long, Integer>> swaps = new EnumMap<>(Type.class);
+
+	@Inject
+	CustomSwaps(ConfigManager configManager)
+	{
+		this.configManager = configManager;
+		for (Type type : Type.values())
+		{
+			swaps.put(type, new ConcurrentHashMap<>());
+		}
+	}
+
+	/**
+	 * The id of an interface swap, which are keyed by component and optionally item
+	 */
+	static long uiId(int componentId, int itemId)
+	{
+		return (long) componentId << 32 | (itemId & 0xffffffffL);
+	}
+
+	void load()
+	{
+		clear();
+		for (String group : new String[]{MenuEntrySwapperConfig.GROUP, SHIFTCLICK_CONFIG_GROUP})
+		{
+			String prefix = group + ".";
+			for (String wholeKey : configManager.getConfigurationKeys(prefix))
+			{
+				String key = wholeKey.substring(prefix.length());
+				update(group, key, configManager.getConfiguration(group, key));
+			}
+		}
+	}
+
+	void clear()
+	{
+		swaps.values().forEach(Map::clear);
+	}
+
+	/**
+	 * Update the swaps from a config value
+	 *
+	 * @return true if the key is a custom swap
+	 */
+	boolean update(String group, String key, @Nullable String value)
+	{
+		for (Type type : Type.values())
+		{
+			if (!type.group.equals(group) || !key.startsWith(type.prefix))
+			{
+				continue;
+			}
+
+			long id;
+			try
+			{
+				id = parseId(type, key.substring(type.prefix.length()));
+			}
+			catch (NumberFormatException e)
+			{
+				continue;
+			}
+
+			Integer op = null;
+			if (value != null && !value.isEmpty())
+			{
+				try
+				{
+					op = Integer.parseInt(value);
+				}
+				catch (NumberFormatException e)
+				{
+					log.debug("invalid custom swap {}.{}: {}", group, key, value);
+				}
+			}
+
+			put(type, id, op);
+			return true;
+		}
+		return false;
+	}
+
+	@Nullable
+	Integer get(Type type, long id)
+	{
+		return swaps.get(type).get(id);
+	}
+
+	void set(Type type, long id, int op)
+	{
+		configManager.setConfiguration(type.group, key(type, id), op);
+		put(type, id, op);
+	}
+
+	void unset(Type type, long id)
+	{
+		configManager.unsetConfiguration(type.group, key(type, id));
+		put(type, id, null);
+	}
+
+	private void put(Type type, long id, @Nullable Integer op)
+	{
+		if (op == null)
+		{
+			swaps.get(type).remove(id);
+		}
+		else
+		{
+			swaps.get(type).put(id, op);
+		}
+	}
+
+	private static String key(Type type, long id)
+	{
+		if (!type.isUi())
+		{
+			return type.prefix + id;
+		}
+
+		int componentId = (int) (id >>> 32);
+		int itemId = (int) id;
+		return type.prefix + componentId + (itemId != -1 ? "_" + itemId : "");
+	}
+
+	private static long parseId(Type type, String id)
+	{
+		if (!type.isUi())
+		{
+			return Integer.parseInt(id);
+		}
+
+		int sep = id.indexOf('_');
+		if (sep == -1)
+		{
+			return uiId(Integer.parseInt(id), -1);
+		}
+		return uiId(Integer.parseInt(id.substring(0, sep)), Integer.parseInt(id.substring(sep + 1)));
+	}
+}
@@ -39,7 +39,9 @@ import com.google.inject.Provides;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -71,6 +73,8 @@ import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import net.runelite.client.game.NpcUtil;
@@ -92,17 +96,6 @@ import net.runelite.client.util.Text;
 @Slf4j
 public class MenuEntrySwapperPlugin extends Plugin
 {
-	private static final String SHIFTCLICK_CONFIG_GROUP = "shiftclick";
-	private static final String ITEM_KEY_PREFIX = "item_";
-	private static final String OBJECT_KEY_PREFIX = "object_";
-	private static final String OBJECT_SHIFT_KEY_PREFIX = "object_shift_";
-	private static final String NPC_KEY_PREFIX = "npc_";
-	private static final String NPC_SHIFT_KEY_PREFIX = "npc_shift_";
-	private static final String WORN_ITEM_KEY_PREFIX = "wornitem_";
-	private static final String WORN_ITEM_SHIFT_KEY_PREFIX = "wornitem_shift_";
-	private static final String UI_KEY_PREFIX = "ui_";
-	private static final String UI_SHIFT_KEY_PREFIX = "ui_shift_";
-
 	private static final List<MenuAction> NPC_MENU_TYPES = ImmutableList.of(
 		MenuAction.NPC_FIRST_OPTION,
 		MenuAction.NPC_SECOND_OPTION,
@@ -206,9 +199,14 @@ public class MenuEntrySwapperPlugin extends Plugin
 	@Inject
 	private NpcUtil npcUtil;
 
+	@Inject
+	private CustomSwaps customSwaps;
+
 	private final Multimap<String, Swap> swaps = LinkedHashMultimap.create();
 	private final ArrayListMultimap<String, Integer> cacheOptionIndexes = ArrayListMultimap.create();
 	private Menu cacheOptionMenu;
+	// options and targets with tags removed and lowercased, for the menu currently being swapped
+	private final Map<String, String> cacheNormalized = new HashMap<>();
 	private boolean lastShift, curShift;
 
 	@Provides
@@ -222,12 +220,30 @@ public class MenuEntrySwapperPlugin extends Plugin
 	{
 		setupSwaps();
 		removeOldSwaps();
+		customSwaps.load();
 	}
 
 	@Override
 	public void shutDown()
 	{
 		swaps.clear();
+		customSwaps.clear();
+	}
+
+	@Subscribe
+	public void onConfigChanged(ConfigChanged event)
+	{
+		if (event.getProfile() == null
+			&& (event.getGroup().equals(MenuEntrySwapperConfig.GROUP) || event.getGroup().equals(CustomSwaps.SHIFTCLICK_CONFIG_GROUP)))
+		{
+			customSwaps.update(event.getGroup(), event.getKey(), event.getNewValue());
+		}
+	}
+
+	@Subscribe
+	public void onProfileChanged(ProfileChanged event)
+	{
+		customSwaps.load();
 	}
 
 	@VisibleForTesting
@@ -468,52 +484,37 @@ public class MenuEntrySwapperPlugin extends Plugin
 	private Integer getItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		String config = configManager.getConfiguration(shift ? SHIFTCLICK_CONFIG_GROUP : MenuEntrySwapperConfig.GROUP, ITEM_KEY_PREFIX + itemId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps.get(CustomSwaps.Type.item(shift), itemId);
 	}
 
 	private void setItemSwapConfig(boolean shift, int itemId, int index)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		configManager.setConfiguration(shift ? SHIFTCLICK_CONFIG_GROUP : MenuEntrySwapperConfig.GROUP, ITEM_KEY_PREFIX + itemId, index);
+		customSwaps.set(CustomSwaps.Type.item(shift), itemId, index);
 	}
 
 	private void unsetItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		configManager.unsetConfiguration(shift ? SHIFTCLICK_CONFIG_GROUP : MenuEntrySwapperConfig.GROUP, ITEM_KEY_PREFIX + itemId);
+		customSwaps.unset(CustomSwaps.Type.item(shift), itemId);
 	}
 
 	private Integer getWornItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? WORN_ITEM_SHIFT_KEY_PREFIX : WORN_ITEM_KEY_PREFIX) + itemId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps.get(CustomSwaps.Type.wornItem(shift), itemId);
 	}
 
 	private void setWornItemSwapConfig(boolean shift, int itemId, int index)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		configManager.setConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? WORN_ITEM_SHIFT_KEY_PREFIX : WORN_ITEM_KEY_PREFIX) + itemId, index);
+		customSwaps.set(CustomSwaps.Type.wornItem(shift), itemId, index);
 	}
 
 	private void unsetWornItemSwapConfig(boolean shift, int itemId)
 	{
 		itemId = ItemVariationMapping.map(itemId);
-		configManager.unsetConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? WORN_ITEM_SHIFT_KEY_PREFIX : WORN_ITEM_KEY_PREFIX) + itemId);
+		customSwaps.unset(CustomSwaps.Type.wornItem(shift), itemId);
 	}
 
 	@Subscribe
@@ -1471,8 +1472,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 		final int eventId = menuEntry.getIdentifier();
 		final MenuAction menuAction = menuEntry.getType();
-		final String option = Text.removeTags(menuEntry.getOption()).toLowerCase();
-		final String target = Text.removeTags(menuEntry.getTarget()).toLowerCase();
+		final String option = normalize(menuEntry.getOption());
+		final String target = normalize(menuEntry.getTarget());
 
 		final Widget w = parent != null ? parent.getWidget() : menuEntry.getWidget();
 		// Custom item swap
@@ -1739,6 +1740,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 		// invalidate option index cache
 		cacheOptionIndexes.clear();
 		cacheOptionMenu = null;
+		cacheNormalized.clear();
 	}
 
 	private void removeDeadNpcs()
@@ -1783,7 +1785,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			{
 				int idx = indexes.get(i);
 				MenuEntry entry = entries[idx];
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryTarget = normalize(entry.getTarget());
 
 				// Limit to the last index which is prior to the current entry
 				if (idx < limit && entryTarget.equals(target))
@@ -1795,13 +1797,14 @@ public class MenuEntrySwapperPlugin extends Plugin
 		else
 		{
 			// Without strict matching we have to iterate all entries up to the current limit...
+			option = option.toLowerCase();
 			for (int i = limit - 1; i >= 0; i--)
 			{
 				MenuEntry entry = entries[i];
-				String entryOption = Text.removeTags(entry.getOption()).toLowerCase();
-				String entryTarget = Text.removeTags(entry.getTarget()).toLowerCase();
+				String entryOption = normalize(entry.getOption());
+				String entryTarget = normalize(entry.getTarget());
 
-				if (entryOption.contains(option.toLowerCase()) && entryTarget.equals(target))
+				if (entryOption.contains(option) && entryTarget.equals(target))
 				{
 					return i;
 				}
@@ -1821,7 +1824,7 @@ public class MenuEntrySwapperPlugin extends Plugin
 			cacheOptionIndexes.clear();
 			for (MenuEntry entry : menu.getMenuEntries())
 			{
-				String opt = Text.removeTags(entry.getOption()).toLowerCase();
+				String opt = normalize(entry.getOption());
 				cacheOptionIndexes.put(opt, idx++);
 			}
 			log.trace("[{}] Rebuilt option index cache with {} entries", client.getGameCycle(), idx);
@@ -1858,8 +1861,8 @@ public class MenuEntrySwapperPlugin extends Plugin
 		// Update optionIndexes
 		if (cacheOptionMenu == menu)
 		{
-			String option1 = Text.removeTags(entry1.getOption()).toLowerCase(),
-				option2 = Text.removeTags(entry2.getOption()).toLowerCase();
+			String option1 = normalize(entry1.getOption()),
+				option2 = normalize(entry2.getOption());
 
 			List<Integer> list1 = cacheOptionIndexes.get(option1),
 				list2 = cacheOptionIndexes.get(option2);
@@ -1875,6 +1878,12 @@ public class MenuEntrySwapperPlugin extends Plugin
 		}
 	}
 
+	private String normalize(String s)
+	{
+		// most entries share their option or target with another, so each is only normalized once per menu
+		return cacheNormalized.computeIfAbsent(s, k -> Text.removeTags(k).toLowerCase());
+	}
+
 	private static <T extends Comparable<? super T>> void sortedInsert(List<T> list, T value)
 	{
 		int idx = Collections.binarySearch(list, value);
@@ -1888,23 +1897,17 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getObjectSwapConfig(boolean shift, int objectId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP, (shift ? OBJECT_SHIFT_KEY_PREFIX : OBJECT_KEY_PREFIX) + objectId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps.get(CustomSwaps.Type.object(shift), objectId);
 	}
 
 	private void setObjectSwapConfig(boolean shift, int objectId, int index)
 	{
-		configManager.setConfiguration(MenuEntrySwapperConfig.GROUP, (shift ? OBJECT_SHIFT_KEY_PREFIX : OBJECT_KEY_PREFIX) + objectId, index);
+		customSwaps.set(CustomSwaps.Type.object(shift), objectId, index);
 	}
 
 	private void unsetObjectSwapConfig(boolean shift, int objectId)
 	{
-		configManager.unsetConfiguration(MenuEntrySwapperConfig.GROUP, (shift ? OBJECT_SHIFT_KEY_PREFIX : OBJECT_KEY_PREFIX) + objectId);
+		customSwaps.unset(CustomSwaps.Type.object(shift), objectId);
 	}
 
 	private static MenuAction defaultAction(ObjectComposition objectComposition)
@@ -1924,24 +1927,17 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getNpcSwapConfig(boolean shift, int npcId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? NPC_SHIFT_KEY_PREFIX : NPC_KEY_PREFIX) + npcId);
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps.get(CustomSwaps.Type.npc(shift), npcId);
 	}
 
 	private void setNpcSwapConfig(boolean shift, int npcId, int index)
 	{
-		configManager.setConfiguration(MenuEntrySwapperConfig.GROUP, (shift ? NPC_SHIFT_KEY_PREFIX : NPC_KEY_PREFIX) + npcId, index);
+		customSwaps.set(CustomSwaps.Type.npc(shift), npcId, index);
 	}
 
 	private void unsetNpcSwapConfig(boolean shift, int npcId)
 	{
-		configManager.unsetConfiguration(MenuEntrySwapperConfig.GROUP, (shift ? NPC_SHIFT_KEY_PREFIX : NPC_KEY_PREFIX) + npcId);
+		customSwaps.unset(CustomSwaps.Type.npc(shift), npcId);
 	}
 
 	private static MenuAction defaultAction(NPCComposition composition)
@@ -1984,26 +1980,16 @@ public class MenuEntrySwapperPlugin extends Plugin
 
 	private Integer getUiSwapConfig(boolean shift, int componentId, int itemId)
 	{
-		String config = configManager.getConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? UI_SHIFT_KEY_PREFIX : UI_KEY_PREFIX) + componentId + (itemId != -1 ? "_" + itemId : ""));
-		if (config == null || config.isEmpty())
-		{
-			return null;
-		}
-
-		return Integer.parseInt(config);
+		return customSwaps.get(CustomSwaps.Type.ui(shift), CustomSwaps.uiId(componentId, itemId));
 	}
 
 	private void setUiSwapConfig(boolean shift, int componentId, int itemId, int op)
 	{
-		configManager.setConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? UI_SHIFT_KEY_PREFIX : UI_KEY_PREFIX) + componentId + (itemId != -1 ? "_" + itemId : ""),
-			op);
+		customSwaps.set(CustomSwaps.Type.ui(shift), CustomSwaps.uiId(componentId, itemId), op);
 	}
 
 	private void unsetUiSwapConfig(boolean shift, int componentId, int itemId)
 	{
-		configManager.unsetConfiguration(MenuEntrySwapperConfig.GROUP,
-			(shift ? UI_SHIFT_KEY_PREFIX : UI_KEY_PREFIX) + componentId + (itemId != -1 ? "_" + itemId : ""));
+		customSwaps.unset(CustomSwaps.Type.ui(shift), CustomSwaps.uiId(componentId, itemId));
 	}
 }
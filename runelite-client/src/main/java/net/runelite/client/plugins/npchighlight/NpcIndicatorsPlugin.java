@@ -37,7 +37,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 import javax.inject.Inject;
 import javax.swing.SwingUtilities;
 import lombok.AccessLevel;
@@ -69,6 +68,7 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.NpcUtil;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
+import net.runelite.client.game.npcoverlay.NpcHighlighter;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -202,7 +202,9 @@ public class NpcIndicatorsPlugin extends Plugin
 	 */
 	private boolean skipNextSpawnCheck = false;
 
-	private final Function<NPC, HighlightedNpc> isHighlighted = highlightedNpcs::get;
+	private final NpcHighlighter highlighter = NpcHighlighter.builder()
+		.highlight(highlightedNpcs::get)
+		.build();
 
 	@Provides
 	NpcIndicatorsConfig provideConfig(ConfigManager configManager)
@@ -213,7 +215,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
-		npcOverlayService.registerHighlighter(isHighlighted);
+		npcOverlayService.registerHighlighter(highlighter);
 		overlayManager.add(npcRespawnOverlay);
 		clientThread.invoke(() ->
 		{
@@ -227,7 +229,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
-		npcOverlayService.unregisterHighlighter(isHighlighted);
+		npcOverlayService.unregisterHighlighter(highlighter);
 		overlayManager.remove(npcRespawnOverlay);
 		clientThread.invoke(() ->
 		{
@@ -543,7 +545,7 @@ public class NpcIndicatorsPlugin extends Plugin
 				highlightedNpcs.put(npc, highlightedNpc(npc));
 			}
 
-			npcOverlayService.rebuild();
+			npcOverlayService.rebuild(highlighter);
 		}
 		else
 		{
@@ -729,7 +731,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 		rebuildWorldview(client.getTopLevelWorldView());
 
-		npcOverlayService.rebuild();
+		npcOverlayService.rebuild(highlighter);
 	}
 
 	private void rebuildWorldview(WorldView wv)
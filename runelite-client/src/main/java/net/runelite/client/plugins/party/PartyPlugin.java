@@ -70,6 +70,7 @@ import net.runelite.client.events.PartyChanged;
 import net.runelite.client.events.PartyMemberAvatar;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.party.PartyMember;
+import net.runelite.client.party.PartyMessageTypes;
 import net.runelite.client.party.PartyService;
 import net.runelite.client.party.WSClient;
 import net.runelite.client.party.events.UserJoin;
@@ -199,9 +200,9 @@ public class PartyPlugin extends Plugin
 		overlayManager.add(partyPingOverlay);
 		overlayManager.add(partyStatusOverlay);
 		keyManager.registerKeyListener(hotkeyListener);
-		wsClient.registerMessage(TilePing.class);
-		wsClient.registerMessage(LocationUpdate.class);
-		wsClient.registerMessage(StatusUpdate.class);
+		wsClient.registerMessage(TilePing.class, PartyMessageTypes.TILE_PING, TilePing.CODEC);
+		wsClient.registerMessage(LocationUpdate.class, PartyMessageTypes.LOCATION_UPDATE, LocationUpdate.CODEC);
+		wsClient.registerMessage(StatusUpdate.class, PartyMessageTypes.STATUS_UPDATE, StatusUpdate.CODEC);
 		// Delay sync so the eventbus can register prior to the sync response
 		SwingUtilities.invokeLater(this::requestSync);
 	}
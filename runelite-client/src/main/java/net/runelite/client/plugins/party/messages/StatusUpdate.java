@@ -26,10 +26,16 @@ package net.runelite.client.plugins.party.messages;
 
 import com.google.gson.annotations.SerializedName;
 import java.awt.Color;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import net.runelite.client.party.PartyMessageCodec;
+import static net.runelite.client.party.PartyMessageCodec.readVarInt;
+import static net.runelite.client.party.PartyMessageCodec.writeVarInt;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Data
@@ -39,6 +45,94 @@ import net.runelite.client.party.messages.PartyMemberMessage;
 public class StatusUpdate extends PartyMemberMessage
 {
 
+	/**
+	 * Writes a bitmask of the fields which are set, followed by the set fields.
+	 */
+	public static final PartyMessageCodec<StatusUpdate> CODEC = new PartyMessageCodec<>()
+	{
+		private static final int NAME = 1;
+		private static final int HEALTH_CURRENT = 1 << 1;
+		private static final int HEALTH_MAX = 1 << 2;
+		private static final int PRAYER_CURRENT = 1 << 3;
+		private static final int PRAYER_MAX = 1 << 4;
+		private static final int RUN = 1 << 5;
+		private static final int SPEC = 1 << 6;
+		private static final int VENGEANCE = 1 << 7;
+		private static final int VENGEANCE_ACTIVE = 1 << 8;
+		private static final int COLOR = 1 << 9;
+
+		@Override
+		public void write(StatusUpdate message, DataOutput out) throws IOException
+		{
+			int fields = 0;
+			fields |= message.characterName != null ? NAME : 0;
+			fields |= message.healthCurrent != null ? HEALTH_CURRENT : 0;
+			fields |= message.healthMax != null ? HEALTH_MAX : 0;
+			fields |= message.prayerCurrent != null ? PRAYER_CURRENT : 0;
+			fields |= message.prayerMax != null ? PRAYER_MAX : 0;
+			fields |= message.runEnergy != null ? RUN : 0;
+			fields |= message.specEnergy != null ? SPEC : 0;
+			fields |= message.vengeanceActive != null ? VENGEANCE : 0;
+			fields |= message.vengeanceActive == Boolean.TRUE ? VENGEANCE_ACTIVE : 0;
+			fields |= message.memberColor != null ? COLOR : 0;
+			writeVarInt(out, fields);
+
+			if (message.characterName != null)
+			{
+				out.writeUTF(message.characterName);
+			}
+			writeIfSet(out, message.healthCurrent);
+			writeIfSet(out, message.healthMax);
+			writeIfSet(out, message.prayerCurrent);
+			writeIfSet(out, message.prayerMax);
+			writeIfSet(out, message.runEnergy);
+			writeIfSet(out, message.specEnergy);
+			if (message.memberColor != null)
+			{
+				out.writeInt(message.memberColor.getRGB());
+			}
+		}
+
+		@Override
+		public StatusUpdate read(DataInput in) throws IOException
+		{
+			final int fields = readVarInt(in);
+			final StatusUpdate message = new StatusUpdate();
+			if ((fields & NAME) != 0)
+			{
+				message.characterName = in.readUTF();
+			}
+			message.healthCurrent = readIfSet(in, fields, HEALTH_CURRENT);
+			message.healthMax = readIfSet(in, fields, HEALTH_MAX);
+			message.prayerCurrent = readIfSet(in, fields, PRAYER_CURRENT);
+			message.prayerMax = readIfSet(in, fields, PRAYER_MAX);
+			message.runEnergy = readIfSet(in, fields, RUN);
+			message.specEnergy = readIfSet(in, fields, SPEC);
+			if ((fields & VENGEANCE) != 0)
+			{
+				message.vengeanceActive = (fields & VENGEANCE_ACTIVE) != 0;
+			}
+			if ((fields & COLOR) != 0)
+			{
+				message.memberColor = new Color(in.readInt(), true);
+			}
+			return message;
+		}
+
+		private void writeIfSet(DataOutput out, Integer value) throws IOException
+		{
+			if (value != null)
+			{
+				writeVarInt(out, value);
+			}
+		}
+
+		private Integer readIfSet(DataInput in, int fields, int field) throws IOException
+		{
+			return (fields & field) != 0 ? readVarInt(in) : null;
+		}
+	};
+
 	// we use boxed fields to null out properties that haven't changed
 	@SerializedName("n")
 	private String characterName = null;
@@ -24,14 +24,37 @@
  */
 package net.runelite.client.plugins.party.messages;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.party.PartyMessageCodec;
+import static net.runelite.client.party.PartyMessageCodec.readVarInt;
+import static net.runelite.client.party.PartyMessageCodec.writeVarInt;
 import net.runelite.client.party.messages.PartyMemberMessage;
 
 @Value
 @EqualsAndHashCode(callSuper = true)
 public class TilePing extends PartyMemberMessage
 {
+	public static final PartyMessageCodec<TilePing> CODEC = new PartyMessageCodec<>()
+	{
+		@Override
+		public void write(TilePing message, DataOutput out) throws IOException
+		{
+			writeVarInt(out, message.point.getX());
+			writeVarInt(out, message.point.getY());
+			out.writeByte(message.point.getPlane());
+		}
+
+		@Override
+		public TilePing read(DataInput in) throws IOException
+		{
+			return new TilePing(new WorldPoint(readVarInt(in), readVarInt(in), in.readUnsignedByte()));
+		}
+	};
+
 	private final WorldPoint point;
 }
@@ -50,9 +50,8 @@ import net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver;
 import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
 import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
 import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
-import net.runelite.client.plugins.puzzlesolver.solver.heuristics.ManhattanDistance;
-import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStar;
-import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarMM;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
+import net.runelite.client.plugins.puzzlesolver.solver.pathfinding.IDAStarPDB;
 import net.runelite.client.ui.overlay.Overlay;
 import net.runelite.client.ui.overlay.OverlayLayer;
 import net.runelite.client.ui.overlay.OverlayPosition;
@@ -73,6 +72,8 @@ public class PuzzleSolverOverlay extends Overlay
 	private static final int DOT_MARKER_MAX_SIZE = 24;
 	private static final int DOT_MARKER_MIN_SIZE = 4;
 
+	private static final int MM_SOLVER_WEIGHT = 2;
+
 	private final Client client;
 	private final PuzzleSolverConfig config;
 	private final ScheduledExecutorService executorService;
@@ -447,11 +448,12 @@ public class PuzzleSolverOverlay extends Overlay
 
 		if (useNormalSolver)
 		{
-			solver = new PuzzleSolver(new IDAStar(new ManhattanDistance()), puzzleState);
+			solver = new PuzzleSolver(new IDAStarPDB(), puzzleState);
 		}
 		else
 		{
-			solver = new PuzzleSolver(new IDAStarMM(new ManhattanDistance()), puzzleState);
+			// the reinitialisation puzzle is fully scrambled, so trade optimality for a bounded search time
+			solver = new PuzzleSolver(new IDAStarPDB(PatternDatabase::getDefault, MM_SOLVER_WEIGHT), puzzleState);
 		}
 
 		solverFuture = executorService.submit(solver);
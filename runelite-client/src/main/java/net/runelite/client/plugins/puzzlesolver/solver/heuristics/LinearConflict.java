@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * Linear conflict counting for the 5x5 sliding puzzle.
+ * <p>
+ * Two tiles are in linear conflict if they are in their goal row (or column) but
+ * in the wrong order, meaning one of them has to leave the line and come back,
+ * costing two moves on top of the Manhattan distance.
+ * <p>
+ * Every possible line is precomputed into a small table, keyed by the goal
+ * offset (plus one, or zero if the tile does not belong to the line) of each
+ * tile in base 6, so a lookup is allocation free.
+ */
+public final class LinearConflict
+{
+	private static final int BASE = DIMENSION + 1;
+	private static final byte[] CONFLICTS;
+
+	static
+	{
+		int size = 1;
+		for (int i = 0; i < DIMENSION; i++)
+		{
+			size *= BASE;
+		}
+
+		CONFLICTS = new byte[size];
+		int[] goals = new int[DIMENSION];
+		for (int key = 0; key < size; key++)
+		{
+			int count = 0;
+			for (int i = 0, rest = key; i < DIMENSION; i++, rest /= BASE)
+			{
+				int goal = rest % BASE;
+				if (goal != 0)
+				{
+					goals[count++] = goal;
+				}
+			}
+			CONFLICTS[key] = (byte) (2 * (count - longestIncreasing(goals, count)));
+		}
+	}
+
+	private LinearConflict()
+	{
+	}
+
+	/**
+	 * Computes the extra moves required by conflicts within a single row.
+	 *
+	 * @param board the tile at each position, with the blank as {@code DIMENSION * DIMENSION - 1}
+	 * @param row   the row to check
+	 */
+	public static int row(byte[] board, int row)
+	{
+		int key = 0;
+		for (int x = DIMENSION - 1; x >= 0; x--)
+		{
+			int tile = board[row * DIMENSION + x];
+			key *= BASE;
+			if (tile != PatternDatabase.BLANK_GOAL && tile / DIMENSION == row)
+			{
+				key += tile % DIMENSION + 1;
+			}
+		}
+		return CONFLICTS[key];
+	}
+
+	/**
+	 * Computes the extra moves required by conflicts within a single column.
+	 *
+	 * @param board  the tile at each position, with the blank as {@code DIMENSION * DIMENSION - 1}
+	 * @param column the column to check
+	 */
+	public static int column(byte[] board, int column)
+	{
+		int key = 0;
+		for (int y = DIMENSION - 1; y >= 0; y--)
+		{
+			int tile = board[y * DIMENSION + column];
+			key *= BASE;
+			if (tile != PatternDatabase.BLANK_GOAL && tile % DIMENSION == column)
+			{
+				key += tile / DIMENSION + 1;
+			}
+		}
+		return CONFLICTS[key];
+	}
+
+	private static int longestIncreasing(int[] values, int count)
+	{
+		int[] lengths = new int[count];
+		int longest = 0;
+		for (int i = 0; i < count; i++)
+		{
+			int length = 1;
+			for (int j = 0; j < i; j++)
+			{
+				if (values[j] < values[i] && lengths[j] + 1 > length)
+				{
+					length = lengths[j] + 1;
+				}
+			}
+			lengths[i] = length;
+			longest = Math.max(longest, length);
+		}
+		return longest;
+	}
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * An additive pattern database for the 5x5 sliding puzzle.
+ * <p>
+ * The 24 tiles are split into disjoint groups. For each group, the table holds the
+ * minimum number of moves of that group's tiles needed to bring them to their goal
+ * positions, with every other tile treated as indistinguishable. Because each group
+ * only counts its own moves, the group costs can be summed and the result is still
+ * admissible.
+ * <p>
+ * Tables are indexed by {@code sum(position(tile[k]) * 25^k)}, so an index can be
+ * updated in place when a single tile moves.
+ */
+public class PatternDatabase
+{
+	private static final String RESOURCE = "pattern_database.bin.gz";
+
+	static final int CELLS = DIMENSION * DIMENSION;
+	static final int BLANK_GOAL = CELLS - 1;
+
+	/**
+	 * The groups the shipped database is built from. Tile {@code n} belongs at
+	 * position {@code n}, and the blank belongs in the bottom right corner.
+	 */
+	public static final int[][] DEFAULT_GROUPS = {
+		{0, 1, 5, 6},
+		{2, 3, 7, 8},
+		{4, 9, 14, 19},
+		{10, 11, 15, 16},
+		{12, 13, 17, 18},
+		{20, 21, 22, 23},
+	};
+
+	private final int[][] groups;
+	private final byte[][] tables;
+
+	private final int[] groupOf = new int[CELLS];
+	private final int[] multiplierOf = new int[CELLS];
+
+	PatternDatabase(int[][] groups, byte[][] tables)
+	{
+		this.groups = groups;
+		this.tables = tables;
+
+		Arrays.fill(groupOf, -1);
+		for (int g = 0; g < groups.length; g++)
+		{
+			int multiplier = 1;
+			for (int tile : groups[g])
+			{
+				groupOf[tile] = g;
+				multiplierOf[tile] = multiplier;
+				multiplier *= CELLS;
+			}
+		}
+	}
+
+	/**
+	 * @return the database shipped with the client, loaded on first use
+	 */
+	public static PatternDatabase getDefault()
+	{
+		return DefaultHolder.INSTANCE;
+	}
+
+	public int getGroupCount()
+	{
+		return groups.length;
+	}
+
+	/**
+	 * @return the group the tile belongs to, or -1 if it is not covered by the database
+	 */
+	public int getGroup(int tile)
+	{
+		return groupOf[tile];
+	}
+
+	/**
+	 * @return the amount the group index changes by for each position the tile moves
+	 */
+	public int getMultiplier(int tile)
+	{
+		return multiplierOf[tile];
+	}
+
+	public int getCost(int group, int index)
+	{
+		return tables[group][index];
+	}
+
+	@VisibleForTesting
+	int[] getGroupTiles(int group)
+	{
+		return groups[group].clone();
+	}
+
+	@VisibleForTesting
+	byte[] getTable(int group)
+	{
+		return tables[group].clone();
+	}
+
+	/**
+	 * Computes the group indices for a board.
+	 *
+	 * @param tilePositions the position of each tile, indexed by tile
+	 * @param indices       receives one index per group
+	 */
+	public void computeIndices(byte[] tilePositions, int[] indices)
+	{
+		Arrays.fill(indices, 0);
+		for (int tile = 0; tile < CELLS; tile++)
+		{
+			int g = groupOf[tile];
+			if (g != -1)
+			{
+				indices[g] += tilePositions[tile] * multiplierOf[tile];
+			}
+		}
+	}
+
+	/**
+	 * @return the summed cost of every group for the given group indices
+	 */
+	public int getCost(int[] indices)
+	{
+		int cost = 0;
+		for (int g = 0; g < tables.length; g++)
+		{
+			cost += tables[g][indices[g]];
+		}
+		return cost;
+	}
+
+	public static PatternDatabase read(InputStream in) throws IOException
+	{
+		DataInputStream data = new DataInputStream(new BufferedInputStream(new GZIPInputStream(in)));
+
+		int groupCount = data.readUnsignedByte();
+		int[][] groups = new int[groupCount][];
+		byte[][] tables = new byte[groupCount][];
+		for (int g = 0; g < groupCount; g++)
+		{
+			int size = data.readUnsignedByte();
+			groups[g] = new int[size];
+			for (int i = 0; i < size; i++)
+			{
+				groups[g][i] = data.readUnsignedByte();
+			}
+
+			tables[g] = new byte[tableSize(size)];
+			data.readFully(tables[g]);
+		}
+
+		return new PatternDatabase(groups, tables);
+	}
+
+	public void write(OutputStream out) throws IOException
+	{
+		GZIPOutputStream gzip = new GZIPOutputStream(out);
+		DataOutputStream data = new DataOutputStream(gzip);
+
+		data.writeByte(groups.length);
+		for (int g = 0; g < groups.length; g++)
+		{
+			data.writeByte(groups[g].length);
+			for (int tile : groups[g])
+			{
+				data.writeByte(tile);
+			}
+			data.write(tables[g]);
+		}
+
+		data.flush();
+		gzip.finish();
+	}
+
+	/**
+	 * Builds a database by running a breadth first search backwards from the goal
+	 * for each group. This takes a few seconds per group and is only meant to be
+	 * used to regenerate the shipped resource.
+	 */
+	public static PatternDatabase build(int[][] groups)
+	{
+		byte[][] tables = new byte[groups.length][];
+		for (int g = 0; g < groups.length; g++)
+		{
+			tables[g] = buildTable(groups[g]);
+		}
+		return new PatternDatabase(groups, tables);
+	}
+
+	static byte[] buildTable(int[] tiles)
+	{
+		final int size = tiles.length;
+		final int blankMultiplier = pow(CELLS, size);
+
+		// the search state is the position of each pattern tile plus the blank
+		byte[] distances = new byte[blankMultiplier * CELLS];
+		Arrays.fill(distances, (byte) -1);
+
+		int goal = BLANK_GOAL * blankMultiplier;
+		for (int i = 0, multiplier = 1; i < size; i++, multiplier *= CELLS)
+		{
+			goal += tiles[i] * multiplier;
+		}
+
+		int[] positions = new int[size];
+		IntStack current = new IntStack();
+		IntStack next = new IntStack();
+		current.push(goal);
+
+		for (int cost = 0; !current.isEmpty(); cost++)
+		{
+			// moving the blank into a free cell costs nothing, so flood those
+			// states at the current cost before moving on to the next one
+			while (!current.isEmpty())
+			{
+				int state = current.pop();
+				if (distances[state] != -1)
+				{
+					continue;
+				}
+				distances[state] = (byte) cost;
+
+				int blank = state / blankMultiplier;
+				for (int i = 0, rest = state; i < size; i++, rest /= CELLS)
+				{
+					positions[i] = rest % CELLS;
+				}
+
+				for (int dir = 0; dir < 4; dir++)
+				{
+					int target = neighbour(blank, dir);
+					if (target == -1)
+					{
+						continue;
+					}
+
+					int occupant = -1;
+					for (int i = 0; i < size; i++)
+					{
+						if (positions[i] == target)
+						{
+							occupant = i;
+							break;
+						}
+					}
+
+					int moved = state - blank * blankMultiplier + target * blankMultiplier;
+					if (occupant == -1)
+					{
+						if (distances[moved] == -1)
+						{
+							current.push(moved);
+						}
+					}
+					else
+					{
+						moved += (blank - target) * pow(CELLS, occupant);
+						if (distances[moved] == -1)
+						{
+							next.push(moved);
+						}
+					}
+				}
+			}
+
+			IntStack swap = current;
+			current = next;
+			next = swap;
+		}
+
+		byte[] table = new byte[blankMultiplier];
+		Arrays.fill(table, Byte.MAX_VALUE);
+		for (int state = 0; state < distances.length; state++)
+		{
+			byte distance = distances[state];
+			if (distance != -1)
+			{
+				int index = state % blankMultiplier;
+				if (distance < table[index])
+				{
+					table[index] = distance;
+				}
+			}
+		}
+
+		// entries with overlapping tiles can never be looked up
+		for (int i = 0; i < table.length; i++)
+		{
+			if (table[i] == Byte.MAX_VALUE)
+			{
+				table[i] = 0;
+			}
+		}
+
+		return table;
+	}
+
+	private static int neighbour(int position, int dir)
+	{
+		int x = position % DIMENSION;
+		int y = position / DIMENSION;
+		switch (dir)
+		{
+			case 0:
+				return x > 0 ? position - 1 : -1;
+			case 1:
+				return x < DIMENSION - 1 ? position + 1 : -1;
+			case 2:
+				return y > 0 ? position - DIMENSION : -1;
+			default:
+				return y < DIMENSION - 1 ? position + DIMENSION : -1;
+		}
+	}
+
+	private static int tableSize(int groupSize)
+	{
+		return pow(CELLS, groupSize);
+	}
+
+	private static int pow(int base, int exponent)
+	{
+		int result = 1;
+		for (int i = 0; i < exponent; i++)
+		{
+			result *= base;
+		}
+		return result;
+	}
+
+	private static class IntStack
+	{
+		private int[] values = new int[1024];
+		private int size;
+
+		void push(int value)
+		{
+			if (size == values.length)
+			{
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		int pop()
+		{
+			return values[--size];
+		}
+
+		boolean isEmpty()
+		{
+			return size == 0;
+		}
+	}
+
+	private static class DefaultHolder
+	{
+		private static final PatternDatabase INSTANCE;
+
+		static
+		{
+			try (InputStream in = PatternDatabase.class.getResourceAsStream(RESOURCE))
+			{
+				INSTANCE = read(in);
+			}
+			catch (IOException e)
+			{
+				throw new RuntimeException(e);
+			}
+		}
+	}
+}
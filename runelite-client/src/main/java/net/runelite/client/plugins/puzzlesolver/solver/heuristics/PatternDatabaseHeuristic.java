@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * The larger of the additive pattern database cost and the Manhattan distance
+ * plus linear conflicts. Both are admissible on their own, but they cannot be
+ * summed since they count the same moves.
+ */
+public class PatternDatabaseHeuristic implements Heuristic
+{
+	private final PatternDatabase patternDatabase;
+
+	public PatternDatabaseHeuristic()
+	{
+		this(PatternDatabase.getDefault());
+	}
+
+	public PatternDatabaseHeuristic(PatternDatabase patternDatabase)
+	{
+		this.patternDatabase = patternDatabase;
+	}
+
+	@Override
+	public int computeValue(PuzzleState state)
+	{
+		byte[] board = new byte[DIMENSION * DIMENSION];
+		byte[] positions = new byte[DIMENSION * DIMENSION];
+		for (int y = 0; y < DIMENSION; y++)
+		{
+			for (int x = 0; x < DIMENSION; x++)
+			{
+				int piece = state.getPiece(x, y);
+				int tile = piece == BLANK_TILE_VALUE ? PatternDatabase.BLANK_GOAL : piece;
+				board[y * DIMENSION + x] = (byte) tile;
+				positions[tile] = (byte) (y * DIMENSION + x);
+			}
+		}
+
+		return computeValue(patternDatabase, board, positions);
+	}
+
+	private static int computeValue(PatternDatabase patternDatabase, byte[] board, byte[] positions)
+	{
+		int[] indices = new int[patternDatabase.getGroupCount()];
+		patternDatabase.computeIndices(positions, indices);
+
+		int manhattan = 0;
+		for (int tile = 0; tile < PatternDatabase.BLANK_GOAL; tile++)
+		{
+			manhattan += distance(tile, positions[tile]);
+		}
+
+		int conflicts = 0;
+		for (int line = 0; line < DIMENSION; line++)
+		{
+			conflicts += LinearConflict.row(board, line) + LinearConflict.column(board, line);
+		}
+
+		return Math.max(patternDatabase.getCost(indices), manhattan + conflicts);
+	}
+
+	/**
+	 * @return the Manhattan distance of a tile at the given position from its goal
+	 */
+	public static int distance(int tile, int position)
+	{
+		return Math.abs(tile % DIMENSION - position % DIMENSION) + Math.abs(tile / DIMENSION - position / DIMENSION);
+	}
+}
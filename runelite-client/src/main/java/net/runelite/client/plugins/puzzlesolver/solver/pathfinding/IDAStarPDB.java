@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.pathfinding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.LinearConflict;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabase;
+import net.runelite.client.plugins.puzzlesolver.solver.heuristics.PatternDatabaseHeuristic;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.BLANK_TILE_VALUE;
+import static net.runelite.client.plugins.puzzlesolver.solver.PuzzleSolver.DIMENSION;
+
+/**
+ * IDA* over a compact board that is mutated in place and undone on backtrack,
+ * guided by {@link PatternDatabaseHeuristic}. No objects are allocated while
+ * searching; {@link PuzzleState}s are only built for the final path.
+ * <p>
+ * Each iteration enumerates the nodes a few moves from the root and searches
+ * below them in parallel on the common fork join pool. Since every node within
+ * the current bound is visited before the bound is raised, the first solution
+ * found is optimal when the weight is 1. Larger weights trade optimality for
+ * speed, giving a path at most {@code weight} times the optimal length.
+ */
+public class IDAStarPDB extends Pathfinder
+{
+	private static final int CELLS = DIMENSION * DIMENSION;
+	private static final int BLANK = CELLS - 1;
+	private static final int FOUND = -1;
+	private static final int CANCELLED = Integer.MAX_VALUE;
+
+	/**
+	 * How many moves deep the search is split into parallel tasks
+	 */
+	private static final int SPLIT_DEPTH = 5;
+
+	private final Supplier<PatternDatabase> patternDatabase;
+	private final int weight;
+
+	public IDAStarPDB()
+	{
+		this(PatternDatabase::getDefault, 1);
+	}
+
+	/**
+	 * @param patternDatabase supplies the database; it is only called once the search starts
+	 * @param weight          the multiplier applied to the heuristic
+	 */
+	public IDAStarPDB(Supplier<PatternDatabase> patternDatabase, int weight)
+	{
+		super(state -> new PatternDatabaseHeuristic(patternDatabase.get()).computeValue(state));
+		this.patternDatabase = patternDatabase;
+		this.weight = weight;
+	}
+
+	@Override
+	public List<PuzzleState> computePath(PuzzleState root)
+	{
+		PatternDatabase pdb = patternDatabase.get();
+		Board start = new Board(pdb, root);
+
+		int[] moves = search(start);
+		if (moves == null)
+		{
+			return null;
+		}
+
+		List<PuzzleState> path = new ArrayList<>(moves.length + 1);
+		PuzzleState state = root;
+		path.add(state);
+		for (int target : moves)
+		{
+			int blank = state.getEmptyPiece();
+			state = state.swap(blank % DIMENSION, blank / DIMENSION, target % DIMENSION, target / DIMENSION);
+			path.add(state);
+		}
+		return path;
+	}
+
+	private int[] search(Board start)
+	{
+		if (start.heuristic() == 0)
+		{
+			return new int[0];
+		}
+
+		AtomicBoolean done = new AtomicBoolean();
+		AtomicReference<int[]> solution = new AtomicReference<>();
+		List<int[]> frontier = new ArrayList<>();
+		List<Future<Integer>> futures = new ArrayList<>();
+
+		int bound = start.heuristic() * weight;
+		try
+		{
+			while (true)
+			{
+				frontier.clear();
+				int next = expand(start, new int[SPLIT_DEPTH], 0, -1, bound, frontier, solution);
+				if (solution.get() != null)
+				{
+					return solution.get();
+				}
+
+				final int iterationBound = bound;
+				futures.clear();
+				for (int[] prefix : frontier)
+				{
+					futures.add(ForkJoinPool.commonPool().submit(() -> new Worker(start, prefix, done, solution).search(iterationBound)));
+				}
+
+				for (Future<Integer> future : futures)
+				{
+					next = Math.min(next, future.get());
+				}
+
+				if (solution.get() != null)
+				{
+					return solution.get();
+				}
+
+				if (next == CANCELLED)
+				{
+					return null;
+				}
+				bound = next;
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return null;
+		}
+		catch (ExecutionException e)
+		{
+			throw new RuntimeException(e);
+		}
+		finally
+		{
+			// stop any workers still running if we were interrupted
+			done.set(true);
+		}
+	}
+
+	/**
+	 * Collects the move sequences {@link #SPLIT_DEPTH} moves from the root which are
+	 * within the bound, returning the smallest cost seen beyond it.
+	 */
+	private int expand(Board board, int[] prefix, int depth, int previous, int bound, List<int[]> frontier, AtomicReference<int[]> solution)
+	{
+		int h = board.heuristic();
+		int f = depth + h * weight;
+		if (f > bound)
+		{
+			return f;
+		}
+
+		if (h == 0)
+		{
+			solution.compareAndSet(null, Arrays.copyOf(prefix, depth));
+			return FOUND;
+		}
+
+		if (depth == SPLIT_DEPTH)
+		{
+			frontier.add(prefix.clone());
+			return CANCELLED;
+		}
+
+		int min = CANCELLED;
+		int blank = board.blank;
+		for (int dir = 0; dir < 4; dir++)
+		{
+			int target = neighbour(blank, dir);
+			if (target == -1 || target == previous)
+			{
+				continue;
+			}
+
+			board.slide(target);
+			prefix[depth] = target;
+			int t = expand(board, prefix, depth + 1, blank, bound, frontier, solution);
+			board.slide(blank);
+
+			if (t == FOUND)
+			{
+				return FOUND;
+			}
+			min = Math.min(min, t);
+		}
+		return min;
+	}
+
+	private static int neighbour(int position, int dir)
+	{
+		switch (dir)
+		{
+			case 0:
+				return position % DIMENSION > 0 ? position - 1 : -1;
+			case 1:
+				return position % DIMENSION < DIMENSION - 1 ? position + 1 : -1;
+			case 2:
+				return position >= DIMENSION ? position - DIMENSION : -1;
+			default:
+				return position < CELLS - DIMENSION ? position + DIMENSION : -1;
+		}
+	}
+
+	private class Worker
+	{
+		private final Board board;
+		private final int[] path = new int[256];
+		private final int prefixLength;
+		private final int previous;
+		private final AtomicBoolean done;
+		private final AtomicReference<int[]> solution;
+
+		Worker(Board start, int[] prefix, AtomicBoolean done, AtomicReference<int[]> solution)
+		{
+			this.board = new Board(start);
+			this.prefixLength = prefix.length;
+			this.done = done;
+			this.solution = solution;
+			this.previous = prefix.length > 1 ? prefix[prefix.length - 2] : start.blank;
+
+			for (int i = 0; i < prefix.length; i++)
+			{
+				board.slide(prefix[i]);
+				path[i] = prefix[i];
+			}
+		}
+
+		int search(int bound)
+		{
+			return search(prefixLength, previous, bound);
+		}
+
+		private int search(int depth, int previous, int bound)
+		{
+			if (done.get())
+			{
+				return CANCELLED;
+			}
+
+			int h = board.heuristic();
+			int f = depth + h * weight;
+			if (f > bound)
+			{
+				return f;
+			}
+
+			if (h == 0)
+			{
+				if (solution.compareAndSet(null, Arrays.copyOf(path, depth)))
+				{
+					done.set(true);
+				}
+				return FOUND;
+			}
+
+			if (depth == path.length)
+			{
+				return CANCELLED;
+			}
+
+			int min = CANCELLED;
+			int blank = board.blank;
+			for (int dir = 0; dir < 4; dir++)
+			{
+				int target = neighbour(blank, dir);
+				if (target == -1 || target == previous)
+				{
+					continue;
+				}
+
+				board.slide(target);
+				path[depth] = target;
+				int t = search(depth + 1, blank, bound);
+				board.slide(blank);
+
+				if (t == FOUND)
+				{
+					return FOUND;
+				}
+				min = Math.min(min, t);
+			}
+			return min;
+		}
+	}
+
+	/**
+	 * The board and its heuristic components, all updated incrementally by {@link #slide(int)}.
+	 */
+	private static class Board
+	{
+		private final PatternDatabase pdb;
+		private final byte[] tiles;
+		private final byte[] positions;
+		private final int[] indices;
+		private final int[] conflicts;
+		private int blank;
+		private int pdbCost;
+		private int manhattan;
+		private int conflictCost;
+
+		Board(PatternDatabase pdb, PuzzleState state)
+		{
+			this.pdb = pdb;
+			tiles = new byte[CELLS];
+			positions = new byte[CELLS];
+			for (int position = 0; position < CELLS; position++)
+			{
+				int piece = state.getPiece(position % DIMENSION, position / DIMENSION);
+				int tile = piece == BLANK_TILE_VALUE ? BLANK : piece;
+				tiles[position] = (byte) tile;
+				positions[tile] = (byte) position;
+			}
+			blank = positions[BLANK];
+
+			indices = new int[pdb.getGroupCount()];
+			pdb.computeIndices(positions, indices);
+			pdbCost = pdb.getCost(indices);
+
+			for (int tile = 0; tile < BLANK; tile++)
+			{
+				manhattan += PatternDatabaseHeuristic.distance(tile, positions[tile]);
+			}
+
+			// rows first, then columns
+			conflicts = new int[DIMENSION * 2];
+			for (int line = 0; line < DIMENSION; line++)
+			{
+				conflicts[line] = LinearConflict.row(tiles, line);
+				conflicts[DIMENSION + line] = LinearConflict.column(tiles, line);
+				conflictCost += conflicts[line] + conflicts[DIMENSION + line];
+			}
+		}
+
+		Board(Board other)
+		{
+			pdb = other.pdb;
+			tiles = other.tiles.clone();
+			positions = other.positions.clone();
+			indices = other.indices.clone();
+			conflicts = other.conflicts.clone();
+			blank = other.blank;
+			pdbCost = other.pdbCost;
+			manhattan = other.manhattan;
+			conflictCost = other.conflictCost;
+		}
+
+		int heuristic()
+		{
+			return Math.max(pdbCost, manhattan + conflictCost);
+		}
+
+		/**
+		 * Slides the tile at {@code from} into the blank. Sliding the same tile back undoes the move.
+		 */
+		void slide(int from)
+		{
+			int to = blank;
+			int tile = tiles[from];
+
+			tiles[to] = (byte) tile;
+			tiles[from] = (byte) BLANK;
+			positions[tile] = (byte) to;
+			positions[BLANK] = (byte) from;
+			blank = from;
+
+			manhattan += PatternDatabaseHeuristic.distance(tile, to) - PatternDatabaseHeuristic.distance(tile, from);
+
+			int group = pdb.getGroup(tile);
+			if (group != -1)
+			{
+				pdbCost -= pdb.getCost(group, indices[group]);
+				indices[group] += (to - from) * pdb.getMultiplier(tile);
+				pdbCost += pdb.getCost(group, indices[group]);
+			}
+
+			if (from / DIMENSION == to / DIMENSION)
+			{
+				// a horizontal move keeps the order within the row, but changes two columns
+				updateColumn(from % DIMENSION);
+				updateColumn(to % DIMENSION);
+			}
+			else
+			{
+				updateRow(from / DIMENSION);
+				updateRow(to / DIMENSION);
+			}
+		}
+
+		private void updateRow(int row)
+		{
+			int value = LinearConflict.row(tiles, row);
+			conflictCost += value - conflicts[row];
+			conflicts[row] = value;
+		}
+
+		private void updateColumn(int column)
+		{
+			int value = LinearConflict.column(tiles, column);
+			conflictCost += value - conflicts[DIMENSION + column];
+			conflicts[DIMENSION + column] = value;
+		}
+	}
+}
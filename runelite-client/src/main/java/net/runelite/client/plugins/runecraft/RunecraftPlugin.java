@@ -30,7 +30,6 @@ import java.awt.Color;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Stream;
 import javax.inject.Inject;
 import lombok.AccessLevel;
@@ -52,6 +51,7 @@ import net.runelite.client.Notifier;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
+import net.runelite.client.game.npcoverlay.NpcHighlighter;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -100,7 +100,10 @@ public class RunecraftPlugin extends Plugin
 	@Inject
 	private NpcOverlayService npcOverlayService;
 
-	private final Function<NPC, HighlightedNpc> highlightDarkMage = this::highlightDarkMage;
+	private final NpcHighlighter darkMageHighlighter = NpcHighlighter.builder()
+		.id(NpcID.RCU_ZAMMY_MAGE2)
+		.highlight(this::highlightDarkMage)
+		.build();
 
 	@Provides
 	RunecraftConfig getConfig(ConfigManager configManager)
@@ -111,7 +114,7 @@ public class RunecraftPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
-		npcOverlayService.registerHighlighter(highlightDarkMage);
+		npcOverlayService.registerHighlighter(darkMageHighlighter);
 		overlayManager.add(abyssOverlay);
 		overlayManager.add(abyssMinimapOverlay);
 		overlayManager.add(essencePouchOverlay);
@@ -120,7 +123,7 @@ public class RunecraftPlugin extends Plugin
 	@Override
 	protected void shutDown() throws Exception
 	{
-		npcOverlayService.unregisterHighlighter(highlightDarkMage);
+		npcOverlayService.unregisterHighlighter(darkMageHighlighter);
 		overlayManager.remove(abyssOverlay);
 		overlayManager.remove(abyssMinimapOverlay);
 		overlayManager.remove(essencePouchOverlay);
@@ -81,6 +81,7 @@ import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.game.ItemVariationMapping;
 import net.runelite.client.game.npcoverlay.HighlightedNpc;
+import net.runelite.client.game.npcoverlay.NpcHighlighter;
 import net.runelite.client.game.npcoverlay.NpcOverlayService;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
@@ -199,6 +200,10 @@ public class SlayerPlugin extends Plugin
 		return null;
 	};
 
+	private final NpcHighlighter targetHighlighter = NpcHighlighter.builder()
+		.highlight(isTarget)
+		.build();
+
 	@Override
 	public void configure(Binder binder)
 	{
@@ -209,7 +214,7 @@ public class SlayerPlugin extends Plugin
 	protected void startUp()
 	{
 		chatCommandManager.registerCommandAsync(TASK_COMMAND_STRING, this::taskLookup, this::taskSubmit);
-		npcOverlayService.registerHighlighter(isTarget);
+		npcOverlayService.registerHighlighter(targetHighlighter);
 
 		overlayManager.add(overlay);
 		overlayManager.add(targetWeaknessOverlay);
@@ -240,7 +245,7 @@ public class SlayerPlugin extends Plugin
 	protected void shutDown()
 	{
 		chatCommandManager.unregisterCommand(TASK_COMMAND_STRING);
-		npcOverlayService.unregisterHighlighter(isTarget);
+		npcOverlayService.unregisterHighlighter(targetHighlighter);
 
 		overlayManager.remove(overlay);
 		overlayManager.remove(targetWeaknessOverlay);
@@ -496,7 +501,7 @@ public class SlayerPlugin extends Plugin
 		}
 		else
 		{
-			npcOverlayService.rebuild();
+			npcOverlayService.rebuild(targetHighlighter);
 		}
 	}
 
@@ -630,7 +635,7 @@ public class SlayerPlugin extends Plugin
 		Task task = Task.getTask(name);
 		rebuildTargetNames(task);
 		rebuildTargetList();
-		npcOverlayService.rebuild();
+		npcOverlayService.rebuild(targetHighlighter);
 	}
 
 	private void addCounter()
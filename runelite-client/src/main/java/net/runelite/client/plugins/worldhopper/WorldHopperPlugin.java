@@ -80,6 +80,7 @@ import net.runelite.client.game.WorldService;
 import net.runelite.client.input.KeyManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.plugins.worldhopper.ping.MultiPing;
 import net.runelite.client.plugins.worldhopper.ping.Ping;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
@@ -807,7 +808,7 @@ public class WorldHopperPlugin extends Plugin
 	}
 
 	/**
-	 * Ping all worlds. This takes a long time and is only run on first run.
+	 * Ping all worlds. This is only run on first run.
 	 */
 	private void pingInitialWorlds()
 	{
@@ -819,11 +820,11 @@ public class WorldHopperPlugin extends Plugin
 
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
-		for (World world : worldResult.getWorlds())
+		MultiPing.ping(worldResult.getWorlds(), (world, ping) ->
 		{
-			int ping = ping(world);
+			storedPings.put(world.getId(), ping);
 			SwingUtilities.invokeLater(() -> panel.updatePing(world.getId(), ping));
-		}
+		});
 
 		stopwatch.stop();
 
@@ -0,0 +1,374 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import com.google.common.primitives.Booleans;
+import com.google.common.primitives.Bytes;
+import com.sun.jna.Memory;
+import com.sun.jna.Native;
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+import lombok.extern.slf4j.Slf4j;
+import static net.runelite.client.plugins.worldhopper.ping.Ping.MAX_IPV4_HEADER_SIZE;
+import static net.runelite.client.plugins.worldhopper.ping.Ping.PORT;
+import static net.runelite.client.plugins.worldhopper.ping.Ping.RUNELITE_PING;
+import static net.runelite.client.plugins.worldhopper.ping.Ping.TIMEOUT;
+import net.runelite.client.util.OSType;
+import net.runelite.http.api.worlds.World;
+
+/**
+ * Pings many worlds at once. Rather than waiting up to the timeout for each world in turn, all of the
+ * echo requests are sent from one ICMP socket and the replies matched back up by sequence number, or
+ * all of the TCP connects are started on non-blocking channels and waited on together, so the whole
+ * list takes at most one timeout.
+ */
+@Slf4j
+public class MultiPing
+{
+	@FunctionalInterface
+	interface Result
+	{
+		void accept(int index, int ping);
+	}
+
+	private static final int ICMP_POLL = 50; // ms
+
+	/**
+	 * Ping worlds, passing each result to the consumer as it arrives, or -1 if the world can't be pinged.
+	 * This blocks until every world has a result. Exceptions thrown by the consumer are passed on to the caller.
+	 */
+	public static void ping(List<World> worlds, ObjIntConsumer<World> consumer)
+	{
+		List<World> pinged = new ArrayList<>(worlds.size());
+		List<InetAddress> addresses = new ArrayList<>(worlds.size());
+		for (World world : worlds)
+		{
+			InetAddress inetAddress;
+			try
+			{
+				inetAddress = InetAddress.getByName(world.getAddress());
+			}
+			catch (UnknownHostException ex)
+			{
+				log.debug("error resolving host for world ping", ex);
+				consumer.accept(world, -1);
+				continue;
+			}
+
+			if (!(inetAddress instanceof Inet4Address))
+			{
+				log.debug("Only ipv4 ping is supported");
+				consumer.accept(world, -1);
+				continue;
+			}
+
+			pinged.add(world);
+			addresses.add(inetAddress);
+		}
+
+		if (addresses.isEmpty())
+		{
+			return;
+		}
+
+		ping(addresses, PORT, TIMEOUT, (idx, ping) -> consumer.accept(pinged.get(idx), ping));
+	}
+
+	static void ping(List<InetAddress> addresses, int port, int timeout, Result result)
+	{
+		// so that a failure part way through doesn't pass on a second result for an address
+		final boolean[] reported = new boolean[addresses.size()];
+		final Result tracked = (idx, ping) ->
+		{
+			reported[idx] = true;
+			result.accept(idx, ping);
+		};
+
+		try
+		{
+			switch (OSType.getOSType())
+			{
+				case MacOS:
+				case Linux:
+					try
+					{
+						icmpPing(addresses, OSType.getOSType() == OSType.MacOS, timeout, tracked);
+						return;
+					}
+					catch (IOException ex)
+					{
+						if (Booleans.contains(reported, true))
+						{
+							throw ex;
+						}
+						log.debug("unable to set up icmp ping", ex);
+					}
+					// fallthrough
+				default:
+					// IcmpSendEcho blocks for each request, so Windows also uses tcp
+					tcpPing(addresses, port, timeout, tracked);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("error pinging", ex);
+			for (int i = 0; i < addresses.size(); ++i)
+			{
+				if (!reported[i])
+				{
+					result.accept(i, -1);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Send an echo request to each address from a single ICMP socket, and then read replies until
+	 * each has been matched to its request or the timeout has elapsed. Throws only if the socket
+	 * can't be set up, before any results have been passed on.
+	 */
+	static void icmpPing(List<InetAddress> addresses, boolean includeIpHeader, int timeout, Result result) throws IOException
+	{
+		RLLibC libc = RLLibC.INSTANCE;
+
+		int sock = libc.socket(libc.AF_INET, libc.SOCK_DGRAM, libc.IPPROTO_ICMP);
+		if (sock < 0)
+		{
+			throw new IOException("failed to open ICMP socket");
+		}
+
+		try
+		{
+			// recvfrom() wakes up periodically to check the overall timeout
+			Timeval tv = new Timeval();
+			tv.tv_usec = ICMP_POLL * 1000;
+			tv.write();
+
+			if (libc.setsockopt(sock, libc.SOL_SOCKET, libc.SO_RCVTIMEO, tv.getPointer(), tv.size()) < 0)
+			{
+				throw new IOException("failed to set SO_RCVTIMEO");
+			}
+
+			final int count = addresses.size();
+			final short firstSeq = Ping.nextSeq(count);
+			final long[] start = new long[count];
+			final boolean[] done = new boolean[count];
+			int remaining = count;
+
+			for (int i = 0; i < count; ++i)
+			{
+				short seqno = (short) (firstSeq + i);
+				// struct icmphdr
+				byte[] request = {
+					8, // type 8 - ipv4 echo request
+					0, // code
+					0, 0, // checksum
+					0, 0, // id - set by kernel on Linux
+					(byte) (((seqno >> 8) & 0xff)), (byte) (seqno & 0xff)
+				};
+				request = Bytes.concat(request, RUNELITE_PING);
+
+				final short checksum = Ping.checksum(request);
+				request[2] = (byte) ((checksum >> 8) & 0xff);
+				request[3] = (byte) (checksum & 0xff);
+
+				byte[] address = addresses.get(i).getAddress();
+				// struct sockaddr_in
+				byte[] addr = {
+					(byte) libc.AF_INET, 0, // sin_family
+					0, 0, // sin_port
+					address[0], address[1], address[2], address[3], // sin_addr.s_addr
+					0, 0, 0, 0, 0, 0, 0, 0 // padding
+				};
+
+				start[i] = System.nanoTime();
+				if (libc.sendto(sock, request, request.length, 0, addr, addr.length) != request.length)
+				{
+					log.debug("sendto() error: errno {}", Native.getLastError());
+					done[i] = true;
+					--remaining;
+					result.accept(i, -1);
+				}
+			}
+
+			int size = 8 + RUNELITE_PING.length + // struct icmphdr + response
+				(includeIpHeader ? MAX_IPV4_HEADER_SIZE : 0); // struct ip
+			Memory response = new Memory(size);
+			Memory srcAddr = new Memory(16); // struct sockaddr_in
+			Memory srcAddrLen = new Memory(4);
+
+			final long deadline = System.nanoTime() + timeout * 1_000_000L;
+			while (remaining > 0 && System.nanoTime() < deadline)
+			{
+				srcAddrLen.setInt(0, (int) srcAddr.size());
+				int rlen = libc.recvfrom(sock, response, size, 0, srcAddr, srcAddrLen);
+				long end = System.nanoTime();
+				if (rlen < 0)
+				{
+					// the receive timeout elapsing is the usual case here
+					int errno = Native.getLastError();
+					if (errno != libc.EAGAIN && errno != libc.EINTR)
+					{
+						log.debug("recvfrom() error: len {} errno {}", rlen, errno);
+						break;
+					}
+					continue;
+				}
+
+				int icmpHeaderOffset = 0;
+				if (includeIpHeader)
+				{
+					int ihl = response.getByte(0) & 0xf;
+					icmpHeaderOffset = ihl << 2; // to bytes
+				}
+
+				if (icmpHeaderOffset + 7 >= rlen || response.getByte(icmpHeaderOffset) != 0) // ICMP type - echo reply
+				{
+					continue;
+				}
+
+				short seq = (short) (((response.getByte(icmpHeaderOffset + 6) & 0xff) << 8) | response.getByte(icmpHeaderOffset + 7) & 0xff);
+				int idx = (seq - firstSeq) & 0xffff;
+				if (idx >= count || done[idx]
+					|| !Arrays.equals(srcAddr.getByteArray(4, 4), addresses.get(idx).getAddress()))
+				{
+					log.debug("unexpected echo reply (sequence number {})", seq);
+					continue;
+				}
+
+				done[idx] = true;
+				--remaining;
+				result.accept(idx, (int) ((end - start[idx]) / 1_000_000));
+			}
+
+			for (int i = 0; i < count; ++i)
+			{
+				if (!done[i])
+				{
+					result.accept(i, -1);
+				}
+			}
+		}
+		finally
+		{
+			libc.close(sock);
+		}
+	}
+
+	/**
+	 * Start a non-blocking connect to each address, and wait on all of them with one selector
+	 */
+	static void tcpPing(List<InetAddress> addresses, int port, int timeout, Result result) throws IOException
+	{
+		final int count = addresses.size();
+		final long[] start = new long[count];
+		try (Selector selector = Selector.open())
+		{
+			int pending = 0;
+			for (int i = 0; i < count; ++i)
+			{
+				SocketChannel channel = null;
+				try
+				{
+					channel = SocketChannel.open();
+					channel.configureBlocking(false);
+					start[i] = System.nanoTime();
+					if (channel.connect(new InetSocketAddress(addresses.get(i), port)))
+					{
+						result.accept(i, (int) ((System.nanoTime() - start[i]) / 1_000_000));
+						channel.close();
+					}
+					else
+					{
+						channel.register(selector, SelectionKey.OP_CONNECT, i);
+						++pending;
+					}
+				}
+				catch (IOException ex)
+				{
+					log.debug("error connecting to {}", addresses.get(i), ex);
+					result.accept(i, -1);
+					if (channel != null)
+					{
+						channel.close();
+					}
+				}
+			}
+
+			final long deadline = System.nanoTime() + timeout * 1_000_000L;
+			while (pending > 0)
+			{
+				long wait = (deadline - System.nanoTime()) / 1_000_000;
+				if (wait <= 0)
+				{
+					break;
+				}
+
+				selector.select(wait);
+				long end = System.nanoTime();
+				for (SelectionKey key : selector.selectedKeys())
+				{
+					int idx = (int) key.attachment();
+					SocketChannel channel = (SocketChannel) key.channel();
+					int ping;
+					try
+					{
+						channel.finishConnect();
+						ping = (int) ((end - start[idx]) / 1_000_000);
+					}
+					catch (IOException ex)
+					{
+						ping = -1;
+					}
+					key.cancel();
+					channel.close();
+					--pending;
+					result.accept(idx, ping);
+				}
+				selector.selectedKeys().clear();
+			}
+
+			// anything left has timed out
+			for (SelectionKey key : selector.keys())
+			{
+				if (key.isValid())
+				{
+					result.accept((int) key.attachment(), -1);
+					key.channel().close();
+				}
+			}
+		}
+	}
+}
@@ -42,10 +42,10 @@ import net.runelite.http.api.worlds.World;
 @Slf4j
 public class Ping
 {
-	private static final byte[] RUNELITE_PING = "RuneLitePing".getBytes(Charsets.UTF_8);
-	private static final int TIMEOUT = 2000; // ms
-	private static final int PORT = 43594;
-	private static final int MAX_IPV4_HEADER_SIZE = 60;
+	static final byte[] RUNELITE_PING = "RuneLitePing".getBytes(Charsets.UTF_8);
+	static final int TIMEOUT = 2000; // ms
+	static final int PORT = 43594;
+	static final int MAX_IPV4_HEADER_SIZE = 60;
 
 	private static short seq;
 
@@ -149,7 +149,7 @@ public class Ping
 				throw new IOException("failed to set SO_SNDTIMEO");
 			}
 
-			short seqno = seq++;
+			short seqno = nextSeq(1);
 
 			// struct icmphdr
 			byte[] request = {
@@ -240,8 +240,20 @@ public class Ping
 		}
 	}
 
+	/**
+	 * Reserve a range of echo sequence numbers
+	 *
+	 * @return the first sequence number of the range
+	 */
+	static synchronized short nextSeq(int count)
+	{
+		short seqno = seq;
+		seq += count;
+		return seqno;
+	}
+
 	// IP checksum
-	private static short checksum(byte[] data)
+	static short checksum(byte[] data)
 	{
 		int a = 0;
 		for (int i = 0; i < data.length - 1; i += 2)
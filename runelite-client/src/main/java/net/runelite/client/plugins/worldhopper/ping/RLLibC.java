@@ -39,6 +39,8 @@ interface RLLibC extends LibC
 	int IPPROTO_ICMP = 1;
 	int SO_SNDTIMEO = OSType.getOSType() == OSType.MacOS ? 0x1005 : 21;
 	int SO_RCVTIMEO = OSType.getOSType() == OSType.MacOS ? 0x1006 : 20;
+	int EINTR = 4;
+	int EAGAIN = OSType.getOSType() == OSType.MacOS ? 35 : 11;
 
 	int socket(int domain, int type, int protocol);
 
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import com.google.common.io.ByteArrayDataOutput;
+import com.google.common.io.ByteStreams;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.api.Constants;
+import net.runelite.api.Skill;
+
+/**
+ * The recent xp of each skill, for the xp gained and xp/hr over windows such as the last 5, 15 or 60 minutes.
+ * The time spent logged out is kept too, so that it doesn't count towards the xp/hr. The history is kept in
+ * a binary file per profile.
+ */
+@Slf4j
+class XpHistory
+{
+	private static final int MAGIC = 0x58504853; // XPHS
+	private static final int VERSION = 2;
+	private static final String EXTENSION = ".xph";
+	private static final long HOUR_TICKS = Duration.ofHours(1).toMillis() / Constants.GAME_TICK_LENGTH;
+	private static final int MAX_GAPS = 64;
+
+	private final File dir;
+	private final Map<Skill, XpTimeSeries> series = new EnumMap<>(Skill.class);
+	// the start and end ticks of the most recent times logged out, oldest first
+	private final Deque<long[]> gaps = new ArrayDeque<>();
+	// the tick the player logged out at, or -1 if logged in
+	private long offlineSince = -1;
+
+	XpHistory(File dir)
+	{
+		this.dir = dir;
+		for (Skill skill : Skill.values())
+		{
+			series.put(skill, new XpTimeSeries());
+		}
+	}
+
+	synchronized void record(Skill skill, int xp)
+	{
+		series.get(skill).record(now(), xp);
+	}
+
+	/**
+	 * Records the xp of a skill, treating any change since the last sample as not gained in the window queries.
+	 */
+	synchronized void rebase(Skill skill, int xp)
+	{
+		final XpTimeSeries s = series.get(skill);
+		s.rebase(xp);
+		s.record(now(), xp);
+	}
+
+	synchronized int getXpGained(Skill skill, Duration window)
+	{
+		return series.get(skill).gained(now(), ticks(window));
+	}
+
+	/**
+	 * Marks the player as logged out, until the next {@link #login()}.
+	 */
+	synchronized void logout()
+	{
+		if (offlineSince == -1)
+		{
+			offlineSince = now();
+		}
+	}
+
+	/**
+	 * Marks the player as logged in, ending the time logged out.
+	 */
+	synchronized void login()
+	{
+		if (offlineSince == -1)
+		{
+			return;
+		}
+
+		final long now = now();
+		if (now > offlineSince)
+		{
+			if (gaps.size() == MAX_GAPS)
+			{
+				gaps.removeFirst();
+			}
+			gaps.addLast(new long[]{offlineSince, now});
+		}
+		offlineSince = -1;
+	}
+
+	synchronized int getXpHr(Skill skill, Duration window)
+	{
+		final XpTimeSeries s = series.get(skill);
+		final long now = now();
+		final long windowTicks = ticks(window);
+		final long span = Math.min(windowTicks, now - s.oldestTick());
+		final long elapsed = span - offlineTicks(now - span, now);
+		if (s.size() == 0 || elapsed <= 0)
+		{
+			return 0;
+		}
+
+		return (int) (s.gained(now, windowTicks) * HOUR_TICKS / elapsed);
+	}
+
+	synchronized void clear()
+	{
+		for (XpTimeSeries s : series.values())
+		{
+			s.clear();
+		}
+		gaps.clear();
+	}
+
+	/**
+	 * Reads the history saved for the profile. This only touches the file, so it is done off the client
+	 * thread, and the history is then replaced with {@link #apply}.
+	 *
+	 * @return the saved history, or null if there is none
+	 */
+	@Nullable
+	Saved read(String profile)
+	{
+		final File file = file(profile);
+		if (!file.exists())
+		{
+			return null;
+		}
+
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+			{
+				return null;
+			}
+
+			final Saved saved = new Saved(in.readLong());
+			final int gapCount = in.readUnsignedByte();
+			if (gapCount > MAX_GAPS)
+			{
+				throw new IOException("invalid gap count " + gapCount);
+			}
+			for (int i = 0; i < gapCount; ++i)
+			{
+				saved.gaps.addLast(new long[]{in.readLong(), in.readLong()});
+			}
+
+			final int count = in.readUnsignedByte();
+			for (int i = 0; i < count; ++i)
+			{
+				final Skill skill = Skill.valueOf(in.readUTF());
+				final XpTimeSeries s = new XpTimeSeries();
+				s.read(in);
+				saved.series.put(skill, s);
+			}
+			return saved;
+		}
+		catch (IOException | IllegalArgumentException ex)
+		{
+			log.warn("unable to read xp history {}", file, ex);
+			return null;
+		}
+	}
+
+	/**
+	 * Replaces the history with one from {@link #read}, or clears it if there was none.
+	 */
+	synchronized void apply(@Nullable Saved saved)
+	{
+		clear();
+		if (saved == null)
+		{
+			return;
+		}
+
+		// the history is saved when the player logs out or the client closes, so they have been offline since
+		if (offlineSince == -1 || saved.savedAt < offlineSince)
+		{
+			offlineSince = saved.savedAt;
+		}
+		gaps.addAll(saved.gaps);
+		series.putAll(saved.series);
+	}
+
+	/**
+	 * Encodes the history for {@link #write}. This is only a copy in memory, so it is cheap enough for
+	 * the client thread, and the history can keep changing while it is written.
+	 */
+	synchronized byte[] encode()
+	{
+		final ByteArrayDataOutput out = ByteStreams.newDataOutput();
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeLong(offlineSince != -1 ? offlineSince : now());
+		out.writeByte(gaps.size());
+		for (long[] gap : gaps)
+		{
+			out.writeLong(gap[0]);
+			out.writeLong(gap[1]);
+		}
+		out.writeByte(series.size());
+		try
+		{
+			for (Map.Entry<Skill, XpTimeSeries> entry : series.entrySet())
+			{
+				out.writeUTF(entry.getKey().name());
+				entry.getValue().write(out);
+			}
+		}
+		catch (IOException ex)
+		{
+			// writes to memory don't fail
+			throw new IllegalStateException(ex);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Writes a history from {@link #encode} for the profile. This only touches the file, so it is done off
+	 * the client thread.
+	 */
+	void write(String profile, byte[] data)
+	{
+		dir.mkdirs();
+		final File file = file(profile);
+		final File tmp = new File(dir, file.getName() + ".tmp");
+		try
+		{
+			Files.write(tmp.toPath(), data);
+			try
+			{
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex)
+			{
+				Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to write xp history {}", file, ex);
+			tmp.delete();
+		}
+	}
+
+	/**
+	 * @return the number of ticks between {@code from} and {@code to} spent logged out
+	 */
+	private long offlineTicks(long from, long to)
+	{
+		long ticks = offlineSince != -1 ? Math.max(0, to - Math.max(from, offlineSince)) : 0;
+		for (long[] gap : gaps)
+		{
+			ticks += Math.max(0, Math.min(to, gap[1]) - Math.max(from, gap[0]));
+		}
+		return ticks;
+	}
+
+	private File file(String profile)
+	{
+		return new File(dir, profile.replaceAll("[^A-Za-z0-9_-]", "_") + EXTENSION);
+	}
+
+	private static long now()
+	{
+		return System.currentTimeMillis() / Constants.GAME_TICK_LENGTH;
+	}
+
+	private static long ticks(Duration window)
+	{
+		return window.toMillis() / Constants.GAME_TICK_LENGTH;
+	}
+
+	/**
+	 * A history read from a file, before it replaces the current one
+	 */
+	@RequiredArgsConstructor
+	static final class Saved
+	{
+		private final long savedAt;
+		private final Deque<long[]> gaps = new ArrayDeque<>();
+		private final Map<Skill, XpTimeSeries> series = new EnumMap<>(Skill.class);
+	}
+}
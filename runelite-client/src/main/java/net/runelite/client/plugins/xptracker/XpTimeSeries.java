@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The xp of one skill over time, as a ring buffer of (tick, xp) samples taken each time the xp changes.
+ * <p>
+ * Windows ending now are queried with a cursor per window length, which only moves forward as time
+ * does, so repeated queries of the same windows are amortized O(1). Cursors are kept for the few most
+ * recently queried window lengths, and a window without one is found with a binary search.
+ */
+class XpTimeSeries
+{
+	/**
+	 * The maximum number of samples kept, which is over an hour of game ticks with xp on every tick
+	 */
+	static final int CAPACITY = 8192;
+	private static final int INITIAL_CAPACITY = 64;
+	// the panel and overlays each query a few fixed windows
+	private static final int MAX_CURSORS = 8;
+
+	private long[] ticks = new long[INITIAL_CAPACITY];
+	private int[] xps = new int[INITIAL_CAPACITY];
+	// sequence numbers of the oldest sample and one past the newest sample
+	private long head;
+	private long tail;
+
+	// the window lengths queried, for each the sequence number of the newest sample at or before the window start,
+	// and when each was last used
+	private long[] windows = new long[0];
+	private long[] cursors = new long[0];
+	private long[] used = new long[0];
+	private long queries;
+
+	int size()
+	{
+		return (int) (tail - head);
+	}
+
+	/**
+	 * Records the xp at a tick. Samples are kept in tick order, so a tick before the newest sample is
+	 * recorded at the newest sample's tick instead.
+	 */
+	void record(long tick, int xp)
+	{
+		if (tail > head)
+		{
+			final int last = index(tail - 1);
+			if (xps[last] == xp)
+			{
+				return;
+			}
+			tick = Math.max(tick, ticks[last]);
+		}
+
+		append(tick, xp);
+	}
+
+	/**
+	 * Shifts every sample so that the newest sample is at the given xp, keeping the gains between them.
+	 * This is used for xp which was gained without being recorded, such as while logged out.
+	 */
+	void rebase(int xp)
+	{
+		if (tail == head)
+		{
+			return;
+		}
+
+		final int diff = xp - xps[index(tail - 1)];
+		if (diff == 0)
+		{
+			return;
+		}
+
+		for (long seq = head; seq < tail; ++seq)
+		{
+			xps[index(seq)] += diff;
+		}
+	}
+
+	/**
+	 * @return the tick of the oldest sample, or -1 if there are no samples
+	 */
+	long oldestTick()
+	{
+		return tail > head ? ticks[index(head)] : -1;
+	}
+
+	/**
+	 * Gets the xp gained in the window of the given number of ticks ending at {@code now}. If there are no
+	 * samples from before the window, the gain is from the oldest sample.
+	 */
+	int gained(long now, long window)
+	{
+		if (tail == head)
+		{
+			return 0;
+		}
+
+		final long start = now - window;
+		final int w = cursor(window);
+		long seq = cursors[w];
+		if (seq < head || seq >= tail || ticks[index(seq)] > start)
+		{
+			// a new cursor, the sample was dropped, or time has gone backwards
+			seq = search(start);
+		}
+
+		while (seq + 1 < tail && ticks[index(seq + 1)] <= start)
+		{
+			++seq;
+		}
+		cursors[w] = seq;
+
+		return Math.max(0, xps[index(tail - 1)] - xps[index(seq)]);
+	}
+
+	void clear()
+	{
+		head = tail = 0;
+		Arrays.fill(cursors, 0);
+	}
+
+	/**
+	 * Writes the samples, with each tick and xp stored as a varint of the difference from the previous sample.
+	 */
+	void write(DataOutput out) throws IOException
+	{
+		writeVarLong(out, size());
+		long prevTick = 0;
+		int prevXp = 0;
+		for (long seq = head; seq < tail; ++seq)
+		{
+			final int i = index(seq);
+			writeVarLong(out, ticks[i] - prevTick);
+			// xp can go down when rebased, so zigzag encode the difference to keep small negatives small
+			final long d = (long) xps[i] - prevXp;
+			writeVarLong(out, (d << 1) ^ (d >> 63));
+			prevTick = ticks[i];
+			prevXp = xps[i];
+		}
+	}
+
+	/**
+	 * Replaces the samples with those written by {@link #write(DataOutput)}.
+	 */
+	void read(DataInput in) throws IOException
+	{
+		clear();
+
+		final long count = readVarLong(in);
+		if (count < 0 || count > CAPACITY)
+		{
+			throw new IOException("invalid sample count " + count);
+		}
+
+		long tick = 0;
+		int xp = 0;
+		for (long i = 0; i < count; ++i)
+		{
+			tick += readVarLong(in);
+			final long d = readVarLong(in);
+			xp += (int) ((d >>> 1) ^ -(d & 1));
+			append(tick, xp);
+		}
+	}
+
+	private void append(long tick, int xp)
+	{
+		if (tail - head == ticks.length)
+		{
+			if (ticks.length < CAPACITY)
+			{
+				grow();
+			}
+			else
+			{
+				++head;
+			}
+		}
+
+		final int i = index(tail++);
+		ticks[i] = tick;
+		xps[i] = xp;
+	}
+
+	private void grow()
+	{
+		final long[] newTicks = new long[ticks.length * 2];
+		final int[] newXps = new int[xps.length * 2];
+		for (long seq = head; seq < tail; ++seq)
+		{
+			final int from = index(seq);
+			final int to = (int) (seq & (newTicks.length - 1));
+			newTicks[to] = ticks[from];
+			newXps[to] = xps[from];
+		}
+		ticks = newTicks;
+		xps = newXps;
+	}
+
+	private int index(long seq)
+	{
+		return (int) (seq & (ticks.length - 1));
+	}
+
+	/**
+	 * @return the sequence number of the newest sample at or before the tick, or of the oldest sample if there is none
+	 */
+	private long search(long tick)
+	{
+		long lo = head;
+		long hi = tail - 1;
+		while (lo < hi)
+		{
+			final long mid = (lo + hi + 1) >>> 1;
+			if (ticks[index(mid)] <= tick)
+			{
+				lo = mid;
+			}
+			else
+			{
+				hi = mid - 1;
+			}
+		}
+		return lo;
+	}
+
+	private int cursor(long window)
+	{
+		for (int i = 0; i < windows.length; ++i)
+		{
+			if (windows[i] == window)
+			{
+				used[i] = ++queries;
+				return i;
+			}
+		}
+
+		int i = windows.length;
+		if (i < MAX_CURSORS)
+		{
+			windows = Arrays.copyOf(windows, i + 1);
+			cursors = Arrays.copyOf(cursors, i + 1);
+			used = Arrays.copyOf(used, i + 1);
+		}
+		else
+		{
+			// replace the least recently used
+			i = 0;
+			for (int j = 1; j < used.length; ++j)
+			{
+				if (used[j] < used[i])
+				{
+					i = j;
+				}
+			}
+		}
+
+		windows[i] = window;
+		cursors[i] = -1;
+		used[i] = ++queries;
+		return i;
+	}
+
+	@VisibleForTesting
+	int cursorCount()
+	{
+		return windows.length;
+	}
+
+	private static void writeVarLong(DataOutput out, long value) throws IOException
+	{
+		while ((value & ~0x7FL) != 0)
+		{
+			out.writeByte((int) (value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte((int) value);
+	}
+
+	private static long readVarLong(DataInput in) throws IOException
+	{
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7)
+		{
+			final int b = in.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+			{
+				return value;
+			}
+		}
+		throw new IOException("malformed varint");
+	}
+}
@@ -30,10 +30,14 @@ import static com.google.common.base.MoreObjects.firstNonNull;
 import com.google.inject.Binder;
 import com.google.inject.Provides;
 import java.awt.image.BufferedImage;
+import java.io.File;
 import java.time.temporal.ChronoUnit;
 import java.util.EnumSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import javax.inject.Inject;
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
@@ -51,6 +55,7 @@ import net.runelite.api.events.StatChanged;
 import net.runelite.api.gameval.InterfaceID;
 import net.runelite.api.gameval.VarPlayerID;
 import net.runelite.api.widgets.WidgetUtil;
+import net.runelite.client.RuneLite;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.Subscribe;
@@ -60,7 +65,9 @@ import net.runelite.client.game.SkillIconManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import static net.runelite.client.plugins.xptracker.XpWorldType.NORMAL;
+import net.runelite.client.task.ExecutorLanes;
 import net.runelite.client.task.Schedule;
+import net.runelite.client.task.SerialExecutor;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
 import net.runelite.client.ui.overlay.OverlayManager;
@@ -83,6 +90,8 @@ public class XpTrackerPlugin extends Plugin
 	private static final String MENUOP_ADD_CANVAS_TRACKER = "Add to canvas";
 	private static final String MENUOP_REMOVE_CANVAS_TRACKER = "Remove from canvas";
 
+	private static final File XP_HISTORY_DIR = new File(RuneLite.CACHE_DIR, "xptracker");
+
 	@Inject
 	private ClientToolbar clientToolbar;
 
@@ -110,6 +119,9 @@ public class XpTrackerPlugin extends Plugin
 	@Inject
 	private ConfigManager configManager;
 
+	@Inject
+	private ExecutorLanes executorLanes;
+
 	private NavigationButton navButton;
 	@Setter(AccessLevel.PACKAGE)
 	@VisibleForTesting
@@ -123,6 +135,15 @@ public class XpTrackerPlugin extends Plugin
 
 	private final XpPauseState xpPauseState = new XpPauseState();
 
+	@Getter(AccessLevel.PACKAGE)
+	private final XpHistory xpHistory = new XpHistory(XP_HISTORY_DIR);
+	// the profile the xp history is of
+	private volatile String historyProfile;
+	// the profile whose xp history is being read
+	private volatile String loadingProfile;
+	// the xp history is read and written on the io lane, one file at a time in the order they are queued
+	private Executor historyIo;
+
 	@Provides
 	XpTrackerConfig provideConfig(ConfigManager configManager)
 	{
@@ -138,6 +159,11 @@ public class XpTrackerPlugin extends Plugin
 	@Override
 	protected void startUp() throws Exception
 	{
+		if (historyIo == null)
+		{
+			// kept across restarts, so a write queued by shutDown finishes before the next read
+			historyIo = new SerialExecutor(executorLanes.getIo());
+		}
 		xpPanel = new XpPanel(this, xpTrackerConfig, client, skillIconManager);
 
 		final BufferedImage icon = ImageUtil.loadImageResource(getClass(), "/skill_icons/overall.png");
@@ -170,6 +196,10 @@ public class XpTrackerPlugin extends Plugin
 	{
 		overlayManager.removeIf(e -> e instanceof XpInfoBoxOverlay);
 		xpState.reset();
+		saveHistory();
+		xpHistory.clear();
+		historyProfile = null;
+		loadingProfile = null;
 		clientToolbar.removeNavigation(navButton);
 	}
 
@@ -206,6 +236,8 @@ public class XpTrackerPlugin extends Plugin
 		}
 		else if (state == GameState.LOGIN_SCREEN)
 		{
+			xpHistory.logout();
+
 			Player local = client.getLocalPlayer();
 			if (local == null)
 			{
@@ -236,6 +268,12 @@ public class XpTrackerPlugin extends Plugin
 		{
 			saveSaveState(event.getPreviousProfile(), save);
 		}
+
+		// the history of the new profile is loaded once the tracker is initialized
+		saveHistory();
+		xpHistory.clear();
+		historyProfile = null;
+		loadingProfile = null;
 	}
 
 	@Subscribe
@@ -246,6 +284,11 @@ public class XpTrackerPlugin extends Plugin
 		{
 			saveSaveState(configManager.getRSProfileKey(), save);
 		}
+		saveHistory();
+		// and for the history to be written
+		CompletableFuture<Void> saved = new CompletableFuture<>();
+		historyIo.execute(() -> saved.complete(null));
+		event.waitFor(saved);
 	}
 
 	private XpWorldType worldSetToType(EnumSet<WorldType> types)
@@ -419,6 +462,8 @@ public class XpTrackerPlugin extends Plugin
 			return;
 		}
 
+		xpHistory.record(skill, currentXp);
+
 		if (xpTrackerConfig.hideMaxed() && currentLevel >= Experience.MAX_REAL_LEVEL)
 		{
 			xpPanel.resetSkill(skill);
@@ -513,6 +558,9 @@ public class XpTrackerPlugin extends Plugin
 				log.debug("Initializing XP tracker with {} overall exp", overallXp);
 				xpState.initializeOverall(overallXp);
 			}
+
+			// Continue the xp history from the current xp, leaving out xp gained and time spent while offline
+			loadHistory();
 		}
 
 		if (fetchXp)
@@ -742,6 +790,7 @@ public class XpTrackerPlugin extends Plugin
 		{
 			saveSaveState(configManager.getRSProfileKey(), save);
 		}
+		saveHistory();
 	}
 
 	private void rebuildSkills()
@@ -793,4 +842,70 @@ public class XpTrackerPlugin extends Plugin
 	{
 		return configManager.getConfiguration("xpTracker", profile, "state", XpSave.class);
 	}
+
+	/**
+	 * Switches the xp history to the current profile and continues it from the current xp. The history is
+	 * read on the io lane, and replaces the current one back on the client thread.
+	 */
+	private void loadHistory()
+	{
+		final String profile = configManager.getRSProfileKey();
+		if (profile == null || profile.equals(historyProfile) || profile.equals(loadingProfile))
+		{
+			resumeHistory();
+			return;
+		}
+
+		saveHistory();
+		xpHistory.clear();
+		if (!xpTrackerConfig.saveState())
+		{
+			historyProfile = profile;
+			resumeHistory();
+			return;
+		}
+
+		// nothing is saved until the history has been read, so the saved history can't be overwritten by the cleared one
+		historyProfile = null;
+		loadingProfile = profile;
+		historyIo.execute(() ->
+		{
+			final XpHistory.Saved saved = xpHistory.read(profile);
+			clientThread.invokeLater(() ->
+			{
+				// the profile may have changed again while the history was read
+				if (!profile.equals(loadingProfile))
+				{
+					return;
+				}
+
+				loadingProfile = null;
+				historyProfile = profile;
+				xpHistory.apply(saved);
+				resumeHistory();
+			});
+		});
+	}
+
+	private void resumeHistory()
+	{
+		xpHistory.login();
+		for (Skill skill : Skill.values())
+		{
+			xpHistory.rebase(skill, client.getSkillExperience(skill));
+		}
+	}
+
+	/**
+	 * Writes the xp history on the io lane. The history is copied first, so it can keep changing while it is written.
+	 */
+	private void saveHistory()
+	{
+		final String profile = historyProfile;
+		if (profile != null && xpTrackerConfig.saveState())
+		{
+			final byte[] data = xpHistory.encode();
+			historyIo.execute(() -> xpHistory.write(profile, data));
+		}
+	}
 }
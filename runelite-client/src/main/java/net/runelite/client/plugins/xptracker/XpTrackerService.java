@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins.xptracker;
 
+import java.time.Duration;
 import net.runelite.api.Skill;
 
 public interface XpTrackerService
@@ -48,6 +49,17 @@ public interface XpTrackerService
 	 */
 	int getXpHr(Skill skill);
 
+	/**
+	 * Get the amount of xp gained in a window of the most recent time, such as the last 5, 15 or 60 minutes
+	 */
+	int getXpGained(Skill skill, Duration window);
+
+	/**
+	 * Get the amount of xp per hour over a window of the most recent time. Time spent logged out
+	 * in the window is not counted.
+	 */
+	int getXpHr(Skill skill, Duration window);
+
 	/**
 	 * Get the start goal XP
 	 */
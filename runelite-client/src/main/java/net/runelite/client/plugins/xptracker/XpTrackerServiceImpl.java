@@ -24,6 +24,7 @@
  */
 package net.runelite.client.plugins.xptracker;
 
+import java.time.Duration;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import net.runelite.api.Skill;
@@ -63,6 +64,18 @@ class XpTrackerServiceImpl implements XpTrackerService
 		return plugin.getSkillSnapshot(skill).getXpPerHour();
 	}
 
+	@Override
+	public int getXpGained(Skill skill, Duration window)
+	{
+		return plugin.getXpHistory().getXpGained(skill, window);
+	}
+
+	@Override
+	public int getXpHr(Skill skill, Duration window)
+	{
+		return plugin.getXpHistory().getXpHr(skill, window);
+	}
+
 	@Override
 	public int getStartGoalXp(Skill skill)
 	{
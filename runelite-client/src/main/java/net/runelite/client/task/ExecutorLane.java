@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.CallableExceptionLogger;
+import net.runelite.client.util.RunnableExceptionLogger;
+
+/**
+ * An {@link ExecutorService} wrapper which logs uncaught exceptions, like
+ * {@link net.runelite.client.util.ExecutorServiceExceptionLogger}, and keeps
+ * track of how many tasks are waiting and how long they wait and run for.
+ */
+@Slf4j
+public class ExecutorLane extends AbstractExecutorService
+{
+	private static final long SLOW_WAIT_NANOS = TimeUnit.SECONDS.toNanos(5);
+	private static final long SLOW_WAIT_LOG_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	static final long UNKNOWN_DUE = Long.MIN_VALUE;
+
+	@Getter
+	private final String name;
+	private final ExecutorService delegate;
+
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicInteger running = new AtomicInteger();
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+	private final LongAdder totalRunNanos = new LongAdder();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+	private final AtomicLong maxRunNanos = new AtomicLong();
+	private final AtomicLong lastSlowWarning = new AtomicLong(System.nanoTime() - SLOW_WAIT_LOG_INTERVAL_NANOS);
+
+	ExecutorLane(String name, ExecutorService delegate)
+	{
+		this.name = name;
+		this.delegate = delegate;
+	}
+
+	public ExecutorLaneStats getStats()
+	{
+		return new ExecutorLaneStats(
+			name,
+			queued.get(),
+			running.get(),
+			completed.sum(),
+			totalWaitNanos.sum(),
+			maxWaitNanos.get(),
+			totalRunNanos.sum(),
+			maxRunNanos.get()
+		);
+	}
+
+	@Override
+	public void execute(Runnable command)
+	{
+		Runnable task = instrument(RunnableExceptionLogger.wrap(command), System.nanoTime(), true);
+		queued.incrementAndGet();
+		try
+		{
+			delegate.execute(task);
+		}
+		catch (RejectedExecutionException ex)
+		{
+			queued.decrementAndGet();
+			throw ex;
+		}
+	}
+
+	@Override
+	public Future<?> submit(Runnable task)
+	{
+		return super.submit(RunnableExceptionLogger.wrap(task));
+	}
+
+	@Override
+	public <T> Future<T> submit(Runnable task, T result)
+	{
+		return super.submit(RunnableExceptionLogger.wrap(task), result);
+	}
+
+	@Override
+	public <T> Future<T> submit(Callable<T> task)
+	{
+		return super.submit(CallableExceptionLogger.wrap(task));
+	}
+
+	/**
+	 * Wraps a task to record its statistics when it runs.
+	 *
+	 * @param command the task
+	 * @param due     the {@link System#nanoTime()} the task should start at, or {@link #UNKNOWN_DUE}
+	 * @param queued  whether the task is counted as waiting until it starts
+	 */
+	Runnable instrument(Runnable command, long due, boolean queued)
+	{
+		return () ->
+		{
+			long start = begin(due, queued);
+			try
+			{
+				command.run();
+			}
+			finally
+			{
+				end(start);
+			}
+		};
+	}
+
+	<V> Callable<V> instrument(Callable<V> callable, long due)
+	{
+		return () ->
+		{
+			long start = begin(due, false);
+			try
+			{
+				return callable.call();
+			}
+			finally
+			{
+				end(start);
+			}
+		};
+	}
+
+	long begin(long due, boolean queued)
+	{
+		long start = System.nanoTime();
+		if (queued)
+		{
+			this.queued.decrementAndGet();
+		}
+
+		if (due != UNKNOWN_DUE)
+		{
+			long wait = Math.max(0, start - due);
+			totalWaitNanos.add(wait);
+			maxWaitNanos.accumulateAndGet(wait, Math::max);
+			if (wait > SLOW_WAIT_NANOS)
+			{
+				warnSlow(start, wait);
+			}
+		}
+
+		running.incrementAndGet();
+		return start;
+	}
+
+	void end(long start)
+	{
+		long runTime = System.nanoTime() - start;
+		totalRunNanos.add(runTime);
+		maxRunNanos.accumulateAndGet(runTime, Math::max);
+		running.decrementAndGet();
+		completed.increment();
+	}
+
+	private void warnSlow(long now, long wait)
+	{
+		long last = lastSlowWarning.get();
+		if (now - last >= SLOW_WAIT_LOG_INTERVAL_NANOS && lastSlowWarning.compareAndSet(last, now))
+		{
+			log.warn("Task on the {} lane started {}ms late, {} more are waiting", name, TimeUnit.NANOSECONDS.toMillis(wait), queued.get());
+		}
+	}
+
+	@Override
+	public void shutdown()
+	{
+		delegate.shutdown();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow()
+	{
+		return delegate.shutdownNow();
+	}
+
+	@Override
+	public boolean isShutdown()
+	{
+		return delegate.isShutdown();
+	}
+
+	@Override
+	public boolean isTerminated()
+	{
+		return delegate.isTerminated();
+	}
+
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+	{
+		return delegate.awaitTermination(timeout, unit);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Singleton;
+import lombok.Getter;
+
+/**
+ * The client's shared executors, split up by the kind of work they run so that
+ * slow work of one kind doesn't hold up the others.
+ * <ul>
+ * <li>{@link #getTimers() timers} is a single thread which runs scheduled tasks, and
+ * tasks which depend on running in submission order. It is the executor injected
+ * as {@link java.util.concurrent.ScheduledExecutorService}.</li>
+ * <li>{@link #getIo() io} is a small pool for tasks which block on the network or disk.</li>
+ * <li>{@link #getCpu() cpu} is a work stealing pool for computation, sized to the machine.</li>
+ * </ul>
+ * Tasks on the io and cpu lanes may run concurrently with each other, so should not
+ * rely on ordering; work which must run in order can use a {@link SerialExecutor} over
+ * a lane. Scheduled work which blocks should be scheduled on the timers lane
+ * and hand off to the io lane, so the timers thread stays free.
+ */
+@Singleton
+public class ExecutorLanes
+{
+	private static final int IO_THREADS = 4;
+
+	@Getter
+	private final ScheduledExecutorLane timers;
+	@Getter
+	private final ExecutorLane io;
+	@Getter
+	private final ExecutorLane cpu;
+
+	public ExecutorLanes()
+	{
+		timers = new ScheduledExecutorLane("timers", Executors.newSingleThreadScheduledExecutor());
+
+		ThreadPoolExecutor ioExecutor = new ThreadPoolExecutor(IO_THREADS, IO_THREADS,
+			60, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(),
+			new ThreadFactoryBuilder()
+				.setNameFormat("RuneLite IO %d")
+				.setDaemon(true)
+				.build());
+		ioExecutor.allowCoreThreadTimeOut(true);
+		io = new ExecutorLane("io", ioExecutor);
+
+		ForkJoinPool cpuExecutor = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+			pool ->
+			{
+				ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("RuneLite CPU " + thread.getPoolIndex());
+				return thread;
+			},
+			null, false);
+		cpu = new ExecutorLane("cpu", cpuExecutor);
+	}
+
+	public List<ExecutorLaneStats> getStats()
+	{
+		return ImmutableList.of(timers.getStats(), io.getStats(), cpu.getStats());
+	}
+}
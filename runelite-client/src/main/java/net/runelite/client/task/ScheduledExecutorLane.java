@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link ExecutorLane} which can also schedule tasks. Delayed and periodic
+ * tasks are not counted as waiting, and their wait time is how late they start.
+ * Like {@link net.runelite.client.util.ExecutorServiceExceptionLogger}, exceptions
+ * thrown by scheduled tasks are left to the returned future.
+ */
+public class ScheduledExecutorLane extends ExecutorLane implements ScheduledExecutorService
+{
+	private final ScheduledExecutorService delegate;
+
+	ScheduledExecutorLane(String name, ScheduledExecutorService delegate)
+	{
+		super(name, delegate);
+		this.delegate = delegate;
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit)
+	{
+		return delegate.schedule(instrument(command, due(delay, unit), false), delay, unit);
+	}
+
+	@Override
+	public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit)
+	{
+		return delegate.schedule(instrument(callable, due(delay, unit)), delay, unit);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit)
+	{
+		return delegate.scheduleAtFixedRate(periodic(command, initialDelay, period, unit), initialDelay, period, unit);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit)
+	{
+		// later runs are due whenever the previous one finished, so only the first one's wait is recorded
+		return delegate.scheduleWithFixedDelay(periodic(command, initialDelay, 0, unit), initialDelay, delay, unit);
+	}
+
+	private Runnable periodic(Runnable command, long initialDelay, long period, TimeUnit unit)
+	{
+		long periodNanos = unit.toNanos(period);
+		return new Runnable()
+		{
+			private long due = due(initialDelay, unit);
+
+			@Override
+			public void run()
+			{
+				long start = begin(due, false);
+				due = periodNanos > 0 ? due + periodNanos : UNKNOWN_DUE;
+				try
+				{
+					command.run();
+				}
+				finally
+				{
+					end(start);
+				}
+			}
+		};
+	}
+
+	private static long due(long delay, TimeUnit unit)
+	{
+		return System.nanoTime() + unit.toNanos(Math.max(0, delay));
+	}
+}
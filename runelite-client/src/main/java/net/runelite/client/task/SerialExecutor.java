@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs tasks one at a time, in the order they are submitted, on another executor such as one of
+ * the {@link ExecutorLanes}. This is for work which must not run concurrently with itself, without
+ * needing a thread of its own.
+ */
+@Slf4j
+public class SerialExecutor implements Executor
+{
+	private final Executor delegate;
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+	private boolean running;
+
+	public SerialExecutor(Executor delegate)
+	{
+		this.delegate = delegate;
+	}
+
+	@Override
+	public void execute(Runnable command)
+	{
+		synchronized (tasks)
+		{
+			tasks.add(command);
+			if (running)
+			{
+				return;
+			}
+			running = true;
+		}
+
+		try
+		{
+			delegate.execute(this::drain);
+		}
+		catch (RuntimeException ex)
+		{
+			synchronized (tasks)
+			{
+				tasks.remove(command);
+				running = false;
+			}
+			throw ex;
+		}
+	}
+
+	private void drain()
+	{
+		for (;;)
+		{
+			Runnable task;
+			synchronized (tasks)
+			{
+				task = tasks.poll();
+				if (task == null)
+				{
+					running = false;
+					return;
+				}
+			}
+
+			try
+			{
+				task.run();
+			}
+			catch (RuntimeException ex)
+			{
+				// rethrowing would stop the remaining tasks
+				log.error("Uncaught exception in runnable {}", task, ex);
+			}
+		}
+	}
+}
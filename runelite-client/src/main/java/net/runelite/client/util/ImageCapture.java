@@ -41,21 +41,23 @@ import java.lang.reflect.InvocationTargetException;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Executor;
 import javax.annotation.Nullable;
-import javax.imageio.ImageIO;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.api.Client;
 import net.runelite.api.GameState;
 import net.runelite.client.Notifier;
+import net.runelite.client.callback.ClientThread;
 import static net.runelite.client.RuneLite.SCREENSHOT_DIR;
 import net.runelite.client.config.RuneScapeProfileType;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.events.ScreenshotTaken;
+import net.runelite.client.task.ExecutorLanes;
 import net.runelite.client.ui.ClientUI;
 import net.runelite.client.ui.DrawManager;
 
@@ -67,11 +69,25 @@ public class ImageCapture
 	private static final DateFormat TIME_FORMAT = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss");
 
 	private final Client client;
+	private final ClientThread clientThread;
 	private final Notifier notifier;
 	private final ClientUI clientUi;
 	private final DrawManager drawManager;
-	private final ScheduledExecutorService executor;
+	private final ExecutorLanes executorLanes;
 	private final EventBus eventBus;
+	private final ScreenshotPipeline screenshotPipeline;
+
+	/**
+	 * How long a screenshot spent in each stage of being saved
+	 */
+	@Value
+	public static class ScreenshotTimings
+	{
+		long queuedNanos;
+		long encodeNanos;
+		long writeNanos;
+		int bytes;
+	}
 
 	/**
 	 * Take a screenshot and save it
@@ -86,8 +102,8 @@ public class ImageCapture
 	{
 		drawManager.requestNextFrameListener((img) ->
 		{
-			// This callback is on the client thread, move to executor thread now that we have the screenshot
-			executor.submit(() ->
+			// This callback is on the client thread, move to an io thread now that we have the screenshot
+			executorLanes.getIo().submit(() ->
 			{
 				final BufferedImage screenshot;
 				if (includeClientFrame)
@@ -163,6 +179,9 @@ public class ImageCapture
 
 	/**
 	 * Save a screenshot to disk. And optionally send a notification and copy it to clipboard.
+	 * The screenshot is written in the background, and is dropped if several screenshots are
+	 * already waiting to be written. {@link ScreenshotTaken} is posted once it has been written,
+	 * on the client thread if this was called from it, and otherwise on the timers lane.
 	 *
 	 * @param screenshot screenshot
 	 * @param fileName Filename to use, without file extension.
@@ -213,16 +232,15 @@ public class ImageCapture
 
 		File screenshotFile = new File(playerFolder, fileName + ".png");
 		// To make sure that screenshots don't get overwritten, check if file exists,
-		// and if it does create file with same name and suffix.
+		// and if it does create file with same name and suffix. The file is created
+		// now so that screenshots still waiting to be written aren't overwritten either.
 		int i = 1;
-		while (screenshotFile.exists())
-		{
-			screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
-		}
-
 		try
 		{
-			ImageIO.write(screenshot, "PNG", screenshotFile);
+			while (!screenshotFile.createNewFile())
+			{
+				screenshotFile = new File(playerFolder, fileName + String.format("(%d)", i++) + ".png");
+			}
 		}
 		catch (IOException ex)
 		{
@@ -230,6 +248,15 @@ public class ImageCapture
 			return;
 		}
 
+		final File file = screenshotFile;
+		// hand the callbacks back off the pipeline thread, to the client thread if that is where the
+		// screenshot was taken, and otherwise to the timers lane so that they are still run in order
+		final Executor callbackExecutor = client.isClientThread() ? clientThread::invokeLater : executorLanes.getTimers();
+		screenshotPipeline.write(screenshot, file, () -> callbackExecutor.execute(() -> screenshotWritten(screenshot, file, notify, saveToClipboard)));
+	}
+
+	private void screenshotWritten(BufferedImage screenshot, File screenshotFile, boolean notify, boolean saveToClipboard)
+	{
 		if (saveToClipboard)
 		{
 			Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
@@ -277,6 +304,15 @@ public class ImageCapture
 		takeScreenshot(screenshot, fileName, null, notify, imageUploadStyle);
 	}
 
+	/**
+	 * @return how long the last screenshot spent in each stage of being saved, or null if none have been saved
+	 */
+	@Nullable
+	public ScreenshotTimings getLastScreenshotTimings()
+	{
+		return screenshotPipeline.getLastTimings();
+	}
+
 	private static String format(Date date)
 	{
 		synchronized (TIME_FORMAT)
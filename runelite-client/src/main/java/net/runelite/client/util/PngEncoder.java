@@ -0,0 +1,517 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import javax.annotation.Nullable;
+
+/**
+ * Writes 8 bit RGB or RGBA PNGs, filtering and compressing horizontal strips of the
+ * image in parallel.
+ * <p>
+ * Each strip is compressed as its own deflate stream, primed with the last 32KiB of
+ * the strip before it and ended with a sync flush, so the strips join into a single
+ * zlib stream. Rows are filtered with the same minimum sum of absolute differences
+ * heuristic as the ImageIO writer, so the output is about the same size.
+ * <p>
+ * Buffers are kept between images, so an encoder is not thread safe.
+ */
+public class PngEncoder
+{
+	private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+	private static final byte[] IHDR = "IHDR".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] IDAT = "IDAT".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] IEND = "IEND".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] ZLIB_HEADER = {0x78, (byte) 0x9c};
+
+	/**
+	 * The level the ImageIO writer uses
+	 */
+	public static final int DEFAULT_LEVEL = 4;
+
+	private static final int STRIP_BYTES = 512 * 1024;
+	private static final int WINDOW_SIZE = 32 * 1024;
+	private static final int ADLER_BASE = 65521;
+
+	@Nullable
+	private final ExecutorService executor;
+	private final int level;
+	private final CRC32 crc = new CRC32();
+
+	private int[] pixels = new int[0];
+	private byte[] filtered = new byte[0];
+	private final List<Strip> strips = new ArrayList<>();
+
+	/**
+	 * @param executor executor to filter and compress strips on, or null to encode on the calling thread
+	 * @param level    the deflate level
+	 */
+	public PngEncoder(@Nullable ExecutorService executor, int level)
+	{
+		this.executor = executor;
+		this.level = level;
+	}
+
+	public void write(BufferedImage image, OutputStream out) throws IOException
+	{
+		final int width = image.getWidth();
+		final int height = image.getHeight();
+		final int[] argb = getPixels(image, width, height);
+		final int bpp = hasAlpha(image, argb, width * height) ? 4 : 3;
+		final int stride = 1 + width * bpp;
+
+		final long filteredLength = (long) stride * height;
+		if (filteredLength > Integer.MAX_VALUE - 8)
+		{
+			throw new IOException("image is too large");
+		}
+		if (filtered.length < filteredLength)
+		{
+			filtered = new byte[(int) filteredLength];
+		}
+
+		final int rowsPerStrip = Math.max(1, STRIP_BYTES / stride);
+		final int stripCount = (height + rowsPerStrip - 1) / rowsPerStrip;
+		while (strips.size() < stripCount)
+		{
+			strips.add(new Strip());
+		}
+
+		final List<Callable<Void>> filterTasks = new ArrayList<>(stripCount);
+		final List<Callable<Void>> deflateTasks = new ArrayList<>(stripCount);
+		for (int i = 0; i < stripCount; ++i)
+		{
+			final Strip strip = strips.get(i);
+			strip.firstRow = i * rowsPerStrip;
+			strip.rows = Math.min(rowsPerStrip, height - strip.firstRow);
+			strip.last = i == stripCount - 1;
+			filterTasks.add(() ->
+			{
+				strip.filter(argb, width, bpp, filtered);
+				return null;
+			});
+			deflateTasks.add(() ->
+			{
+				strip.deflate(filtered, stride, level);
+				return null;
+			});
+		}
+
+		// every strip needs the filtered data before it as a dictionary, so filter everything first
+		run(filterTasks);
+		run(deflateTasks);
+
+		long adler = 1;
+		for (int i = 0; i < stripCount; ++i)
+		{
+			final Strip strip = strips.get(i);
+			adler = combineAdler(adler, strip.adler, (long) strip.rows * stride);
+		}
+		strips.get(stripCount - 1).appendInt((int) adler);
+
+		final DataOutputStream data = new DataOutputStream(out);
+		data.write(SIGNATURE);
+
+		final byte[] header = new byte[13];
+		putInt(header, 0, width);
+		putInt(header, 4, height);
+		header[8] = 8; // bit depth
+		header[9] = (byte) (bpp == 4 ? 6 : 2); // truecolor, with or without alpha
+		writeChunk(data, IHDR, header, 0, header.length);
+
+		for (int i = 0; i < stripCount; ++i)
+		{
+			final Strip strip = strips.get(i);
+			writeChunk(data, IDAT, strip.out, 0, strip.outLength);
+		}
+
+		writeChunk(data, IEND, header, 0, 0);
+		data.flush();
+	}
+
+	private int[] getPixels(BufferedImage image, int width, int height)
+	{
+		final int type = image.getType();
+		final WritableRaster raster = image.getRaster();
+		if ((type == BufferedImage.TYPE_INT_ARGB || type == BufferedImage.TYPE_INT_RGB)
+			&& raster.getParent() == null
+			&& raster.getSampleModelTranslateX() == 0 && raster.getSampleModelTranslateY() == 0
+			&& raster.getSampleModel() instanceof SinglePixelPackedSampleModel
+			&& ((SinglePixelPackedSampleModel) raster.getSampleModel()).getScanlineStride() == width)
+		{
+			final DataBufferInt buffer = (DataBufferInt) raster.getDataBuffer();
+			if (buffer.getNumBanks() == 1 && buffer.getOffset() == 0)
+			{
+				return buffer.getData();
+			}
+		}
+
+		if (pixels.length < width * height)
+		{
+			pixels = new int[width * height];
+		}
+		image.getRGB(0, 0, width, height, pixels, 0, width);
+		return pixels;
+	}
+
+	private static boolean hasAlpha(BufferedImage image, int[] argb, int length)
+	{
+		if (image.getType() == BufferedImage.TYPE_INT_RGB || !image.getColorModel().hasAlpha())
+		{
+			return false;
+		}
+
+		for (int i = 0; i < length; ++i)
+		{
+			if ((argb[i] >>> 24) != 0xff)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void run(List<Callable<Void>> tasks) throws IOException
+	{
+		if (executor == null || tasks.size() == 1)
+		{
+			for (Callable<Void> task : tasks)
+			{
+				try
+				{
+					task.call();
+				}
+				catch (IOException | RuntimeException e)
+				{
+					throw e;
+				}
+				catch (Exception e)
+				{
+					throw new IOException(e);
+				}
+			}
+			return;
+		}
+
+		try
+		{
+			for (Future<Void> future : executor.invokeAll(tasks))
+			{
+				future.get();
+			}
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new IOException(e);
+		}
+		catch (ExecutionException e)
+		{
+			throw new IOException(e);
+		}
+	}
+
+	private void writeChunk(DataOutputStream out, byte[] type, byte[] data, int off, int len) throws IOException
+	{
+		crc.reset();
+		crc.update(type);
+		crc.update(data, off, len);
+
+		out.writeInt(len);
+		out.write(type);
+		out.write(data, off, len);
+		out.writeInt((int) crc.getValue());
+	}
+
+	/**
+	 * Computes the adler32 of two buffers joined together from the adler32 of each
+	 */
+	static long combineAdler(long adler1, long adler2, long length2)
+	{
+		final long rem = length2 % ADLER_BASE;
+		long sum1 = adler1 & 0xffff;
+		long sum2 = (rem * sum1) % ADLER_BASE;
+		sum1 += (adler2 & 0xffff) + ADLER_BASE - 1;
+		sum2 += ((adler1 >>> 16) & 0xffff) + ((adler2 >>> 16) & 0xffff) + ADLER_BASE - rem;
+		if (sum1 >= ADLER_BASE)
+		{
+			sum1 -= ADLER_BASE;
+		}
+		if (sum1 >= ADLER_BASE)
+		{
+			sum1 -= ADLER_BASE;
+		}
+		if (sum2 >= ((long) ADLER_BASE << 1))
+		{
+			sum2 -= (long) ADLER_BASE << 1;
+		}
+		if (sum2 >= ADLER_BASE)
+		{
+			sum2 -= ADLER_BASE;
+		}
+		return sum1 | (sum2 << 16);
+	}
+
+	private static void putInt(byte[] b, int off, int v)
+	{
+		b[off] = (byte) (v >>> 24);
+		b[off + 1] = (byte) (v >>> 16);
+		b[off + 2] = (byte) (v >>> 8);
+		b[off + 3] = (byte) v;
+	}
+
+	private static class Strip
+	{
+		int firstRow;
+		int rows;
+		boolean last;
+
+		long adler;
+		byte[] out = new byte[0];
+		int outLength;
+
+		private final Adler32 adler32 = new Adler32();
+		private Deflater deflater;
+		private int deflaterLevel;
+
+		private byte[] prev = new byte[0];
+		private byte[] cur = new byte[0];
+		private final byte[][] candidates = new byte[4][];
+
+		void filter(int[] argb, int width, int bpp, byte[] filtered)
+		{
+			final int rowBytes = width * bpp;
+			if (cur.length < rowBytes)
+			{
+				prev = new byte[rowBytes];
+				cur = new byte[rowBytes];
+				for (int i = 0; i < candidates.length; ++i)
+				{
+					candidates[i] = new byte[rowBytes];
+				}
+			}
+
+			if (firstRow > 0)
+			{
+				unpack(argb, (firstRow - 1) * width, width, bpp, prev);
+			}
+			else
+			{
+				Arrays.fill(prev, 0, rowBytes, (byte) 0);
+			}
+
+			final byte[] sub = candidates[0];
+			final byte[] up = candidates[1];
+			final byte[] avg = candidates[2];
+			final byte[] paeth = candidates[3];
+			final int start = firstRow * (rowBytes + 1);
+			for (int row = firstRow, pos = start; row < firstRow + rows; ++row, pos += rowBytes + 1)
+			{
+				unpack(argb, row * width, width, bpp, cur);
+
+				int noneSum = 0;
+				int subSum = 0;
+				int upSum = 0;
+				int avgSum = 0;
+				int paethSum = 0;
+				for (int i = 0; i < rowBytes; ++i)
+				{
+					final int x = cur[i] & 0xff;
+					final int a = i >= bpp ? cur[i - bpp] & 0xff : 0;
+					final int b = prev[i] & 0xff;
+					final int c = i >= bpp ? prev[i - bpp] & 0xff : 0;
+
+					final byte s = (byte) (x - a);
+					final byte u = (byte) (x - b);
+					final byte v = (byte) (x - ((a + b) >>> 1));
+					final byte p = (byte) (x - paethPredictor(a, b, c));
+					sub[i] = s;
+					up[i] = u;
+					avg[i] = v;
+					paeth[i] = p;
+
+					noneSum += Math.abs((byte) x);
+					subSum += Math.abs(s);
+					upSum += Math.abs(u);
+					avgSum += Math.abs(v);
+					paethSum += Math.abs(p);
+				}
+
+				int type = 0;
+				byte[] best = cur;
+				int bestSum = noneSum;
+				if (subSum < bestSum)
+				{
+					type = 1;
+					best = sub;
+					bestSum = subSum;
+				}
+				if (upSum < bestSum)
+				{
+					type = 2;
+					best = up;
+					bestSum = upSum;
+				}
+				if (avgSum < bestSum)
+				{
+					type = 3;
+					best = avg;
+					bestSum = avgSum;
+				}
+				if (paethSum < bestSum)
+				{
+					type = 4;
+					best = paeth;
+				}
+
+				filtered[pos] = (byte) type;
+				System.arraycopy(best, 0, filtered, pos + 1, rowBytes);
+
+				final byte[] tmp = prev;
+				prev = cur;
+				cur = tmp;
+			}
+
+			adler32.reset();
+			adler32.update(filtered, start, rows * (rowBytes + 1));
+			adler = adler32.getValue();
+		}
+
+		void deflate(byte[] filtered, int stride, int level)
+		{
+			if (deflater == null || deflaterLevel != level)
+			{
+				if (deflater != null)
+				{
+					deflater.end();
+				}
+				deflater = new Deflater(level, true);
+				deflaterLevel = level;
+			}
+			else
+			{
+				deflater.reset();
+			}
+
+			final int start = firstRow * stride;
+			final int length = rows * stride;
+			if (start > 0)
+			{
+				final int dictionary = Math.min(WINDOW_SIZE, start);
+				deflater.setDictionary(filtered, start - dictionary, dictionary);
+			}
+			deflater.setInput(filtered, start, length);
+
+			outLength = 0;
+			ensureCapacity(length / 2 + 64);
+			if (start == 0)
+			{
+				System.arraycopy(ZLIB_HEADER, 0, out, 0, ZLIB_HEADER.length);
+				outLength = ZLIB_HEADER.length;
+			}
+
+			if (last)
+			{
+				deflater.finish();
+				while (!deflater.finished())
+				{
+					ensureCapacity(outLength + 1);
+					outLength += deflater.deflate(out, outLength, out.length - outLength);
+				}
+			}
+			else
+			{
+				int n;
+				do
+				{
+					ensureCapacity(outLength + 1);
+					n = deflater.deflate(out, outLength, out.length - outLength, Deflater.SYNC_FLUSH);
+					outLength += n;
+				}
+				while (outLength == out.length);
+			}
+		}
+
+		void appendInt(int v)
+		{
+			ensureCapacity(outLength + 4);
+			putInt(out, outLength, v);
+			outLength += 4;
+		}
+
+		private void ensureCapacity(int capacity)
+		{
+			if (out.length < capacity)
+			{
+				out = Arrays.copyOf(out, Math.max(capacity, out.length * 2));
+			}
+		}
+
+		private static void unpack(int[] argb, int offset, int width, int bpp, byte[] row)
+		{
+			for (int x = 0, i = 0; x < width; ++x)
+			{
+				final int pixel = argb[offset + x];
+				row[i++] = (byte) (pixel >>> 16);
+				row[i++] = (byte) (pixel >>> 8);
+				row[i++] = (byte) pixel;
+				if (bpp == 4)
+				{
+					row[i++] = (byte) (pixel >>> 24);
+				}
+			}
+		}
+
+		private static int paethPredictor(int a, int b, int c)
+		{
+			final int p = a + b - c;
+			final int pa = Math.abs(p - a);
+			final int pb = Math.abs(p - b);
+			final int pc = Math.abs(p - c);
+			if (pa <= pb && pa <= pc)
+			{
+				return a;
+			}
+			return pb <= pc ? b : c;
+		}
+	}
+}
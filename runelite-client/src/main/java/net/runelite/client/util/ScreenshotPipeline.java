@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.task.ExecutorLanes;
+
+/**
+ * Encodes and writes screenshots on a dedicated thread, one at a time. The encoding
+ * itself is spread over the cpu lane. At most {@link #QUEUE_SIZE} screenshots wait to
+ * be written, and further screenshots are dropped until there is room, so a burst of
+ * screenshots can't pile up full size images in memory or stall the thread taking them.
+ * <p>
+ * Screenshots aren't captured into pooled buffers, since the image is handed to the
+ * clipboard and {@link net.runelite.client.events.ScreenshotTaken} subscribers, which may
+ * keep it after it has been written.
+ */
+@Slf4j
+@Singleton
+class ScreenshotPipeline
+{
+	private static final int QUEUE_SIZE = 4;
+
+	private final ExecutorLanes executorLanes;
+	private final ThreadPoolExecutor executor;
+	private final ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+	// the encoder's buffers are as large as the screenshot, so let them be collected when memory is short
+	private SoftReference<PngEncoder> encoder = new SoftReference<>(null);
+
+	@Getter
+	private volatile ImageCapture.ScreenshotTimings lastTimings;
+
+	@Inject
+	ScreenshotPipeline(ExecutorLanes executorLanes)
+	{
+		this.executorLanes = executorLanes;
+		this.executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(QUEUE_SIZE),
+			new ThreadFactoryBuilder()
+				.setNameFormat("RuneLite Screenshot")
+				.setDaemon(true)
+				.build());
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Queues a screenshot to be written to a file. If the queue is full the screenshot is
+	 * dropped and the file deleted.
+	 *
+	 * @param image     the screenshot, which must not be changed until it is written
+	 * @param file      the file to write
+	 * @param onWritten run on the pipeline thread once the file has been written
+	 */
+	void write(BufferedImage image, File file, Runnable onWritten)
+	{
+		final long queued = System.nanoTime();
+		try
+		{
+			executor.execute(() -> encode(image, file, queued, onWritten));
+		}
+		catch (RejectedExecutionException ex)
+		{
+			log.warn("Dropping screenshot {}, {} screenshots are already waiting to be written", file, QUEUE_SIZE);
+			if (!file.delete())
+			{
+				log.debug("unable to delete {}", file);
+			}
+		}
+	}
+
+	private void encode(BufferedImage image, File file, long queued, Runnable onWritten)
+	{
+		final long start = System.nanoTime();
+		final long written;
+		final long end;
+		try
+		{
+			encoded.reset();
+			getEncoder().write(image, encoded);
+			written = System.nanoTime();
+
+			try (OutputStream out = new FileOutputStream(file))
+			{
+				encoded.writeTo(out);
+			}
+			end = System.nanoTime();
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			log.error("error writing screenshot", ex);
+			if (!file.delete())
+			{
+				log.debug("unable to delete {}", file);
+			}
+			return;
+		}
+
+		final ImageCapture.ScreenshotTimings timings = new ImageCapture.ScreenshotTimings(start - queued, written - start, end - written, encoded.size());
+		log.debug("Wrote screenshot {}: {}", file, timings);
+		lastTimings = timings;
+
+		onWritten.run();
+	}
+
+	private PngEncoder getEncoder()
+	{
+		PngEncoder pngEncoder = encoder.get();
+		if (pngEncoder == null)
+		{
+			pngEncoder = new PngEncoder(executorLanes.getCpu(), PngEncoder.DEFAULT_LEVEL);
+			encoder = new SoftReference<>(pngEncoder);
+		}
+		return pngEncoder;
+	}
+}
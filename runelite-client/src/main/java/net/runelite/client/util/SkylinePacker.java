@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs rectangles into a fixed size page using the skyline bottom-left heuristic.
+ * The skyline is the list of segments making up the lowest free edge across the
+ * page; each rectangle is placed where it rests highest up the page, then furthest
+ * left.
+ */
+public class SkylinePacker
+{
+	private static final class Segment
+	{
+		int x;
+		final int y;
+		int width;
+
+		Segment(int x, int y, int width)
+		{
+			this.x = x;
+			this.y = y;
+			this.width = width;
+		}
+	}
+
+	private final int width;
+	private final int height;
+	private final List<Segment> skyline = new ArrayList<>();
+
+	public SkylinePacker(int width, int height)
+	{
+		this.width = width;
+		this.height = height;
+		skyline.add(new Segment(0, 0, width));
+	}
+
+	/**
+	 * Find space for a rectangle of the given size
+	 *
+	 * @return the placed rectangle, or null if it does not fit in the page
+	 */
+	public Rectangle insert(int w, int h)
+	{
+		int bestIndex = -1;
+		int bestX = 0;
+		int bestY = Integer.MAX_VALUE;
+
+		for (int i = 0; i < skyline.size(); ++i)
+		{
+			int y = fit(i, w, h);
+			if (y >= 0 && y < bestY)
+			{
+				bestIndex = i;
+				bestX = skyline.get(i).x;
+				bestY = y;
+			}
+		}
+
+		if (bestIndex == -1)
+		{
+			return null;
+		}
+
+		place(bestIndex, bestX, bestY + h, w);
+		return new Rectangle(bestX, bestY, w, h);
+	}
+
+	// the y a rectangle starting at segment i would rest at, or -1 if it does not fit
+	private int fit(int i, int w, int h)
+	{
+		int x = skyline.get(i).x;
+		if (x + w > width)
+		{
+			return -1;
+		}
+
+		int y = 0;
+		int remaining = w;
+		for (; remaining > 0; ++i)
+		{
+			Segment segment = skyline.get(i);
+			y = Math.max(y, segment.y);
+			if (y + h > height)
+			{
+				return -1;
+			}
+			remaining -= segment.width;
+		}
+		return y;
+	}
+
+	private void place(int index, int x, int y, int w)
+	{
+		skyline.add(index, new Segment(x, y, w));
+
+		// shrink or remove the segments now covered by the new one
+		int end = x + w;
+		int i = index + 1;
+		while (i < skyline.size())
+		{
+			Segment segment = skyline.get(i);
+			if (segment.x >= end)
+			{
+				break;
+			}
+
+			int overlap = end - segment.x;
+			if (overlap >= segment.width)
+			{
+				skyline.remove(i);
+				continue;
+			}
+
+			segment.x += overlap;
+			segment.width -= overlap;
+			break;
+		}
+
+		// merge neighbours at the same height
+		for (i = 0; i < skyline.size() - 1; )
+		{
+			Segment segment = skyline.get(i);
+			Segment next = skyline.get(i + 1);
+			if (segment.y == next.y)
+			{
+				segment.width += next.width;
+				skyline.remove(i + 1);
+			}
+			else
+			{
+				++i;
+			}
+		}
+	}
+}
@@ -30,8 +30,6 @@ import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 import java.util.Collection;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apache.commons.text.WordUtils;
 import org.apache.commons.text.similarity.JaroWinklerDistance;
 
@@ -41,7 +39,6 @@ import org.apache.commons.text.similarity.JaroWinklerDistance;
 public class Text
 {
 	private static final JaroWinklerDistance DISTANCE = new JaroWinklerDistance();
-	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
 	private static final Splitter COMMA_SPLITTER = Splitter
 		.on(",")
 		.omitEmptyStrings()
@@ -77,11 +74,28 @@ public class Text
 	 * Removes all tags from the given string.
 	 *
 	 * @param str The string to remove tags from.
-	 * @return The given string with all tags removed from it.
+	 * @return The given string with all tags removed from it, which is `str` itself if it has no tags.
 	 */
 	public static String removeTags(String str)
 	{
-		return TAG_REGEXP.matcher(str).replaceAll("");
+		if (indexOfTag(str, 0) < 0)
+		{
+			return str;
+		}
+
+		return removeTags(str, new StringBuilder(str.length())).toString();
+	}
+
+	/**
+	 * Removes all tags from the given text, appending the result to `out`.
+	 *
+	 * @param str The text to remove tags from.
+	 * @param out The builder to append to.
+	 * @return `out`
+	 */
+	public static StringBuilder removeTags(CharSequence str, StringBuilder out)
+	{
+		return removeTags(str, out, false);
 	}
 
 	/**
@@ -92,33 +106,81 @@ public class Text
 	 */
 	public static String removeFormattingTags(String str)
 	{
-		StringBuilder sb = new StringBuilder();
-		Matcher matcher = TAG_REGEXP.matcher(str);
-		while (matcher.find())
+		if (indexOfTag(str, 0) < 0)
 		{
-			matcher.appendReplacement(sb, "");
-			String match = matcher.group(0);
-			switch (match)
-			{
-				case "<lt>":
-				case "<gt>":
-					sb.append(match);
-					break;
-			}
+			return str;
 		}
-		matcher.appendTail(sb);
-		return sb.toString();
+
+		return removeTags(str, new StringBuilder(str.length()), true).toString();
 	}
 
 	/**
 	 * In addition to removing all tags, replaces nbsp with space, trims string and lowercases it
 	 * @param str The string to standardize
 	 *
-	 * @return The given `str` that is standardized
+	 * @return The given `str` that is standardized, which is `str` itself if it is already standard
 	 */
 	public static String standardize(String str)
 	{
-		return removeTags(str).replace('\u00A0', ' ').trim().toLowerCase();
+		if (indexOfTag(str, 0) < 0 && str.indexOf('\u00A0') < 0)
+		{
+			// both return the string itself when there is nothing to do
+			return str.trim().toLowerCase();
+		}
+
+		StringBuilder sb = new StringBuilder(str.length());
+		standardize(str, sb);
+		return sb.toString();
+	}
+
+	/**
+	 * Standardizes the given text as in {@link #standardize(String)}, appending the result to `out`.
+	 *
+	 * @param str The text to standardize.
+	 * @param out The builder to append to.
+	 * @return `out`
+	 */
+	public static StringBuilder standardize(CharSequence str, StringBuilder out)
+	{
+		final int start = out.length();
+		removeTags(str, out, false);
+
+		int end = out.length();
+		int begin = start;
+		while (begin < end && (out.charAt(begin) <= ' ' || out.charAt(begin) == '\u00A0'))
+		{
+			begin++;
+		}
+		while (end > begin && (out.charAt(end - 1) <= ' ' || out.charAt(end - 1) == '\u00A0'))
+		{
+			end--;
+		}
+
+		boolean lower = true;
+		int len = start;
+		for (int i = begin; i < end; i++)
+		{
+			char c = out.charAt(i);
+			if (c == '\u00A0')
+			{
+				c = ' ';
+			}
+			else if (Character.isSurrogate(c) || Character.toLowerCase(c) != c)
+			{
+				lower = false;
+			}
+			out.setCharAt(len++, c);
+		}
+		out.setLength(len);
+
+		if (!lower)
+		{
+			// String.toLowerCase is locale and context sensitive, so leave any case changes to it
+			String folded = out.substring(start).toLowerCase();
+			out.setLength(start);
+			out.append(folded);
+		}
+		return out;
 	}
 
 	/**
@@ -126,11 +188,112 @@ public class Text
 	 * Remove all non-ascii characters, replace nbsp with space, replace _- with spaces, and trim
 	 *
 	 * @param str The string to standardize
-	 * @return The given `str` that is in Jagex name format
+	 * @return The given `str` that is in Jagex name format, which is `str` itself if it already is
 	 */
 	public static String toJagexName(String str)
 	{
-		return CharMatcher.ascii().retainFrom(str.replaceAll("[\u00A0_-]", " ")).trim();
+		int i = 0;
+		while (i < str.length() && isJagexNameChar(str.charAt(i)))
+		{
+			i++;
+		}
+
+		if (i == str.length())
+		{
+			return str.trim();
+		}
+
+		StringBuilder sb = new StringBuilder(str.length());
+		toJagexName(str, sb);
+		return sb.toString();
+	}
+
+	/**
+	 * Converts the given text into Jagex username format as in {@link #toJagexName(String)}, appending the
+	 * result to `out`.
+	 *
+	 * @param str The text to convert.
+	 * @param out The builder to append to.
+	 * @return `out`
+	 */
+	public static StringBuilder toJagexName(CharSequence str, StringBuilder out)
+	{
+		final int start = out.length();
+		for (int i = 0; i < str.length(); i++)
+		{
+			char c = str.charAt(i);
+			if (c == '\u00A0' || c == '_' || c == '-')
+			{
+				c = ' ';
+			}
+			else if (c > 0x7f)
+			{
+				continue;
+			}
+
+			// drop leading whitespace as it is appended
+			if (c > ' ' || out.length() > start)
+			{
+				out.append(c);
+			}
+		}
+
+		int end = out.length();
+		while (end > start && out.charAt(end - 1) <= ' ')
+		{
+			end--;
+		}
+		out.setLength(end);
+		return out;
+	}
+
+	private static boolean isJagexNameChar(char c)
+	{
+		return c <= 0x7f && c != '_' && c != '-';
+	}
+
+	/**
+	 * Finds the start of the first tag at or after `from`, where a tag is a &lt; up to the next &gt;.
+	 */
+	private static int indexOfTag(CharSequence str, int from)
+	{
+		for (int i = from, len = str.length(), open = -1; i < len; i++)
+		{
+			char c = str.charAt(i);
+			if (c == '<' && open < 0)
+			{
+				open = i;
+			}
+			else if (c == '>' && open >= 0)
+			{
+				return open;
+			}
+		}
+		return -1;
+	}
+
+	private static StringBuilder removeTags(CharSequence str, StringBuilder out, boolean keepEscapes)
+	{
+		final int len = str.length();
+		int from = 0;
+		int open;
+		while ((open = indexOfTag(str, from)) >= 0)
+		{
+			int close = open + 1;
+			while (str.charAt(close) != '>')
+			{
+				close++;
+			}
+
+			out.append(str, from, open);
+			if (keepEscapes && close - open == 3
+				&& (str.charAt(open + 1) == 'l' || str.charAt(open + 1) == 'g') && str.charAt(open + 2) == 't')
+			{
+				out.append(str, open, close + 1);
+			}
+			from = close + 1;
+		}
+		return out.append(str, from, len);
 	}
 
 	/**
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import net.runelite.api.gameval.ItemID;
+import net.runelite.api.gameval.ObjectID;
+import net.runelite.api.gameval.VarbitID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class GameValNamesTest
+{
+	@Test
+	public void testMatchesClass() throws IllegalAccessException
+	{
+		assertMatches(VarbitID.class, GameValNames.varbits());
+		assertMatches(ItemID.class, GameValNames.items());
+		// includes the fields inherited from ObjectID1
+		assertMatches(ObjectID.class, GameValNames.objects());
+	}
+
+	@Test
+	public void testLookup()
+	{
+		assertEquals("ABYSSAL_WHIP", GameValNames.item(ItemID.ABYSSAL_WHIP));
+		assertEquals(ItemID.ABYSSAL_WHIP, GameValNames.items().getId("abyssal_whip"));
+		assertNull(GameValNames.item(-1));
+		assertEquals(-1, GameValNames.items().getId("ABYSSAL_WHIPP"));
+		assertEquals(-1, GameValNames.items().getId(""));
+	}
+
+	@Test
+	public void testFindByPrefix()
+	{
+		List<String> names = GameValNames.items().findByPrefix("abyssal_whip");
+		assertTrue(names.contains("ABYSSAL_WHIP"));
+		for (int i = 0; i < names.size(); ++i)
+		{
+			assertTrue(names.get(i).startsWith("ABYSSAL_WHIP"));
+			assertTrue(i == 0 || names.get(i - 1).compareTo(names.get(i)) < 0);
+		}
+
+		assertEquals(GameValNames.items().size(), GameValNames.items().findByPrefix("").size());
+		assertTrue(GameValNames.items().findByPrefix("NOT_AN_ITEM_").isEmpty());
+	}
+
+	@Test
+	public void testMissingTable()
+	{
+		GameValNames names = GameValNames.of("NotAGameVal");
+		assertEquals(0, names.size());
+		assertNull(names.getName(0));
+		assertEquals(-1, names.getId("A"));
+		assertTrue(names.findByPrefix("").isEmpty());
+	}
+
+	private static void assertMatches(Class<?> clazz, GameValNames names) throws IllegalAccessException
+	{
+		int count = 0;
+		for (Field field : clazz.getFields())
+		{
+			if (!Modifier.isStatic(field.getModifiers()) || field.getType() != int.class)
+			{
+				continue;
+			}
+
+			// ObjectID1 is package private
+			field.setAccessible(true);
+			int id = field.getInt(null);
+			assertEquals(field.getName(), names.getName(id));
+			assertEquals(id, names.getId(field.getName()));
+			++count;
+		}
+
+		assertFalse(count == 0);
+		assertEquals(count, names.size());
+	}
+}
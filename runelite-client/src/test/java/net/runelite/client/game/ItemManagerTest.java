@@ -28,18 +28,35 @@ import com.google.inject.Guice;
 import com.google.inject.Inject;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.EnumSet;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BooleanSupplier;
 import javax.inject.Named;
 import net.runelite.api.Client;
+import net.runelite.api.GameState;
+import net.runelite.api.ItemComposition;
+import net.runelite.api.WorldType;
+import net.runelite.api.events.GameStateChanged;
 import net.runelite.api.gameval.ItemID;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.http.api.item.ItemPrice;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -95,4 +112,60 @@ public class ItemManagerTest
 		itemPrice.setWikiPrice(300_000); // outside of 5x range
 		assertEquals(itemPrice.getPrice(), itemManager.getWikiPrice(itemPrice));
 	}
+
+	@Test
+	public void testItemSnapshots()
+	{
+		final int itemCount = 5000;
+		when(client.getItemCount()).thenReturn(itemCount);
+		when(client.getWorldType()).thenReturn(EnumSet.of(WorldType.MEMBERS));
+		when(client.getItemDefinition(anyInt())).thenAnswer(a ->
+		{
+			int id = a.getArgument(0);
+			ItemComposition itemComposition = mock(ItemComposition.class);
+			lenient().when(itemComposition.getId()).thenReturn(id);
+			// odd items are the notes of the even items
+			lenient().when(itemComposition.getNote()).thenReturn(id % 2 == 0 ? -1 : 799);
+			lenient().when(itemComposition.getLinkedNoteId()).thenReturn(id % 2 == 0 ? id + 1 : id - 1);
+			return itemComposition;
+		});
+
+		GameStateChanged loginScreen = new GameStateChanged();
+		loginScreen.setGameState(GameState.LOGIN_SCREEN);
+		itemManager.onGameStateChanged(loginScreen);
+
+		ArgumentCaptor<BooleanSupplier> captor = ArgumentCaptor.forClass(BooleanSupplier.class);
+		verify(clientThread).invokeLater(captor.capture());
+		BooleanSupplier build = captor.getValue();
+
+		// built over multiple client ticks, and not available off of the client thread until it is done
+		assertFalse(build.getAsBoolean());
+		assertFalse(itemManager.hasItemSnapshots());
+		assertNull(itemManager.getItemSnapshot(4201));
+		assertTrue(build.getAsBoolean());
+		assertTrue(itemManager.hasItemSnapshots());
+
+		ItemSnapshot item = itemManager.getItemSnapshot(4201);
+		assertEquals(4201, item.getId());
+		assertEquals(4200, item.getLinkedNoteId());
+		assertEquals(4200, itemManager.canonicalize(4201));
+		assertNull(itemManager.getItemSnapshot(itemCount));
+		// items added since they were built are unknown off of the client thread, rather than being looked up
+		assertEquals(itemCount + 1, itemManager.canonicalize(itemCount + 1));
+		// while on the client thread the current compositions are used
+		when(client.isClientThread()).thenReturn(true);
+		assertEquals(itemCount, itemManager.canonicalize(itemCount + 1));
+		assertEquals(itemCount, itemManager.getItemSnapshot(itemCount + 1).getLinkedNoteId());
+
+		// logging in to a members world keeps the snapshots, but to a free world rebuilds them for the item names
+		GameStateChanged loggedIn = new GameStateChanged();
+		loggedIn.setGameState(GameState.LOGGED_IN);
+		itemManager.onGameStateChanged(loggedIn);
+		verify(clientThread, times(1)).invokeLater(any(BooleanSupplier.class));
+
+		when(client.getWorldType()).thenReturn(EnumSet.noneOf(WorldType.class));
+		itemManager.onGameStateChanged(loggedIn);
+		verify(clientThread, times(2)).invokeLater(any(BooleanSupplier.class));
+		assertTrue(itemManager.hasItemSnapshots());
+	}
 }
\ No newline at end of file
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game;
+
+import com.google.inject.Guice;
+import com.google.inject.Inject;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.image.BufferedImage;
+import net.runelite.api.Client;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.util.AsyncBufferedImage;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.Mock;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SpriteAtlasTest
+{
+	@Inject
+	private SpriteAtlas spriteAtlas;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private ItemManager itemManager;
+
+	@Mock
+	@Bind
+	private SpriteManager spriteManager;
+
+	@Mock
+	private ClientThread clientThread;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+		lenient().when(client.isClientThread()).thenReturn(true);
+	}
+
+	@Test
+	public void testSprites()
+	{
+		when(spriteManager.getSprite(anyInt(), anyInt())).thenAnswer(a -> image(a.getArgument(0), 20, 10));
+
+		SpriteAtlas.Region a = spriteAtlas.getSprite(1, 0);
+		SpriteAtlas.Region b = spriteAtlas.getSprite(2, 0);
+		assertNotNull(a);
+		assertNotNull(b);
+		assertSame(a.getPage(), b.getPage());
+		assertNotEquals(a.getX(), b.getX());
+		assertEquals(1, a.getPage().getRGB(a.getX(), a.getY()) & 0xffffff);
+		assertEquals(2, b.getPage().getRGB(b.getX() + 19, b.getY() + 9) & 0xffffff);
+
+		assertSame(a, spriteAtlas.getSprite(1, 0));
+		verify(spriteManager, times(1)).getSprite(1, 0);
+	}
+
+	@Test
+	public void testItem()
+	{
+		AsyncBufferedImage image = new AsyncBufferedImage(clientThread, 36, 32, BufferedImage.TYPE_INT_ARGB);
+		when(itemManager.getImage(4151, 1, false)).thenReturn(image);
+
+		assertNull(spriteAtlas.getItem(4151, 1, false));
+		assertNull(spriteAtlas.getItem(4151, 1, false));
+
+		image.setRGB(3, 4, 0xff123456);
+		image.loaded();
+
+		SpriteAtlas.Region region = spriteAtlas.getItem(4151, 1, false);
+		assertNotNull(region);
+		assertEquals(36, region.getWidth());
+		assertEquals(0xff123456, region.getPage().getRGB(region.getX() + 3, region.getY() + 4));
+		verify(itemManager, times(1)).getImage(4151, 1, false);
+	}
+
+	@Test
+	public void testStacksNotPacked()
+	{
+		assertNull(spriteAtlas.getItem(995, 1000, true));
+		verify(itemManager, never()).getImage(anyInt(), anyInt(), anyBoolean());
+	}
+
+	@Test
+	public void testNegativeSpriteFile()
+	{
+		when(spriteManager.getSprite(anyInt(), anyInt())).thenAnswer(a -> image(a.getArgument(0), 20, 10));
+
+		SpriteAtlas.Region a = spriteAtlas.getSprite(1, -1);
+		SpriteAtlas.Region b = spriteAtlas.getSprite(2, -1);
+		assertNotEquals(a, b);
+		assertEquals(2, b.getPage().getRGB(b.getX(), b.getY()) & 0xffffff);
+	}
+
+	@Test
+	public void testFull()
+	{
+		when(spriteManager.getSprite(anyInt(), anyInt())).thenAnswer(a -> image(a.getArgument(0), 600, 600));
+
+		// one per page, so the fifth clears the atlas
+		SpriteAtlas.Region first = spriteAtlas.getSprite(0, 0);
+		for (int i = 1; i <= 4; ++i)
+		{
+			spriteAtlas.getSprite(i, 0);
+		}
+
+		assertEquals(0, first.getPage().getRGB(0, 0) & 0xffffff);
+		assertNotEquals(first, spriteAtlas.getSprite(0, 0));
+		verify(spriteManager, times(2)).getSprite(0, 0);
+	}
+
+	@Test
+	public void testOversized()
+	{
+		BufferedImage image = image(7, 2000, 10);
+		when(spriteManager.getSprite(7, 0)).thenReturn(image);
+
+		SpriteAtlas.Region region = spriteAtlas.getSprite(7, 0);
+		assertSame(image, region.getPage());
+		assertEquals(2000, region.getWidth());
+	}
+
+	private static BufferedImage image(int color, int width, int height)
+	{
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		for (int y = 0; y < height; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				image.setRGB(x, y, 0xff000000 | color);
+			}
+		}
+		return image;
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game.npcoverlay;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.inject.Inject;
+import net.runelite.api.Client;
+import net.runelite.api.IndexedObjectSet;
+import net.runelite.api.NPC;
+import net.runelite.api.WorldView;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.client.callback.ClientThread;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.ui.overlay.OverlayManager;
+import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.any;
+import org.mockito.Mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NpcOverlayServiceTest
+{
+	@Inject
+	private NpcOverlayService npcOverlayService;
+
+	@Mock
+	@Bind
+	private Client client;
+
+	@Mock
+	@Bind
+	private ClientThread clientThread;
+
+	@Mock
+	@Bind
+	private OverlayManager overlayManager;
+
+	@Mock
+	@Bind
+	private ModelOutlineRenderer modelOutlineRenderer;
+
+	@Bind
+	private final EventBus eventBus = new EventBus();
+
+	private final List<NPC> npcs = new ArrayList<>();
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		doAnswer(a ->
+		{
+			a.<Runnable>getArgument(0).run();
+			return null;
+		}).when(clientThread).invoke(any(Runnable.class));
+
+		WorldView wv = mock(WorldView.class);
+		IndexedObjectSet<NPC> npcSet = mockSet(npcs);
+		IndexedObjectSet<WorldView> worldViews = mockSet(Collections.emptyList());
+		doReturn(npcSet).when(wv).npcs();
+		doReturn(worldViews).when(wv).worldViews();
+		when(client.getTopLevelWorldView()).thenReturn(wv);
+	}
+
+	@Test
+	public void testIdHighlighter()
+	{
+		NPC goblin = spawn(1, "Goblin");
+		NPC guard = spawn(2, "Guard");
+
+		AtomicInteger calls = new AtomicInteger();
+		NpcHighlighter highlighter = NpcHighlighter.builder()
+			.id(1)
+			.highlight(counting(calls))
+			.build();
+		npcOverlayService.registerHighlighter(highlighter);
+		assertEquals(1, calls.get());
+
+		spawn(2, "Guard");
+		NPC other = spawn(1, "Goblin");
+		assertEquals(2, calls.get());
+
+		npcOverlayService.rebuild(highlighter);
+		assertEquals(4, calls.get());
+
+		assertSame(goblin, npcOverlayService.getHighlightedNpcs().get(goblin).getNpc());
+		assertSame(other, npcOverlayService.getHighlightedNpcs().get(other).getNpc());
+		assertFalse(npcOverlayService.getHighlightedNpcs().containsKey(guard));
+
+		npcOverlayService.unregisterHighlighter(highlighter);
+		assertEquals(0, npcOverlayService.getHighlightedNpcs().size());
+	}
+
+	@Test
+	public void testNameHighlighter()
+	{
+		spawn(1, "Goblin");
+		spawn(2, "Goblin");
+		spawn(3, "Guard");
+
+		AtomicInteger names = new AtomicInteger();
+		AtomicInteger calls = new AtomicInteger();
+		NpcHighlighter highlighter = NpcHighlighter.builder()
+			.name(name ->
+			{
+				names.incrementAndGet();
+				return name.equals("Goblin");
+			})
+			.highlight(counting(calls))
+			.build();
+		npcOverlayService.registerHighlighter(highlighter);
+		assertEquals(2, names.get());
+		assertEquals(2, calls.get());
+		assertEquals(2, npcOverlayService.getHighlightedNpcs().size());
+
+		spawn(4, "Guard");
+		assertEquals(2, names.get());
+
+		// the name cache is cleared on rebuild
+		npcOverlayService.rebuild(highlighter);
+		assertEquals(4, names.get());
+		assertEquals(4, calls.get());
+	}
+
+	@Test
+	public void testOrder()
+	{
+		NPC npc = spawn(1, "Goblin");
+
+		Function<NPC, HighlightedNpc> red = n -> highlight(n, Color.RED);
+		NpcHighlighter green = NpcHighlighter.builder()
+			.id(1)
+			.highlight(n -> highlight(n, Color.GREEN))
+			.build();
+
+		// the first registered highlighter wins, whether it is indexed by id or not
+		npcOverlayService.registerHighlighter(red);
+		npcOverlayService.registerHighlighter(green);
+		assertEquals(Color.RED, npcOverlayService.getHighlightedNpcs().get(npc).getHighlightColor());
+
+		npcOverlayService.rebuild(green);
+		assertEquals(Color.RED, npcOverlayService.getHighlightedNpcs().get(npc).getHighlightColor());
+
+		npcOverlayService.unregisterHighlighter(red);
+		assertEquals(Color.GREEN, npcOverlayService.getHighlightedNpcs().get(npc).getHighlightColor());
+
+		npcOverlayService.registerHighlighter(red);
+		assertEquals(Color.GREEN, npcOverlayService.getHighlightedNpcs().get(npc).getHighlightColor());
+	}
+
+	private NPC spawn(int id, String name)
+	{
+		NPC npc = mock(NPC.class);
+		when(npc.getId()).thenReturn(id);
+		when(npc.getName()).thenReturn(name);
+		npcs.add(npc);
+		eventBus.post(new NpcSpawned(npc));
+		return npc;
+	}
+
+	private static Function<NPC, HighlightedNpc> counting(AtomicInteger calls)
+	{
+		return npc ->
+		{
+			calls.incrementAndGet();
+			return highlight(npc, Color.RED);
+		};
+	}
+
+	private static HighlightedNpc highlight(NPC npc, Color color)
+	{
+		return HighlightedNpc.builder()
+			.npc(npc)
+			.highlightColor(color)
+			.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> IndexedObjectSet<T> mockSet(List<T> list)
+	{
+		IndexedObjectSet<T> set = mock(IndexedObjectSet.class);
+		when(set.iterator()).thenAnswer(a -> list.iterator());
+		return set;
+	}
+}
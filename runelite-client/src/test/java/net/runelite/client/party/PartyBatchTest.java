@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.util.Map;
+import org.junit.Test;
+
+public class PartyBatchTest
+{
+	@Test(expected = IOException.class)
+	public void testNegativeLength() throws IOException
+	{
+		// version, json header, length -1
+		decode(1, 0, 0xff, 0xff, 0xff, 0xff, 0x0f);
+	}
+
+	@Test(expected = IOException.class)
+	public void testLengthPastEnd() throws IOException
+	{
+		// version, json header, length 1000, 2 bytes of payload
+		decode(1, 0, 0xe8, 0x07, '{', '}');
+	}
+
+	private static void decode(int... data) throws IOException
+	{
+		final byte[] bytes = new byte[data.length];
+		for (int i = 0; i < data.length; ++i)
+		{
+			bytes[i] = (byte) data[i];
+		}
+		PartyBatch.decode(ByteString.copyFrom(bytes), Map.of(), null, m ->
+		{
+		});
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.party;
+
+import com.google.inject.Guice;
+import com.google.inject.name.Names;
+import java.awt.Color;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import net.runelite.api.coords.WorldPoint;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.party.messages.PartyMemberMessage;
+import net.runelite.client.plugins.party.messages.LocationUpdate;
+import net.runelite.client.plugins.party.messages.StatusUpdate;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.ByteString;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+public class WSClientTest
+{
+	private static final long MEMBER_ID = 42;
+
+	@Rule
+	public final MockWebServer server = new MockWebServer();
+
+	private final BlockingQueue<ByteString> received = new LinkedBlockingQueue<>();
+	private final EventBus eventBus = mock(EventBus.class);
+	private WSClient wsClient;
+
+	@Before
+	public void before()
+	{
+		server.enqueue(new MockResponse().withWebSocketUpgrade(new WebSocketListener()
+		{
+			@Override
+			public void onMessage(WebSocket webSocket, ByteString bytes)
+			{
+				received.add(bytes);
+			}
+		}));
+
+		wsClient = Guice.createInjector(binder ->
+		{
+			binder.bind(EventBus.class).toInstance(eventBus);
+			binder.bind(OkHttpClient.class).toInstance(new OkHttpClient());
+			binder.bind(HttpUrl.class).annotatedWith(Names.named("runelite.ws")).toInstance(server.url("/ws"));
+		}).getInstance(WSClient.class);
+
+		wsClient.registerMessage(StatusUpdate.class, PartyMessageTypes.STATUS_UPDATE, StatusUpdate.CODEC);
+		wsClient.registerMessage(LocationUpdate.class, PartyMessageTypes.LOCATION_UPDATE, LocationUpdate.CODEC);
+		wsClient.registerMessage(JsonMessage.class);
+		wsClient.changeSession(UUID.randomUUID());
+	}
+
+	@After
+	public void after()
+	{
+		wsClient.close();
+	}
+
+	@Test
+	public void testBatch() throws Exception
+	{
+		final StatusUpdate status = new StatusUpdate();
+		status.setCharacterName("Zezima");
+		status.setHealthCurrent(99);
+		status.setSpecEnergy(1000);
+		status.setVengeanceActive(false);
+		status.setMemberColor(new Color(0x80ff0000, true));
+		final StatusUpdate delta = new StatusUpdate();
+		delta.setHealthCurrent(95);
+
+		wsClient.queue(status);
+		wsClient.queue(new LocationUpdate(new WorldPoint(3222, 3218, 0)));
+		wsClient.queue(delta);
+		wsClient.queue(new JsonMessage("hello"));
+		wsClient.flush(true);
+
+		final Party.Data data = Party.C2S.parseFrom(poll().toByteArray()).getData();
+		assertEquals(PartyBatch.TYPE, data.getType());
+		assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+
+		final List<Object> messages = echo(data);
+		assertEquals(4, messages.size());
+		assertStatusEquals(status, messages.get(0));
+		assertEquals(0x80ff0000, ((StatusUpdate) messages.get(0)).getMemberColor().getRGB());
+		assertEquals(new WorldPoint(3222, 3218, 0), ((LocationUpdate) messages.get(1)).getWorldPoint());
+		assertStatusEquals(delta, messages.get(2));
+		assertEquals(new JsonMessage("hello"), messages.get(3));
+		for (Object message : messages)
+		{
+			assertEquals(MEMBER_ID, ((PartyMemberMessage) message).getMemberId());
+		}
+	}
+
+	@Test
+	public void testUnbatched() throws Exception
+	{
+		final StatusUpdate status = new StatusUpdate();
+		status.setHealthCurrent(50);
+
+		wsClient.queue(status);
+		wsClient.queue(new JsonMessage("hello"));
+		wsClient.flush(false);
+
+		final Party.Data first = Party.C2S.parseFrom(poll().toByteArray()).getData();
+		final Party.Data second = Party.C2S.parseFrom(poll().toByteArray()).getData();
+		assertEquals("StatusUpdate", first.getType());
+		assertEquals("JsonMessage", second.getType());
+		assertStatusEquals(status, echo(first).get(0));
+		assertEquals(new JsonMessage("hello"), echo(second).get(0));
+	}
+
+	@Test
+	public void testBatchSize() throws Exception
+	{
+		final StatusUpdate status = new StatusUpdate();
+		status.setHealthCurrent(50);
+		status.setRunEnergy(7500);
+		final LocationUpdate location = new LocationUpdate(new WorldPoint(3222, 3218, 0));
+
+		wsClient.queue(status);
+		wsClient.queue(location);
+		wsClient.flush(false);
+		final int unbatched = poll().size() + poll().size();
+
+		wsClient.queue(status);
+		wsClient.queue(location);
+		wsClient.flush(true);
+		final int batched = poll().size();
+
+		assertTrue("batch of " + batched + " bytes should be smaller than " + unbatched, batched * 2 < unbatched);
+	}
+
+	private static void assertStatusEquals(StatusUpdate expected, Object actual)
+	{
+		final StatusUpdate status = (StatusUpdate) actual;
+		assertEquals(expected.getCharacterName(), status.getCharacterName());
+		assertEquals(expected.getHealthCurrent(), status.getHealthCurrent());
+		assertEquals(expected.getHealthMax(), status.getHealthMax());
+		assertEquals(expected.getPrayerCurrent(), status.getPrayerCurrent());
+		assertEquals(expected.getPrayerMax(), status.getPrayerMax());
+		assertEquals(expected.getRunEnergy(), status.getRunEnergy());
+		assertEquals(expected.getSpecEnergy(), status.getSpecEnergy());
+		assertEquals(expected.getVengeanceActive(), status.getVengeanceActive());
+		assertEquals(expected.getMemberColor(), status.getMemberColor());
+	}
+
+	private ByteString poll() throws InterruptedException
+	{
+		final ByteString bytes = received.poll(5, TimeUnit.SECONDS);
+		assertNotNull(bytes);
+		return bytes;
+	}
+
+	// sends data back to the client as if it came from another member
+	private List<Object> echo(Party.Data data)
+	{
+		reset(eventBus);
+		final Party.S2C s2c = Party.S2C.newBuilder()
+			.setData(Party.PartyData.newBuilder()
+				.setMemberId(MEMBER_ID)
+				.setType(data.getType())
+				.setData(data.getData()))
+			.build();
+		wsClient.onMessage(null, ByteString.of(s2c.toByteArray()));
+
+		final ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(eventBus, atLeastOnce()).post(captor.capture());
+		return captor.getAllValues();
+	}
+
+	@Value
+	@EqualsAndHashCode(callSuper = false)
+	static class JsonMessage extends PartyMemberMessage
+	{
+		private final String text;
+	}
+}
@@ -36,7 +36,6 @@ import net.runelite.client.chat.ChatMessageManager;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.config.RuneLiteConfig;
 import net.runelite.client.game.ItemManager;
-import static net.runelite.client.plugins.banktags.BankTagsPlugin.ITEM_KEY_PREFIX;
 import net.runelite.client.plugins.banktags.tabs.TabInterface;
 import net.runelite.client.plugins.cluescrolls.ClueScrollService;
 import static org.junit.Assert.assertEquals;
@@ -113,22 +112,19 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{0, ItemID.ABYSSAL_WHIP});
 		when(client.getObjectStack()).thenReturn(new String[]{"tag:whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing,whip");
+		tagManager.setTagString(ItemID.ABYSSAL_WHIP, "herb,bossing,whip", false);
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 
 		// Search should be found at the start of the tag
 		when(client.getIntStack()).thenReturn(new int[]{0, ItemID.ABYSSAL_WHIP});
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing,whip long tag");
+		tagManager.setTagString(ItemID.ABYSSAL_WHIP, "herb,bossing,whip long tag", false);
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
 
 		// Search should not be be found in the middle of the tag
 		// and explicit search does not allow fall through
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing whip");
+		tagManager.setTagString(ItemID.ABYSSAL_WHIP, "herb,bossing whip", false);
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(0, client.getIntStack()[0]);
 	}
@@ -139,8 +135,7 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{1, ItemID.ABYSSAL_WHIP});
 		when(client.getObjectStack()).thenReturn(new String[]{"whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing");
+		tagManager.setTagString(ItemID.ABYSSAL_WHIP, "herb,bossing", false);
 
 		assertFalse(tagManager.findTag(ItemID.ABYSSAL_WHIP, "whip"));
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
@@ -153,8 +148,7 @@ public class BankTagsPluginTest
 		when(client.getIntStack()).thenReturn(new int[]{0, ItemID.ABYSSAL_WHIP});
 		when(client.getObjectStack()).thenReturn(new String[]{"whip"});
 
-		when(configManager.getConfiguration(BankTagsPlugin.CONFIG_GROUP,
-			ITEM_KEY_PREFIX + ItemID.ABYSSAL_WHIP)).thenReturn("herb,bossing,whip long tag");
+		tagManager.setTagString(ItemID.ABYSSAL_WHIP, "herb,bossing,whip long tag", false);
 
 		bankTagsPlugin.onScriptCallbackEvent(EVENT);
 		assertEquals(1, client.getIntStack()[0]);
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.banktags;
+
+import com.google.inject.Guice;
+import com.google.inject.testing.fieldbinder.Bind;
+import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.List;
+import javax.inject.Inject;
+import net.runelite.client.config.ConfigManager;
+import net.runelite.client.events.ConfigChanged;
+import net.runelite.client.events.ProfileChanged;
+import net.runelite.client.game.ItemManager;
+import static net.runelite.client.plugins.banktags.BankTagsPlugin.CONFIG_GROUP;
+import static net.runelite.client.plugins.banktags.BankTagsPlugin.ITEM_KEY_PREFIX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import static org.mockito.ArgumentMatchers.anyInt;
+import org.mockito.Mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TagManagerTest
+{
+	// longbow and one of its variations, from item_variations.json
+	private static final int LONGBOW = 48;
+	private static final int LONGBOW_VARIATION = 839;
+	private static final int OTHER = 1000;
+
+	@Mock
+	@Bind
+	private ItemManager itemManager;
+
+	@Mock
+	@Bind
+	private ConfigManager configManager;
+
+	@Inject
+	private TagManager tagManager;
+
+	@Before
+	public void before()
+	{
+		Guice.createInjector(BoundFieldModule.of(this)).injectMembers(this);
+
+		when(itemManager.canonicalize(anyInt())).thenAnswer(a -> a.getArgument(0));
+		when(configManager.getConfigurationKeys(CONFIG_GROUP + "." + ITEM_KEY_PREFIX)).thenReturn(List.of(
+			CONFIG_GROUP + "." + ITEM_KEY_PREFIX + LONGBOW_VARIATION,
+			CONFIG_GROUP + "." + ITEM_KEY_PREFIX + -LONGBOW,
+			CONFIG_GROUP + "." + ITEM_KEY_PREFIX + OTHER
+		));
+		config(LONGBOW_VARIATION, "Bows");
+		config(-LONGBOW, "ranged,bows");
+		config(OTHER, "ranged, misc");
+	}
+
+	@Test
+	public void testLoadedOnce()
+	{
+		assertEquals(List.of(-LONGBOW, LONGBOW_VARIATION, OTHER), tagManager.getItemsForTag("ranged"));
+		assertEquals(List.of(-LONGBOW, LONGBOW_VARIATION), tagManager.getItemsForTag("bows"));
+		assertEquals(List.of(), tagManager.getItemsForTag("missing"));
+		assertTrue(tagManager.getTags(OTHER, false).contains("misc"));
+
+		verify(configManager, times(1)).getConfigurationKeys(CONFIG_GROUP + "." + ITEM_KEY_PREFIX);
+	}
+
+	@Test
+	public void testFindTag()
+	{
+		assertTrue(tagManager.findTag(LONGBOW_VARIATION, "ran"));
+		assertTrue(tagManager.findTag(LONGBOW_VARIATION, "bow"));
+		assertTrue(tagManager.findTag(OTHER, "MIS"));
+		assertFalse(tagManager.findTag(OTHER, "bow"));
+		assertFalse(tagManager.findTag(OTHER, "anged"));
+	}
+
+	@Test
+	public void testWriteThrough()
+	{
+		tagManager.addTag(OTHER, "Bows", false);
+		assertEquals(List.of(-LONGBOW, LONGBOW_VARIATION, OTHER), tagManager.getItemsForTag("bows"));
+		verify(configManager).setConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + OTHER, "ranged,misc,bows");
+
+		tagManager.removeTag("ranged");
+		assertEquals(List.of(), tagManager.getItemsForTag("ranged"));
+		verify(configManager).setConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + -LONGBOW, "bows");
+		verify(configManager).setConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + OTHER, "misc,bows");
+		verify(configManager, never()).setConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + LONGBOW_VARIATION, "bows");
+
+		tagManager.setTagString(OTHER, "", false);
+		verify(configManager).unsetConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + OTHER);
+		assertFalse(tagManager.findTag(OTHER, "misc"));
+	}
+
+	@Test
+	public void testConfigChanged()
+	{
+		assertFalse(tagManager.findTag(OTHER, "new"));
+
+		ConfigChanged changed = new ConfigChanged();
+		changed.setGroup(CONFIG_GROUP);
+		changed.setKey(ITEM_KEY_PREFIX + OTHER);
+		changed.setNewValue("new");
+		tagManager.onConfigChanged(changed);
+
+		assertTrue(tagManager.findTag(OTHER, "new"));
+		assertEquals(List.of(-LONGBOW, LONGBOW_VARIATION), tagManager.getItemsForTag("ranged"));
+
+		// a profile switch reloads everything from the config
+		config(OTHER, "switched");
+		tagManager.onProfileChanged(new ProfileChanged());
+		assertTrue(tagManager.findTag(OTHER, "switched"));
+		verify(configManager, times(2)).getConfigurationKeys(CONFIG_GROUP + "." + ITEM_KEY_PREFIX);
+	}
+
+	private void config(int key, String tags)
+	{
+		when(configManager.getConfiguration(CONFIG_GROUP, ITEM_KEY_PREFIX + key)).thenReturn(tags);
+	}
+}
@@ -28,6 +28,8 @@ package net.runelite.client.plugins.chatfilter;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import java.util.List;
+import java.util.regex.Pattern;
 import javax.inject.Inject;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
@@ -478,4 +480,42 @@ public class ChatFilterPluginTest
 		chatFilterPlugin.onScriptCallbackEvent(event);
 		assertEquals("test", client.getObjectStack()[client.getObjectStackSize() - 1]);
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testCensorOverlappingWords()
+	{
+		when(chatFilterConfig.filteredWords()).thenReturn("aa, hat, ats u");
+
+		chatFilterPlugin.updateFilteredPatterns();
+		// repeated matches of a single word don't overlap, the same as a regex would
+		assertEquals("**a", chatFilterPlugin.censorMessage("Blue", "aaa"));
+		assertEquals("w******p", chatFilterPlugin.censorMessage("Blue", "whats up"));
+	}
+
+	@Test
+	public void testCensorWordsAndRegex()
+	{
+		when(chatFilterConfig.filteredWords()).thenReturn("hello");
+		when(chatFilterConfig.filteredRegex()).thenReturn("wor.d\nbuying gf\n(a)\\1");
+
+		chatFilterPlugin.updateFilteredPatterns();
+		assertEquals("*****, ***** buying **", chatFilterPlugin.censorMessage("Blue", "HELLO, world buying aa"));
+		assertEquals("********* cheap", chatFilterPlugin.censorMessage("Blue", "BUYING GF cheap"));
+	}
+
+	@Test
+	public void testCombinePatterns()
+	{
+		Pattern combined = ChatFilterPlugin.combinePatterns(List.of(Pattern.compile("a+b"), Pattern.compile("(?i)c(d)")));
+		assertTrue(combined.matcher("xaab").find());
+		assertTrue(combined.matcher("CD").find());
+		// inline flags stay scoped to their own pattern
+		combined = ChatFilterPlugin.combinePatterns(List.of(Pattern.compile("(?-i)x"), Pattern.compile("y")));
+		assertFalse(combined.matcher("X").find());
+		assertTrue(combined.matcher("Y").find());
+
+		assertNull(ChatFilterPlugin.combinePatterns(List.of(Pattern.compile("(a)\\1"), Pattern.compile("b"))));
+		assertNull(ChatFilterPlugin.combinePatterns(List.of(Pattern.compile("\\Qa.b"), Pattern.compile("b"))));
+		assertNull(ChatFilterPlugin.combinePatterns(List.of(Pattern.compile("(?x)a # b"), Pattern.compile("b"))));
+	}
+}
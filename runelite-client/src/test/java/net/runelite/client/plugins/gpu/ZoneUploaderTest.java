@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.gpu;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.runelite.api.Constants;
+import net.runelite.api.DynamicObject;
+import net.runelite.api.GameObject;
+import net.runelite.api.Model;
+import net.runelite.api.Point;
+import net.runelite.api.Renderable;
+import net.runelite.api.Scene;
+import net.runelite.api.SceneTileModel;
+import net.runelite.api.SceneTilePaint;
+import net.runelite.api.Tile;
+import net.runelite.client.callback.RenderCallback;
+import net.runelite.client.callback.RenderCallbackManager;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ZoneUploaderTest
+{
+	private static final int ZONES = 3;
+	private static final int TILES = ZONES * 8;
+
+	private final Random random = new Random(42);
+	private final RenderCallbackManager renderCallbackManager = new RenderCallbackManager();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testParallelUploadMatchesSerial()
+	{
+		Scene scene = scene(true);
+		Zone[][] serial = serialUpload(scene);
+
+		Zone[][] parallel = sizedZones(scene);
+		ZoneUploader zoneUploader = new ZoneUploader(renderCallbackManager, 4, null);
+		try
+		{
+			zoneUploader.upload(scene, parallel, zone -> true);
+		}
+		finally
+		{
+			zoneUploader.shutdown();
+		}
+
+		assertZonesEqual(serial, parallel);
+	}
+
+	@Test
+	public void testCachedUploadMatchesSerial() throws InterruptedException
+	{
+		// animated objects make a zone uncacheable
+		Scene scene = scene(false);
+		Zone[][] serial = serialUpload(scene);
+
+		File dir = folder.getRoot();
+		assertTrue(new File(dir, "1").mkdir());
+
+		// the first upload misses and populates the cache
+		ZoneCache cache = new ZoneCache(dir, 2, Long.MAX_VALUE);
+		Zone[][] populated = sizedZones(scene);
+		new ZoneUploader(renderCallbackManager, 4, cache).upload(scene, populated, zone -> true);
+		cache.awaitWrites();
+		assertEquals(0, cache.getHits().get());
+		assertZonesEqual(serial, populated);
+
+		// entries for other revisions are removed
+		assertFalse(new File(dir, "1").exists());
+		String[] entries = new File(dir, "2").list();
+		assertEquals(ZONES * ZONES, entries.length);
+
+		// and the second is filled from it
+		cache = new ZoneCache(dir, 2, Long.MAX_VALUE);
+		Zone[][] cached = sizedZones(scene);
+		new ZoneUploader(renderCallbackManager, 1, cache).upload(scene, cached, zone -> true);
+		assertEquals(ZONES * ZONES, cache.getHits().get());
+		assertZonesEqual(serial, cached);
+	}
+
+	@Test
+	public void testRenderCallbacksCalledOnce() throws InterruptedException
+	{
+		AtomicInteger calls = new AtomicInteger();
+		renderCallbackManager.register(new RenderCallback()
+		{
+			@Override
+			public boolean drawTile(Scene scene, Tile tile)
+			{
+				calls.incrementAndGet();
+				return tile.getSceneLocation().getX() % 2 == 0;
+			}
+		});
+
+		Scene scene = scene(false);
+		Zone[][] serial = serialUpload(scene);
+		int serialCalls = calls.getAndSet(0);
+		assertTrue(serialCalls > 0);
+
+		// the hash and the upload share the callback results on a miss
+		ZoneCache cache = new ZoneCache(folder.getRoot(), 1, Long.MAX_VALUE);
+		Zone[][] populated = sizedZones(scene);
+		new ZoneUploader(renderCallbackManager, 1, cache).upload(scene, populated, zone -> true);
+		cache.awaitWrites();
+		assertEquals(serialCalls, calls.getAndSet(0));
+		assertZonesEqual(serial, populated);
+
+		cache = new ZoneCache(folder.getRoot(), 1, Long.MAX_VALUE);
+		Zone[][] cached = sizedZones(scene);
+		new ZoneUploader(renderCallbackManager, 1, cache).upload(scene, cached, zone -> true);
+		assertEquals(ZONES * ZONES, cache.getHits().get());
+		assertEquals(serialCalls, calls.get());
+		assertZonesEqual(serial, cached);
+	}
+
+	@Test
+	public void testCorruptEntryRemoved() throws IOException, InterruptedException
+	{
+		Scene scene = scene(false);
+		Zone[][] serial = serialUpload(scene);
+
+		ZoneCache cache = new ZoneCache(folder.getRoot(), 1, Long.MAX_VALUE);
+		new ZoneUploader(renderCallbackManager, 1, cache).upload(scene, sizedZones(scene), zone -> true);
+		cache.awaitWrites();
+
+		File[] files = new File(folder.getRoot(), "1").listFiles();
+		byte[] data = Files.readAllBytes(files[0].toPath());
+		data[data.length / 2] ^= 1;
+		Files.write(files[0].toPath(), data);
+
+		cache = new ZoneCache(folder.getRoot(), 1, Long.MAX_VALUE);
+		Zone[][] cached = sizedZones(scene);
+		new ZoneUploader(renderCallbackManager, 1, cache).upload(scene, cached, zone -> true);
+		cache.awaitWrites();
+		assertEquals(ZONES * ZONES - 1, cache.getHits().get());
+		assertZonesEqual(serial, cached);
+	}
+
+	@Test
+	public void testCacheInUse() throws InterruptedException
+	{
+		Scene scene = scene(false);
+		ZoneCache owner = new ZoneCache(folder.getRoot(), 1, Long.MAX_VALUE);
+		new ZoneUploader(renderCallbackManager, 1, owner).upload(scene, sizedZones(scene), zone -> true);
+
+		// a second client runs without the cache
+		ZoneCache other = new ZoneCache(folder.getRoot(), 1, Long.MAX_VALUE);
+		new ZoneUploader(renderCallbackManager, 1, other).upload(scene, sizedZones(scene), zone -> true);
+		other.awaitWrites();
+		assertEquals(0, other.getHits().get());
+
+		owner.awaitWrites();
+		assertEquals(ZONES * ZONES, new File(folder.getRoot(), "1").list().length);
+	}
+
+	@Test
+	public void testCacheSizeLimit() throws InterruptedException
+	{
+		Scene scene = scene(false);
+		ZoneCache cache = new ZoneCache(folder.getRoot(), 1, 32 * 1024);
+		new ZoneUploader(renderCallbackManager, 1, cache).upload(scene, sizedZones(scene), zone -> true);
+		cache.awaitWrites();
+
+		File[] files = new File(folder.getRoot(), "1").listFiles();
+		long size = 0;
+		for (File file : files)
+		{
+			size += file.length();
+		}
+		assertTrue(size <= 32 * 1024);
+		assertTrue(files.length < ZONES * ZONES);
+	}
+
+	private Zone[][] serialUpload(Scene scene)
+	{
+		Zone[][] zones = sizedZones(scene);
+		SceneUploader sceneUploader = new SceneUploader(renderCallbackManager);
+		for (int x = 0; x < ZONES; ++x)
+		{
+			for (int z = 0; z < ZONES; ++z)
+			{
+				sceneUploader.uploadZone(scene, zones[x][z], x, z);
+			}
+		}
+		return zones;
+	}
+
+	private static void assertZonesEqual(Zone[][] expected, Zone[][] actual)
+	{
+		int alphaModels = 0;
+		for (int x = 0; x < ZONES; ++x)
+		{
+			for (int z = 0; z < ZONES; ++z)
+			{
+				Zone a = expected[x][z], b = actual[x][z];
+				assertBufferEquals(a.vboO, b.vboO);
+				assertBufferEquals(a.vboA, b.vboA);
+				assertArrayEquals(a.levelOffsets, b.levelOffsets);
+				assertTrue(Arrays.deepEquals(a.rids, b.rids));
+				assertTrue(Arrays.deepEquals(a.roofStart, b.roofStart));
+				assertTrue(Arrays.deepEquals(a.roofEnd, b.roofEnd));
+
+				assertEquals(a.alphaModels.size(), b.alphaModels.size());
+				for (int i = 0; i < a.alphaModels.size(); ++i)
+				{
+					Zone.AlphaModel ma = a.alphaModels.get(i), mb = b.alphaModels.get(i);
+					assertEquals(ma.id, mb.id);
+					assertEquals(ma.startpos, mb.startpos);
+					assertEquals(ma.endpos, mb.endpos);
+					assertEquals(ma.x, mb.x);
+					assertEquals(ma.y, mb.y);
+					assertEquals(ma.z, mb.z);
+					assertEquals(ma.rid, mb.rid);
+					assertEquals(ma.level, mb.level);
+					assertEquals(ma.lx, mb.lx);
+					assertEquals(ma.uz, mb.uz);
+					assertEquals(ma.radius, mb.radius);
+					assertArrayEquals(ma.packedFaces, mb.packedFaces);
+					assertArrayEquals(ma.renderPriorities, mb.renderPriorities);
+				}
+				alphaModels += a.alphaModels.size();
+			}
+		}
+		assertTrue(alphaModels > 0);
+	}
+
+	private static void assertBufferEquals(VBO a, VBO b)
+	{
+		assertEquals(a == null, b == null);
+		if (a == null)
+		{
+			return;
+		}
+
+		assertEquals(a.vb.position(), b.vb.position());
+		assertArrayEquals(a.vb.array(), b.vb.array());
+	}
+
+	private static Zone[][] sizedZones(Scene scene)
+	{
+		SceneUploader sceneUploader = new SceneUploader(new RenderCallbackManager());
+		Zone[][] zones = new Zone[ZONES][ZONES];
+		for (int x = 0; x < ZONES; ++x)
+		{
+			for (int z = 0; z < ZONES; ++z)
+			{
+				Zone zone = zones[x][z] = new Zone();
+				sceneUploader.zoneSize(scene, zone, x, z);
+				// in place of mapped GL buffers
+				zone.vboO = buffer(zone.sizeO);
+				zone.vboA = buffer(zone.sizeA);
+			}
+		}
+		return zones;
+	}
+
+	private static VBO buffer(int faces)
+	{
+		if (faces == 0)
+		{
+			return null;
+		}
+
+		VBO vbo = new VBO(faces * Zone.VERT_SIZE * 3);
+		vbo.vb = IntBuffer.allocate(vbo.size / Integer.BYTES);
+		return vbo;
+	}
+
+	private Scene scene(boolean dynamic)
+	{
+		Tile[][][] tiles = new Tile[Constants.MAX_Z][TILES][TILES];
+		byte[][][] settings = new byte[Constants.MAX_Z][TILES][TILES];
+		int[][][] roofs = new int[Constants.MAX_Z][TILES][TILES];
+		int[][][] heights = new int[Constants.MAX_Z][TILES + 1][TILES + 1];
+
+		for (int level = 0; level < Constants.MAX_Z; ++level)
+		{
+			for (int x = 0; x <= TILES; ++x)
+			{
+				for (int y = 0; y <= TILES; ++y)
+				{
+					heights[level][x][y] = -level * 240 - random.nextInt(64);
+				}
+			}
+
+			for (int x = 0; x < TILES; ++x)
+			{
+				for (int y = 0; y < TILES; ++y)
+				{
+					if (level > 0 && random.nextInt(3) != 0)
+					{
+						continue;
+					}
+
+					if (level < 3 && random.nextInt(4) == 0)
+					{
+						roofs[level][x][y] = 1 + random.nextInt(3);
+					}
+					if (random.nextInt(10) == 0)
+					{
+						settings[level][x][y] |= Constants.TILE_FLAG_VIS_BELOW;
+					}
+					tiles[level][x][y] = tile(level, x, y, dynamic);
+				}
+			}
+		}
+
+		Scene scene = mock(Scene.class);
+		when(scene.getWorldViewId()).thenReturn(0);
+		when(scene.getExtendedTiles()).thenReturn(tiles);
+		when(scene.getExtendedTileSettings()).thenReturn(settings);
+		when(scene.getRoofs()).thenReturn(roofs);
+		when(scene.getTileHeights()).thenReturn(heights);
+		return scene;
+	}
+
+	private Tile tile(int level, int x, int y, boolean dynamic)
+	{
+		Tile tile = mock(Tile.class);
+		Point location = new Point(x, y);
+		when(tile.getSceneLocation()).thenReturn(location);
+		when(tile.getRenderLevel()).thenReturn(level);
+
+		if (random.nextInt(4) == 0)
+		{
+			SceneTileModel model = tileModel(x, y);
+			when(tile.getSceneTileModel()).thenReturn(model);
+		}
+		else
+		{
+			SceneTilePaint paint = mock(SceneTilePaint.class);
+			when(paint.getSwColor()).thenReturn(random.nextInt(0xffff));
+			when(paint.getSeColor()).thenReturn(random.nextInt(0xffff));
+			when(paint.getNeColor()).thenReturn(random.nextInt(0xffff));
+			when(paint.getNwColor()).thenReturn(random.nextInt(0xffff));
+			when(paint.getTexture()).thenReturn(random.nextInt(4) - 1);
+			when(tile.getSceneTilePaint()).thenReturn(paint);
+		}
+
+		GameObject[] gameObjects = new GameObject[5];
+		if (random.nextInt(3) == 0)
+		{
+			GameObject gameObject = mock(GameObject.class);
+			Renderable renderable = model();
+			if (dynamic && random.nextBoolean())
+			{
+				DynamicObject dynamicObject = mock(DynamicObject.class);
+				when(dynamicObject.getModelZbuf()).thenReturn((Model) renderable);
+				renderable = dynamicObject;
+			}
+			when(gameObject.getRenderable()).thenReturn(renderable);
+			when(gameObject.getSceneMinLocation()).thenReturn(location);
+			when(gameObject.getSceneMaxLocation()).thenReturn(location);
+			when(gameObject.getModelOrientation()).thenReturn(random.nextInt(4) * 512);
+			when(gameObject.getX()).thenReturn(x * 128 + 64);
+			when(gameObject.getY()).thenReturn(y * 128 + 64);
+			when(gameObject.getZ()).thenReturn(-level * 240);
+			when(gameObject.getId()).thenReturn(random.nextInt(50000));
+			gameObjects[0] = gameObject;
+		}
+		when(tile.getGameObjects()).thenReturn(gameObjects);
+		return tile;
+	}
+
+	private SceneTileModel tileModel(int x, int y)
+	{
+		int[] vertexX = new int[4], vertexY = new int[4], vertexZ = new int[4];
+		for (int v = 0; v < 4; ++v)
+		{
+			vertexX[v] = (x << 7) + (v & 1) * 128;
+			vertexY[v] = -random.nextInt(64);
+			vertexZ[v] = (y << 7) + (v >> 1) * 128;
+		}
+
+		SceneTileModel model = mock(SceneTileModel.class);
+		when(model.getFaceX()).thenReturn(new int[]{0, 1});
+		when(model.getFaceY()).thenReturn(new int[]{1, 3});
+		when(model.getFaceZ()).thenReturn(new int[]{2, 2});
+		when(model.getVertexX()).thenReturn(vertexX);
+		when(model.getVertexY()).thenReturn(vertexY);
+		when(model.getVertexZ()).thenReturn(vertexZ);
+		when(model.getTriangleColorA()).thenReturn(colors(2));
+		when(model.getTriangleColorB()).thenReturn(colors(2));
+		when(model.getTriangleColorC()).thenReturn(colors(2));
+		return model;
+	}
+
+	private Model model()
+	{
+		int vertices = 4 + random.nextInt(8);
+		int faces = 1 + random.nextInt(12);
+
+		float[] vx = new float[vertices], vy = new float[vertices], vz = new float[vertices];
+		for (int v = 0; v < vertices; ++v)
+		{
+			vx[v] = random.nextInt(128) - 64;
+			vy[v] = -random.nextInt(256);
+			vz[v] = random.nextInt(128) - 64;
+		}
+
+		int[] i1 = new int[faces], i2 = new int[faces], i3 = new int[faces];
+		byte[] transparencies = new byte[faces];
+		for (int f = 0; f < faces; ++f)
+		{
+			i1[f] = random.nextInt(vertices);
+			i2[f] = random.nextInt(vertices);
+			i3[f] = random.nextInt(vertices);
+			transparencies[f] = random.nextInt(3) == 0 ? (byte) (1 + random.nextInt(200)) : 0;
+		}
+
+		Model model = mock(Model.class);
+		when(model.getVerticesCount()).thenReturn(vertices);
+		when(model.getFaceCount()).thenReturn(faces);
+		when(model.getVerticesX()).thenReturn(vx);
+		when(model.getVerticesY()).thenReturn(vy);
+		when(model.getVerticesZ()).thenReturn(vz);
+		when(model.getFaceIndices1()).thenReturn(i1);
+		when(model.getFaceIndices2()).thenReturn(i2);
+		when(model.getFaceIndices3()).thenReturn(i3);
+		when(model.getFaceColors1()).thenReturn(colors(faces));
+		when(model.getFaceColors2()).thenReturn(colors(faces));
+		when(model.getFaceColors3()).thenReturn(colors(faces));
+		when(model.getFaceTransparencies()).thenReturn(transparencies);
+		return model;
+	}
+
+	private int[] colors(int count)
+	{
+		int[] colors = new int[count];
+		for (int i = 0; i < count; ++i)
+		{
+			colors[i] = random.nextInt(0xffff);
+		}
+		return colors;
+	}
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.loottracker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.runelite.http.api.loottracker.LootRecordType;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class LootStoreTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private LootStore lootStore;
+	private final List<ConfigLoot> loots = new ArrayList<>();
+
+	@Before
+	public void before()
+	{
+		lootStore = new LootStore(new File(folder.getRoot(), "loot"));
+
+		for (int i = 0; i < 10; ++i)
+		{
+			ConfigLoot loot = new ConfigLoot(LootRecordType.NPC, "Goblin " + i);
+			loot.kills = i + 1;
+			loot.first = Instant.ofEpochMilli(1000L * i);
+			loot.last = Instant.ofEpochMilli(1000L * i + 500);
+			for (int j = 0; j <= i; ++j)
+			{
+				loot.add(j, 100 + j);
+			}
+			loots.add(loot);
+		}
+	}
+
+	@Test
+	public void testRoundTrip()
+	{
+		assertTrue(lootStore.save("abc", "1", loots));
+
+		List<ConfigLoot> loaded = lootStore.loadAll("abc", "1");
+		assertEquals(loots.size(), loaded.size());
+		for (int i = 0; i < loaded.size(); ++i)
+		{
+			// most recent first
+			ConfigLoot expected = loots.get(loots.size() - 1 - i);
+			ConfigLoot actual = loaded.get(i);
+			assertEquals(expected, actual);
+			assertEquals(expected.kills, actual.kills);
+			assertEquals(expected.first, actual.first);
+			assertEquals(expected.last, actual.last);
+			assertArrayEquals(expected.drops, actual.drops);
+		}
+	}
+
+	@Test
+	public void testStamp()
+	{
+		assertNull(lootStore.loadAll("abc", "1"));
+
+		assertTrue(lootStore.save("abc", "1", loots));
+		assertNull(lootStore.loadAll("abc", "2"));
+		assertNull(lootStore.loadAll("def", "1"));
+
+		assertTrue(lootStore.save("abc", "2", loots.subList(0, 1)));
+		assertNull(lootStore.loadAll("abc", "1"));
+		assertEquals(1, lootStore.loadAll("abc", "2").size());
+	}
+
+	@Test
+	public void testMaxDrops()
+	{
+		assertTrue(lootStore.save("abc", "1", loots));
+
+		// the most recent loot has 10, 9, 8, ... drops
+		List<ConfigLoot> sorted = lootStore.loadAll("abc", "1");
+		List<ConfigLoot> loaded = LootStore.mostRecent(sorted, 25);
+		assertEquals(2, loaded.size());
+		assertEquals("Goblin 9", loaded.get(0).name);
+		assertEquals("Goblin 8", loaded.get(1).name);
+		assertEquals(3, LootStore.mostRecent(sorted, 28).size());
+		assertEquals(loaded, lootStore.load("abc", "1", 25));
+	}
+
+	@Test
+	public void testLoadReadsPrefix() throws IOException
+	{
+		assertTrue(lootStore.save("abc", "1", loots));
+		File file = new File(new File(folder.getRoot(), "loot"), "abc.loot");
+		byte[] data = Files.readAllBytes(file.toPath());
+		// the oldest loot is last, and has a single drop
+		ByteBuffer.wrap(data).putInt(data.length - 12, Integer.MAX_VALUE);
+		Files.write(file.toPath(), data);
+
+		assertNull(lootStore.loadAll("abc", "1"));
+		List<ConfigLoot> loaded = lootStore.load("abc", "1", 25);
+		assertEquals(2, loaded.size());
+		assertEquals("Goblin 9", loaded.get(0).name);
+	}
+
+	@Test
+	public void testLoadMergesChanges()
+	{
+		assertTrue(lootStore.save("abc", "1", loots));
+
+		// goblin 0 is seen again, and goblin 9 is removed
+		ConfigLoot updated = new ConfigLoot(LootRecordType.NPC, "Goblin 0");
+		updated.kills = 2;
+		updated.last = Instant.ofEpochMilli(20_000L);
+		updated.add(1, 1);
+		assertTrue(lootStore.append("abc", "1", Collections.singletonList(updated), Collections.singletonList(loots.get(9))));
+
+		List<ConfigLoot> loaded = lootStore.load("abc", "1", 20);
+		assertEquals(3, loaded.size());
+		assertEquals(updated, loaded.get(0));
+		assertEquals(2, loaded.get(0).kills);
+		assertEquals("Goblin 8", loaded.get(1).name);
+		assertEquals("Goblin 7", loaded.get(2).name);
+	}
+
+	@Test
+	public void testExpire()
+	{
+		assertNull(lootStore.expire("abc", "1", Instant.ofEpochMilli(0L)));
+		assertTrue(lootStore.save("abc", "1", loots));
+		assertTrue(lootStore.expire("abc", "1", Instant.ofEpochMilli(500L)).isEmpty());
+
+		List<ConfigLoot> expired = lootStore.expire("abc", "1", Instant.ofEpochMilli(2000L));
+		assertEquals(Arrays.asList(loots.get(1), loots.get(0)), expired);
+		assertEquals(8, lootStore.loadAll("abc", "1").size());
+		assertTrue(lootStore.expire("abc", "1", Instant.ofEpochMilli(2000L)).isEmpty());
+	}
+
+	@Test
+	public void testAppend()
+	{
+		assertFalse(lootStore.append("abc", "1", loots, Collections.emptyList()));
+		assertTrue(lootStore.save("abc", "1", loots.subList(0, 5)));
+		assertFalse(lootStore.append("abc", "2", loots, Collections.emptyList()));
+
+		ConfigLoot updated = new ConfigLoot(LootRecordType.NPC, "Goblin 0");
+		updated.kills = 100;
+		updated.last = Instant.ofEpochMilli(20_000L);
+		updated.add(1, 1);
+		assertTrue(lootStore.append("abc", "1", Arrays.asList(updated, loots.get(5)), Collections.singletonList(loots.get(1))));
+
+		List<ConfigLoot> loaded = lootStore.loadAll("abc", "1");
+		assertEquals(5, loaded.size());
+		assertEquals(updated, loaded.get(0));
+		assertEquals(100, loaded.get(0).kills);
+		assertEquals("Goblin 5", loaded.get(1).name);
+		assertFalse(loaded.contains(loots.get(1)));
+	}
+
+	@Test
+	public void testCompaction()
+	{
+		assertTrue(lootStore.save("abc", "1", loots));
+		File file = new File(new File(folder.getRoot(), "loot"), "abc.loot");
+		for (int i = 0; i < 1000; ++i)
+		{
+			assertTrue(lootStore.append("abc", "1", loots, Collections.emptyList()));
+		}
+
+		assertTrue(file.length() < 128 * 1024);
+		assertEquals(loots.size(), lootStore.loadAll("abc", "1").size());
+	}
+
+	@Test
+	public void testCorruptDropCount() throws IOException
+	{
+		assertTrue(lootStore.save("abc", "1", loots.subList(0, 1)));
+		File file = new File(new File(folder.getRoot(), "loot"), "abc.loot");
+		byte[] data = Files.readAllBytes(file.toPath());
+		// the drop count of the only record precedes its two drop ints
+		ByteBuffer.wrap(data).putInt(data.length - 12, Integer.MAX_VALUE);
+		Files.write(file.toPath(), data);
+
+		assertNull(lootStore.loadAll("abc", "1"));
+	}
+}
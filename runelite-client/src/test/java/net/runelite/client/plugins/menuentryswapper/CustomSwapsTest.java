@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.menuentryswapper;
+
+import java.util.Arrays;
+import net.runelite.client.config.ConfigManager;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CustomSwapsTest
+{
+	@Mock
+	ConfigManager configManager;
+
+	private CustomSwaps customSwaps;
+
+	@Before
+	public void before()
+	{
+		customSwaps = new CustomSwaps(configManager);
+	}
+
+	@Test
+	public void testLoad()
+	{
+		when(configManager.getConfigurationKeys("menuentryswapper.")).thenReturn(Arrays.asList(
+			"menuentryswapper.object_1276", "menuentryswapper.object_shift_1276", "menuentryswapper.npc_3010",
+			"menuentryswapper.item_4151", "menuentryswapper.wornitem_shift_11283",
+			"menuentryswapper.ui_10551342", "menuentryswapper.ui_shift_786445_1381",
+			"menuentryswapper.swapBank"));
+		when(configManager.getConfigurationKeys("shiftclick.")).thenReturn(Arrays.asList("shiftclick.item_4151"));
+		when(configManager.getConfiguration("menuentryswapper", "object_1276")).thenReturn("2");
+		when(configManager.getConfiguration("menuentryswapper", "object_shift_1276")).thenReturn("-1");
+		when(configManager.getConfiguration("menuentryswapper", "npc_3010")).thenReturn("1");
+		when(configManager.getConfiguration("menuentryswapper", "item_4151")).thenReturn("3");
+		when(configManager.getConfiguration("menuentryswapper", "wornitem_shift_11283")).thenReturn("4");
+		when(configManager.getConfiguration("menuentryswapper", "ui_10551342")).thenReturn("5");
+		when(configManager.getConfiguration("menuentryswapper", "ui_shift_786445_1381")).thenReturn("6");
+		when(configManager.getConfiguration("menuentryswapper", "swapBank")).thenReturn("true");
+		when(configManager.getConfiguration("shiftclick", "item_4151")).thenReturn("0");
+
+		customSwaps.load();
+
+		assertEquals(Integer.valueOf(2), customSwaps.get(CustomSwaps.Type.OBJECT, 1276));
+		assertEquals(Integer.valueOf(-1), customSwaps.get(CustomSwaps.Type.OBJECT_SHIFT, 1276));
+		assertEquals(Integer.valueOf(1), customSwaps.get(CustomSwaps.Type.NPC, 3010));
+		assertNull(customSwaps.get(CustomSwaps.Type.NPC_SHIFT, 3010));
+		assertEquals(Integer.valueOf(3), customSwaps.get(CustomSwaps.Type.ITEM, 4151));
+		assertEquals(Integer.valueOf(0), customSwaps.get(CustomSwaps.Type.ITEM_SHIFT, 4151));
+		assertEquals(Integer.valueOf(4), customSwaps.get(CustomSwaps.Type.WORN_ITEM_SHIFT, 11283));
+		assertEquals(Integer.valueOf(5), customSwaps.get(CustomSwaps.Type.UI, CustomSwaps.uiId(10551342, -1)));
+		assertEquals(Integer.valueOf(6), customSwaps.get(CustomSwaps.Type.UI_SHIFT, CustomSwaps.uiId(786445, 1381)));
+		assertNull(customSwaps.get(CustomSwaps.Type.UI_SHIFT, CustomSwaps.uiId(786445, -1)));
+	}
+
+	@Test
+	public void testUpdate()
+	{
+		assertTrue(customSwaps.update("menuentryswapper", "npc_shift_3010", "2"));
+		assertEquals(Integer.valueOf(2), customSwaps.get(CustomSwaps.Type.NPC_SHIFT, 3010));
+		assertNull(customSwaps.get(CustomSwaps.Type.NPC, 3010));
+
+		assertTrue(customSwaps.update("menuentryswapper", "npc_shift_3010", null));
+		assertNull(customSwaps.get(CustomSwaps.Type.NPC_SHIFT, 3010));
+
+		assertFalse(customSwaps.update("menuentryswapper", "swapBank", "true"));
+		assertFalse(customSwaps.update("shiftclick", "npc_3010", "1"));
+	}
+
+	@Test
+	public void testSet()
+	{
+		customSwaps.set(CustomSwaps.Type.UI, CustomSwaps.uiId(786445, 1381), 3);
+		verify(configManager).setConfiguration("menuentryswapper", "ui_786445_1381", 3);
+		assertEquals(Integer.valueOf(3), customSwaps.get(CustomSwaps.Type.UI, CustomSwaps.uiId(786445, 1381)));
+
+		customSwaps.unset(CustomSwaps.Type.UI, CustomSwaps.uiId(786445, 1381));
+		verify(configManager).unsetConfiguration("menuentryswapper", "ui_786445_1381");
+		assertNull(customSwaps.get(CustomSwaps.Type.UI, CustomSwaps.uiId(786445, 1381)));
+
+		customSwaps.set(CustomSwaps.Type.ITEM_SHIFT, 4151, 2);
+		verify(configManager).setConfiguration("shiftclick", "item_4151", 2);
+	}
+}
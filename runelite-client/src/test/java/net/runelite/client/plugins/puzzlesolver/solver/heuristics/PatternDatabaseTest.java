@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.puzzlesolver.solver.heuristics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import net.runelite.client.plugins.puzzlesolver.solver.PuzzleState;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Assume;
+import org.junit.Test;
+
+public class PatternDatabaseTest
+{
+	private static final int[] FINISHED_STATE = new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, -1};
+
+	@Test
+	public void testShippedDatabaseIsUpToDate() throws IOException
+	{
+		// building the tables takes a while, so this only runs with -PverifyPatternDatabase
+		Assume.assumeTrue("verifyPatternDatabase is not set", Boolean.getBoolean("verifyPatternDatabase"));
+
+		// if this fails, regenerate the resource with PatternDatabase.build(DEFAULT_GROUPS).write(...)
+		PatternDatabase built = PatternDatabase.build(PatternDatabase.DEFAULT_GROUPS);
+
+		PatternDatabase shipped;
+		try (InputStream in = PatternDatabase.class.getResourceAsStream("pattern_database.bin.gz"))
+		{
+			shipped = PatternDatabase.read(in);
+		}
+
+		// compare the tables rather than the compressed bytes, which depend on the zlib version
+		assertEquals(built.getGroupCount(), shipped.getGroupCount());
+		for (int g = 0; g < built.getGroupCount(); g++)
+		{
+			assertArrayEquals(built.getGroupTiles(g), shipped.getGroupTiles(g));
+			assertArrayEquals(built.getTable(g), shipped.getTable(g));
+		}
+	}
+
+	@Test
+	public void testGoal()
+	{
+		assertEquals(0, new PatternDatabaseHeuristic().computeValue(new PuzzleState(FINISHED_STATE)));
+	}
+
+	@Test
+	public void testLinearConflict()
+	{
+		// 1 and 0 are swapped in their goal row, and 5 and 0 in their goal column
+		PuzzleState state = new PuzzleState(new int[]{1, 0, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, -1});
+		int manhattan = new ManhattanDistance().computeValue(state);
+		assertEquals(2, manhattan);
+		assertTrue(new PatternDatabaseHeuristic().computeValue(state) >= manhattan + 2);
+	}
+}
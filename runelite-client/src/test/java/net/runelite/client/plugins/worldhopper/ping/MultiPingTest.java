@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.worldhopper.ping;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class MultiPingTest
+{
+	private static final int TIMEOUT = 1000;
+
+	@Test
+	public void testTcpPing() throws IOException
+	{
+		InetAddress loopback = InetAddress.getByName("127.0.0.1");
+		try (ServerSocket open = new ServerSocket(0, 50, loopback))
+		{
+			// the listen backlog completes the connects without accepting them
+			List<InetAddress> addresses = Arrays.asList(loopback, loopback, loopback);
+			int[] pings = ping(addresses, open.getLocalPort(), false);
+			for (int ping : pings)
+			{
+				assertTrue(ping >= 0 && ping < TIMEOUT);
+			}
+		}
+	}
+
+	@Test
+	public void testTcpPingRefused() throws IOException
+	{
+		InetAddress loopback = InetAddress.getByName("127.0.0.1");
+		int port;
+		try (ServerSocket closed = new ServerSocket(0, 50, loopback))
+		{
+			port = closed.getLocalPort();
+		}
+
+		int[] pings = ping(Collections.singletonList(loopback), port, false);
+		assertEquals(-1, pings[0]);
+	}
+
+	@Test
+	public void testPing() throws IOException
+	{
+		// icmp if the platform allows it, otherwise tcp
+		InetAddress loopback = InetAddress.getByName("127.0.0.1");
+		try (ServerSocket open = new ServerSocket(0, 50, loopback))
+		{
+			int[] pings = ping(Arrays.asList(loopback, InetAddress.getByName("127.0.0.2"), loopback), open.getLocalPort(), true);
+			assertTrue(pings[0] >= 0);
+			assertTrue(pings[2] >= 0);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testConsumerException() throws IOException
+	{
+		// the exception shouldn't be taken as the ping failing
+		InetAddress loopback = InetAddress.getByName("127.0.0.1");
+		try (ServerSocket open = new ServerSocket(0, 50, loopback))
+		{
+			MultiPing.ping(Collections.singletonList(loopback), open.getLocalPort(), TIMEOUT, (idx, ping) ->
+			{
+				throw new IllegalStateException();
+			});
+		}
+	}
+
+	private static int[] ping(List<InetAddress> addresses, int port, boolean icmp) throws IOException
+	{
+		int[] pings = new int[addresses.size()];
+		int[] results = new int[addresses.size()];
+		MultiPing.Result result = (idx, ping) ->
+		{
+			pings[idx] = ping;
+			results[idx]++;
+		};
+
+		if (icmp)
+		{
+			MultiPing.ping(addresses, port, TIMEOUT, result);
+		}
+		else
+		{
+			MultiPing.tcpPing(addresses, port, TIMEOUT, result);
+		}
+
+		// each address gets exactly one result
+		for (int r : results)
+		{
+			assertEquals(1, r);
+		}
+		return pings;
+	}
+}
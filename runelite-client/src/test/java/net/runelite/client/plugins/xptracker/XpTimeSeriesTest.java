@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.xptracker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class XpTimeSeriesTest
+{
+	@Test
+	public void testGained()
+	{
+		XpTimeSeries series = new XpTimeSeries();
+		series.record(100, 1000);
+		series.record(110, 1100);
+		series.record(120, 1300);
+		series.record(130, 1300); // unchanged
+		series.record(140, 1600);
+
+		assertEquals(4, series.size());
+		assertEquals(600, series.gained(150, 100));
+		assertEquals(500, series.gained(150, 35));
+		assertEquals(300, series.gained(150, 25));
+		assertEquals(0, series.gained(150, 5));
+
+		// the cursors move forward with time
+		assertEquals(300, series.gained(155, 35));
+		assertEquals(0, series.gained(160, 20));
+
+		// and back if time goes backwards
+		assertEquals(500, series.gained(150, 35));
+	}
+
+	@Test
+	public void testManyWindows()
+	{
+		XpTimeSeries series = new XpTimeSeries();
+		for (int i = 0; i < 1000; ++i)
+		{
+			series.record(100 + i * 3, i * 7);
+		}
+
+		// windows which aren't queried again don't each keep a cursor
+		long now = 100 + 999 * 3;
+		for (int window = 1; window < 3500; window += 13)
+		{
+			int start = (int) (now - window);
+			int sample = Math.max(0, Math.min(999, Math.floorDiv(start - 100, 3)));
+			assertEquals(999 * 7 - sample * 7, series.gained(now, window));
+		}
+		assertTrue(series.cursorCount() <= 8);
+	}
+
+	@Test
+	public void testTicksInOrder()
+	{
+		XpTimeSeries series = new XpTimeSeries();
+		series.record(100, 1000);
+		series.record(90, 1100);
+		series.record(100, 1200);
+
+		assertEquals(3, series.size());
+		assertEquals(100, series.oldestTick());
+		assertEquals(200, series.gained(100, 1));
+	}
+
+	@Test
+	public void testWrap()
+	{
+		XpTimeSeries series = new XpTimeSeries();
+		int samples = XpTimeSeries.CAPACITY + 100;
+		for (int i = 0; i < samples; ++i)
+		{
+			series.record(i, i * 10);
+			if (i >= 50)
+			{
+				assertEquals(500, series.gained(i, 50));
+			}
+		}
+
+		assertEquals(XpTimeSeries.CAPACITY, series.size());
+		assertEquals(100, series.oldestTick());
+		// the window starts before the oldest sample
+		assertEquals((samples - 1 - 100) * 10, series.gained(samples, samples));
+
+	}
+
+	@Test
+	public void testRebase()
+	{
+		XpTimeSeries series = new XpTimeSeries();
+		series.record(100, 1000);
+		series.record(110, 1200);
+		series.rebase(5200);
+		series.record(120, 5200);
+		series.record(130, 5300);
+
+		assertEquals(3, series.size());
+		assertEquals(300, series.gained(130, 100));
+	}
+
+	@Test
+	public void testReadWrite() throws IOException
+	{
+		XpTimeSeries series = new XpTimeSeries();
+		long tick = 3_000_000_000L;
+		int xp = 13_034_431;
+		for (int i = 0; i < 1000; ++i)
+		{
+			tick += 1 + i % 7;
+			xp += 1 + i * 31 % 500;
+			series.record(tick, xp);
+		}
+		series.rebase(200);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		series.write(new DataOutputStream(bytes));
+		// deltas of a few ticks and a few hundred xp take 1-2 bytes each
+		assertTrue(bytes.size() < 1000 * 4);
+
+		XpTimeSeries read = new XpTimeSeries();
+		read.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertEquals(series.size(), read.size());
+		assertEquals(series.oldestTick(), read.oldestTick());
+		for (int window = 0; window < 5000; window += 250)
+		{
+			assertEquals(series.gained(tick, window), read.gained(tick, window));
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExecutorLaneTest
+{
+	private ScheduledExecutorLane lane;
+
+	@Before
+	public void before()
+	{
+		lane = new ScheduledExecutorLane("test", Executors.newSingleThreadScheduledExecutor());
+	}
+
+	@After
+	public void after()
+	{
+		lane.shutdownNow();
+	}
+
+	@Test
+	public void testQueued() throws Exception
+	{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		lane.execute(() ->
+		{
+			started.countDown();
+			awaitUninterruptibly(release);
+		});
+		Future<?> second = lane.submit(() ->
+		{
+		});
+
+		started.await();
+		ExecutorLaneStats stats = lane.getStats();
+		assertEquals(1, stats.getRunning());
+		assertEquals(1, stats.getQueued());
+
+		release.countDown();
+		second.get(5, TimeUnit.SECONDS);
+		awaitTermination();
+
+		stats = lane.getStats();
+		assertEquals(0, stats.getQueued());
+		assertEquals(0, stats.getRunning());
+		assertEquals(2, stats.getCompleted());
+	}
+
+	@Test
+	public void testSchedule() throws Exception
+	{
+		assertEquals(42, (int) lane.schedule(() -> 42, 10, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS));
+
+		CountDownLatch runs = new CountDownLatch(3);
+		Future<?> periodic = lane.scheduleAtFixedRate(runs::countDown, 0, 1, TimeUnit.MILLISECONDS);
+		assertTrue(runs.await(5, TimeUnit.SECONDS));
+		periodic.cancel(false);
+		awaitTermination();
+
+		ExecutorLaneStats stats = lane.getStats();
+		assertEquals(0, stats.getQueued());
+		assertTrue(stats.getCompleted() >= 4);
+	}
+
+	@Test
+	public void testException() throws Exception
+	{
+		Future<?> future = lane.submit(() ->
+		{
+			throw new IllegalStateException();
+		});
+
+		try
+		{
+			future.get(5, TimeUnit.SECONDS);
+			fail();
+		}
+		catch (ExecutionException ex)
+		{
+			assertTrue(ex.getCause() instanceof IllegalStateException);
+		}
+
+		awaitTermination();
+		assertEquals(1, lane.getStats().getCompleted());
+	}
+
+	// tasks are counted as completed after their future is, so wait for the lane to finish before checking
+	private void awaitTermination() throws InterruptedException
+	{
+		lane.shutdown();
+		assertTrue(lane.awaitTermination(5, TimeUnit.SECONDS));
+	}
+
+	private static void awaitUninterruptibly(CountDownLatch latch)
+	{
+		try
+		{
+			latch.await();
+		}
+		catch (InterruptedException ex)
+		{
+			Thread.currentThread().interrupt();
+		}
+	}
+}
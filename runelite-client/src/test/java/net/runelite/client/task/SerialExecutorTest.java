@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SerialExecutorTest
+{
+	private ExecutorService pool;
+
+	@Before
+	public void before()
+	{
+		pool = Executors.newFixedThreadPool(4);
+	}
+
+	@After
+	public void after()
+	{
+		pool.shutdownNow();
+	}
+
+	@Test
+	public void testSerial() throws InterruptedException
+	{
+		SerialExecutor executor = new SerialExecutor(pool);
+		List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+		AtomicInteger concurrent = new AtomicInteger();
+		AtomicInteger maxConcurrent = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(1);
+
+		for (int i = 0; i < 1000; i++)
+		{
+			final int n = i;
+			executor.execute(() ->
+			{
+				maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+				order.add(n);
+				concurrent.decrementAndGet();
+				if (n % 100 == 0)
+				{
+					// the remaining tasks still run
+					throw new IllegalStateException();
+				}
+			});
+		}
+		executor.execute(done::countDown);
+
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		assertEquals(1, maxConcurrent.get());
+		assertEquals(1000, order.size());
+		for (int i = 0; i < order.size(); i++)
+		{
+			assertEquals(i, (int) order.get(i));
+		}
+	}
+}
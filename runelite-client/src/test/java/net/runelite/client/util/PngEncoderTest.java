@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import javax.imageio.ImageIO;
+import org.junit.After;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class PngEncoderTest
+{
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void after()
+	{
+		executor.shutdown();
+	}
+
+	@Test
+	public void testOpaque() throws Exception
+	{
+		// tall enough to be split into several strips
+		final BufferedImage image = randomImage(600, 700, BufferedImage.TYPE_INT_RGB, false);
+		assertRoundTrip(image, new PngEncoder(executor, PngEncoder.DEFAULT_LEVEL));
+		assertRoundTrip(image, new PngEncoder(null, PngEncoder.DEFAULT_LEVEL));
+	}
+
+	@Test
+	public void testAlpha() throws Exception
+	{
+		final BufferedImage image = randomImage(333, 517, BufferedImage.TYPE_INT_ARGB, true);
+		assertRoundTrip(image, new PngEncoder(executor, 9));
+	}
+
+	@Test
+	public void testOpaqueArgb() throws Exception
+	{
+		final BufferedImage image = randomImage(123, 45, BufferedImage.TYPE_INT_ARGB, false);
+		final byte[] png = assertRoundTrip(image, new PngEncoder(executor, 1));
+		// color type is truecolor without alpha
+		assertEquals(2, png[25]);
+	}
+
+	@Test
+	public void testOtherType() throws Exception
+	{
+		final BufferedImage image = randomImage(200, 900, BufferedImage.TYPE_3BYTE_BGR, false);
+		assertRoundTrip(image, new PngEncoder(executor, PngEncoder.DEFAULT_LEVEL));
+	}
+
+	@Test
+	public void testReuse() throws Exception
+	{
+		final PngEncoder encoder = new PngEncoder(executor, PngEncoder.DEFAULT_LEVEL);
+		assertRoundTrip(randomImage(800, 800, BufferedImage.TYPE_INT_ARGB, true), encoder);
+		assertRoundTrip(randomImage(10, 10, BufferedImage.TYPE_INT_RGB, false), encoder);
+		assertRoundTrip(randomImage(1, 1, BufferedImage.TYPE_INT_ARGB, true), encoder);
+	}
+
+	@Test
+	public void testCombineAdler()
+	{
+		final byte[] data = new byte[100_000];
+		new Random(1).nextBytes(data);
+
+		final Adler32 full = new Adler32();
+		full.update(data);
+
+		final Adler32 first = new Adler32();
+		first.update(data, 0, 37_000);
+		final Adler32 second = new Adler32();
+		second.update(data, 37_000, data.length - 37_000);
+
+		assertEquals(full.getValue(), PngEncoder.combineAdler(first.getValue(), second.getValue(), data.length - 37_000));
+	}
+
+	private static byte[] assertRoundTrip(BufferedImage image, PngEncoder encoder) throws Exception
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		encoder.write(image, out);
+		final byte[] png = out.toByteArray();
+
+		assertZlibStreamValid(png);
+
+		final BufferedImage read = ImageIO.read(new ByteArrayInputStream(png));
+		assertEquals(image.getWidth(), read.getWidth());
+		assertEquals(image.getHeight(), read.getHeight());
+		final boolean alpha = image.getColorModel().hasAlpha();
+		for (int y = 0; y < image.getHeight(); ++y)
+		{
+			for (int x = 0; x < image.getWidth(); ++x)
+			{
+				int expected = image.getRGB(x, y);
+				int actual = read.getRGB(x, y);
+				if (!alpha)
+				{
+					expected |= 0xff000000;
+				}
+				assertEquals("pixel " + x + "," + y, expected, actual);
+			}
+		}
+		return png;
+	}
+
+	/**
+	 * ImageIO stops reading once it has every row, so check the stream ends properly
+	 * with a correct checksum.
+	 */
+	private static void assertZlibStreamValid(byte[] png) throws IOException
+	{
+		final ByteArrayOutputStream idat = new ByteArrayOutputStream();
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(png, 8, png.length - 8));
+		while (in.available() > 0)
+		{
+			final int length = in.readInt();
+			final byte[] type = new byte[4];
+			in.readFully(type);
+			final byte[] data = new byte[length];
+			in.readFully(data);
+			in.readInt();
+			if (new String(type).equals("IDAT"))
+			{
+				idat.write(data);
+			}
+		}
+
+		final Inflater inflater = new Inflater();
+		inflater.setInput(idat.toByteArray());
+		final byte[] buffer = new byte[65536];
+		try
+		{
+			while (!inflater.finished())
+			{
+				if (inflater.inflate(buffer) == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+				{
+					break;
+				}
+			}
+		}
+		catch (DataFormatException e)
+		{
+			throw new AssertionError(e);
+		}
+		assertTrue(inflater.finished());
+		assertEquals(0, inflater.getRemaining());
+		inflater.end();
+	}
+
+	private static BufferedImage randomImage(int width, int height, int type, boolean alpha)
+	{
+		final Random random = new Random(width * 31L + height);
+		final BufferedImage image = new BufferedImage(width, height, type);
+		for (int y = 0; y < height; ++y)
+		{
+			for (int x = 0; x < width; ++x)
+			{
+				// mix smooth gradients, which filter well, with noise
+				int rgb = (x * 255 / width) << 16 | (y * 255 / height) << 8 | ((x ^ y) & 0xff);
+				if (random.nextInt(8) == 0)
+				{
+					rgb = random.nextInt(0x1000000);
+				}
+				final int a = alpha ? random.nextInt(256) : 0xff;
+				image.setRGB(x, y, a << 24 | rgb);
+			}
+		}
+		return image;
+	}
+}
@@ -24,11 +24,21 @@
  */
 package net.runelite.client.util;
 
+import com.google.common.base.CharMatcher;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import org.junit.Test;
 
 public class TextTest
 {
+	private static final Pattern TAG_REGEXP = Pattern.compile("<[^>]*>");
+	// weighted towards the characters the functions treat specially
+	private static final String ALPHABET = "<<<>>>//==aAzZ  __--\u00A0\u00A0\t\nltgcol0蹔⓲İΣ\uD83D\uDE00";
+
 	@Test
 	public void removeTags()
 	{
@@ -73,4 +83,85 @@ public class TextTest
 		assertEquals("mR  nAmE", Text.toJagexName("--__--mR_-nAmE__  --"));
 		assertEquals("Mind    the     gap", Text.toJagexName("Mind_-_-the-- __gap"));
 	}
+
+	@Test
+	public void unchanged()
+	{
+		String s = "use item -> man";
+		assertSame(s, Text.removeTags(s));
+		assertSame(s, Text.removeFormattingTags(s));
+		assertSame(s, Text.standardize(s));
+
+		String name = "Zezima";
+		assertSame(name, Text.toJagexName(name));
+	}
+
+	@Test
+	public void sinks()
+	{
+		StringBuilder sb = new StringBuilder("x");
+		Text.removeTags("<col=ff>A\u00A0</col>", sb);
+		Text.standardize(" <col=ff>B\u00A0", sb);
+		Text.toJagexName("-c_", sb);
+		assertEquals("xA\u00A0bc", sb.toString());
+	}
+
+	@Test
+	public void removeTagsMatchesRegex()
+	{
+		assertMatchesReference(Text::removeTags, s -> TAG_REGEXP.matcher(s).replaceAll(""));
+		assertMatchesReference(s -> Text.removeTags(s, new StringBuilder()).toString(), s -> TAG_REGEXP.matcher(s).replaceAll(""));
+	}
+
+	@Test
+	public void removeFormattingTagsMatchesRegex()
+	{
+		assertMatchesReference(Text::removeFormattingTags, s ->
+		{
+			StringBuilder sb = new StringBuilder();
+			Matcher matcher = TAG_REGEXP.matcher(s);
+			while (matcher.find())
+			{
+				matcher.appendReplacement(sb, "");
+				String match = matcher.group(0);
+				if (match.equals("<lt>") || match.equals("<gt>"))
+				{
+					sb.append(match);
+				}
+			}
+			matcher.appendTail(sb);
+			return sb.toString();
+		});
+	}
+
+	@Test
+	public void standardizeMatchesRegex()
+	{
+		Function<String, String> reference = s -> TAG_REGEXP.matcher(s).replaceAll("").replace('\u00A0', ' ').trim().toLowerCase();
+		assertMatchesReference(Text::standardize, reference);
+		assertMatchesReference(s -> Text.standardize(s, new StringBuilder("prefix")).substring(6), reference);
+	}
+
+	@Test
+	public void toJagexNameMatchesRegex()
+	{
+		Function<String, String> reference = s -> CharMatcher.ascii().retainFrom(s.replaceAll("[\u00A0_-]", " ")).trim();
+		assertMatchesReference(Text::toJagexName, reference);
+		assertMatchesReference(s -> Text.toJagexName(s, new StringBuilder("prefix")).substring(6), reference);
+	}
+
+	private static void assertMatchesReference(Function<String, String> actual, Function<String, String> reference)
+	{
+		Random random = new Random(46);
+		for (int i = 0; i < 20_000; i++)
+		{
+			StringBuilder sb = new StringBuilder();
+			for (int len = random.nextInt(24); len > 0; len--)
+			{
+				sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+			}
+			String s = sb.toString();
+			assertEquals(s, reference.apply(s), actual.apply(s));
+		}
+	}
 }
@@ -47,6 +47,10 @@ gradlePlugin {
             id = "net.runelite.runelite-gradle-plugin.component"
             implementationClass = "net.runelite.gradle.component.ComponentPlugin"
         }
+        create("rl-gameval") {
+            id = "net.runelite.runelite-gradle-plugin.gameval"
+            implementationClass = "net.runelite.gradle.gameval.GameValPlugin"
+        }
         create("rl-index") {
             id = "net.runelite.runelite-gradle-plugin.index"
             implementationClass = "net.runelite.gradle.index.IndexPlugin"
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.gradle.assemble;
+
+import com.google.common.io.Files;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Properties;
+import net.runelite.cache.definitions.ScriptDefinition;
+import net.runelite.cache.definitions.savers.ScriptSaver;
+import net.runelite.cache.script.RuneLiteInstructions;
+import net.runelite.cache.script.assembler.Assembler;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+
+/**
+ * Assembles a batch of scripts, and records the script id each one was written as
+ * in the result file so that the task can delete it again if the script goes away.
+ */
+public abstract class AssembleAction implements WorkAction<AssembleAction.Parameters>
+{
+	public interface Parameters extends WorkParameters
+	{
+		ConfigurableFileCollection getScripts();
+
+		RegularFileProperty getComponentsFile();
+
+		DirectoryProperty getOutputDirectory();
+
+		RegularFileProperty getResultFile();
+	}
+
+	private static final Logger log = Logging.getLogger(AssembleAction.class);
+
+	@Override
+	public void execute()
+	{
+		Parameters parameters = getParameters();
+		File scriptOut = parameters.getOutputDirectory().getAsFile().get();
+
+		Assembler assembler = new Assembler(InstructionsHolder.INSTANCE, ComponentSymbols.load(parameters.getComponentsFile().getAsFile().get()));
+		ScriptSaver saver = new ScriptSaver();
+
+		Properties ids = new Properties();
+		for (File scriptFile : parameters.getScripts())
+		{
+			try
+			{
+				int id = assemble(assembler, saver, scriptFile, scriptOut);
+				ids.setProperty(Files.getNameWithoutExtension(scriptFile.getName()), Integer.toString(id));
+			}
+			catch (IOException e)
+			{
+				throw new RuntimeException("unable to assemble " + scriptFile.getName(), e);
+			}
+		}
+
+		try (OutputStream out = new FileOutputStream(parameters.getResultFile().getAsFile().get()))
+		{
+			ids.store(out, null);
+		}
+		catch (IOException e)
+		{
+			throw new RuntimeException("unable to write assemble results", e);
+		}
+	}
+
+	private static int assemble(Assembler assembler, ScriptSaver saver, File scriptFile, File scriptOut) throws IOException
+	{
+		log.debug("Assembling {}", scriptFile);
+
+		ScriptDefinition script;
+		try (FileInputStream fin = new FileInputStream(scriptFile))
+		{
+			script = assembler.assemble(fin);
+		}
+
+		byte[] packedScript = saver.save(script);
+
+		File targetFile = new File(scriptOut, Integer.toString(script.getId()));
+		Files.write(packedScript, targetFile);
+
+		// Copy hash file
+
+		File hashFile = new File(scriptFile.getParentFile(), Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
+		if (hashFile.exists())
+		{
+			Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+		}
+		else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+		{
+			throw new FileNotFoundException("Unable to find hash file for " + scriptFile);
+		}
+
+		return script.getId();
+	}
+
+	/**
+	 * The instruction table is only read by the assembler, so every worker shares one
+	 */
+	private static class InstructionsHolder
+	{
+		private static final RuneLiteInstructions INSTANCE = new RuneLiteInstructions();
+
+		static
+		{
+			INSTANCE.init();
+		}
+	}
+}
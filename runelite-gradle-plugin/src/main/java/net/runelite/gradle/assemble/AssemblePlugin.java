@@ -36,7 +36,12 @@ public abstract class AssemblePlugin implements Plugin<Project>
 	public void apply(Project project)
 	{
 		TaskProvider<AssembleTask> assembleRs2asm = project.getTasks()
-			.register("assembleRs2asm", AssembleTask.class, (task) -> task.setGroup("build"));
+			.register("assembleRs2asm", AssembleTask.class, (task) ->
+			{
+				task.setGroup("build");
+				// kept out of the output directory, which is packaged into the client
+				task.getManifestFile().convention(project.getLayout().getBuildDirectory().file("assembleRs2asm/scripts.properties"));
+			});
 
 		project.getTasks()
 			.getByName("processResources")
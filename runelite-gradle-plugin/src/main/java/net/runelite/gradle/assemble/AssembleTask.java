@@ -22,41 +22,48 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
  * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-
 package net.runelite.gradle.assemble;
 
 import com.google.common.io.Files;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Locale;
-import java.util.Map;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.inject.Inject;
 import net.runelite.cache.IndexType;
-import net.runelite.cache.definitions.ScriptDefinition;
-import net.runelite.cache.definitions.savers.ScriptSaver;
-import net.runelite.cache.script.RuneLiteInstructions;
-import net.runelite.cache.script.assembler.Assembler;
 import org.gradle.api.DefaultTask;
 import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileType;
 import org.gradle.api.file.RegularFileProperty;
 import org.gradle.api.logging.Logger;
 import org.gradle.api.tasks.CacheableTask;
 import org.gradle.api.tasks.InputDirectory;
 import org.gradle.api.tasks.InputFile;
 import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.OutputFile;
 import org.gradle.api.tasks.PathSensitive;
 import org.gradle.api.tasks.PathSensitivity;
 import org.gradle.api.tasks.TaskAction;
-import org.tomlj.Toml;
-import org.tomlj.TomlParseError;
-import org.tomlj.TomlParseResult;
-import org.tomlj.TomlTable;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
 
 @CacheableTask
 public abstract class AssembleTask extends DefaultTask
 {
+	private static final String SCRIPT_EXTENSION = "rs2asm";
+	private static final String HASH_EXTENSION = "hash";
+
+	@Incremental
 	@InputDirectory
 	@PathSensitive(PathSensitivity.RELATIVE)
 	public abstract DirectoryProperty getScriptDirectory();
@@ -64,119 +71,140 @@ public abstract class AssembleTask extends DefaultTask
 	@OutputDirectory
 	public abstract DirectoryProperty getOutputDirectory();
 
+	// script name -> id it was assembled to, so that a cached run can still be built on incrementally
+	@OutputFile
+	public abstract RegularFileProperty getManifestFile();
+
+	// not incremental, changing the components reassembles every script
 	@InputFile
 	@PathSensitive(PathSensitivity.RELATIVE)
 	public abstract RegularFileProperty getComponentsFile();
 
+	@Inject
+	protected abstract WorkerExecutor getWorkerExecutor();
+
 	private final Logger log = getLogger();
 
 	@TaskAction
-	public void assembleRs2Asm() throws IOException
+	public void assembleRs2Asm(InputChanges inputChanges) throws IOException
 	{
 		File scriptDirectory = getScriptDirectory().getAsFile().get();
 		File outputDirectory = getOutputDirectory().getAsFile().get();
 		File componentsFile = getComponentsFile().getAsFile().get();
 
-		RuneLiteInstructions instructions = new RuneLiteInstructions();
-		instructions.init();
-
-		Assembler assembler = new Assembler(instructions, buildComponentSymbols(componentsFile));
-		ScriptSaver saver = new ScriptSaver();
-
-		int count = 0;
 		File scriptOut = new File(outputDirectory, Integer.toString(IndexType.CLIENTSCRIPT.getNumber()));
-		scriptOut.mkdirs();
 
-		for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith(".rs2asm")))
-		{
-			log.debug("Assembling {}", scriptFile);
+		File manifestFile = getManifestFile().getAsFile().get();
+		Properties manifest = new Properties();
 
-			try (FileInputStream fin = new FileInputStream(scriptFile))
+		Set<String> changed = new TreeSet<>();
+		if (inputChanges.isIncremental() && manifestFile.exists())
+		{
+			try (InputStream in = new FileInputStream(manifestFile))
 			{
-				ScriptDefinition script = assembler.assemble(fin);
-				byte[] packedScript = saver.save(script);
-
-				File targetFile = new File(scriptOut, Integer.toString(script.getId()));
-				Files.write(packedScript, targetFile);
-
-				// Copy hash file
+				manifest.load(in);
+			}
 
-				File hashFile = new File(scriptDirectory, Files.getNameWithoutExtension(scriptFile.getName()) + ".hash");
-				if (hashFile.exists())
+			for (FileChange change : inputChanges.getFileChanges(getScriptDirectory()))
+			{
+				String path = change.getNormalizedPath();
+				String extension = Files.getFileExtension(path);
+				if (change.getFileType() == FileType.FILE && path.indexOf('/') == -1
+					&& (extension.equals(SCRIPT_EXTENSION) || extension.equals(HASH_EXTENSION)))
 				{
-					Files.copy(hashFile, new File(scriptOut, Integer.toString(script.getId()) + ".hash"));
+					changed.add(Files.getNameWithoutExtension(path));
 				}
-				else if (script.getId() < 10000) // Scripts >=10000 are RuneLite scripts, so they shouldn't have a .hash
+			}
+		}
+		else
+		{
+			// without a manifest the outputs of removed scripts can't be found, so start over
+			File[] stale = scriptOut.listFiles();
+			if (stale != null)
+			{
+				for (File file : stale)
 				{
-					throw new FileNotFoundException("Unable to find hash file for " + scriptFile);
+					delete(file);
 				}
+			}
 
-				++count;
+			for (File scriptFile : scriptDirectory.listFiles((dir, name) -> name.endsWith("." + SCRIPT_EXTENSION)))
+			{
+				changed.add(Files.getNameWithoutExtension(scriptFile.getName()));
 			}
 		}
 
-		log.lifecycle("Assembled {} scripts", count);
-	}
-
-	private Map<String, Object> buildComponentSymbols(File file)
-	{
-		TomlParseResult result;
-		try
-		{
-			result = Toml.parse(file.toPath());
-		}
-		catch (IOException e)
+		// if this run fails, the next one has to start over
+		delete(manifestFile);
+		if (!scriptOut.isDirectory() && !scriptOut.mkdirs())
 		{
-			throw new RuntimeException("unable to read component file " + file.getName(), e);
+			throw new IOException("unable to create " + scriptOut);
 		}
 
-		if (result.hasErrors())
+		List<File> scripts = new ArrayList<>();
+		for (String name : changed)
 		{
-			for (TomlParseError err : result.errors())
+			// the script may have been removed, or have its id changed
+			String id = (String) manifest.remove(name);
+			if (id != null)
+			{
+				delete(new File(scriptOut, id));
+				delete(new File(scriptOut, id + "." + HASH_EXTENSION));
+			}
+
+			File scriptFile = new File(scriptDirectory, name + "." + SCRIPT_EXTENSION);
+			if (scriptFile.exists())
 			{
-				log.error(err.toString());
+				scripts.add(scriptFile);
 			}
-			throw new RuntimeException("unable to parse component file " + file.getName());
 		}
 
-		Map<String, Object> symbols = new HashMap<>();
-		for (var entry : result.entrySet())
+		WorkQueue queue = getWorkerExecutor().noIsolation();
+		int batches = Math.min(scripts.size(), Runtime.getRuntime().availableProcessors());
+		List<File> resultFiles = new ArrayList<>(batches);
+		for (int i = 0; i < batches; ++i)
 		{
-			var interfaceName = entry.getKey();
-			TomlTable tbl = (TomlTable) entry.getValue();
-
-			if (!tbl.contains("id"))
+			List<File> batch = new ArrayList<>();
+			for (int j = i; j < scripts.size(); j += batches)
 			{
-				throw new RuntimeException("interface " + interfaceName + " has no id");
+				batch.add(scripts.get(j));
 			}
 
-			int interfaceId = (int) (long) tbl.getLong("id");
-			if (interfaceId < 0 || interfaceId > 0xffff)
+			File resultFile = new File(getTemporaryDir(), "batch" + i + ".properties");
+			resultFiles.add(resultFile);
+
+			queue.submit(AssembleAction.class, parameters ->
 			{
-				throw new RuntimeException("interface id out of range for " + interfaceName);
-			}
+				parameters.getScripts().from(batch);
+				parameters.getComponentsFile().set(componentsFile);
+				parameters.getOutputDirectory().set(scriptOut);
+				parameters.getResultFile().set(resultFile);
+			});
+		}
+		queue.await();
 
-			for (var entry2 : tbl.entrySet())
+		for (File resultFile : resultFiles)
+		{
+			try (InputStream in = new FileInputStream(resultFile))
 			{
-				var componentName = entry2.getKey();
-				if (componentName.equals("id"))
-				{
-					continue;
-				}
+				manifest.load(in);
+			}
+			delete(resultFile);
+		}
 
-				int id = (int) (long) entry2.getValue();
-				if (id < 0 || id > 0xffff)
-				{
-					throw new RuntimeException("component id out of range for " + componentName);
-				}
+		try (OutputStream out = new FileOutputStream(manifestFile))
+		{
+			manifest.store(out, null);
+		}
 
-				var fullName = interfaceName.toLowerCase(Locale.ENGLISH) + ":" + componentName.toLowerCase(Locale.ENGLISH);
-				int componentId = (interfaceId << 16) | id;
+		log.lifecycle("Assembled {} of {} scripts", scripts.size(), manifest.size());
+	}
 
-				symbols.put(fullName, componentId);
-			}
+	private static void delete(File file) throws IOException
+	{
+		if (!file.delete() && file.exists())
+		{
+			throw new IOException("unable to delete " + file);
 		}
-
-		return symbols;
 	}
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.gradle.assemble;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.tomlj.Toml;
+import org.tomlj.TomlParseError;
+import org.tomlj.TomlParseResult;
+import org.tomlj.TomlTable;
+
+/**
+ * Component symbols for the assembler, built from the components TOML. The table is
+ * kept for as long as the file is unchanged, so assemble workers and later builds in
+ * the same daemon share it instead of each parsing the file again.
+ */
+final class ComponentSymbols
+{
+	private static final Logger log = Logging.getLogger(ComponentSymbols.class);
+
+	private static File cachedFile;
+	private static long cachedModified;
+	private static long cachedLength;
+	private static Map<String, Object> cachedSymbols;
+
+	private ComponentSymbols()
+	{
+	}
+
+	static synchronized Map<String, Object> load(File file)
+	{
+		long modified = file.lastModified();
+		long length = file.length();
+		if (cachedSymbols != null && file.equals(cachedFile) && modified == cachedModified && length == cachedLength)
+		{
+			return cachedSymbols;
+		}
+
+		Map<String, Object> symbols = Collections.unmodifiableMap(build(file));
+		cachedFile = file;
+		cachedModified = modified;
+		cachedLength = length;
+		cachedSymbols = symbols;
+		return symbols;
+	}
+
+	private static Map<String, Object> build(File file)
+	{
+		TomlParseResult result;
+		try
+		{
+			result = Toml.parse(file.toPath());
+		}
+		catch (IOException e)
+		{
+			throw new RuntimeException("unable to read component file " + file.getName(), e);
+		}
+
+		if (result.hasErrors())
+		{
+			for (TomlParseError err : result.errors())
+			{
+				log.error(err.toString());
+			}
+			throw new RuntimeException("unable to parse component file " + file.getName());
+		}
+
+		Map<String, Object> symbols = new HashMap<>();
+		for (var entry : result.entrySet())
+		{
+			var interfaceName = entry.getKey();
+			TomlTable tbl = (TomlTable) entry.getValue();
+
+			if (!tbl.contains("id"))
+			{
+				throw new RuntimeException("interface " + interfaceName + " has no id");
+			}
+
+			int interfaceId = (int) (long) tbl.getLong("id");
+			if (interfaceId < 0 || interfaceId > 0xffff)
+			{
+				throw new RuntimeException("interface id out of range for " + interfaceName);
+			}
+
+			for (var entry2 : tbl.entrySet())
+			{
+				var componentName = entry2.getKey();
+				if (componentName.equals("id"))
+				{
+					continue;
+				}
+
+				int id = (int) (long) entry2.getValue();
+				if (id < 0 || id > 0xffff)
+				{
+					throw new RuntimeException("component id out of range for " + componentName);
+				}
+
+				var fullName = interfaceName.toLowerCase(Locale.ENGLISH) + ":" + componentName.toLowerCase(Locale.ENGLISH);
+				int componentId = (interfaceId << 16) | id;
+
+				symbols.put(fullName, componentId);
+			}
+		}
+
+		return symbols;
+	}
+}
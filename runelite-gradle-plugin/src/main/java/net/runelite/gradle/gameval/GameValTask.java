@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2025, LlemonDuck <napkinorton@gmail.com>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.gradle.gameval;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.tasks.CacheableTask;
+import org.gradle.api.tasks.InputDirectory;
+import org.gradle.api.tasks.OutputDirectory;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * Writes an id to name table for each gameval class, so names can be looked up at
+ * runtime without loading the classes. A class which is only there to be extended,
+ * such as ObjectID1, is folded into the class extending it.
+ * <p>
+ * A table is, as big endian ints unless noted:
+ * <pre>
+ * version
+ * count
+ * ids[count]             ascending
+ * nameOffsets[count + 1] into the name pool, for each id
+ * byName[count]          indices into ids, ordered by name
+ * name pool              ascii bytes
+ * </pre>
+ */
+@CacheableTask
+public abstract class GameValTask extends DefaultTask
+{
+	private static final int VERSION = 1;
+
+	private static final Pattern PACKAGE = Pattern.compile("^package ([\\w.]+);");
+	private static final Pattern CLASS = Pattern.compile("^(?:public )?(?:final )?class (\\w+)(?: extends (\\w+))?");
+	// only top level fields, nested classes are indented further
+	private static final Pattern FIELD = Pattern.compile("^\tpublic static final int (\\w+) = (-?\\d+);");
+
+	@InputDirectory
+	@PathSensitive(PathSensitivity.RELATIVE)
+	public abstract DirectoryProperty getSourceDirectory();
+
+	@OutputDirectory
+	public abstract DirectoryProperty getOutputDirectory();
+
+	private final Logger log = getLogger();
+
+	@TaskAction
+	public void packGameVals() throws IOException
+	{
+		File sourceDirectory = getSourceDirectory().getAsFile().get();
+		File outputDirectory = getOutputDirectory().getAsFile().get();
+
+		Map<String, GameValClass> classes = new HashMap<>();
+		for (File file : sourceDirectory.listFiles((dir, name) -> name.endsWith(".java")))
+		{
+			GameValClass clazz = parse(file);
+			if (clazz != null)
+			{
+				classes.put(clazz.name, clazz);
+			}
+		}
+
+		Set<String> extended = new HashSet<>();
+		for (GameValClass clazz : classes.values())
+		{
+			if (clazz.superName != null)
+			{
+				extended.add(clazz.superName);
+			}
+		}
+
+		int count = 0;
+		for (GameValClass clazz : classes.values())
+		{
+			if (extended.contains(clazz.name))
+			{
+				continue;
+			}
+
+			List<Field> fields = new ArrayList<>();
+			for (GameValClass c = clazz; c != null; c = c.superName != null ? classes.get(c.superName) : null)
+			{
+				fields.addAll(c.fields);
+			}
+
+			if (fields.isEmpty())
+			{
+				continue;
+			}
+
+			File dir = new File(outputDirectory, clazz.packageName.replace('.', '/'));
+			dir.mkdirs();
+			write(clazz.name, fields, new File(dir, clazz.name + ".names"));
+			++count;
+		}
+
+		log.lifecycle("Packed {} gameval tables", count);
+	}
+
+	private static GameValClass parse(File file) throws IOException
+	{
+		GameValClass clazz = null;
+		String packageName = null;
+		for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8))
+		{
+			Matcher m;
+			if (clazz != null)
+			{
+				m = FIELD.matcher(line);
+				if (m.find())
+				{
+					clazz.fields.add(new Field(m.group(1), Integer.parseInt(m.group(2))));
+				}
+			}
+			else if (packageName == null)
+			{
+				m = PACKAGE.matcher(line);
+				if (m.find())
+				{
+					packageName = m.group(1);
+				}
+			}
+			else
+			{
+				m = CLASS.matcher(line);
+				if (m.find())
+				{
+					clazz = new GameValClass(packageName, m.group(1), m.group(2));
+				}
+			}
+		}
+		return clazz;
+	}
+
+	private void write(String className, List<Field> fields, File file) throws IOException
+	{
+		// the sort is stable, so where several names share an id the first one declared is kept
+		List<Field> sorted = new ArrayList<>(fields);
+		sorted.sort(Comparator.comparingInt(f -> f.id));
+		List<Field> unique = new ArrayList<>(sorted.size());
+		for (Field field : sorted)
+		{
+			if (!unique.isEmpty() && unique.get(unique.size() - 1).id == field.id)
+			{
+				log.info("{}.{} has the same id as {}, {}", className, field.name, unique.get(unique.size() - 1).name, field.id);
+				continue;
+			}
+			unique.add(field);
+		}
+		Field[] byId = unique.toArray(new Field[0]);
+
+		Integer[] byName = new Integer[byId.length];
+		byte[][] names = new byte[byId.length][];
+		for (int i = 0; i < byId.length; ++i)
+		{
+			byName[i] = i;
+			names[i] = byId[i].name.getBytes(StandardCharsets.US_ASCII);
+		}
+		Arrays.sort(byName, (a, b) -> Arrays.compare(names[a], names[b]));
+
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file))))
+		{
+			out.writeInt(VERSION);
+			out.writeInt(byId.length);
+			for (Field field : byId)
+			{
+				out.writeInt(field.id);
+			}
+
+			int offset = 0;
+			for (byte[] name : names)
+			{
+				out.writeInt(offset);
+				offset += name.length;
+			}
+			out.writeInt(offset);
+
+			for (int index : byName)
+			{
+				out.writeInt(index);
+			}
+
+			for (byte[] name : names)
+			{
+				out.write(name);
+			}
+		}
+	}
+
+	private static class GameValClass
+	{
+		final String packageName;
+		final String name;
+		final String superName;
+		final List<Field> fields = new ArrayList<>();
+
+		GameValClass(String packageName, String name, String superName)
+		{
+			this.packageName = packageName;
+			this.name = name;
+			this.superName = superName;
+		}
+	}
+
+	private static class Field
+	{
+		final String name;
+		final int id;
+
+		Field(String name, int id)
+		{
+			this.name = name;
+			this.id = id;
+		}
+	}
+}